@@ -4,10 +4,20 @@
 -- Generated: 2025-11-18
 -- ============================================================
 
+-- 이름 부분 검색용 trigram 인덱스
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
 -- Drop tables if exists (in reverse dependency order)
+DROP TABLE IF EXISTS counsel_card_deltas CASCADE;
+DROP TABLE IF EXISTS outbox_events CASCADE;
+DROP TABLE IF EXISTS job_runs CASCADE;
+DROP TABLE IF EXISTS job_leases CASCADE;
+DROP TABLE IF EXISTS counsel_session_stats CASCADE;
 DROP TABLE IF EXISTS medication_contraindications CASCADE;
+DROP TABLE IF EXISTS ai_counsel_summary_caches CASCADE;
 DROP TABLE IF EXISTS prompt_learnings CASCADE;
 DROP TABLE IF EXISTS prompt_templates CASCADE;
+DROP TABLE IF EXISTS ai_counsel_summary_speakers CASCADE;
 DROP TABLE IF EXISTS ai_counsel_summarys CASCADE;
 DROP TABLE IF EXISTS tus_file_info CASCADE;
 DROP TABLE IF EXISTS session_record CASCADE;
@@ -58,6 +68,7 @@ CREATE TABLE counselors (
 
 CREATE INDEX idx_counselor_status ON counselors(status);
 CREATE INDEX idx_counselor_email ON counselors(email);
+CREATE INDEX idx_counselor_name_trgm ON counselors USING gin (lower(name) gin_trgm_ops);
 
 -- Counselees (내담자)
 CREATE TABLE counselees (
@@ -87,6 +98,7 @@ CREATE TABLE counselees (
 );
 
 CREATE INDEX idx_counselee_name ON counselees(name);
+CREATE INDEX idx_counselee_name_trgm ON counselees USING gin (lower(name) gin_trgm_ops);
 CREATE INDEX idx_counselee_phone ON counselees(phone_number);
 
 -- Medications (약물)
@@ -191,6 +203,8 @@ CREATE TABLE counsel_sessions (
 CREATE INDEX idx_counsel_session_status ON counsel_sessions(status);
 CREATE INDEX idx_counsel_session_counselor ON counsel_sessions(counselor_id);
 CREATE INDEX idx_counsel_session_counselee ON counsel_sessions(counselee_id);
+CREATE INDEX idx_counsel_session_scheduled ON counsel_sessions(scheduled_start_datetime, id);
+CREATE INDEX idx_counsel_session_status_start ON counsel_sessions(status, start_datetime);
 
 -- Counsel Cards (상담 카드)
 CREATE TABLE counsel_cards (
@@ -503,6 +517,7 @@ CREATE TABLE ai_counsel_summarys (
     counsel_session_id VARCHAR(26) NOT NULL,
     stt_result TEXT,  -- JSON stored as TEXT
     ta_result TEXT,  -- JSON stored as TEXT
+    analysed_text TEXT,  -- ta_result.result.output.text
     ai_counsel_summary_status VARCHAR(50),  -- STT_PROGRESS, STT_FAILED, STT_COMPLETE, GPT_PROGRESS, GPT_COMPLETE, GPT_FAILED
     speakers TEXT,  -- LIST<String> stored as TEXT
 
@@ -515,6 +530,31 @@ CREATE TABLE ai_counsel_summarys (
 CREATE INDEX idx_ai_summary_session ON ai_counsel_summarys(counsel_session_id);
 CREATE INDEX idx_ai_summary_status ON ai_counsel_summarys(ai_counsel_summary_status);
 
+-- AI Counsel Summary Speakers (STT 화자별 발화 통계)
+CREATE TABLE ai_counsel_summary_speakers (
+    -- BaseEntity fields
+    id VARCHAR(26) PRIMARY KEY,
+    created_datetime TIMESTAMP,
+    updated_datetime TIMESTAMP,
+    created_by VARCHAR(255),
+    updated_by VARCHAR(255),
+
+    -- AICounselSummarySpeaker specific fields
+    counsel_session_id VARCHAR(26) NOT NULL,
+    speaker_name VARCHAR(255) NOT NULL,
+    speak_count INTEGER NOT NULL DEFAULT 0,
+    text_length_sum INTEGER NOT NULL DEFAULT 0,
+    max_length_text TEXT,
+    max_length_text_length INTEGER NOT NULL DEFAULT 0,
+
+    CONSTRAINT fk_ai_summary_speaker_session
+        FOREIGN KEY (counsel_session_id)
+        REFERENCES counsel_sessions(id)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX idx_ai_summary_speaker_session ON ai_counsel_summary_speakers(counsel_session_id);
+
 -- Prompt Templates (프롬프트 템플릿)
 CREATE TABLE prompt_templates (
     -- BaseEntity fields
@@ -554,6 +594,146 @@ CREATE TABLE prompt_learnings (
 
 CREATE INDEX idx_prompt_learning_template ON prompt_learnings(prompt_template_id);
 
+-- AI Counsel Summary Cache (TA 결과 캐시)
+CREATE TABLE ai_counsel_summary_caches (
+    -- BaseEntity fields
+    id VARCHAR(26) PRIMARY KEY,
+    created_datetime TIMESTAMP,
+    updated_datetime TIMESTAMP,
+    created_by VARCHAR(255),
+    updated_by VARCHAR(255),
+
+    -- AICounselSummaryCache specific fields
+    cache_key VARCHAR(64) NOT NULL,  -- SHA-256(prompt_template_id, prompt_version, stt messages json)
+    prompt_template_id VARCHAR(255) NOT NULL,
+    prompt_version VARCHAR(64) NOT NULL,
+    ta_result TEXT,  -- JSON stored as TEXT
+
+    CONSTRAINT uk_ai_summary_cache_key
+        UNIQUE (cache_key)
+);
+
+-- Counsel Session Stats (월/연 단위 상담 통계 집계)
+CREATE TABLE counsel_session_stats (
+    -- BaseEntity fields
+    id VARCHAR(26) PRIMARY KEY,
+    created_datetime TIMESTAMP,
+    updated_datetime TIMESTAMP,
+    created_by VARCHAR(255),
+    updated_by VARCHAR(255),
+
+    -- CounselSessionStat specific fields
+    period_type VARCHAR(10) NOT NULL,  -- MONTH, YEAR
+    period_key VARCHAR(7) NOT NULL,    -- MONTH: yyyy-MM, YEAR: yyyy
+    counsel_minutes BIGINT NOT NULL DEFAULT 0,
+    counsel_hours BIGINT NOT NULL DEFAULT 0,
+    counselee_count BIGINT NOT NULL DEFAULT 0,
+    medication_counsel_count BIGINT NOT NULL DEFAULT 0,
+    counselor_count BIGINT NOT NULL DEFAULT 0,
+
+    CONSTRAINT uk_counsel_session_stat_period
+        UNIQUE (period_type, period_key)
+);
+
+-- Job Leases (스케줄 작업 클러스터 단일 실행 임대)
+CREATE TABLE job_leases (
+    -- BaseEntity fields
+    id VARCHAR(26) PRIMARY KEY,
+    created_datetime TIMESTAMP,
+    updated_datetime TIMESTAMP,
+    created_by VARCHAR(255),
+    updated_by VARCHAR(255),
+
+    -- JobLease specific fields
+    job_name VARCHAR(100) NOT NULL,
+    owner VARCHAR(255) NOT NULL,       -- host:pid:instance
+    acquired_at TIMESTAMP NOT NULL,
+    heartbeat_at TIMESTAMP NOT NULL,
+    lease_until TIMESTAMP NOT NULL,
+
+    CONSTRAINT uk_job_lease_job_name
+        UNIQUE (job_name)
+);
+
+-- Job Runs (스케줄 작업 실행 이력)
+CREATE TABLE job_runs (
+    -- BaseEntity fields
+    id VARCHAR(26) PRIMARY KEY,
+    created_datetime TIMESTAMP,
+    updated_datetime TIMESTAMP,
+    created_by VARCHAR(255),
+    updated_by VARCHAR(255),
+
+    -- JobRun specific fields
+    job_name VARCHAR(100) NOT NULL,
+    owner VARCHAR(255) NOT NULL,
+    started_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP NOT NULL,
+    duration_millis BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,       -- SUCCEEDED, FAILED
+    error_message VARCHAR(1000)
+);
+
+CREATE INDEX idx_job_run_job_started ON job_runs(job_name, started_at DESC);
+CREATE INDEX idx_job_run_started ON job_runs(started_at);
+
+CREATE TABLE outbox_events (
+    -- BaseEntity fields
+    id VARCHAR(26) PRIMARY KEY,
+    created_datetime TIMESTAMP,
+    updated_datetime TIMESTAMP,
+    created_by VARCHAR(255),
+    updated_by VARCHAR(255),
+
+    -- OutboxEvent specific fields
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id VARCHAR(26) NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,       -- PENDING, PROCESSING, PUBLISHED, FAILED
+    attempts INTEGER NOT NULL DEFAULT 0,
+    available_at TIMESTAMP NOT NULL,
+    claim_token VARCHAR(36),
+    claimed_at TIMESTAMP,
+    published_at TIMESTAMP,
+    last_error VARCHAR(1000)
+);
+
+CREATE INDEX idx_outbox_event_pending ON outbox_events(available_at, id) WHERE status = 'PENDING';
+CREATE INDEX idx_outbox_event_claim_token ON outbox_events(claim_token) WHERE claim_token IS NOT NULL;
+CREATE INDEX idx_outbox_event_processing ON outbox_events(claimed_at) WHERE status = 'PROCESSING';
+CREATE INDEX idx_outbox_event_published ON outbox_events(published_at) WHERE status = 'PUBLISHED';
+CREATE INDEX idx_outbox_event_aggregate ON outbox_events(aggregate_type, aggregate_id);
+
+-- Counsel Card Deltas (상담 카드 변경 이력)
+-- 카드/세션이 삭제되어도 이후 delta 의 기준이 유지되도록 카드/세션 ID 는 FK 없이 보관
+CREATE TABLE counsel_card_deltas (
+    -- BaseEntity fields
+    id VARCHAR(26) PRIMARY KEY,
+    created_datetime TIMESTAMP,
+    updated_datetime TIMESTAMP,
+    created_by VARCHAR(255),
+    updated_by VARCHAR(255),
+
+    -- CounselCardDelta specific fields
+    counselee_id VARCHAR(26) NOT NULL,
+    counsel_card_id VARCHAR(26) NOT NULL,
+    counsel_session_id VARCHAR(26) NOT NULL,
+    scheduled_start_datetime TIMESTAMP NOT NULL,
+    sequence INTEGER NOT NULL,
+    snapshot BOOLEAN NOT NULL DEFAULT FALSE,
+    changed_sections VARCHAR(500) NOT NULL,  -- ,SMOKING,DRINKING,
+    changes TEXT NOT NULL,                   -- 항목 타입 -> 항목 JSON
+
+    CONSTRAINT fk_counsel_card_delta_counselee
+        FOREIGN KEY (counselee_id)
+        REFERENCES counselees(id)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX idx_counsel_card_delta_counselee_scheduled ON counsel_card_deltas(counselee_id, scheduled_start_datetime);
+CREATE INDEX idx_counsel_card_delta_snapshot ON counsel_card_deltas(counselee_id, scheduled_start_datetime) WHERE snapshot;
+
 -- ============================================================
 -- Comments and Documentation
 -- ============================================================
@@ -572,8 +752,15 @@ COMMENT ON TABLE counselee_consents IS '내담자 동의 테이블';
 COMMENT ON TABLE session_record IS '상담 세션 녹음 기록 테이블';
 COMMENT ON TABLE tus_file_info IS 'TUS 파일 업로드 정보 테이블';
 COMMENT ON TABLE ai_counsel_summarys IS 'AI 상담 요약 테이블';
+COMMENT ON TABLE ai_counsel_summary_speakers IS 'STT 화자별 발화 통계 테이블';
 COMMENT ON TABLE prompt_templates IS 'AI 프롬프트 템플릿 테이블';
 COMMENT ON TABLE prompt_learnings IS 'AI 프롬프트 학습 데이터 테이블';
+COMMENT ON TABLE ai_counsel_summary_caches IS 'AI TA 결과 캐시 테이블';
+COMMENT ON TABLE counsel_session_stats IS '상담 통계 월/연 집계 테이블';
+COMMENT ON TABLE job_leases IS '스케줄 작업 실행 임대 테이블';
+COMMENT ON TABLE job_runs IS '스케줄 작업 실행 이력 테이블';
+COMMENT ON TABLE outbox_events IS '도메인 이벤트 outbox 테이블';
+COMMENT ON TABLE counsel_card_deltas IS '상담 카드 변경(delta) 이력 테이블';
 
 -- ============================================================
 -- BaseEntity Common Fields Info
@@ -0,0 +1,24 @@
+package com.springboot.api.common.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 여러 인스턴스 중 job_leases 임대를 얻은 한 곳에서만 메서드를 실행합니다. (주로 @Scheduled 작업)
+ * 임대를 얻지 못하면 실행을 건너뛰고 null 을 반환합니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ClusterSingleton {
+
+    // 작업 이름 (job_leases.job_name)
+    String value();
+
+    // 인스턴스가 죽었을 때 다른 인스턴스가 넘겨받기까지의 최대 시간. 실행 중에는 heartbeat 로 연장
+    long leaseSeconds() default 300;
+
+    // 실행이 빨리 끝나도 유지할 최소 임대 시간 (인스턴스 간 시계 차이로 같은 주기에 다시 실행되는 것 방지)
+    long minHoldSeconds() default 30;
+}
@@ -0,0 +1,74 @@
+package com.springboot.api.common.aspect;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.springboot.api.common.annotation.ClusterSingleton;
+import com.springboot.api.job.service.JobLeaseService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @ClusterSingleton 메서드를 임대를 얻은 인스턴스에서만 실행하고, 실행 이력과 소요 시간 메트릭을 남깁니다.
+ * 작업의 @Transactional 보다 바깥에서 실행되어야 임대 획득이 작업 트랜잭션과 분리되므로 가장 먼저 적용합니다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+@RequiredArgsConstructor
+public class ClusterSingletonAspect {
+
+    private final JobLeaseService jobLeaseService;
+    private final MeterRegistry meterRegistry;
+
+    @Around("@annotation(clusterSingleton)")
+    public Object runExclusively(ProceedingJoinPoint joinPoint, ClusterSingleton clusterSingleton) throws Throwable {
+        String jobName = clusterSingleton.value();
+
+        if (!jobLeaseService.tryAcquire(jobName, Duration.ofSeconds(clusterSingleton.leaseSeconds()))) {
+            log.debug("다른 인스턴스가 실행 중이거나 최근에 실행한 작업이므로 건너뜁니다: {}", jobName);
+            meterRegistry.counter("scheduled.job.skipped", "job", jobName).increment();
+            return null;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        long startNanos = System.nanoTime();
+        Throwable error = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            error = e;
+            throw e;
+        } finally {
+            Duration duration = Duration.ofNanos(System.nanoTime() - startNanos);
+            Timer.builder("scheduled.job.duration")
+                .tag("job", jobName)
+                .tag("result", error == null ? "success" : "failure")
+                .register(meterRegistry)
+                .record(duration);
+
+            // 이력/해제 실패가 작업 결과를 가리지 않도록 로그만 남김 (해제 실패 시 임대는 만료 시각에 풀림)
+            try {
+                jobLeaseService.recordRun(jobName, startedAt, duration, error);
+            } catch (RuntimeException e) {
+                log.warn("작업 실행 이력 저장 실패: {}", jobName, e);
+            }
+            try {
+                jobLeaseService.release(jobName, startedAt, Duration.ofSeconds(clusterSingleton.minHoldSeconds()));
+            } catch (RuntimeException e) {
+                log.warn("작업 임대 해제 실패: {}", jobName, e);
+            }
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.springboot.api.common.config.cache;
 
-import java.util.Arrays;
-import java.util.concurrent.TimeUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
@@ -11,18 +14,60 @@ import org.springframework.context.annotation.Configuration;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시별로 cache.specs의 Caffeine spec을 적용합니다.
+ * 모든 캐시는 recordStats()로 생성되어 actuator의 cache 메트릭(cache.gets, cache.evictions 등)에 바인딩됩니다.
+ */
 @Configuration
 @EnableCaching
+@Slf4j
+@RequiredArgsConstructor
 public class CacheConfig {
 
+    public static final List<String> CACHE_NAMES = List.of("sessionDates", "sessionStats", "sessionList",
+        "medicationSearch", "birthDates", "welfareInstitutions", "counselorNames", "aiSummaryResults",
+        "pageTotals", "counselCardHistory");
+
+    private final CacheSpecProperties cacheSpecProperties;
+    private final ObjectProvider<CacheRefreshLoader> cacheRefreshLoaders;
+
     @Bean
     public CacheManager cacheManager() {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-            .expireAfterWrite(1, TimeUnit.HOURS)
-            .maximumSize(100));
-        cacheManager.setCacheNames(Arrays.asList("sessionDates", "sessionStats", "sessionList", "medicationSearch",
-            "birthDates", "welfareInstitutions", "counselorNames"));
+        cacheManager.setCaffeine(caffeine(cacheSpecProperties.getDefaultSpec()));
+
+        CACHE_NAMES.forEach(cacheName -> {
+            String spec = cacheSpecProperties.specFor(cacheName);
+            Caffeine<Object, Object> caffeine = caffeine(spec);
+
+            if (spec.contains("refreshAfterWrite")) {
+                // 로더는 캐시 매니저 생성 이후에 조회 (서비스 빈과의 순환 참조 방지)
+                cacheManager.registerCustomCache(cacheName, caffeine.build(key -> findLoader(cacheName).load(key)));
+            } else {
+                cacheManager.registerCustomCache(cacheName, caffeine.build());
+            }
+            log.info("Cache {} configured with spec [{}]", cacheName, spec);
+        });
+
         return cacheManager;
     }
+
+    private Caffeine<Object, Object> caffeine(String spec) {
+        Caffeine<Object, Object> caffeine = Caffeine.from(spec);
+        return spec.contains("recordStats") ? caffeine : caffeine.recordStats();
+    }
+
+    private CacheRefreshLoader findLoader(String cacheName) {
+        Map<String, CacheRefreshLoader> loaders = cacheRefreshLoaders.orderedStream()
+            .collect(Collectors.toMap(CacheRefreshLoader::cacheName, Function.identity()));
+
+        CacheRefreshLoader loader = loaders.get(cacheName);
+        if (loader == null) {
+            throw new IllegalStateException("refreshAfterWrite가 설정된 캐시에 로더가 없습니다: " + cacheName);
+        }
+        return loader;
+    }
 }
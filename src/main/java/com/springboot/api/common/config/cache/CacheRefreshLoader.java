@@ -0,0 +1,12 @@
+package com.springboot.api.common.config.cache;
+
+/**
+ * refreshAfterWrite가 설정된 캐시의 값을 백그라운드에서 다시 읽어오는 로더
+ * load는 캐시를 거치지 않는 메서드를 호출해야 합니다.
+ */
+public interface CacheRefreshLoader {
+
+    String cacheName();
+
+    Object load(Object key);
+}
@@ -0,0 +1,30 @@
+package com.springboot.api.common.config.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 캐시별 Caffeine spec 설정
+ * 예) cache.specs.medicationSearch: maximumSize=5000,expireAfterAccess=1h
+ */
+@Component
+@ConfigurationProperties(prefix = "cache")
+@Getter
+@Setter
+public class CacheSpecProperties {
+
+    // specs에 지정되지 않은 캐시에 적용되는 기본 spec
+    private String defaultSpec = "maximumSize=100,expireAfterWrite=1h";
+
+    private Map<String, String> specs = new LinkedHashMap<>();
+
+    public String specFor(String cacheName) {
+        return specs.getOrDefault(cacheName, defaultSpec);
+    }
+}
@@ -0,0 +1,60 @@
+package com.springboot.api.common.config.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 캐시별 적중률과 제거 건수를 조회하는 actuator 엔드포인트 (/actuator/cachestats)
+ */
+@Component
+@Endpoint(id = "cachestats")
+@RequiredArgsConstructor
+public class CacheStatsEndpoint {
+
+    private final CacheManager cacheManager;
+    private final CacheSpecProperties cacheSpecProperties;
+
+    @ReadOperation
+    public Map<String, CacheStatsRes> cacheStats() {
+        Map<String, CacheStatsRes> result = new LinkedHashMap<>();
+
+        cacheManager.getCacheNames().forEach(cacheName -> {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null
+                && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+                CacheStats stats = nativeCache.stats();
+                result.put(cacheName, new CacheStatsRes(
+                    cacheSpecProperties.specFor(cacheName),
+                    nativeCache.estimatedSize(),
+                    stats.hitCount(),
+                    stats.missCount(),
+                    stats.hitRate(),
+                    stats.evictionCount(),
+                    stats.loadFailureCount()));
+            }
+        });
+
+        return result;
+    }
+
+    public record CacheStatsRes(
+        String spec,
+        long estimatedSize,
+        long hitCount,
+        long missCount,
+        double hitRatio,
+        long evictionCount,
+        long loadFailureCount) {
+
+    }
+}
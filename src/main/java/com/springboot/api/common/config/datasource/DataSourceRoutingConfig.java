@@ -0,0 +1,77 @@
+package com.springboot.api.common.config.datasource;
+
+import java.util.Objects;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * primary/replica 커넥션 풀과 읽기 전용 트랜잭션 라우팅 구성.
+ * datasource.routing.enabled 가 false 면 기본 DataSource 자동 구성을 그대로 사용합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class DataSourceRoutingConfig {
+
+    private final DataSourceRoutingProperties dataSourceRoutingProperties;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties dataSourceProperties) {
+        DataSourceRoutingProperties.Replica replica = dataSourceRoutingProperties.getReplica();
+        HikariDataSource dataSource = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .driverClassName(dataSourceProperties.determineDriverClassName())
+            .url(Objects.requireNonNull(replica.getUrl(), "datasource.routing.replica.url 설정이 필요합니다."))
+            .username(Objects.requireNonNullElse(replica.getUsername(), dataSourceProperties.determineUsername()))
+            .password(Objects.requireNonNullElse(replica.getPassword(), dataSourceProperties.determinePassword()))
+            .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        return dataSource;
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+        HikariDataSource replicaDataSource, MeterRegistry meterRegistry) {
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource,
+            dataSourceRoutingProperties.getReadYourWritesWindow(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(HikariDataSource replicaDataSource,
+        ReadWriteRoutingDataSource routingDataSource, MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSource, routingDataSource,
+            dataSourceRoutingProperties.getMaxReplicaLag(), meterRegistry);
+    }
+}
@@ -0,0 +1,43 @@
+package com.springboot.api.common.config.datasource;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 읽기 전용 트랜잭션의 replica 라우팅 설정
+ * 예) datasource.routing.enabled: true, datasource.routing.replica.url: jdbc:postgresql://replica:5432/caringnote
+ */
+@Component
+@ConfigurationProperties(prefix = "datasource.routing")
+@Getter
+@Setter
+public class DataSourceRoutingProperties {
+
+    private boolean enabled = false;
+
+    private Replica replica = new Replica();
+
+    // 복제 지연이 이 값을 넘으면 replica 를 쓰지 않고 primary 로 조회
+    private Duration maxReplicaLag = Duration.ofSeconds(5);
+
+    // 사용자가 쓰기 트랜잭션을 커밋한 뒤 이 시간 동안은 해당 사용자의 조회도 primary 로 보냄
+    private Duration readYourWritesWindow = Duration.ofSeconds(10);
+
+    @Getter
+    @Setter
+    public static class Replica {
+
+        private String url;
+
+        // 비어 있으면 spring.datasource 의 계정 사용
+        private String username;
+        private String password;
+
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,98 @@
+package com.springboot.api.common.config.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 읽기 전용 트랜잭션은 replica, 나머지는 primary 로 보내는 DataSource.
+ * 트랜잭션의 readOnly 여부는 실제 커넥션을 얻는 시점에 알 수 있으므로 LazyConnectionDataSourceProxy 로 감싸서 사용합니다.
+ * replica 가 지연/장애 상태이거나, 사용자가 최근 쓰기를 커밋한 경우(read-your-writes)에는 primary 로 조회합니다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private static final long MAX_TRACKED_WRITERS = 10_000;
+
+    // 최근 쓰기를 커밋한 사용자 (readYourWritesWindow 후 만료)
+    private final Cache<String, Boolean> recentWriters;
+    private final MeterRegistry meterRegistry;
+
+    // 첫 지연 확인 전까지는 primary 사용
+    @Getter
+    @Setter
+    private volatile boolean replicaAvailable = false;
+
+    public ReadWriteRoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource,
+        Duration readYourWritesWindow, MeterRegistry meterRegistry) {
+        this.recentWriters = Caffeine.newBuilder()
+            .expireAfterWrite(readYourWritesWindow)
+            .maximumSize(MAX_TRACKED_WRITERS)
+            .build();
+        this.meterRegistry = meterRegistry;
+        setTargetDataSources(Map.of(Target.PRIMARY, primaryDataSource, Target.REPLICA, replicaDataSource));
+        setDefaultTargetDataSource(primaryDataSource);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Target target = resolveTarget();
+        meterRegistry.counter("datasource.routing.connections", "target", target.name().toLowerCase()).increment();
+        return target;
+    }
+
+    private Target resolveTarget() {
+        Optional<String> user = currentUser();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            user.ifPresent(this::markWriterAfterCommit);
+            return Target.PRIMARY;
+        }
+
+        if (!replicaAvailable || user.map(recentWriters::getIfPresent).isPresent()) {
+            return Target.PRIMARY;
+        }
+        return Target.REPLICA;
+    }
+
+    private void markWriterAfterCommit(String user) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(user, Boolean.TRUE);
+            }
+        });
+    }
+
+    private static Optional<String> currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+            || authentication instanceof AnonymousAuthenticationToken) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(authentication.getName());
+    }
+}
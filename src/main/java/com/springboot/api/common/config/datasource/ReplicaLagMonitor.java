@@ -0,0 +1,66 @@
+package com.springboot.api.common.config.datasource;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * replica 의 복제 지연을 주기적으로 확인해 라우팅 여부를 결정.
+ * WAL 을 모두 재생한 상태면 지연 0 으로 봅니다 (primary 에 쓰기가 없을 때 마지막 재생 시각이 오래되어 보이는 것 방지).
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String REPLICA_LAG_SQL = """
+        SELECT CASE
+                   WHEN NOT pg_is_in_recovery() THEN 0
+                   WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                   ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+               END
+        """;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final Duration maxReplicaLag;
+
+    // 확인 실패 시 -1
+    private final AtomicLong lagMillis = new AtomicLong(-1);
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, ReadWriteRoutingDataSource routingDataSource,
+        Duration maxReplicaLag, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.replicaJdbcTemplate.setQueryTimeout(2);
+        this.routingDataSource = routingDataSource;
+        this.maxReplicaLag = maxReplicaLag;
+        meterRegistry.gauge("datasource.replica.lag", lagMillis, lag -> lag.get() / 1000.0);
+    }
+
+    @Scheduled(fixedDelay = 5, timeUnit = TimeUnit.SECONDS)
+    public void check() {
+        boolean available;
+        try {
+            Double lagSeconds = replicaJdbcTemplate.queryForObject(REPLICA_LAG_SQL, Double.class);
+            Duration lag = Duration.ofMillis(Math.round((lagSeconds == null ? 0 : lagSeconds) * 1000));
+            lagMillis.set(lag.toMillis());
+            available = lag.compareTo(maxReplicaLag) <= 0;
+        } catch (DataAccessException e) {
+            lagMillis.set(-1);
+            available = false;
+            log.warn("replica 상태 확인 실패: {}", e.getMessage());
+        }
+
+        if (available != routingDataSource.isReplicaAvailable()) {
+            log.info("replica 조회 {} (복제 지연 {}ms)", available ? "사용" : "중지", lagMillis.get());
+        }
+        routingDataSource.setReplicaAvailable(available);
+    }
+}
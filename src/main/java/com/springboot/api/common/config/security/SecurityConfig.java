@@ -1,6 +1,7 @@
 package com.springboot.api.common.config.security;
 
 import com.springboot.api.common.converter.CustomJwtRoleConverter;
+import com.springboot.enums.RoleType;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -37,6 +38,8 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers(securityProperties.getPermitAllUrls().toArray(String[]::new))
                 .permitAll()
+                // health 외 actuator 엔드포인트(캐시 통계 등)는 관리자만
+                .requestMatchers("/actuator/**").hasAuthority(RoleType.ROLE_ADMIN.name())
                 .anyRequest().authenticated())
             .sessionManagement(
                 sessionManagement -> sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
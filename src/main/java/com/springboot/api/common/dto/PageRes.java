@@ -15,8 +15,14 @@ public class PageRes<T> {
     private final int totalPages;
     private final boolean hasNext;
     private final boolean hasPrevious;
+    // false 이면 totalElements/totalPages 가 캐시 또는 통계 기반 추정치
+    private final boolean totalExact;
 
     public PageRes(Page<T> page) {
+        this(page, true);
+    }
+
+    public PageRes(Page<T> page, boolean totalExact) {
         this.content = page.getContent();
         this.page = page.getNumber();
         this.size = page.getSize();
@@ -24,6 +30,7 @@ public class PageRes<T> {
         this.totalPages = page.getTotalPages();
         this.hasNext = page.hasNext();
         this.hasPrevious = page.hasPrevious();
+        this.totalExact = totalExact;
     }
 
     private PageRes(List<T> content, PageRes<?> pageRes) {
@@ -34,6 +41,7 @@ public class PageRes<T> {
         this.totalPages = pageRes.getTotalPages();
         this.hasNext = pageRes.isHasNext();
         this.hasPrevious = pageRes.isHasPrevious();
+        this.totalExact = pageRes.isTotalExact();
     }
 
     public <D> PageRes<D> map(Function<T, D> mapper) {
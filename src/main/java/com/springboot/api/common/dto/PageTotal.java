@@ -0,0 +1,15 @@
+package com.springboot.api.common.dto;
+
+/**
+ * 페이지 응답의 전체 건수. 테이블 통계 기반 추정치는 exact 가 false 입니다.
+ */
+public record PageTotal(long value, boolean exact) {
+
+    public static PageTotal exact(long value) {
+        return new PageTotal(value, true);
+    }
+
+    public static PageTotal estimated(long value) {
+        return new PageTotal(value, false);
+    }
+}
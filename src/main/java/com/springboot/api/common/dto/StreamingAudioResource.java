@@ -0,0 +1,29 @@
+package com.springboot.api.common.dto;
+
+import java.io.InputStream;
+
+import org.springframework.core.io.InputStreamResource;
+
+/**
+ * 길이를 알 수 없는 오디오 스트림(ffmpeg stdout 등)을 multipart 파트로 전송하기 위한 Resource.
+ * contentLength 를 -1 로 반환해 스트림을 미리 읽지 않고 chunked 로 전송되도록 합니다.
+ */
+public class StreamingAudioResource extends InputStreamResource {
+
+    private final String filename;
+
+    public StreamingAudioResource(InputStream inputStream, String filename) {
+        super(inputStream, filename);
+        this.filename = filename;
+    }
+
+    @Override
+    public String getFilename() {
+        return filename;
+    }
+
+    @Override
+    public long contentLength() {
+        return -1;
+    }
+}
@@ -0,0 +1,20 @@
+package com.springboot.api.common.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Component
+@ConfigurationProperties(prefix = "counsel.card-history")
+@Getter
+@Setter
+public class CounselCardHistoryProperties {
+
+    // 완료된 상담 카드를 이전 카드 대비 변경 항목(delta)으로도 저장할지 여부
+    private boolean deltaEnabled = false;
+
+    // N 번째 delta 마다 전체 항목 스냅샷 저장 (복원 시 읽는 행 수 상한)
+    private int snapshotInterval = 10;
+}
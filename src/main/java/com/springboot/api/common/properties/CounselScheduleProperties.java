@@ -0,0 +1,30 @@
+package com.springboot.api.common.properties;
+
+import java.time.Duration;
+import java.time.LocalTime;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Component
+@ConfigurationProperties(prefix = "counsel.schedule")
+@Getter
+@Setter
+public class CounselScheduleProperties {
+
+    // 상담 1회가 차지하는 시간 (겹침 판정 및 빈 시간 계산 단위)
+    private Duration slotDuration = Duration.ofHours(1);
+
+    // 메모리 일정 색인이 다루는 기간 (오늘로부터 일 수)
+    private int horizonDays = 180;
+
+    // 빈 시간 조회 시 하루 상담 가능 시간대
+    private LocalTime dayStart = LocalTime.of(9, 0);
+    private LocalTime dayEnd = LocalTime.of(18, 0);
+
+    // 빈 시간 조회 최대 기간 (일)
+    private int maxFreeSlotDays = 31;
+}
@@ -13,4 +13,7 @@ import lombok.Setter;
 public class FfmpegProperties {
 
     private String path;
+
+    // 동시에 실행할 수 있는 ffmpeg 프로세스 수 (미설정 시 CPU 코어 수)
+    private Integer maxConcurrency;
 }
@@ -13,5 +13,4 @@ import lombok.Setter;
 public class SttFileProperties {
 
     private String origin;
-    private String convert;
 }
@@ -0,0 +1,54 @@
+package com.springboot.api.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (일시, id) 기준 keyset 페이징 커서를 인코딩/디코딩합니다.
+ */
+public final class CursorUtil {
+
+    private static final String DELIMITER = "|";
+
+    private CursorUtil() {
+    }
+
+    public record DateTimeCursor(LocalDateTime dateTime, String id) {
+
+    }
+
+    public static String encode(LocalDateTime dateTime, String id) {
+        String raw = dateTime.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 형식이 맞지 않는 커서(Base64 아님, 구분자/일시/id 누락)는 IllegalArgumentException
+     */
+    public static DateTimeCursor decode(String cursor) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw invalidCursor(cursor, e);
+        }
+
+        int delimiterIndex = raw.lastIndexOf(DELIMITER);
+        if (delimiterIndex < 0 || delimiterIndex == raw.length() - 1) {
+            throw invalidCursor(cursor, null);
+        }
+        try {
+            return new DateTimeCursor(
+                LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                raw.substring(delimiterIndex + 1));
+        } catch (DateTimeParseException e) {
+            throw invalidCursor(cursor, e);
+        }
+    }
+
+    private static IllegalArgumentException invalidCursor(String cursor, Throwable cause) {
+        return new IllegalArgumentException("잘못된 커서입니다: " + cursor, cause);
+    }
+}
@@ -1,6 +1,7 @@
 package com.springboot.api.common.util;
 
-import com.springboot.api.common.properties.FfmpegProperties;
+import com.springboot.api.infra.ffmpeg.FfmpegExecutor;
+import com.springboot.api.infra.ffmpeg.FfmpegJobPriority;
 import de.huxhorn.sulky.ulid.ULID;
 import jakarta.validation.constraints.NotNull;
 import java.io.File;
@@ -13,7 +14,6 @@ import java.nio.file.StandardCopyOption;
 import java.util.List;
 import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
-import net.bramp.ffmpeg.FFmpeg;
 import net.bramp.ffmpeg.builder.FFmpegBuilder;
 import org.apache.commons.io.FileUtils;
 import org.slf4j.LoggerFactory;
@@ -28,7 +28,7 @@ public class FileUtil {
 
     private static final org.slf4j.Logger log = LoggerFactory.getLogger(FileUtil.class);
 
-    private final FfmpegProperties ffmpegProperties;
+    private final FfmpegExecutor ffmpegExecutor;
 
     public String saveMultipartFile(@NotNull MultipartFile multipartFile, @NotNull String saveFilePath)
         throws IOException {
@@ -57,28 +57,26 @@ public class FileUtil {
 
     }
 
-    public File convertWebmToMp4(String fileName, String originFilePath, String convertFilePath)
-        throws IOException {
-
-        String convertedMultipartFileName = fileName.replace(".webm", ".mp4");
-
-        FFmpeg ffmpeg = new FFmpeg(ffmpegProperties.getPath());
+    /**
+     * webm 파일을 AAC(ADTS) 로 변환하는 ffmpeg 프로세스를 실행합니다.
+     * 변환 결과는 파일로 저장하지 않고 프로세스의 stdout 으로 스트리밍됩니다.
+     */
+    public Process startWebmToAacStream(String fileName, String originFilePath) throws IOException {
 
         FFmpegBuilder builder = new FFmpegBuilder()
             .setInput(originFilePath + fileName)
-            .overrideOutputFiles(true)
-            .addOutput(convertFilePath + convertedMultipartFileName) // 출력 파일 설정
-            .setFormat("mp4") // 출력 포맷 설정
-            .setAudioCodec("aac") // 오디오 코덱 설정 (AAC)
-            .setAudioBitRate(192000) // 오디오 비트레이트 설정 (192kbps)
+            .setVerbosity(FFmpegBuilder.Verbosity.ERROR)
+            .addExtraArgs("-nostdin")
+            .addOutput("pipe:1") // stdout 으로 출력
+            .disableVideo()
+            .setFormat("adts") // 스트리밍 가능한 AAC 컨테이너
+            .setAudioCodec("aac")
+            .setAudioBitRate(192000)
             .done();
 
-        ffmpeg.run(builder);
-
-        return Path.of(convertFilePath + convertedMultipartFileName).toFile();
+        return ffmpegExecutor.start(builder, FfmpegJobPriority.STANDARD);
     }
 
-
     public void createUploadFile(Path path) {
         try {
             Files.createDirectories(path.getParent());
@@ -90,8 +88,6 @@ public class FileUtil {
 
     public void mergeWebmFile(List<String> fileList, String outputFilePath) {
         try {
-            FFmpeg ffmpeg = new FFmpeg();
-
             FFmpegBuilder builder = new FFmpegBuilder()
                 .overrideOutputFiles(true);
 
@@ -110,7 +106,7 @@ public class FileUtil {
                 .addExtraArgs("-movflags", "+faststart")
                 .done();
 
-            ffmpeg.run(builder);
+            ffmpegExecutor.run(builder, FfmpegJobPriority.INTERACTIVE);
         } catch (IOException e) {
             throw new RuntimeException("FFmpeg 머지에서 오류가 발생했습니다.");
         }
@@ -0,0 +1,30 @@
+package com.springboot.api.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public final class HashUtil {
+
+    private static final String SHA_256 = "SHA-256";
+
+    private HashUtil() {
+    }
+
+    public static String sha256Hex(String... values) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance(SHA_256);
+            for (String value : values) {
+                if (value != null) {
+                    messageDigest.update(value.getBytes(StandardCharsets.UTF_8));
+                }
+                // 구분자를 넣어 ("ab", "c") 와 ("a", "bc") 가 같은 해시가 되지 않도록 함
+                messageDigest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(messageDigest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.springboot.api.common.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.querydsl.jpa.impl.JPAQuery;
+import com.springboot.api.common.dto.PageTotal;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 페이지 목록의 전체 건수를 구하는 방법을 제공합니다.
+ * <ul>
+ *     <li>cached: 목록 이름과 조회 조건 값으로 만든 키별로 count 결과를 짧은 TTL 캐시(pageTotals)에 보관</li>
+ *     <li>estimated: 조건 없는 대용량 테이블은 PostgreSQL pg_class.reltuples 통계로 추정</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class PageTotalResolver {
+
+    public static final String PAGE_TOTALS = "pageTotals";
+    // 추정치가 이보다 작으면 정확한 count 를 사용
+    public static final long ESTIMATE_THRESHOLD = 50_000L;
+
+    private static final String RELTUPLES_SQL =
+        "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = to_regclass(?)";
+
+    private final CacheManager cacheManager;
+    private final JdbcTemplate jdbcTemplate;
+    // 통계 조회 실패가 호출한 쪽 트랜잭션을 rollback-only 로 만들지 않도록 별도 트랜잭션(연결)에서 실행
+    private final TransactionTemplate statisticsTransaction;
+
+    // pg_class 통계는 PostgreSQL 에만 있으므로 첫 추정 시 DB 종류를 확인
+    private volatile Boolean postgres;
+
+    public PageTotalResolver(CacheManager cacheManager, DataSource dataSource,
+        PlatformTransactionManager transactionManager) {
+        this.cacheManager = cacheManager;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setQueryTimeout(2);
+        this.statisticsTransaction = new TransactionTemplate(transactionManager);
+        this.statisticsTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.statisticsTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 조회 조건 값으로 만든 키별 count 캐시. 캐시된 값은 TTL 안에서 계산된 정확한 count 입니다.
+     *
+     * @param listName 목록 이름 (캐시 키 prefix)
+     * @param filters  count 쿼리의 where 조건을 결정하는 값 전부
+     */
+    public Supplier<PageTotal> cached(String listName, JPAQuery<Long> countQuery, Object... filters) {
+        return () -> {
+            Cache cache = cacheManager.getCache(PAGE_TOTALS);
+            if (cache == null) {
+                return PageTotal.exact(QuerydslPagingUtil.fetchCount(countQuery));
+            }
+
+            return cache.get(cacheKey(listName, filters),
+                () -> PageTotal.exact(QuerydslPagingUtil.fetchCount(countQuery)));
+        };
+    }
+
+    /**
+     * 조건이 없는 목록이고 테이블 통계상 행 수가 임계치 이상이면 추정치를, 그 외에는 cached 를 사용
+     */
+    public Supplier<PageTotal> estimated(String tableName, JPAQuery<Long> countQuery, Object... filters) {
+        Supplier<PageTotal> fallback = cached(tableName, countQuery, filters);
+        if (!Arrays.stream(filters).allMatch(PageTotalResolver::isEmptyFilter)) {
+            return fallback;
+        }
+
+        return () -> estimateRows(tableName)
+            .filter(rows -> rows >= ESTIMATE_THRESHOLD)
+            .map(PageTotal::estimated)
+            .orElseGet(fallback);
+    }
+
+    static String cacheKey(String listName, Object... filters) {
+        return Arrays.stream(filters)
+            .map(filter -> isEmptyFilter(filter) ? "" : String.valueOf(filter))
+            .collect(Collectors.joining("|", listName + ":", ""));
+    }
+
+    private static boolean isEmptyFilter(Object filter) {
+        return filter == null
+            || filter instanceof String value && value.isBlank()
+            || filter instanceof Collection<?> values && values.isEmpty();
+    }
+
+    private Optional<Long> estimateRows(String tableName) {
+        try {
+            if (!isPostgres()) {
+                return Optional.empty();
+            }
+            Long rows = statisticsTransaction.execute(
+                status -> jdbcTemplate.queryForObject(RELTUPLES_SQL, Long.class, tableName));
+            // ANALYZE 전에는 -1 또는 0
+            return Optional.ofNullable(rows).filter(value -> value > 0);
+        } catch (RuntimeException e) {
+            log.debug("테이블 통계 조회 실패: {}", tableName, e);
+            return Optional.empty();
+        }
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = "PostgreSQL".equals(jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+        }
+        return postgres;
+    }
+}
@@ -3,7 +3,9 @@ package com.springboot.api.common.util;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.springboot.api.common.dto.PageReq;
 import com.springboot.api.common.dto.PageRes;
+import com.springboot.api.common.dto.PageTotal;
 import java.util.List;
+import java.util.function.Supplier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -16,17 +18,51 @@ public class QuerydslPagingUtil {
         PageReq pageReq,
         JPAQuery<T> contentQuery,
         JPAQuery<Long> countQuery
+    ) {
+        return applyPagination(pageReq, contentQuery, () -> PageTotal.exact(fetchCount(countQuery)));
+    }
+
+    /**
+     * 한 건을 더 조회해 다음 페이지 존재 여부를 먼저 확인하고,
+     * 마지막 페이지라면 count 쿼리 없이 전체 건수를 계산합니다.
+     * 다음 페이지가 있을 때만 totalSupplier(캐시/추정치 포함)를 호출합니다.
+     */
+    public static <T> PageRes<T> applyPagination(
+        PageReq pageReq,
+        JPAQuery<T> contentQuery,
+        Supplier<PageTotal> totalSupplier
     ) {
         Pageable pageable = pageReq.toPageable();
+        int pageSize = pageable.getPageSize();
+        long offset = pageable.getOffset();
 
-        List<T> content = contentQuery
-            .offset(pageable.getOffset())
-            .limit(pageable.getPageSize())
+        List<T> fetched = contentQuery
+            .offset(offset)
+            .limit(pageSize + 1L)
             .fetch();
 
-        Long total = countQuery.fetchOne();
+        boolean hasNext = fetched.size() > pageSize;
+        List<T> content = hasNext ? fetched.subList(0, pageSize) : fetched;
+
+        PageTotal total;
+        if (!hasNext && (!content.isEmpty() || offset == 0)) {
+            total = PageTotal.exact(offset + content.size());
+        } else {
+            total = totalSupplier.get();
+        }
+
+        // 캐시/추정치가 현재 페이지보다 작으면 최소한 다음 페이지가 보이도록 보정
+        long lowerBound = offset + content.size() + (hasNext ? 1 : 0);
+        if (total.value() < lowerBound) {
+            total = PageTotal.estimated(lowerBound);
+        }
 
-        Page<T> page = new PageImpl<>(content, pageable, total == null ? 0 : total);
-        return new PageRes<>(page);
+        Page<T> page = new PageImpl<>(content, pageable, total.value());
+        return new PageRes<>(page, total.exact());
+    }
+
+    public static long fetchCount(JPAQuery<Long> countQuery) {
+        Long total = countQuery.fetchOne();
+        return total == null ? 0 : total;
     }
 }
@@ -4,6 +4,20 @@ import com.springboot.api.common.annotation.ApiController;
 import com.springboot.api.common.annotation.RoleSecured;
 import com.springboot.api.common.annotation.ValidEnum;
 import com.springboot.api.common.dto.CommonRes;
+import com.springboot.api.common.dto.PageReq;
+import com.springboot.api.common.dto.PageRes;
+import com.springboot.api.counselcard.dto.information.base.CounselPurposeAndNoteDTO;
+import com.springboot.api.counselcard.dto.information.health.AllergyDTO;
+import com.springboot.api.counselcard.dto.information.health.DiseaseInfoDTO;
+import com.springboot.api.counselcard.dto.information.health.MedicationSideEffectDTO;
+import com.springboot.api.counselcard.dto.information.independentlife.CommunicationDTO;
+import com.springboot.api.counselcard.dto.information.independentlife.EvacuationDTO;
+import com.springboot.api.counselcard.dto.information.independentlife.WalkingDTO;
+import com.springboot.api.counselcard.dto.information.living.DrinkingDTO;
+import com.springboot.api.counselcard.dto.information.living.ExerciseDTO;
+import com.springboot.api.counselcard.dto.information.living.MedicationManagementDTO;
+import com.springboot.api.counselcard.dto.information.living.NutritionDTO;
+import com.springboot.api.counselcard.dto.information.living.SmokingDTO;
 import com.springboot.api.counselcard.dto.request.UpdateCounselCardReq;
 import com.springboot.api.counselcard.dto.request.UpdateCounselCardStatusReq;
 import com.springboot.api.counselcard.dto.response.CounselCardBaseInformationRes;
@@ -15,12 +29,16 @@ import com.springboot.api.counselcard.dto.response.MainCounselBaseInformationRes
 import com.springboot.api.counselcard.dto.response.MainCounselHealthInformationRes;
 import com.springboot.api.counselcard.dto.response.MainCounselIndependentLifeInformationRes;
 import com.springboot.api.counselcard.dto.response.MainCounselLivingInformationRes;
+import com.springboot.api.counselcard.dto.response.MainCounselTimelineRes;
 import com.springboot.api.counselcard.dto.response.TimeRecordedRes;
+import com.springboot.api.counselcard.service.CounselCardDeltaService;
 import com.springboot.api.counselcard.service.CounselCardService;
 import com.springboot.enums.CounselCardRecordType;
 import com.springboot.enums.RoleType;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import java.util.List;
@@ -28,6 +46,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -39,6 +58,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 public class CounselCardController {
 
     private final CounselCardService counselCardService;
+    private final CounselCardDeltaService counselCardDeltaService;
 
     @GetMapping("/{counselSessionId}/base-information")
     @Operation(summary = "기초 설문용 상담 카드 기본 정보 조회", tags = {"상담 카드 작성"})
@@ -99,6 +119,133 @@ public class CounselCardController {
             new CommonRes<>(counselCardService.updateCounselCard(counselSessionId, updateCounselCardReq)));
     }
 
+    @PatchMapping("/{counselSessionId}/sections/COUNSEL_PURPOSE_AND_NOTE")
+    @Operation(summary = "상담 카드 상담 목적 및 특이사항 항목 수정 (자동 저장)", tags = {"상담 카드 작성"})
+    @RoleSecured({RoleType.ROLE_ASSISTANT, RoleType.ROLE_ADMIN, RoleType.ROLE_USER})
+    ResponseEntity<CommonRes<CounselCardIdRes>> updateCounselPurposeAndNoteSection(
+        @PathVariable @NotBlank(message = "상담 세션 ID는 필수 입력값입니다") @Size(min = 26, max = 26, message = "상담 세션 ID는 26자여야 합니다") String counselSessionId,
+        @RequestBody @Valid CounselPurposeAndNoteDTO section) {
+
+        return updateCounselCardSection(counselSessionId, CounselCardRecordType.COUNSEL_PURPOSE_AND_NOTE, section);
+    }
+
+    @PatchMapping("/{counselSessionId}/sections/ALLERGY")
+    @Operation(summary = "상담 카드 알레르기 항목 수정 (자동 저장)", tags = {"상담 카드 작성"})
+    @RoleSecured({RoleType.ROLE_ASSISTANT, RoleType.ROLE_ADMIN, RoleType.ROLE_USER})
+    ResponseEntity<CommonRes<CounselCardIdRes>> updateAllergySection(
+        @PathVariable @NotBlank(message = "상담 세션 ID는 필수 입력값입니다") @Size(min = 26, max = 26, message = "상담 세션 ID는 26자여야 합니다") String counselSessionId,
+        @RequestBody @Valid AllergyDTO section) {
+
+        return updateCounselCardSection(counselSessionId, CounselCardRecordType.ALLERGY, section);
+    }
+
+    @PatchMapping("/{counselSessionId}/sections/DISEASE_INFO")
+    @Operation(summary = "상담 카드 질병 정보 항목 수정 (자동 저장)", tags = {"상담 카드 작성"})
+    @RoleSecured({RoleType.ROLE_ASSISTANT, RoleType.ROLE_ADMIN, RoleType.ROLE_USER})
+    ResponseEntity<CommonRes<CounselCardIdRes>> updateDiseaseInfoSection(
+        @PathVariable @NotBlank(message = "상담 세션 ID는 필수 입력값입니다") @Size(min = 26, max = 26, message = "상담 세션 ID는 26자여야 합니다") String counselSessionId,
+        @RequestBody @Valid DiseaseInfoDTO section) {
+
+        return updateCounselCardSection(counselSessionId, CounselCardRecordType.DISEASE_INFO, section);
+    }
+
+    @PatchMapping("/{counselSessionId}/sections/MEDICATION_SIDE_EFFECT")
+    @Operation(summary = "상담 카드 약물 부작용 항목 수정 (자동 저장)", tags = {"상담 카드 작성"})
+    @RoleSecured({RoleType.ROLE_ASSISTANT, RoleType.ROLE_ADMIN, RoleType.ROLE_USER})
+    ResponseEntity<CommonRes<CounselCardIdRes>> updateMedicationSideEffectSection(
+        @PathVariable @NotBlank(message = "상담 세션 ID는 필수 입력값입니다") @Size(min = 26, max = 26, message = "상담 세션 ID는 26자여야 합니다") String counselSessionId,
+        @RequestBody @Valid MedicationSideEffectDTO section) {
+
+        return updateCounselCardSection(counselSessionId, CounselCardRecordType.MEDICATION_SIDE_EFFECT, section);
+    }
+
+    @PatchMapping("/{counselSessionId}/sections/DRINKING")
+    @Operation(summary = "상담 카드 음주 항목 수정 (자동 저장)", tags = {"상담 카드 작성"})
+    @RoleSecured({RoleType.ROLE_ASSISTANT, RoleType.ROLE_ADMIN, RoleType.ROLE_USER})
+    ResponseEntity<CommonRes<CounselCardIdRes>> updateDrinkingSection(
+        @PathVariable @NotBlank(message = "상담 세션 ID는 필수 입력값입니다") @Size(min = 26, max = 26, message = "상담 세션 ID는 26자여야 합니다") String counselSessionId,
+        @RequestBody @Valid DrinkingDTO section) {
+
+        return updateCounselCardSection(counselSessionId, CounselCardRecordType.DRINKING, section);
+    }
+
+    @PatchMapping("/{counselSessionId}/sections/EXERCISE")
+    @Operation(summary = "상담 카드 운동 항목 수정 (자동 저장)", tags = {"상담 카드 작성"})
+    @RoleSecured({RoleType.ROLE_ASSISTANT, RoleType.ROLE_ADMIN, RoleType.ROLE_USER})
+    ResponseEntity<CommonRes<CounselCardIdRes>> updateExerciseSection(
+        @PathVariable @NotBlank(message = "상담 세션 ID는 필수 입력값입니다") @Size(min = 26, max = 26, message = "상담 세션 ID는 26자여야 합니다") String counselSessionId,
+        @RequestBody @Valid ExerciseDTO section) {
+
+        return updateCounselCardSection(counselSessionId, CounselCardRecordType.EXERCISE, section);
+    }
+
+    @PatchMapping("/{counselSessionId}/sections/MEDICATION_MANAGEMENT")
+    @Operation(summary = "상담 카드 약물 관리 항목 수정 (자동 저장)", tags = {"상담 카드 작성"})
+    @RoleSecured({RoleType.ROLE_ASSISTANT, RoleType.ROLE_ADMIN, RoleType.ROLE_USER})
+    ResponseEntity<CommonRes<CounselCardIdRes>> updateMedicationManagementSection(
+        @PathVariable @NotBlank(message = "상담 세션 ID는 필수 입력값입니다") @Size(min = 26, max = 26, message = "상담 세션 ID는 26자여야 합니다") String counselSessionId,
+        @RequestBody @Valid MedicationManagementDTO section) {
+
+        return updateCounselCardSection(counselSessionId, CounselCardRecordType.MEDICATION_MANAGEMENT, section);
+    }
+
+    @PatchMapping("/{counselSessionId}/sections/NUTRITION")
+    @Operation(summary = "상담 카드 영양 항목 수정 (자동 저장)", tags = {"상담 카드 작성"})
+    @RoleSecured({RoleType.ROLE_ASSISTANT, RoleType.ROLE_ADMIN, RoleType.ROLE_USER})
+    ResponseEntity<CommonRes<CounselCardIdRes>> updateNutritionSection(
+        @PathVariable @NotBlank(message = "상담 세션 ID는 필수 입력값입니다") @Size(min = 26, max = 26, message = "상담 세션 ID는 26자여야 합니다") String counselSessionId,
+        @RequestBody @Valid NutritionDTO section) {
+
+        return updateCounselCardSection(counselSessionId, CounselCardRecordType.NUTRITION, section);
+    }
+
+    @PatchMapping("/{counselSessionId}/sections/SMOKING")
+    @Operation(summary = "상담 카드 흡연 항목 수정 (자동 저장)", tags = {"상담 카드 작성"})
+    @RoleSecured({RoleType.ROLE_ASSISTANT, RoleType.ROLE_ADMIN, RoleType.ROLE_USER})
+    ResponseEntity<CommonRes<CounselCardIdRes>> updateSmokingSection(
+        @PathVariable @NotBlank(message = "상담 세션 ID는 필수 입력값입니다") @Size(min = 26, max = 26, message = "상담 세션 ID는 26자여야 합니다") String counselSessionId,
+        @RequestBody @Valid SmokingDTO section) {
+
+        return updateCounselCardSection(counselSessionId, CounselCardRecordType.SMOKING, section);
+    }
+
+    @PatchMapping("/{counselSessionId}/sections/COMMUNICATION")
+    @Operation(summary = "상담 카드 의사소통 항목 수정 (자동 저장)", tags = {"상담 카드 작성"})
+    @RoleSecured({RoleType.ROLE_ASSISTANT, RoleType.ROLE_ADMIN, RoleType.ROLE_USER})
+    ResponseEntity<CommonRes<CounselCardIdRes>> updateCommunicationSection(
+        @PathVariable @NotBlank(message = "상담 세션 ID는 필수 입력값입니다") @Size(min = 26, max = 26, message = "상담 세션 ID는 26자여야 합니다") String counselSessionId,
+        @RequestBody @Valid CommunicationDTO section) {
+
+        return updateCounselCardSection(counselSessionId, CounselCardRecordType.COMMUNICATION, section);
+    }
+
+    @PatchMapping("/{counselSessionId}/sections/EVACUATION")
+    @Operation(summary = "상담 카드 배변 항목 수정 (자동 저장)", tags = {"상담 카드 작성"})
+    @RoleSecured({RoleType.ROLE_ASSISTANT, RoleType.ROLE_ADMIN, RoleType.ROLE_USER})
+    ResponseEntity<CommonRes<CounselCardIdRes>> updateEvacuationSection(
+        @PathVariable @NotBlank(message = "상담 세션 ID는 필수 입력값입니다") @Size(min = 26, max = 26, message = "상담 세션 ID는 26자여야 합니다") String counselSessionId,
+        @RequestBody @Valid EvacuationDTO section) {
+
+        return updateCounselCardSection(counselSessionId, CounselCardRecordType.EVACUATION, section);
+    }
+
+    @PatchMapping("/{counselSessionId}/sections/WALKING")
+    @Operation(summary = "상담 카드 보행 항목 수정 (자동 저장)", tags = {"상담 카드 작성"})
+    @RoleSecured({RoleType.ROLE_ASSISTANT, RoleType.ROLE_ADMIN, RoleType.ROLE_USER})
+    ResponseEntity<CommonRes<CounselCardIdRes>> updateWalkingSection(
+        @PathVariable @NotBlank(message = "상담 세션 ID는 필수 입력값입니다") @Size(min = 26, max = 26, message = "상담 세션 ID는 26자여야 합니다") String counselSessionId,
+        @RequestBody @Valid WalkingDTO section) {
+
+        return updateCounselCardSection(counselSessionId, CounselCardRecordType.WALKING, section);
+    }
+
+    // 항목별 수정 API 는 경로마다 본문 타입이 정해져 있어 검증과 API 문서에 항목 스키마가 그대로 반영됨
+    private ResponseEntity<CommonRes<CounselCardIdRes>> updateCounselCardSection(String counselSessionId,
+        CounselCardRecordType type, Object section) {
+        return ResponseEntity.ok(
+            new CommonRes<>(counselCardService.updateCounselCardSection(counselSessionId, type, section)));
+    }
+
 
     @DeleteMapping("/{counselSessionId}")
     @Operation(summary = "상담 카드 삭제")
@@ -123,6 +270,32 @@ public class CounselCardController {
                 counselCardService.selectPreviousRecordsByType(counselSessionId, type)));
     }
 
+    @GetMapping("/{counselSessionId}/previous/item")
+    @Operation(summary = "이전 상담 카드 item 목록 조회 (페이징)", tags = {"본상담 - 상담 카드"},
+        description = "같은 내담자의 이전 회차 완료 카드에서 요청한 항목만 최신순으로 조회합니다.")
+    @RoleSecured({RoleType.ROLE_ASSISTANT, RoleType.ROLE_ADMIN, RoleType.ROLE_USER})
+    ResponseEntity<PageRes<TimeRecordedRes<Object>>> selectPreviousItemPage(
+        @PathVariable @NotBlank(message = "상담 세션 ID는 필수 입력값입니다") @Size(min = 26, max = 26, message = "상담 세션 ID는 26자여야 합니다") String counselSessionId,
+        @RequestParam @Valid @ValidEnum(enumClass = CounselCardRecordType.class) CounselCardRecordType type,
+        @RequestParam("page") @Min(0) int page,
+        @RequestParam("size") @Min(1) @Max(100) int size) {
+
+        return ResponseEntity.ok(
+            counselCardService.selectPreviousRecordsByType(counselSessionId, type, PageReq.of(page, size)));
+    }
+
+    @GetMapping("/{counselSessionId}/previous/item/changes")
+    @Operation(summary = "이전 상담 카드 item 변경 이력 조회", tags = {"본상담 - 상담 카드"},
+        description = "이전 회차에서 해당 항목이 바뀐 시점과 값만 최신순으로 조회합니다. 변경 이력 저장이 켜져 있어야 합니다.")
+    @RoleSecured({RoleType.ROLE_ASSISTANT, RoleType.ROLE_ADMIN, RoleType.ROLE_USER})
+    ResponseEntity<CommonRes<List<TimeRecordedRes<Object>>>> selectPreviousItemChanges(
+        @PathVariable @NotBlank(message = "상담 세션 ID는 필수 입력값입니다") @Size(min = 26, max = 26, message = "상담 세션 ID는 26자여야 합니다") String counselSessionId,
+        @RequestParam @Valid @ValidEnum(enumClass = CounselCardRecordType.class) CounselCardRecordType type) {
+
+        return ResponseEntity.ok(
+            new CommonRes<>(counselCardDeltaService.selectSectionChanges(counselSessionId, type)));
+    }
+
     @GetMapping("/main-counsel/{counselSessionId}/base-information")
     @Operation(summary = "본 상담용 상담 카드 기본 정보 조회", tags = {"본상담 - 기초 설문"})
     @RoleSecured({RoleType.ROLE_ASSISTANT, RoleType.ROLE_ADMIN, RoleType.ROLE_USER})
@@ -163,4 +336,13 @@ public class CounselCardController {
             new CommonRes<>(
                 counselCardService.selectMainCounselIndependentLifeInformation(counselSessionId)));
     }
+
+    @GetMapping("/main-counsel/{counselSessionId}/timeline")
+    @Operation(summary = "본 상담용 상담 카드 전체 항목 조회", tags = {"본상담 - 기초 설문"})
+    @RoleSecured({RoleType.ROLE_ASSISTANT, RoleType.ROLE_ADMIN, RoleType.ROLE_USER})
+    ResponseEntity<CommonRes<MainCounselTimelineRes>> selectMainCounselTimeline(
+        @PathVariable @NotBlank(message = "상담 세션 ID는 필수 입력값입니다") @Size(min = 26, max = 26, message = "상담 세션 ID는 26자여야 합니다") String counselSessionId) {
+        return ResponseEntity.ok(
+            new CommonRes<>(counselCardService.selectMainCounselTimeline(counselSessionId)));
+    }
 }
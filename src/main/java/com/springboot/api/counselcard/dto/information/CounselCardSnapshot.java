@@ -0,0 +1,39 @@
+package com.springboot.api.counselcard.dto.information;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.springboot.api.counselcard.entity.CounselCard;
+import com.springboot.enums.CounselCardRecordType;
+
+/**
+ * 상담 카드 한 장의 항목별 DTO 스냅샷.
+ * 영속성 컨텍스트 안에서 만들어 지연 로딩 컬렉션까지 모두 복사해 두므로, 캐시에 보관하고 트랜잭션 밖에서 읽어도 안전합니다.
+ */
+public record CounselCardSnapshot(
+    String counselCardId,
+    LocalDateTime scheduledStartDateTime,
+    Map<CounselCardRecordType, Object> sections
+) {
+
+    public static CounselCardSnapshot of(CounselCard counselCard) {
+        Map<CounselCardRecordType, Object> sections = new EnumMap<>(CounselCardRecordType.class);
+        for (CounselCardRecordType type : CounselCardRecordType.values()) {
+            Object section = type.getExtractor().apply(counselCard);
+            if (section != null) {
+                sections.put(type, type.getDtoConverter().apply(section));
+            }
+        }
+
+        return new CounselCardSnapshot(
+            counselCard.getId(),
+            counselCard.getCounselSession().getScheduledStartDateTime(),
+            Collections.unmodifiableMap(sections));
+    }
+
+    public <R> R section(CounselCardRecordType type, Class<R> dtoType) {
+        return dtoType.cast(sections.get(type));
+    }
+}
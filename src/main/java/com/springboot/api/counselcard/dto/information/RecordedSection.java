@@ -0,0 +1,13 @@
+package com.springboot.api.counselcard.dto.information;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이전 상담 카드의 항목 하나 (상담 예약일 + 해당 항목 embeddable)
+ */
+public record RecordedSection(
+    LocalDateTime scheduledStartDateTime,
+    Object section
+) {
+
+}
@@ -12,9 +12,13 @@ public record CounselPurposeAndNoteDTO(
 
     public CounselPurposeAndNoteDTO(CounselPurposeAndNote counselPurposeAndNote) {
         this(
-            counselPurposeAndNote.getCounselPurpose(),
+            copyOf(counselPurposeAndNote.getCounselPurpose()),
             counselPurposeAndNote.getSignificantNote(),
             counselPurposeAndNote.getMedicationNote()
         );
     }
+
+    private static <E> List<E> copyOf(List<E> values) {
+        return values != null ? List.copyOf(values) : null;
+    }
 }
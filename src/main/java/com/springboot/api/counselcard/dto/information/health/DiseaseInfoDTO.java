@@ -12,9 +12,13 @@ public record DiseaseInfoDTO(
 
     public DiseaseInfoDTO(DiseaseInfo diseaseInfo) {
         this(
-            diseaseInfo.getDiseases(),
+            copyOf(diseaseInfo.getDiseases()),
             diseaseInfo.getHistoryNote(),
             diseaseInfo.getMainInconvenienceNote()
         );
     }
+
+    private static <E> List<E> copyOf(List<E> values) {
+        return values != null ? List.copyOf(values) : null;
+    }
 }
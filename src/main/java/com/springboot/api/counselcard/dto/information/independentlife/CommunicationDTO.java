@@ -16,10 +16,14 @@ public record CommunicationDTO(
 
     public CommunicationDTO(Communication communication) {
         this(
-            communication.getSights(),
-            communication.getHearings(),
+            copyOf(communication.getSights()),
+            copyOf(communication.getHearings()),
             communication.getCommunications(),
-            communication.getUsingKoreans()
+            copyOf(communication.getUsingKoreans())
         );
     }
+
+    private static <E> List<E> copyOf(List<E> values) {
+        return values != null ? List.copyOf(values) : null;
+    }
 }
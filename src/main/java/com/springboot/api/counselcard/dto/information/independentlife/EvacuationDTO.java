@@ -11,8 +11,12 @@ public record EvacuationDTO(
 
     public EvacuationDTO(Evacuation evacuation) {
         this(
-            evacuation.getEvacuations(),
+            copyOf(evacuation.getEvacuations()),
             evacuation.getEvacuationNote()
         );
     }
+
+    private static <E> List<E> copyOf(List<E> values) {
+        return values != null ? List.copyOf(values) : null;
+    }
 }
@@ -13,9 +13,13 @@ public record WalkingDTO(
 
     public WalkingDTO(Walking walking) {
         this(
-            walking.getWalkingMethods(),
-            walking.getWalkingEquipments(),
+            copyOf(walking.getWalkingMethods()),
+            copyOf(walking.getWalkingEquipments()),
             walking.getWalkingNote()
         );
     }
+
+    private static <E> List<E> copyOf(List<E> values) {
+        return values != null ? List.copyOf(values) : null;
+    }
 }
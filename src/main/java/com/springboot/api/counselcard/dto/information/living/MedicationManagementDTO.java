@@ -14,7 +14,11 @@ public record MedicationManagementDTO(
         this(
             medicationManagement != null ? medicationManagement.getIsAlone() : null,
             medicationManagement != null ? medicationManagement.getHouseMateNote() : null,
-            medicationManagement != null ? medicationManagement.getMedicationAssistants() : null,
+            medicationManagement != null ? copyOf(medicationManagement.getMedicationAssistants()) : null,
             medicationManagement != null ? medicationManagement.getCustomMedicationAssistant(): null);
     }
+
+    private static <E> List<E> copyOf(List<E> values) {
+        return values != null ? List.copyOf(values) : null;
+    }
 }
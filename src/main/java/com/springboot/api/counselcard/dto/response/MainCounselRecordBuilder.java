@@ -1,6 +1,6 @@
 package com.springboot.api.counselcard.dto.response;
 
-import com.springboot.api.counselcard.entity.CounselCard;
+import com.springboot.api.counselcard.dto.information.CounselCardSnapshot;
 import java.util.List;
 import java.util.function.Function;
 
@@ -10,8 +10,8 @@ public class MainCounselRecordBuilder {
     }
 
     public static <T> MainCounselRecord<T> build(
-        List<CounselCard> sortedCards,
-        Function<CounselCard, T> extractor
+        List<CounselCardSnapshot> sortedCards,
+        Function<CounselCardSnapshot, T> extractor
     ) {
         if (sortedCards == null || sortedCards.isEmpty()) {
             return new MainCounselRecord<>(null, List.of());
@@ -22,7 +22,7 @@ public class MainCounselRecordBuilder {
         List<TimeRecordedRes<T>> history = sortedCards.stream()
             .skip(1)
             .map(counselCard -> new TimeRecordedRes<>(
-                counselCard.getCounselSession().getScheduledStartDateTime().toLocalDate().toString(),
+                counselCard.scheduledStartDateTime().toLocalDate().toString(),
                 extractor.apply(counselCard)))
             .toList();
 
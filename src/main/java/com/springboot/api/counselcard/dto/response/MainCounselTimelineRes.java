@@ -0,0 +1,10 @@
+package com.springboot.api.counselcard.dto.response;
+
+public record MainCounselTimelineRes(
+    MainCounselBaseInformationRes baseInformation,
+    MainCounselHealthInformationRes healthInformation,
+    MainCounselLivingInformationRes livingInformation,
+    MainCounselIndependentLifeInformationRes independentLifeInformation
+) {
+
+}
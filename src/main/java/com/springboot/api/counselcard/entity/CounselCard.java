@@ -4,6 +4,18 @@ package com.springboot.api.counselcard.entity;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 import com.springboot.api.common.entity.BaseEntity;
+import com.springboot.api.counselcard.dto.information.base.CounselPurposeAndNoteDTO;
+import com.springboot.api.counselcard.dto.information.health.AllergyDTO;
+import com.springboot.api.counselcard.dto.information.health.DiseaseInfoDTO;
+import com.springboot.api.counselcard.dto.information.health.MedicationSideEffectDTO;
+import com.springboot.api.counselcard.dto.information.independentlife.CommunicationDTO;
+import com.springboot.api.counselcard.dto.information.independentlife.EvacuationDTO;
+import com.springboot.api.counselcard.dto.information.independentlife.WalkingDTO;
+import com.springboot.api.counselcard.dto.information.living.DrinkingDTO;
+import com.springboot.api.counselcard.dto.information.living.ExerciseDTO;
+import com.springboot.api.counselcard.dto.information.living.MedicationManagementDTO;
+import com.springboot.api.counselcard.dto.information.living.NutritionDTO;
+import com.springboot.api.counselcard.dto.information.living.SmokingDTO;
 import com.springboot.api.counselcard.dto.request.UpdateBaseInformationReq;
 import com.springboot.api.counselcard.dto.request.UpdateCounselCardReq;
 import com.springboot.api.counselcard.dto.request.UpdateHealthInformationReq;
@@ -23,6 +35,7 @@ import com.springboot.api.counselcard.entity.information.living.Nutrition;
 import com.springboot.api.counselcard.entity.information.living.Smoking;
 import com.springboot.api.counselsession.entity.CounselSession;
 import com.springboot.enums.CardRecordStatus;
+import com.springboot.enums.CounselCardRecordType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
@@ -39,12 +52,17 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
+/**
+ * 상담 카드. 자동 저장이 잦아 변경된 컬럼만 UPDATE 하도록 @DynamicUpdate 를 사용합니다.
+ */
 @Getter
 @Entity
 @Table(name = "counsel_cards")
+@DynamicUpdate
 @SuperBuilder
 @NoArgsConstructor
 @EqualsAndHashCode(callSuper = true, exclude = {"counselSession"})
@@ -196,4 +214,24 @@ public class CounselCard extends BaseEntity {
         this.evacuation.update(updateCounselCardReq.evacuation());
         this.walking.update(updateCounselCardReq.walking());
     }
+
+    /**
+     * 한 항목만 수정 (sectionDTO 는 type.getDtoType() 타입)
+     */
+    public void updateSection(CounselCardRecordType type, Object sectionDTO) {
+        switch (type) {
+            case COUNSEL_PURPOSE_AND_NOTE -> this.counselPurposeAndNote.update((CounselPurposeAndNoteDTO) sectionDTO);
+            case ALLERGY -> this.allergy.update((AllergyDTO) sectionDTO);
+            case DISEASE_INFO -> this.diseaseInfo.update((DiseaseInfoDTO) sectionDTO);
+            case MEDICATION_SIDE_EFFECT -> this.medicationSideEffect.update((MedicationSideEffectDTO) sectionDTO);
+            case DRINKING -> this.drinking.update((DrinkingDTO) sectionDTO);
+            case EXERCISE -> this.exercise.update((ExerciseDTO) sectionDTO);
+            case MEDICATION_MANAGEMENT -> this.medicationManagement.update((MedicationManagementDTO) sectionDTO);
+            case NUTRITION -> this.nutrition.update((NutritionDTO) sectionDTO);
+            case SMOKING -> this.smoking.update((SmokingDTO) sectionDTO);
+            case COMMUNICATION -> this.communication.update((CommunicationDTO) sectionDTO);
+            case EVACUATION -> this.evacuation.update((EvacuationDTO) sectionDTO);
+            case WALKING -> this.walking.update((WalkingDTO) sectionDTO);
+        }
+    }
 }
@@ -0,0 +1,63 @@
+package com.springboot.api.counselcard.entity;
+
+import java.time.LocalDateTime;
+
+import com.springboot.api.common.entity.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 완료된 상담 카드의 변경 이력. 내담자별 예약일 순서로 이전 카드 대비 바뀐 항목만 저장하고,
+ * snapshotInterval 마다 전체 항목을 저장합니다.
+ * 카드/세션이 삭제되어도 이후 delta 의 기준이 깨지지 않도록 카드와 세션은 FK 없이 ID 만 보관합니다.
+ */
+@Entity
+@Table(name = "counsel_card_deltas")
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true, exclude = "changes")
+public class CounselCardDelta extends BaseEntity {
+
+    @Column(name = "counselee_id", length = 26, nullable = false)
+    private String counseleeId;
+
+    @Column(name = "counsel_card_id", length = 26, nullable = false)
+    private String counselCardId;
+
+    @Column(name = "counsel_session_id", length = 26, nullable = false)
+    private String counselSessionId;
+
+    @Column(name = "scheduled_start_datetime", nullable = false)
+    private LocalDateTime scheduledStartDateTime;
+
+    // 내담자별 0부터 증가하는 delta 순번
+    @Column(name = "sequence", nullable = false)
+    private int sequence;
+
+    @Column(name = "snapshot", nullable = false)
+    private boolean snapshot;
+
+    // 변경된 항목 목록 (",SMOKING,DRINKING," 형태, 항목별 이력 조회 필터용)
+    @Column(name = "changed_sections", length = 500, nullable = false)
+    private String changedSections;
+
+    // 항목 타입 -> 항목 DTO 의 JSON 객체
+    @Column(name = "changes", columnDefinition = "TEXT", nullable = false)
+    private String changes;
+
+    @PrePersist
+    @Override
+    protected void onCreate() {
+        super.onCreate();
+    }
+}
@@ -0,0 +1,10 @@
+package com.springboot.api.counselcard.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.springboot.api.counselcard.entity.CounselCardDelta;
+
+public interface CounselCardDeltaRepository extends JpaRepository<CounselCardDelta, String>,
+    CounselCardDeltaRepositoryCustom {
+
+}
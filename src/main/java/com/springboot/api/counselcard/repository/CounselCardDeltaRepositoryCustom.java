@@ -0,0 +1,24 @@
+package com.springboot.api.counselcard.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import com.springboot.api.counselcard.entity.CounselCardDelta;
+import com.springboot.enums.CounselCardRecordType;
+
+public interface CounselCardDeltaRepositoryCustom {
+
+    Optional<CounselCardDelta> findLatestSnapshotBefore(String counseleeId, LocalDateTime before);
+
+    List<CounselCardDelta> findBetween(String counseleeId, LocalDateTime fromInclusive, LocalDateTime beforeExclusive);
+
+    List<CounselCardDelta> findSectionChangesBefore(String counseleeId, CounselCardRecordType type,
+        LocalDateTime before);
+
+    boolean existsBefore(String counseleeId, LocalDateTime beforeExclusive);
+
+    long deleteFrom(String counseleeId, LocalDateTime fromInclusive);
+
+    List<String> findCounseleeIdsWithoutDeltas(int limit);
+}
@@ -0,0 +1,109 @@
+package com.springboot.api.counselcard.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Repository;
+
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.springboot.api.counselcard.entity.CounselCardDelta;
+import com.springboot.api.counselcard.entity.QCounselCard;
+import com.springboot.api.counselcard.entity.QCounselCardDelta;
+import com.springboot.api.counselsession.entity.QCounselSession;
+import com.springboot.enums.CardRecordStatus;
+import com.springboot.enums.CounselCardRecordType;
+import com.springboot.enums.ScheduleStatus;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class CounselCardDeltaRepositoryImpl implements CounselCardDeltaRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+    private final QCounselCardDelta counselCardDelta = QCounselCardDelta.counselCardDelta;
+
+    @Override
+    public Optional<CounselCardDelta> findLatestSnapshotBefore(String counseleeId, LocalDateTime before) {
+        return Optional.ofNullable(queryFactory
+            .selectFrom(counselCardDelta)
+            .where(counselCardDelta.counseleeId.eq(counseleeId),
+                counselCardDelta.scheduledStartDateTime.lt(before),
+                counselCardDelta.snapshot.isTrue())
+            .orderBy(counselCardDelta.scheduledStartDateTime.desc())
+            .fetchFirst());
+    }
+
+    @Override
+    public List<CounselCardDelta> findBetween(String counseleeId, LocalDateTime fromInclusive,
+        LocalDateTime beforeExclusive) {
+        return queryFactory
+            .selectFrom(counselCardDelta)
+            .where(counselCardDelta.counseleeId.eq(counseleeId),
+                counselCardDelta.scheduledStartDateTime.goe(fromInclusive),
+                counselCardDelta.scheduledStartDateTime.lt(beforeExclusive))
+            .orderBy(counselCardDelta.scheduledStartDateTime.asc())
+            .fetch();
+    }
+
+    /**
+     * 해당 항목이 바뀐 delta 와 스냅샷만 조회 (예약일 오름차순)
+     */
+    @Override
+    public List<CounselCardDelta> findSectionChangesBefore(String counseleeId, CounselCardRecordType type,
+        LocalDateTime before) {
+        return queryFactory
+            .selectFrom(counselCardDelta)
+            .where(counselCardDelta.counseleeId.eq(counseleeId),
+                counselCardDelta.scheduledStartDateTime.lt(before),
+                counselCardDelta.snapshot.isTrue()
+                    .or(counselCardDelta.changedSections.contains("," + type.name() + ",")))
+            .orderBy(counselCardDelta.scheduledStartDateTime.asc())
+            .fetch();
+    }
+
+    @Override
+    public boolean existsBefore(String counseleeId, LocalDateTime beforeExclusive) {
+        Integer found = queryFactory
+            .selectOne()
+            .from(counselCardDelta)
+            .where(counselCardDelta.counseleeId.eq(counseleeId),
+                counselCardDelta.scheduledStartDateTime.lt(beforeExclusive))
+            .fetchFirst();
+        return found != null;
+    }
+
+    @Override
+    public long deleteFrom(String counseleeId, LocalDateTime fromInclusive) {
+        return queryFactory
+            .delete(counselCardDelta)
+            .where(counselCardDelta.counseleeId.eq(counseleeId),
+                counselCardDelta.scheduledStartDateTime.goe(fromInclusive))
+            .execute();
+    }
+
+    /**
+     * 완료 카드가 있지만 delta 이력이 아직 없는 내담자 (delta 기록을 켜기 전 데이터 이관용).
+     * 첫 카드는 항목이 비어 있어도 스냅샷으로 남으므로 한 번 이관된 내담자는 다시 조회되지 않습니다.
+     */
+    @Override
+    public List<String> findCounseleeIdsWithoutDeltas(int limit) {
+        QCounselCard counselCard = QCounselCard.counselCard;
+        QCounselSession counselSession = QCounselSession.counselSession;
+
+        return queryFactory
+            .selectDistinct(counselSession.counselee.id)
+            .from(counselCard)
+            .join(counselCard.counselSession, counselSession)
+            .where(counselCard.cardRecordStatus.eq(CardRecordStatus.COMPLETED),
+                counselSession.status.ne(ScheduleStatus.CANCELED),
+                JPAExpressions.selectOne()
+                    .from(counselCardDelta)
+                    .where(counselCardDelta.counseleeId.eq(counselSession.counselee.id))
+                    .notExists())
+            .limit(limit)
+            .fetch();
+    }
+}
@@ -1,6 +1,11 @@
 package com.springboot.api.counselcard.repository;
 
+import com.springboot.api.common.dto.PageReq;
+import com.springboot.api.common.dto.PageRes;
+import com.springboot.api.counselcard.dto.information.RecordedSection;
 import com.springboot.api.counselcard.entity.CounselCard;
+import com.springboot.enums.CounselCardRecordType;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,7 +17,10 @@ public interface CounselCardRepositoryCustom {
 
     Optional<CounselCard> findLastRecordedCounselCard(String counseleeId);
 
-    List<CounselCard> findRecordedCardsByPreviousSessions(String currentSessionId);
+    PageRes<RecordedSection> findRecordedSectionsByPreviousSessions(String currentSessionId,
+        CounselCardRecordType type, PageReq pageReq);
 
-    List<CounselCard> findCurrentAndPastCounselCardsBySessionId(String counselSessionId);
+    List<CounselCard> findCompletedSessionCardsByCounseleeId(String counseleeId);
+
+    List<CounselCard> findCompletedCardsByCounseleeIdFrom(String counseleeId, LocalDateTime fromInclusive);
 }
\ No newline at end of file
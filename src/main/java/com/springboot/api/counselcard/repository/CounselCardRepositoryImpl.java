@@ -1,14 +1,26 @@
 package com.springboot.api.counselcard.repository;
 
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Path;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.springboot.api.common.dto.PageReq;
+import com.springboot.api.common.dto.PageRes;
+import com.springboot.api.common.util.QuerydslPagingUtil;
+import com.springboot.api.counselcard.dto.information.RecordedSection;
 import com.springboot.api.counselcard.entity.CounselCard;
 import com.springboot.api.counselcard.entity.QCounselCard;
 import com.springboot.api.counselsession.entity.QCounselSession;
 import com.springboot.enums.CardRecordStatus;
+import com.springboot.enums.CounselCardRecordType;
 import com.springboot.enums.ScheduleStatus;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 import org.springframework.stereotype.Repository;
 
@@ -57,55 +69,118 @@ public class CounselCardRepositoryImpl extends QuerydslRepositorySupport impleme
             .fetchOne());
     }
 
+    /**
+     * 같은 내담자의 이전 회차 완료 카드에서 요청한 항목만 조회 (예약일 내림차순).
+     * (counselee_id, scheduled_start_datetime) 유니크 인덱스 범위만 읽습니다.
+     */
     @Override
-    public List<CounselCard> findRecordedCardsByPreviousSessions(String currentSessionId) {
+    public PageRes<RecordedSection> findRecordedSectionsByPreviousSessions(String currentSessionId,
+        CounselCardRecordType type, PageReq pageReq) {
         QCounselSession counselSession = QCounselSession.counselSession;
-        QCounselCard currentCounselCard = QCounselCard.counselCard;
 
-        LocalDateTime currentSessionStartTime = queryFactory
-            .select(counselSession.scheduledStartDateTime)
+        Tuple currentSession = queryFactory
+            .select(counselSession.counselee.id, counselSession.scheduledStartDateTime)
             .from(counselSession)
             .where(counselSession.id.eq(currentSessionId))
             .fetchOne();
 
-        if (currentSessionStartTime == null) {
+        if (currentSession == null) {
             throw new IllegalArgumentException("상담 세션을 찾을 수 없습니다: " + currentSessionId);
         }
 
+        BooleanBuilder builder = new BooleanBuilder()
+            .and(counselSession.counselee.id.eq(currentSession.get(counselSession.counselee.id)))
+            .and(counselSession.scheduledStartDateTime.lt(currentSession.get(counselSession.scheduledStartDateTime)))
+            .and(counselSession.status.ne(ScheduleStatus.CANCELED))
+            .and(counselCard.cardRecordStatus.eq(CardRecordStatus.COMPLETED));
+
+        JPAQuery<Long> countQuery = queryFactory
+            .select(counselCard.count())
+            .from(counselCard)
+            .join(counselCard.counselSession, counselSession)
+            .where(builder);
+
+        if (CounselCardSectionPaths.hasCollection(type)) {
+            return findRecordedSectionsWithCollections(builder, countQuery, type, pageReq);
+        }
+
+        Path<?> section = CounselCardSectionPaths.of(counselCard, type);
+        JPAQuery<Tuple> contentQuery = queryFactory
+            .select(counselSession.scheduledStartDateTime, section)
+            .from(counselCard)
+            .join(counselCard.counselSession, counselSession)
+            .where(builder)
+            .orderBy(counselSession.scheduledStartDateTime.desc());
+
+        return QuerydslPagingUtil.applyPagination(pageReq, contentQuery, countQuery)
+            .map(tuple -> new RecordedSection(tuple.get(counselSession.scheduledStartDateTime), tuple.get(section)));
+    }
+
+    /**
+     * 컬렉션을 가진 항목은 카드 ID 만 페이지로 조회한 뒤 해당 카드를 읽습니다.
+     * 컬렉션은 지연 로딩(batch fetch)되므로 호출 측 트랜잭션 안에서 DTO 로 변환해야 합니다.
+     */
+    private PageRes<RecordedSection> findRecordedSectionsWithCollections(BooleanBuilder builder,
+        JPAQuery<Long> countQuery, CounselCardRecordType type, PageReq pageReq) {
+        QCounselSession counselSession = QCounselSession.counselSession;
+
+        JPAQuery<Tuple> idQuery = queryFactory
+            .select(counselCard.id, counselSession.scheduledStartDateTime)
+            .from(counselCard)
+            .join(counselCard.counselSession, counselSession)
+            .where(builder)
+            .orderBy(counselSession.scheduledStartDateTime.desc());
+
+        PageRes<Tuple> idPage = QuerydslPagingUtil.applyPagination(pageReq, idQuery, countQuery);
+        List<String> counselCardIds = idPage.getContent().stream()
+            .map(tuple -> tuple.get(counselCard.id))
+            .toList();
+
+        Map<String, CounselCard> counselCards = counselCardIds.isEmpty()
+            ? Map.of()
+            : queryFactory
+                .selectFrom(counselCard)
+                .where(counselCard.id.in(counselCardIds))
+                .fetch().stream()
+                .collect(Collectors.toMap(CounselCard::getId, Function.identity()));
+
+        Function<CounselCard, Object> extractor = type.getExtractor();
+        return idPage.map(tuple -> new RecordedSection(
+            tuple.get(counselSession.scheduledStartDateTime),
+            extractor.apply(counselCards.get(tuple.get(counselCard.id)))));
+    }
+
+    /**
+     * 내담자의 완료된 상담 세션의 상담 카드 (예약일 내림차순)
+     */
+    @Override
+    public List<CounselCard> findCompletedSessionCardsByCounseleeId(String counseleeId) {
+        QCounselSession counselSession = QCounselSession.counselSession;
+
         return queryFactory
-            .selectFrom(currentCounselCard)
-            .join(currentCounselCard.counselSession, counselSession)
-            .fetchJoin()
-            .where(
-                counselSession.scheduledStartDateTime.before(currentSessionStartTime),
-                counselSession.status.ne(ScheduleStatus.CANCELED),
-                currentCounselCard.cardRecordStatus.eq(
-                    CardRecordStatus.COMPLETED)
-            )
+            .selectFrom(counselCard)
+            .join(counselCard.counselSession, counselSession).fetchJoin()
+            .where(counselSession.counselee.id.eq(counseleeId)
+                .and(counselSession.status.eq(ScheduleStatus.COMPLETED)))
             .orderBy(counselSession.scheduledStartDateTime.desc())
             .fetch();
     }
 
+    /**
+     * 기준 시각 이후 예약된 내담자의 작성 완료 카드 (예약일 오름차순)
+     */
     @Override
-    public List<CounselCard> findCurrentAndPastCounselCardsBySessionId(String counselSessionId) {
+    public List<CounselCard> findCompletedCardsByCounseleeIdFrom(String counseleeId, LocalDateTime fromInclusive) {
         QCounselSession counselSession = QCounselSession.counselSession;
 
-        String counseleeId = queryFactory
-            .select(counselSession.counselee.id)
-            .from(counselSession)
-            .where(counselSession.id.eq(counselSessionId))
-            .fetchOne();
-
         return queryFactory
             .selectFrom(counselCard)
             .join(counselCard.counselSession, counselSession).fetchJoin()
-            .where(counselSession.counselee.id.eq(counseleeId)
-                .and(counselSession.id.eq(counselSessionId)
-                    .or(
-                        counselSession.counselee.id.eq(counseleeId)
-                            .and(counselSession.status.eq(ScheduleStatus.COMPLETED))
-                    )))
-            .orderBy(counselSession.scheduledStartDateTime.desc())
+            .where(counselSession.counselee.id.eq(counseleeId),
+                counselSession.scheduledStartDateTime.goe(fromInclusive),
+                counselSession.status.ne(ScheduleStatus.CANCELED),
+                counselCard.cardRecordStatus.eq(CardRecordStatus.COMPLETED))
+            .orderBy(counselSession.scheduledStartDateTime.asc())
             .fetch();
     }
 }
@@ -0,0 +1,46 @@
+package com.springboot.api.counselcard.repository;
+
+import com.querydsl.core.types.Path;
+import com.springboot.api.counselcard.entity.QCounselCard;
+import com.springboot.enums.CounselCardRecordType;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 상담 카드 항목 타입별 embeddable 경로 (항목만 골라 조회할 때 사용)
+ */
+public final class CounselCardSectionPaths {
+
+    // @ElementCollection 을 가진 항목 (embeddable 을 스칼라로 조회하면 컬렉션이 채워지지 않음)
+    private static final Set<CounselCardRecordType> COLLECTION_SECTIONS = EnumSet.of(
+        CounselCardRecordType.COUNSEL_PURPOSE_AND_NOTE,
+        CounselCardRecordType.DISEASE_INFO,
+        CounselCardRecordType.MEDICATION_MANAGEMENT,
+        CounselCardRecordType.COMMUNICATION,
+        CounselCardRecordType.EVACUATION,
+        CounselCardRecordType.WALKING);
+
+    private CounselCardSectionPaths() {
+    }
+
+    public static boolean hasCollection(CounselCardRecordType type) {
+        return COLLECTION_SECTIONS.contains(type);
+    }
+
+    public static Path<?> of(QCounselCard counselCard, CounselCardRecordType type) {
+        return switch (type) {
+            case SMOKING -> counselCard.smoking;
+            case DRINKING -> counselCard.drinking;
+            case NUTRITION -> counselCard.nutrition;
+            case EXERCISE -> counselCard.exercise;
+            case MEDICATION_MANAGEMENT -> counselCard.medicationManagement;
+            case DISEASE_INFO -> counselCard.diseaseInfo;
+            case ALLERGY -> counselCard.allergy;
+            case MEDICATION_SIDE_EFFECT -> counselCard.medicationSideEffect;
+            case COUNSEL_PURPOSE_AND_NOTE -> counselCard.counselPurposeAndNote;
+            case COMMUNICATION -> counselCard.communication;
+            case EVACUATION -> counselCard.evacuation;
+            case WALKING -> counselCard.walking;
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package com.springboot.api.counselcard.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.springboot.api.common.annotation.ClusterSingleton;
+import com.springboot.api.common.properties.CounselCardHistoryProperties;
+import com.springboot.api.counselcard.repository.CounselCardDeltaRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * delta 기록을 켜기 전에 완료된 카드의 이력 이관.
+ * 이력이 없는 내담자를 주기마다 BATCH_SIZE 명씩 내담자별 트랜잭션으로 재생성하며, 이관이 끝나면 조회만 하고 끝납니다.
+ * 이관 전에 새 카드가 완료된 내담자는 기록 시점에 이전 이력이 없으므로 처음부터 인코딩됩니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class CounselCardDeltaBackfillJob {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final CounselCardDeltaRepository counselCardDeltaRepository;
+    private final CounselCardDeltaService counselCardDeltaService;
+    private final CounselCardHistoryProperties counselCardHistoryProperties;
+
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.MINUTES)
+    @ClusterSingleton(value = "counsel-card-delta-backfill", leaseSeconds = 600)
+    public void backfill() {
+        if (!counselCardHistoryProperties.isDeltaEnabled()) {
+            return;
+        }
+
+        List<String> counseleeIds = counselCardDeltaRepository.findCounseleeIdsWithoutDeltas(BATCH_SIZE);
+        int written = 0;
+        for (String counseleeId : counseleeIds) {
+            try {
+                written += counselCardDeltaService.rebuild(counseleeId);
+            } catch (RuntimeException e) {
+                log.warn("상담 카드 delta 이관 실패: counseleeId={}", counseleeId, e);
+            }
+        }
+
+        if (!counseleeIds.isEmpty()) {
+            log.info("상담 카드 delta 이관: counselees={}, written={}", counseleeIds.size(), written);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.springboot.api.counselcard.service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.springboot.api.counselcard.dto.response.TimeRecordedRes;
+import com.springboot.api.counselcard.entity.CounselCard;
+import com.springboot.api.counselcard.entity.CounselCardDelta;
+import com.springboot.enums.CounselCardRecordType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상담 카드 항목 상태(항목 타입 -> 항목 DTO JSON)의 delta 인코딩/복원.
+ * 복원은 스냅샷부터 예약일 순으로 delta 를 덮어쓰는 fold 입니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CounselCardDeltaCodec {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 카드의 전체 항목 상태
+     */
+    public Map<CounselCardRecordType, JsonNode> sections(CounselCard counselCard) {
+        Map<CounselCardRecordType, JsonNode> sections = new EnumMap<>(CounselCardRecordType.class);
+        for (CounselCardRecordType type : CounselCardRecordType.values()) {
+            Object dto = type.getDtoConverter().apply(type.getExtractor().apply(counselCard));
+            sections.put(type, objectMapper.valueToTree(dto));
+        }
+        return sections;
+    }
+
+    /**
+     * 이전 상태 대비 바뀐 항목만
+     */
+    public Map<CounselCardRecordType, JsonNode> diff(Map<CounselCardRecordType, JsonNode> previous,
+        Map<CounselCardRecordType, JsonNode> current) {
+        Map<CounselCardRecordType, JsonNode> changes = new EnumMap<>(CounselCardRecordType.class);
+        current.forEach((type, section) -> {
+            if (!Objects.equals(previous.get(type), section)) {
+                changes.put(type, section);
+            }
+        });
+        return changes;
+    }
+
+    /**
+     * delta 목록(예약일 오름차순)을 차례로 적용한 최종 상태
+     */
+    public Map<CounselCardRecordType, JsonNode> fold(List<CounselCardDelta> deltas) {
+        Map<CounselCardRecordType, JsonNode> state = new EnumMap<>(CounselCardRecordType.class);
+        deltas.forEach(delta -> apply(state, delta));
+        return state;
+    }
+
+    public void apply(Map<CounselCardRecordType, JsonNode> state, CounselCardDelta delta) {
+        if (delta.isSnapshot()) {
+            state.clear();
+        }
+        state.putAll(readChanges(delta.getChanges()));
+    }
+
+    /**
+     * 한 항목의 변경 시점 목록 (최신순). 스냅샷에서 값이 그대로인 경우는 변경으로 보지 않습니다.
+     */
+    public List<TimeRecordedRes<JsonNode>> sectionTimeline(List<CounselCardDelta> deltas,
+        CounselCardRecordType type) {
+        List<TimeRecordedRes<JsonNode>> timeline = new ArrayList<>();
+        JsonNode previous = null;
+
+        for (CounselCardDelta delta : deltas) {
+            JsonNode section = readChanges(delta.getChanges()).get(type);
+            if (section == null || section.equals(previous)) {
+                continue;
+            }
+            timeline.addFirst(new TimeRecordedRes<>(
+                delta.getScheduledStartDateTime().toLocalDate().toString(), section));
+            previous = section;
+        }
+        return timeline;
+    }
+
+    public String writeChanges(Map<CounselCardRecordType, JsonNode> changes) {
+        ObjectNode node = objectMapper.createObjectNode();
+        changes.forEach((type, section) -> node.set(type.name(), section));
+        try {
+            return objectMapper.writeValueAsString(node);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("상담 카드 변경 내용 직렬화 실패", e);
+        }
+    }
+
+    public Map<CounselCardRecordType, JsonNode> readChanges(String changes) {
+        Map<CounselCardRecordType, JsonNode> sections = new EnumMap<>(CounselCardRecordType.class);
+        try {
+            Iterator<Map.Entry<String, JsonNode>> fields = objectMapper.readTree(changes).fields();
+            fields.forEachRemaining(field -> sections.put(CounselCardRecordType.valueOf(field.getKey()),
+                field.getValue()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("상담 카드 변경 내용 역직렬화 실패", e);
+        }
+        return sections;
+    }
+
+    public static String changedSections(Map<CounselCardRecordType, JsonNode> changes) {
+        return changes.keySet().stream()
+            .map(Enum::name)
+            .collect(Collectors.joining(",", ",", ","));
+    }
+}
@@ -0,0 +1,149 @@
+package com.springboot.api.counselcard.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.springboot.api.common.exception.NoContentException;
+import com.springboot.api.common.properties.CounselCardHistoryProperties;
+import com.springboot.api.counselcard.dto.response.TimeRecordedRes;
+import com.springboot.api.counselcard.entity.CounselCard;
+import com.springboot.api.counselcard.entity.CounselCardDelta;
+import com.springboot.api.counselcard.repository.CounselCardDeltaRepository;
+import com.springboot.api.counselcard.repository.CounselCardRepository;
+import com.springboot.api.counselsession.entity.CounselSession;
+import com.springboot.enums.CardRecordStatus;
+import com.springboot.enums.CounselCardRecordType;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 완료된 상담 카드의 delta 이력 저장/복원 (counsel.card-history.delta-enabled 일 때만 기록).
+ * 카드 본문은 그대로 두고, 이력 조회가 방문 횟수가 아닌 변경 횟수에 비례하도록 별도로 저장합니다.
+ * 완료 카드가 수정되거나 이전 날짜의 카드가 늦게 완료되면 그 시점 이후의 delta 를 다시 인코딩합니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CounselCardDeltaService {
+
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1900, 1, 1, 0, 0);
+
+    private final CounselCardDeltaRepository counselCardDeltaRepository;
+    private final CounselCardRepository counselCardRepository;
+    private final CounselCardDeltaCodec counselCardDeltaCodec;
+    private final CounselCardHistoryProperties counselCardHistoryProperties;
+
+    /**
+     * 작성 완료된 카드의 delta 기록 (완료 상태가 아니면 무시)
+     */
+    @Transactional
+    public void recordIfCompleted(CounselCard counselCard) {
+        if (!counselCardHistoryProperties.isDeltaEnabled()
+            || counselCard.getCardRecordStatus() != CardRecordStatus.COMPLETED) {
+            return;
+        }
+
+        CounselSession counselSession = counselCard.getCounselSession();
+        writeDeltasFrom(counselSession.getCounselee().getId(), counselSession.getScheduledStartDateTime());
+    }
+
+    /**
+     * 기준 시각 이후의 delta 재인코딩 (완료 카드가 완료 취소/상담 취소/삭제로 이력에서 빠진 경우)
+     */
+    @Transactional
+    public void reencodeFrom(String counseleeId, LocalDateTime from) {
+        if (!counselCardHistoryProperties.isDeltaEnabled() || counseleeId == null) {
+            return;
+        }
+        writeDeltasFrom(counseleeId, from);
+    }
+
+    /**
+     * 내담자의 delta 이력 전체 재생성 (기존 카드 이관용)
+     */
+    @Transactional
+    public int rebuild(String counseleeId) {
+        return writeDeltasFrom(counseleeId, BEGINNING);
+    }
+
+    /**
+     * 이전 회차에서 해당 항목이 바뀐 시점과 값 (최신순)
+     */
+    @Transactional(readOnly = true)
+    public List<TimeRecordedRes<Object>> selectSectionChanges(String counselSessionId, CounselCardRecordType type) {
+        if (!counselCardHistoryProperties.isDeltaEnabled()) {
+            throw new IllegalArgumentException("상담 카드 변경 이력 저장이 비활성화되어 있습니다");
+        }
+
+        CounselSession counselSession = counselCardRepository.findCounselCardByCounselSessionId(counselSessionId)
+            .map(CounselCard::getCounselSession)
+            .orElseThrow(IllegalArgumentException::new);
+
+        List<CounselCardDelta> deltas = counselCardDeltaRepository.findSectionChangesBefore(
+            counselSession.getCounselee().getId(), type, counselSession.getScheduledStartDateTime());
+        List<TimeRecordedRes<Object>> changes = counselCardDeltaCodec.sectionTimeline(deltas, type).stream()
+            .map(change -> new TimeRecordedRes<Object>(change.getCounselDate(), change.getData()))
+            .toList();
+
+        if (changes.isEmpty()) {
+            throw new NoContentException();
+        }
+        return changes;
+    }
+
+    private int writeDeltasFrom(String counseleeId, LocalDateTime requestedFrom) {
+        // 첫 카드는 항상 스냅샷으로 남으므로, 기준 시각 이전 이력이 없으면 아직 이관되지 않은 이전 카드까지 처음부터 인코딩
+        LocalDateTime from = counselCardDeltaRepository.existsBefore(counseleeId, requestedFrom)
+            ? requestedFrom
+            : BEGINNING;
+        List<CounselCardDelta> baseDeltas = deltasSinceLatestSnapshot(counseleeId, from);
+        Map<CounselCardRecordType, JsonNode> state = counselCardDeltaCodec.fold(baseDeltas);
+        int sequence = baseDeltas.isEmpty() ? 0 : baseDeltas.getLast().getSequence() + 1;
+
+        counselCardDeltaRepository.deleteFrom(counseleeId, from);
+
+        int interval = Math.max(1, counselCardHistoryProperties.getSnapshotInterval());
+        int written = 0;
+        for (CounselCard counselCard : counselCardRepository.findCompletedCardsByCounseleeIdFrom(counseleeId, from)) {
+            Map<CounselCardRecordType, JsonNode> sections = counselCardDeltaCodec.sections(counselCard);
+            boolean snapshot = sequence % interval == 0;
+            Map<CounselCardRecordType, JsonNode> changes = snapshot
+                ? sections
+                : counselCardDeltaCodec.diff(state, sections);
+            state = sections;
+
+            // 바뀐 항목이 없으면 저장하지 않음 (이전 상태가 그대로 이어짐). 스냅샷은 비어 있어도 저장해 이관 여부를 남김
+            if (changes.isEmpty() && !snapshot) {
+                continue;
+            }
+
+            counselCardDeltaRepository.save(CounselCardDelta.builder()
+                .counseleeId(counseleeId)
+                .counselCardId(counselCard.getId())
+                .counselSessionId(counselCard.getCounselSession().getId())
+                .scheduledStartDateTime(counselCard.getCounselSession().getScheduledStartDateTime())
+                .sequence(sequence++)
+                .snapshot(snapshot)
+                .changedSections(CounselCardDeltaCodec.changedSections(changes))
+                .changes(counselCardDeltaCodec.writeChanges(changes))
+                .build());
+            written++;
+        }
+
+        log.debug("상담 카드 delta 재인코딩: counseleeId={}, from={}, written={}", counseleeId, from, written);
+        return written;
+    }
+
+    private List<CounselCardDelta> deltasSinceLatestSnapshot(String counseleeId, LocalDateTime before) {
+        return counselCardDeltaRepository.findLatestSnapshotBefore(counseleeId, before)
+            .map(snapshot -> counselCardDeltaRepository.findBetween(counseleeId,
+                snapshot.getScheduledStartDateTime(), before))
+            .orElseGet(List::of);
+    }
+}
@@ -0,0 +1,61 @@
+package com.springboot.api.counselcard.service;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.springboot.api.counselcard.dto.information.CounselCardSnapshot;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 내담자별 완료된 상담의 상담 카드 스냅샷 캐시 (본상담 화면의 이전 기록).
+ * 엔티티가 아닌 불변 스냅샷만 보관하며, 스냅샷은 loader 를 호출한 조회 트랜잭션 안에서 만들어야 합니다.
+ * 상담 완료/취소/삭제, 완료 카드 수정 시 해당 내담자만 무효화하며, 트랜잭션 안에서 호출되면 커밋 이후에 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CounselCardHistoryCache {
+
+    public static final String CACHE_NAME = "counselCardHistory";
+
+    private final CacheManager cacheManager;
+
+    public List<CounselCardSnapshot> get(String counseleeId,
+        Function<String, List<CounselCardSnapshot>> loader) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return loader.apply(counseleeId);
+        }
+        return cache.get(counseleeId, () -> loader.apply(counseleeId));
+    }
+
+    public void evict(String counseleeId) {
+        if (counseleeId == null) {
+            return;
+        }
+
+        Runnable eviction = () -> {
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            if (cache != null) {
+                cache.evict(counseleeId);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+            return;
+        }
+        eviction.run();
+    }
+}
@@ -1,11 +1,17 @@
 package com.springboot.api.counselcard.service;
 
+import com.springboot.api.common.dto.PageReq;
+import com.springboot.api.common.dto.PageRes;
 import com.springboot.api.common.exception.NoContentException;
+import com.springboot.api.counselcard.dto.information.CounselCardSnapshot;
+import com.springboot.api.counselcard.dto.information.base.CounselPurposeAndNoteDTO;
 import com.springboot.api.counselcard.dto.information.health.AllergyDTO;
+import com.springboot.api.counselcard.dto.information.health.DiseaseInfoDTO;
 import com.springboot.api.counselcard.dto.information.health.MedicationSideEffectDTO;
 import com.springboot.api.counselcard.dto.information.independentlife.CommunicationDTO;
 import com.springboot.api.counselcard.dto.information.independentlife.EvacuationDTO;
 import com.springboot.api.counselcard.dto.information.independentlife.WalkingDTO;
+import com.springboot.api.counselcard.dto.information.living.DrinkingDTO;
 import com.springboot.api.counselcard.dto.information.living.ExerciseDTO;
 import com.springboot.api.counselcard.dto.information.living.MedicationManagementDTO;
 import com.springboot.api.counselcard.dto.information.living.NutritionDTO;
@@ -22,16 +28,20 @@ import com.springboot.api.counselcard.dto.response.MainCounselHealthInformationR
 import com.springboot.api.counselcard.dto.response.MainCounselIndependentLifeInformationRes;
 import com.springboot.api.counselcard.dto.response.MainCounselLivingInformationRes;
 import com.springboot.api.counselcard.dto.response.MainCounselRecordBuilder;
+import com.springboot.api.counselcard.dto.response.MainCounselTimelineRes;
 import com.springboot.api.counselcard.dto.response.TimeRecordedRes;
 import com.springboot.api.counselcard.entity.CounselCard;
 import com.springboot.api.counselcard.repository.CounselCardRepository;
 import com.springboot.api.counselsession.entity.CounselSession;
+import com.springboot.api.counselsession.service.CounselSessionCacheService;
 import com.springboot.enums.CardRecordStatus;
 import com.springboot.enums.CounselCardRecordType;
+import com.springboot.enums.ScheduleStatus;
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -40,7 +50,12 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CounselCardService {
 
+    private static final int PREVIOUS_RECORD_LIMIT = 50;
+
     private final CounselCardRepository counselCardRepository;
+    private final CounselSessionCacheService counselSessionCacheService;
+    private final CounselCardHistoryCache counselCardHistoryCache;
+    private final CounselCardDeltaService counselCardDeltaService;
 
     public CounselCardRes selectCounselCard(String counselSessionId) {
         CounselCard counselCard = counselCardRepository
@@ -84,7 +99,6 @@ public class CounselCardService {
     }
 
     @Transactional
-    @CacheEvict(value = "sessionList", allEntries = true)
     public CounselCardIdRes updateCounselCardStatus(String counselSessionId, CardRecordStatus status) {
         CounselCard counselCard = counselCardRepository
             .findCounselCardByCounselSessionId(counselSessionId)
@@ -96,8 +110,13 @@ public class CounselCardService {
                 retrievePreviousCounselCardAndFill(counselCard);
                 counselCard.updateStatusToInProgress();
             }
-            case COMPLETED -> counselCard.updateStatusToCompleted();
+            case COMPLETED -> {
+                counselCard.updateStatusToCompleted();
+                counselCardHistoryCache.evict(counselCard.getCounselSession().getCounselee().getId());
+                counselCardDeltaService.recordIfCompleted(counselCard);
+            }
         }
+        counselSessionCacheService.evictSessionLists(counselCard.getCounselSession().getScheduledStartDateTime());
 
         return new CounselCardIdRes(counselCard.getId());
     }
@@ -128,6 +147,29 @@ public class CounselCardService {
             .orElseThrow(IllegalArgumentException::new);
 
         counselCard.update(updateCounselCardReq);
+        evictHistoryIfCompleted(counselCard);
+        counselCardDeltaService.recordIfCompleted(counselCard);
+
+        return new CounselCardIdRes(counselCard.getId());
+    }
+
+    /**
+     * 상담 카드 항목 하나만 수정 (자동 저장용). 변경된 컬럼만 UPDATE 됩니다.
+     */
+    @Transactional
+    public CounselCardIdRes updateCounselCardSection(String counselSessionId, CounselCardRecordType type,
+        Object section) {
+        if (!type.getDtoType().isInstance(section)) {
+            throw new IllegalArgumentException("상담 카드 항목 타입과 수정 내용이 맞지 않습니다: " + type);
+        }
+
+        CounselCard counselCard = counselCardRepository.findCounselCardByCounselSessionId(
+                counselSessionId)
+            .orElseThrow(IllegalArgumentException::new);
+
+        counselCard.updateSection(type, section);
+        evictHistoryIfCompleted(counselCard);
+        counselCardDeltaService.recordIfCompleted(counselCard);
 
         return new CounselCardIdRes(counselCard.getId());
     }
@@ -139,92 +181,155 @@ public class CounselCardService {
             .orElseThrow(IllegalArgumentException::new);
 
         counselCardRepository.delete(counselCard);
+        evictHistoryIfCompleted(counselCard);
 
         return new CounselCardIdRes(counselCard.getId());
     }
 
+    /**
+     * 최근 이전 기록 (최대 PREVIOUS_RECORD_LIMIT 건)
+     */
+    @Transactional(readOnly = true)
     public <R> List<TimeRecordedRes<R>> selectPreviousRecordsByType(String counselSessionId,
         CounselCardRecordType type) {
-        return selectPreviousRecordByCounselSessionId(counselSessionId, type.getExtractor(),
-            type.getDtoConverter());
-    }
+        List<TimeRecordedRes<R>> previousRecords = selectPreviousRecordsByType(counselSessionId, type,
+            PageReq.of(0, PREVIOUS_RECORD_LIMIT)).getContent();
 
-    private <T, R> List<TimeRecordedRes<R>> selectPreviousRecordByCounselSessionId(
-        String counselSessionId,
-        Function<CounselCard, T> extractor,
-        Function<T, R> dtoConverter) {
-
-        return selectRecordedCardsByPreviousSessions(counselSessionId)
-            .stream()
-            .map(counselCard -> new TimeRecordedRes<>(
-                counselCard.getCounselSession().getScheduledStartDateTime().toLocalDate()
-                    .toString(),
-                dtoConverter.apply(extractor.apply(counselCard))))
-            .toList();
-    }
-
-    private List<CounselCard> selectRecordedCardsByPreviousSessions(String counselSessionId) {
-        List<CounselCard> recordedCardsByPreviousSessions = counselCardRepository.findRecordedCardsByPreviousSessions(
-            counselSessionId);
-
-        if (recordedCardsByPreviousSessions.isEmpty()) {
+        if (previousRecords.isEmpty()) {
             throw new NoContentException();
         }
 
-        return recordedCardsByPreviousSessions;
+        return previousRecords;
     }
 
+    /**
+     * 이전 기록 페이지 조회. 컬렉션을 가진 항목은 지연 로딩되므로 트랜잭션 안에서 DTO 로 변환합니다.
+     */
     @Transactional(readOnly = true)
-    public MainCounselBaseInformationRes selectMainCounselBaseInformation(String counselSessionId) {
-        List<CounselCard> counselCards = counselCardRepository
-            .findCurrentAndPastCounselCardsBySessionId(counselSessionId);
+    public <R> PageRes<TimeRecordedRes<R>> selectPreviousRecordsByType(String counselSessionId,
+        CounselCardRecordType type, PageReq pageReq) {
+        Function<Object, R> dtoConverter = type.getDtoConverter();
+
+        return counselCardRepository.findRecordedSectionsByPreviousSessions(counselSessionId, type, pageReq)
+            .map(recordedSection -> new TimeRecordedRes<>(
+                recordedSection.scheduledStartDateTime().toLocalDate().toString(),
+                dtoConverter.apply(recordedSection.section())));
+    }
 
-        return new MainCounselBaseInformationRes(
-            MainCounselRecordBuilder.build(counselCards, c -> c.getCounselPurposeAndNote().getCounselPurpose()),
-            MainCounselRecordBuilder.build(counselCards, c -> c.getCounselPurposeAndNote().getSignificantNote()),
-            MainCounselRecordBuilder.build(counselCards, c -> c.getCounselPurposeAndNote().getMedicationNote())
-        );
+    @Transactional(readOnly = true)
+    public MainCounselBaseInformationRes selectMainCounselBaseInformation(String counselSessionId) {
+        return buildMainCounselBaseInformation(selectMainCounselCards(counselSessionId));
     }
 
     @Transactional(readOnly = true)
     public MainCounselHealthInformationRes selectMainCounselHealthInformation(String counselSessionId) {
-        List<CounselCard> counselCards = counselCardRepository
-            .findCurrentAndPastCounselCardsBySessionId(counselSessionId);
-
-        return new MainCounselHealthInformationRes(
-            MainCounselRecordBuilder.build(counselCards, c -> c.getDiseaseInfo().getDiseases()),
-            MainCounselRecordBuilder.build(counselCards, c -> c.getDiseaseInfo().getHistoryNote()),
-            MainCounselRecordBuilder.build(counselCards, c -> c.getDiseaseInfo().getMainInconvenienceNote()),
-            MainCounselRecordBuilder.build(counselCards, c -> new MedicationSideEffectDTO(c.getMedicationSideEffect())),
-            MainCounselRecordBuilder.build(counselCards, c -> new AllergyDTO(c.getAllergy()))
-        );
+        return buildMainCounselHealthInformation(selectMainCounselCards(counselSessionId));
     }
 
     @Transactional(readOnly = true)
     public MainCounselLivingInformationRes selectMainCounselLivingInformation(
         String counselSessionId) {
-        List<CounselCard> counselCards = counselCardRepository
-            .findCurrentAndPastCounselCardsBySessionId(counselSessionId);
-
-        return new MainCounselLivingInformationRes(
-            MainCounselRecordBuilder.build(counselCards, c -> new SmokingDTO(c.getSmoking())),
-            MainCounselRecordBuilder.build(counselCards, c -> c.getDrinking().getDrinkingAmount()),
-            MainCounselRecordBuilder.build(counselCards, c -> new ExerciseDTO(c.getExercise())),
-            MainCounselRecordBuilder.build(counselCards, c -> new MedicationManagementDTO(c.getMedicationManagement())),
-            MainCounselRecordBuilder.build(counselCards, c -> new NutritionDTO(c.getNutrition()))
-        );
+        return buildMainCounselLivingInformation(selectMainCounselCards(counselSessionId));
     }
 
     @Transactional(readOnly = true)
     public MainCounselIndependentLifeInformationRes selectMainCounselIndependentLifeInformation(
         String counselSessionId) {
-        List<CounselCard> counselCards = counselCardRepository
-            .findCurrentAndPastCounselCardsBySessionId(counselSessionId);
+        return buildMainCounselIndependentLifeInformation(selectMainCounselCards(counselSessionId));
+    }
+
+    /**
+     * 본상담 화면의 모든 항목을 한 번에 조회 (카드 목록은 한 번만 읽어 네 영역을 모두 만듭니다)
+     */
+    @Transactional(readOnly = true)
+    public MainCounselTimelineRes selectMainCounselTimeline(String counselSessionId) {
+        List<CounselCardSnapshot> counselCards = selectMainCounselCards(counselSessionId);
+
+        return new MainCounselTimelineRes(
+            buildMainCounselBaseInformation(counselCards),
+            buildMainCounselHealthInformation(counselCards),
+            buildMainCounselLivingInformation(counselCards),
+            buildMainCounselIndependentLifeInformation(counselCards)
+        );
+    }
 
+    /**
+     * 현재 상담 카드 + 내담자의 완료된 상담 카드 스냅샷 (예약일 내림차순).
+     * 완료된 상담 카드는 내담자별로 스냅샷을 캐시하고, 현재 카드는 항상 새로 읽습니다.
+     */
+    private List<CounselCardSnapshot> selectMainCounselCards(String counselSessionId) {
+        CounselCard currentCard = counselCardRepository
+            .findCounselCardByCounselSessionId(counselSessionId)
+            .orElseThrow(IllegalArgumentException::new);
+        String counseleeId = currentCard.getCounselSession().getCounselee().getId();
+
+        List<CounselCardSnapshot> completedCards = counselCardHistoryCache.get(counseleeId,
+            id -> counselCardRepository.findCompletedSessionCardsByCounseleeId(id).stream()
+                .map(CounselCardSnapshot::of)
+                .toList());
+
+        return Stream.concat(
+                Stream.of(CounselCardSnapshot.of(currentCard)),
+                completedCards.stream().filter(snapshot -> !snapshot.counselCardId().equals(currentCard.getId())))
+            .sorted(Comparator.comparing(CounselCardSnapshot::scheduledStartDateTime).reversed())
+            .toList();
+    }
+
+    private MainCounselBaseInformationRes buildMainCounselBaseInformation(List<CounselCardSnapshot> counselCards) {
+        Function<CounselCardSnapshot, CounselPurposeAndNoteDTO> purposeAndNote =
+            c -> c.section(CounselCardRecordType.COUNSEL_PURPOSE_AND_NOTE, CounselPurposeAndNoteDTO.class);
+        return new MainCounselBaseInformationRes(
+            MainCounselRecordBuilder.build(counselCards, purposeAndNote.andThen(CounselPurposeAndNoteDTO::counselPurpose)),
+            MainCounselRecordBuilder.build(counselCards, purposeAndNote.andThen(CounselPurposeAndNoteDTO::significantNote)),
+            MainCounselRecordBuilder.build(counselCards, purposeAndNote.andThen(CounselPurposeAndNoteDTO::medicationNote))
+        );
+    }
+
+    private MainCounselHealthInformationRes buildMainCounselHealthInformation(List<CounselCardSnapshot> counselCards) {
+        Function<CounselCardSnapshot, DiseaseInfoDTO> diseaseInfo =
+            c -> c.section(CounselCardRecordType.DISEASE_INFO, DiseaseInfoDTO.class);
+        return new MainCounselHealthInformationRes(
+            MainCounselRecordBuilder.build(counselCards, diseaseInfo.andThen(DiseaseInfoDTO::diseases)),
+            MainCounselRecordBuilder.build(counselCards, diseaseInfo.andThen(DiseaseInfoDTO::historyNote)),
+            MainCounselRecordBuilder.build(counselCards, diseaseInfo.andThen(DiseaseInfoDTO::mainInconvenienceNote)),
+            MainCounselRecordBuilder.build(counselCards,
+                c -> c.section(CounselCardRecordType.MEDICATION_SIDE_EFFECT, MedicationSideEffectDTO.class)),
+            MainCounselRecordBuilder.build(counselCards,
+                c -> c.section(CounselCardRecordType.ALLERGY, AllergyDTO.class))
+        );
+    }
+
+    private MainCounselLivingInformationRes buildMainCounselLivingInformation(List<CounselCardSnapshot> counselCards) {
+        return new MainCounselLivingInformationRes(
+            MainCounselRecordBuilder.build(counselCards, c -> c.section(CounselCardRecordType.SMOKING, SmokingDTO.class)),
+            MainCounselRecordBuilder.build(counselCards,
+                c -> c.section(CounselCardRecordType.DRINKING, DrinkingDTO.class).drinkingAmount()),
+            MainCounselRecordBuilder.build(counselCards, c -> c.section(CounselCardRecordType.EXERCISE, ExerciseDTO.class)),
+            MainCounselRecordBuilder.build(counselCards,
+                c -> c.section(CounselCardRecordType.MEDICATION_MANAGEMENT, MedicationManagementDTO.class)),
+            MainCounselRecordBuilder.build(counselCards, c -> c.section(CounselCardRecordType.NUTRITION, NutritionDTO.class))
+        );
+    }
+
+    private MainCounselIndependentLifeInformationRes buildMainCounselIndependentLifeInformation(
+        List<CounselCardSnapshot> counselCards) {
         return new MainCounselIndependentLifeInformationRes(
-            MainCounselRecordBuilder.build(counselCards, c -> new CommunicationDTO(c.getCommunication())),
-            MainCounselRecordBuilder.build(counselCards, c -> new EvacuationDTO(c.getEvacuation())),
-            MainCounselRecordBuilder.build(counselCards, c -> new WalkingDTO(c.getWalking()))
+            MainCounselRecordBuilder.build(counselCards,
+                c -> c.section(CounselCardRecordType.COMMUNICATION, CommunicationDTO.class)),
+            MainCounselRecordBuilder.build(counselCards,
+                c -> c.section(CounselCardRecordType.EVACUATION, EvacuationDTO.class)),
+            MainCounselRecordBuilder.build(counselCards,
+                c -> c.section(CounselCardRecordType.WALKING, WalkingDTO.class))
         );
     }
+
+    /**
+     * 완료된 상담의 카드가 바뀌면 본상담 이전 기록 캐시 무효화
+     */
+    private void evictHistoryIfCompleted(CounselCard counselCard) {
+        CounselSession counselSession = counselCard.getCounselSession();
+        if (counselSession.getStatus() == ScheduleStatus.COMPLETED) {
+            counselCardHistoryCache.evict(counselSession.getCounselee().getId());
+        }
+    }
 }
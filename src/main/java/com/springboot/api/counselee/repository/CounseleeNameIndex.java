@@ -0,0 +1,305 @@
+package com.springboot.api.counselee.repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.springboot.api.counselee.entity.QCounselee;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 내담자 이름 검색용 메모리 역색인.
+ * 음절 unigram/bigram 과 초성 unigram/bigram 으로 후보를 좁힌 뒤 실제 포함 여부를 확인합니다.
+ * 초성만으로 이루어진 검색어(예: "ㄱㅁㅅ")는 이름의 초성 문자열에서 찾습니다.
+ * 주기적으로 전체를 다시 읽고, 내담자 등록/수정/삭제는 커밋 후 바로 반영됩니다.
+ */
+@Component
+@Slf4j
+public class CounseleeNameIndex {
+
+    // 일치하는 내담자가 이보다 많으면 IN 조건 대신 LIKE 검색으로 처리
+    public static final int MAX_MATCHES = 1000;
+
+    private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+    private static final int HANGUL_CHOSUNG_UNIT = 21 * 28;
+    private static final String SYLLABLE_PREFIX = "s:";
+    private static final String CHOSUNG_PREFIX = "c:";
+
+    private final JPAQueryFactory queryFactory;
+    private final Object lock = new Object();
+
+    // 최초 빌드 전에는 null (검색 시 LIKE 로 대체)
+    private volatile Snapshot snapshot;
+    // 전체 재색인 중 들어온 변경 (lock 으로 보호, 재색인 중이 아니면 null)
+    private List<NameChange> pendingChanges;
+
+    public CounseleeNameIndex(JPAQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    /**
+     * 이름 검색 조건. 색인을 사용할 수 없거나 일치 건수가 많으면 LIKE 검색으로 대체
+     * <p>
+     * 색인은 같은 서버의 변경만 커밋 직후 반영하고 다른 서버의 변경은 다음 전체 재색인(최대 10분)까지 늦게 반영됩니다.
+     * 그 사이 이름이 바뀐 내담자가 옛 이름으로 검색되지 않도록 음절 검색은 ID 목록과 함께 DB 의 이름을 다시 확인합니다.
+     * 새 이름으로는 재색인 전까지 검색되지 않을 수 있으며, 초성 검색은 DB 에서 다시 확인할 수 없어 색인 결과를 그대로 씁니다.
+     */
+    public BooleanExpression nameCondition(StringPath namePath, StringPath idPath, String keyword) {
+        String trimmed = keyword.trim();
+        return search(keyword)
+            .map(ids -> {
+                if (ids.isEmpty()) {
+                    return Expressions.FALSE.isTrue();
+                }
+                return isChosungOnly(normalize(keyword))
+                    ? idPath.in(ids)
+                    : idPath.in(ids).and(namePath.containsIgnoreCase(trimmed));
+            })
+            .orElseGet(() -> namePath.containsIgnoreCase(trimmed));
+    }
+
+    /**
+     * 이름에 검색어가 포함된 내담자 ID 목록. 색인을 사용할 수 없으면 empty
+     */
+    public Optional<List<String>> search(String keyword) {
+        Snapshot current = snapshot;
+        String normalized = normalize(keyword);
+
+        if (current == null || normalized.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<String> matchedIds = matches(current, normalized);
+        return matchedIds.size() > MAX_MATCHES ? Optional.empty() : Optional.of(matchedIds);
+    }
+
+    /**
+     * 자동완성용 ID 목록 (검색어로 시작하는 이름 우선, 이름순)
+     */
+    public Optional<List<String>> autocomplete(String keyword, int limit) {
+        Snapshot current = snapshot;
+        String normalized = normalize(keyword);
+
+        if (current == null || normalized.isEmpty()) {
+            return Optional.empty();
+        }
+
+        boolean chosungQuery = isChosungOnly(normalized);
+        Comparator<Map.Entry<String, String>> ranking = Comparator
+            .comparing((Map.Entry<String, String> entry) ->
+                !searchableText(entry.getValue(), chosungQuery).startsWith(normalized))
+            .thenComparing(Map.Entry::getValue)
+            .thenComparing(Map.Entry::getKey);
+
+        return Optional.of(matches(current, normalized).stream()
+            .map(id -> Map.entry(id, current.names().getOrDefault(id, "")))
+            .sorted(ranking)
+            .limit(limit)
+            .map(Map.Entry::getKey)
+            .toList());
+    }
+
+    public void put(String counseleeId, String name) {
+        afterCommit(new NameChange(counseleeId, name));
+    }
+
+    public void remove(String counseleeId) {
+        afterCommit(new NameChange(counseleeId, null));
+    }
+
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void rebuild() {
+        synchronized (lock) {
+            pendingChanges = new ArrayList<>();
+        }
+
+        Map<String, String> names;
+        try {
+            QCounselee counselee = QCounselee.counselee;
+            names = queryFactory
+                .select(counselee.id, counselee.name)
+                .from(counselee)
+                .where(counselee.name.isNotNull())
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(
+                    tuple -> tuple.get(counselee.id),
+                    tuple -> tuple.get(counselee.name),
+                    (left, right) -> left));
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                pendingChanges = null;
+            }
+            log.warn("내담자 이름 색인 재구성 실패: {}", e.getMessage());
+            return;
+        }
+
+        rebuild(names);
+    }
+
+    /**
+     * 주어진 (ID, 이름) 목록으로 색인을 새로 만들고, 재구성 중 들어온 변경을 다시 적용
+     */
+    public void rebuild(Map<String, String> names) {
+        Snapshot next = new Snapshot(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        names.forEach((id, name) -> apply(next, new NameChange(id, name)));
+
+        synchronized (lock) {
+            Optional.ofNullable(pendingChanges).ifPresent(changes -> changes.forEach(change -> apply(next, change)));
+            pendingChanges = null;
+            snapshot = next;
+        }
+        log.debug("내담자 이름 색인 재구성 완료: {}건", names.size());
+    }
+
+    public static String toChosung(String text) {
+        StringBuilder chosung = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            chosung.append(c >= HANGUL_BEGIN && c <= HANGUL_END
+                ? CHOSUNG.charAt((c - HANGUL_BEGIN) / HANGUL_CHOSUNG_UNIT)
+                : c);
+        }
+        return chosung.toString();
+    }
+
+    private List<String> matches(Snapshot current, String normalized) {
+        boolean chosungQuery = isChosungOnly(normalized);
+        String prefix = chosungQuery ? CHOSUNG_PREFIX : SYLLABLE_PREFIX;
+
+        // 가장 작은 posting 부터 교집합
+        List<Set<String>> postings = new ArrayList<>();
+        for (String gram : grams(normalized)) {
+            Set<String> posting = current.postings().get(prefix + gram);
+            if (posting == null) {
+                return List.of();
+            }
+            postings.add(posting);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+
+        Set<String> candidates = new HashSet<>(postings.get(0));
+        postings.stream().skip(1).forEach(candidates::retainAll);
+
+        return candidates.stream()
+            .filter(id -> {
+                String name = current.names().get(id);
+                return name != null && searchableText(name, chosungQuery).contains(normalized);
+            })
+            .toList();
+    }
+
+    private void afterCommit(NameChange change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyChange(change);
+                }
+            });
+            return;
+        }
+        applyChange(change);
+    }
+
+    private void applyChange(NameChange change) {
+        synchronized (lock) {
+            Optional.ofNullable(snapshot).ifPresent(current -> apply(current, change));
+            Optional.ofNullable(pendingChanges).ifPresent(changes -> changes.add(change));
+        }
+    }
+
+    private static void apply(Snapshot target, NameChange change) {
+        String previousName = change.name() == null
+            ? target.names().remove(change.counseleeId())
+            : target.names().put(change.counseleeId(), change.name());
+
+        if (previousName != null) {
+            keys(previousName).forEach(key -> Optional.ofNullable(target.postings().get(key))
+                .ifPresent(posting -> posting.remove(change.counseleeId())));
+        }
+
+        if (change.name() != null) {
+            keys(change.name()).forEach(key -> target.postings()
+                .computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet())
+                .add(change.counseleeId()));
+        }
+    }
+
+    private static Set<String> keys(String name) {
+        String normalized = normalize(name);
+        Set<String> keys = new HashSet<>();
+        indexGrams(normalized).forEach(gram -> keys.add(SYLLABLE_PREFIX + gram));
+        indexGrams(toChosung(normalized)).forEach(gram -> keys.add(CHOSUNG_PREFIX + gram));
+        return keys;
+    }
+
+    /**
+     * 검색어 gram: 한 글자면 unigram, 그 외에는 bigram
+     */
+    private static List<String> grams(String text) {
+        List<String> grams = new ArrayList<>();
+        if (text.length() == 1) {
+            grams.add(text);
+            return grams;
+        }
+        for (int i = 0; i < text.length() - 1; i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * 색인 gram: 모든 unigram 과 bigram
+     */
+    private static Set<String> indexGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i < text.length() - 1) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    private static String searchableText(String name, boolean chosungQuery) {
+        String normalized = normalize(name);
+        return chosungQuery ? toChosung(normalized) : normalized;
+    }
+
+    private static boolean isChosungOnly(String text) {
+        return text.chars().allMatch(c -> CHOSUNG.indexOf(c) >= 0);
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Snapshot(Map<String, String> names, Map<String, Set<String>> postings) {
+
+    }
+
+    private record NameChange(String counseleeId, String name) {
+
+    }
+}
@@ -2,10 +2,15 @@ package com.springboot.api.counselee.repository;
 
 import com.springboot.api.common.dto.PageReq;
 import com.springboot.api.common.dto.PageRes;
+import com.springboot.api.common.util.PageTotalResolver;
 import com.springboot.api.common.util.QuerydslPagingUtil;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 import org.springframework.stereotype.Repository;
@@ -22,10 +27,15 @@ import com.springboot.api.counselsession.entity.QCounselSession;
 public class CounseleeRepositoryImpl extends QuerydslRepositorySupport implements CounseleeRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final CounseleeNameIndex counseleeNameIndex;
+    private final PageTotalResolver pageTotalResolver;
 
-    public CounseleeRepositoryImpl(JPAQueryFactory queryFactory) {
+    public CounseleeRepositoryImpl(JPAQueryFactory queryFactory, CounseleeNameIndex counseleeNameIndex,
+        PageTotalResolver pageTotalResolver) {
         super(Counselee.class);
         this.queryFactory = queryFactory;
+        this.counseleeNameIndex = counseleeNameIndex;
+        this.pageTotalResolver = pageTotalResolver;
     }
 
     @Override
@@ -35,8 +45,8 @@ public class CounseleeRepositoryImpl extends QuerydslRepositorySupport implement
         QCounselee counselee = QCounselee.counselee;
         BooleanBuilder builder = new BooleanBuilder();
 
-        if (name != null) {
-            builder.and(counselee.name.containsIgnoreCase(name));
+        if (name != null && !name.isBlank()) {
+            builder.and(counseleeNameIndex.nameCondition(counselee.name, counselee.id, name));
         }
 
         if (birthDates != null && !birthDates.isEmpty()) {
@@ -57,7 +67,9 @@ public class CounseleeRepositoryImpl extends QuerydslRepositorySupport implement
             .from(counselee)
             .where(builder);
 
-        return QuerydslPagingUtil.applyPagination(pageReq, contentQuery, countQuery);
+        // 조건 없는 전체 목록은 테이블 통계 추정치, 조건 검색은 조건별 캐시된 건수 사용
+        return QuerydslPagingUtil.applyPagination(pageReq, contentQuery,
+            pageTotalResolver.estimated("counselees", countQuery, name, birthDates, affiliatedWelfareInstitutions));
     }
 
     @Override
@@ -98,6 +110,28 @@ public class CounseleeRepositoryImpl extends QuerydslRepositorySupport implement
     @Override
     public List<Counselee> findByNameContaining(String keyword) {
         QCounselee counselee = QCounselee.counselee;
+
+        // 이름 색인으로 상위 5건의 ID 를 먼저 구하고 PK 로 조회
+        Optional<List<String>> rankedIds = counseleeNameIndex.autocomplete(keyword, 5);
+        if (rankedIds.isPresent()) {
+            List<String> ids = rankedIds.get();
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+
+            Map<String, Counselee> counseleesById = queryFactory
+                .selectFrom(counselee)
+                .where(counselee.id.in(ids))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(Counselee::getId, Function.identity()));
+
+            return ids.stream()
+                .map(counseleesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        }
+
         return queryFactory
             .selectFrom(counselee)
             .where(counselee.name.containsIgnoreCase(keyword))
@@ -3,6 +3,8 @@ package com.springboot.api.counselee.service;
 import com.springboot.api.common.dto.PageReq;
 import com.springboot.api.common.dto.PageRes;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -10,6 +12,7 @@ import java.util.stream.Collectors;
 
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,8 +27,16 @@ import com.springboot.api.counselee.dto.SelectCounseleeBaseInformationByCounsele
 import com.springboot.api.counselee.dto.SelectCounseleeRes;
 import com.springboot.api.counselee.dto.UpdateCounseleeReq;
 import com.springboot.api.counselee.entity.Counselee;
+import com.springboot.api.counselee.repository.CounseleeNameIndex;
 import com.springboot.api.counselee.repository.CounseleeRepository;
+import com.springboot.api.counselsession.entity.CounselSession;
+import com.springboot.api.counselsession.repository.CounselSessionRepository;
+import com.springboot.api.counselsession.service.CounselScheduleIndex;
+import com.springboot.api.counselsession.service.CounselSessionCacheService;
+import com.springboot.api.counselsession.service.CounselSessionStatService;
+import com.springboot.api.counselsession.service.eventlistener.CounselSessionStatChangedEvent;
 import com.springboot.enums.CardRecordStatus;
+import com.springboot.enums.ScheduleStatus;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -37,6 +48,12 @@ public class CounseleeService {
 
     private final CounseleeRepository counseleeRepository;
     private final CounselCardRepository counselCardRepository;
+    private final CounselSessionRepository counselSessionRepository;
+    private final CounselSessionCacheService counselSessionCacheService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final CounseleeNameIndex counseleeNameIndex;
+    private final CounselScheduleIndex counselScheduleIndex;
+    private final CounselSessionStatService counselSessionStatService;
 
     public SelectCounseleeBaseInformationByCounseleeIdRes selectCounseleeBaseInformation(
         String counselSessionId) {
@@ -59,8 +76,9 @@ public class CounseleeService {
     @CacheEvict(value = {"birthDates", "welfareInstitutions"}, allEntries = true)
     public String addCounselee(AddCounseleeReq addCounseleeReq) {
 
-        Counselee targetCounselee = new Counselee(addCounseleeReq);
-        return counseleeRepository.save(targetCounselee).getId();
+        Counselee targetCounselee = counseleeRepository.save(new Counselee(addCounseleeReq));
+        counseleeNameIndex.put(targetCounselee.getId(), targetCounselee.getName());
+        return targetCounselee.getId();
     }
 
     @CacheEvict(value = {"birthDates", "welfareInstitutions"}, allEntries = true)
@@ -72,6 +90,7 @@ public class CounseleeService {
 
         targetCounselee.update(updateCounseleeReq);
         targetCounselee = counseleeRepository.save(targetCounselee);
+        counseleeNameIndex.put(targetCounselee.getId(), targetCounselee.getName());
         return targetCounselee.getId();
     }
 
@@ -90,14 +109,26 @@ public class CounseleeService {
         return counseleePage.map(SelectCounseleeRes::from);
     }
 
-    @CacheEvict(value = {"birthDates", "welfareInstitutions", "sessionDates", "sessionStats",
-        "sessionList"}, allEntries = true)
+    @CacheEvict(value = {"birthDates", "welfareInstitutions"}, allEntries = true)
     public void deleteCounselee(String counseleeId) {
+        // 내담자 삭제 시 상담 세션도 함께 삭제되므로 해당 예약일의 캐시와 통계만 갱신
+        List<LocalDateTime> scheduledStartDateTimes = counselSessionRepository
+            .findScheduledStartDateTimesByCounseleeId(counseleeId);
+        List<CounselSession> completedSessions = counselSessionRepository
+            .findByCounseleeIdAndStatus(counseleeId, ScheduleStatus.COMPLETED);
+
         counseleeRepository.deleteById(counseleeId);
+        counseleeNameIndex.remove(counseleeId);
+        counselScheduleIndex.removeByCounseleeId(counseleeId);
+        counselSessionStatService.removeCompleted(completedSessions);
+
+        counselSessionCacheService.evictBySchedule(scheduledStartDateTimes);
+        applicationEventPublisher.publishEvent(new CounselSessionStatChangedEvent(scheduledStartDateTimes.stream()
+            .map(YearMonth::from)
+            .collect(Collectors.toSet())));
     }
 
-    @CacheEvict(value = {"birthDates", "welfareInstitutions", "sessionDates", "sessionStats",
-        "sessionList"}, allEntries = true)
+    @CacheEvict(value = {"birthDates", "welfareInstitutions"}, allEntries = true)
     @Transactional
     public List<DeleteCounseleeBatchRes> deleteCounseleeBatch(
         List<DeleteCounseleeBatchReq> deleteCounseleeBatchReqList) {
@@ -118,6 +149,11 @@ public class CounseleeService {
 
     @Cacheable(value = "birthDates")
     public List<LocalDate> getDistinctBirthDates() {
+        return loadDistinctBirthDates();
+    }
+
+    // 캐시를 거치지 않는 조회 (birthDates 캐시 갱신용)
+    public List<LocalDate> loadDistinctBirthDates() {
         return counseleeRepository.findDistinctBirthDates().stream()
             .filter(Objects::nonNull)
             .collect(Collectors.toList());
@@ -125,6 +161,11 @@ public class CounseleeService {
 
     @Cacheable(value = "welfareInstitutions")
     public List<String> getDistinctAffiliatedWelfareInstitutions() {
+        return loadDistinctAffiliatedWelfareInstitutions();
+    }
+
+    // 캐시를 거치지 않는 조회 (welfareInstitutions 캐시 갱신용)
+    public List<String> loadDistinctAffiliatedWelfareInstitutions() {
         return counseleeRepository.findDistinctAffiliatedWelfareInstitutions().stream()
             .filter(institution -> institution != null && !institution.isEmpty())
             .collect(Collectors.toList());
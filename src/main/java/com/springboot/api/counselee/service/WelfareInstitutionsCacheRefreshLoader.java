@@ -0,0 +1,24 @@
+package com.springboot.api.counselee.service;
+
+import org.springframework.stereotype.Component;
+
+import com.springboot.api.common.config.cache.CacheRefreshLoader;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class WelfareInstitutionsCacheRefreshLoader implements CacheRefreshLoader {
+
+    private final CounseleeService counseleeService;
+
+    @Override
+    public String cacheName() {
+        return "welfareInstitutions";
+    }
+
+    @Override
+    public Object load(Object key) {
+        return counseleeService.loadDistinctAffiliatedWelfareInstitutions();
+    }
+}
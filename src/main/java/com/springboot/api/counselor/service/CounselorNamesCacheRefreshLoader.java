@@ -0,0 +1,24 @@
+package com.springboot.api.counselor.service;
+
+import org.springframework.stereotype.Component;
+
+import com.springboot.api.common.config.cache.CacheRefreshLoader;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class CounselorNamesCacheRefreshLoader implements CacheRefreshLoader {
+
+    private final CounselorService counselorService;
+
+    @Override
+    public String cacheName() {
+        return "counselorNames";
+    }
+
+    @Override
+    public Object load(Object key) {
+        return counselorService.loadCounselorNames();
+    }
+}
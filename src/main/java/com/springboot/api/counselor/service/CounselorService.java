@@ -64,6 +64,16 @@ public class CounselorService {
     @Cacheable("counselorNames")
     @Transactional
     public CounselorNameListRes getCounselorNames() {
+        return loadCounselorNames();
+    }
+
+    /**
+     * 캐시를 거치지 않고 Counselor 이름 목록을 조회합니다. "counselorNames" 캐시 갱신에 사용됩니다.
+     *
+     * @return CounselorNameListRes 객체 (이름 목록 포함)
+     */
+    @Transactional(readOnly = true)
+    public CounselorNameListRes loadCounselorNames() {
         List<String> counselorNames = counselorRepository
             .findActiveByRoleTypes(Arrays.asList(RoleType.ROLE_USER, RoleType.ROLE_ADMIN)).stream()
             .map(Counselor::getName)
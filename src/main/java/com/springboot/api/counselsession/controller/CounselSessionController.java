@@ -1,6 +1,7 @@
 package com.springboot.api.counselsession.controller;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.http.ResponseEntity;
@@ -14,10 +15,13 @@ import org.springframework.web.bind.annotation.RequestParam;
 
 import com.springboot.api.common.annotation.ApiController;
 import com.springboot.api.common.annotation.RoleSecured;
+import com.springboot.api.common.dto.CommonCursorRes;
 import com.springboot.api.common.dto.CommonRes;
 import com.springboot.api.common.dto.PageReq;
 import com.springboot.api.common.dto.PageRes;
 import com.springboot.api.counselsession.dto.counselsession.CounselSessionStatRes;
+import com.springboot.api.counselsession.dto.counselsession.CreateCounselReservationBatchReq;
+import com.springboot.api.counselsession.dto.counselsession.CreateCounselReservationBatchRes;
 import com.springboot.api.counselsession.dto.counselsession.CreateCounselReservationReq;
 import com.springboot.api.counselsession.dto.counselsession.CreateCounselReservationRes;
 import com.springboot.api.counselsession.dto.counselsession.DeleteCounselSessionReq;
@@ -59,6 +63,16 @@ public class CounselSessionController {
             .createReservation(createReservationReq)));
     }
 
+    @Operation(summary = "상담세션(일정) 일괄 추가", tags = {"관리자 화면"},
+        description = "최대 200건의 예약을 한 번에 생성합니다. 하나라도 일정이 겹치면 전체가 생성되지 않습니다.")
+    @PostMapping("/batch")
+    @RoleSecured(RoleType.ROLE_ADMIN)
+    public ResponseEntity<CommonRes<CreateCounselReservationBatchRes>> createCounselReservations(
+        @RequestBody @Valid CreateCounselReservationBatchReq createReservationBatchReq) {
+        return ResponseEntity.ok(new CommonRes<>(counselSessionService
+            .createReservations(createReservationBatchReq)));
+    }
+
     @Operation(summary = "특정 연월의 상담 세션이 있는 날짜 목록 조회")
     @GetMapping("/sessions/dates")
     @RoleSecured({RoleType.ROLE_ADMIN, RoleType.ROLE_USER})
@@ -69,6 +83,19 @@ public class CounselSessionController {
         return ResponseEntity.ok(new CommonRes<>(dates));
     }
 
+    @Operation(summary = "예약 가능한 상담 시간 조회", tags = {"관리자 화면"},
+        description = "기간 내 상담사와 내담자 모두 다른 예약과 겹치지 않는 상담 시작 시각 목록을 조회합니다.")
+    @GetMapping("/free-slots")
+    @RoleSecured({RoleType.ROLE_ADMIN, RoleType.ROLE_USER})
+    public ResponseEntity<CommonRes<List<LocalDateTime>>> selectFreeSlots(
+        @RequestParam LocalDate from,
+        @RequestParam LocalDate to,
+        @RequestParam(required = false) String counselorId,
+        @RequestParam(required = false) String counseleeId) {
+        List<LocalDateTime> freeSlots = counselSessionService.selectFreeSlots(counselorId, counseleeId, from, to);
+        return ResponseEntity.ok(new CommonRes<>(freeSlots));
+    }
+
     @Operation(summary = "상담 세션 통계 조회")
     @GetMapping("/sessions/stats")
     @RoleSecured({RoleType.ROLE_ADMIN, RoleType.ROLE_USER, RoleType.ROLE_ASSISTANT})
@@ -89,6 +116,19 @@ public class CounselSessionController {
             counselSessionService.selectCounselSessionListByBaseDate(PageReq.of(page, size), baseDate));
     }
 
+    @Operation(summary = "상담일정 목록 조회 (커서 기반)", tags = {"로그인/홈"},
+        description = "cursor 없이 첫 페이지를 조회하고, 응답의 nextCursor 로 다음 페이지를 조회합니다.")
+    @GetMapping("/list/cursor")
+    @RoleSecured({RoleType.ROLE_ASSISTANT, RoleType.ROLE_ADMIN, RoleType.ROLE_USER})
+    public ResponseEntity<CommonCursorRes<List<SelectCounselSessionListItem>>> selectCounselSessionListByBaseDateAndCursor(
+        @RequestParam(required = false) LocalDate baseDate,
+        @RequestParam(required = false) String cursor,
+        @RequestParam("size") @Min(1) @Max(100) int size) {
+
+        return ResponseEntity.ok(
+            counselSessionService.selectCounselSessionListByBaseDateAndCursor(baseDate, cursor, size));
+    }
+
     @Operation(summary = "상담일정 조회", tags = {"관리자 화면"})
     @GetMapping("/{counselSessionId}")
     public ResponseEntity<CommonRes<SelectCounselSessionRes>> selectCounselSession(
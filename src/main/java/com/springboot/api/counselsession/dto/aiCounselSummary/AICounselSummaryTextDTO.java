@@ -0,0 +1,24 @@
+package com.springboot.api.counselsession.dto.aiCounselSummary;
+
+import com.querydsl.core.annotations.QueryProjection;
+import com.springboot.api.counselsession.enums.AICounselSummaryStatus;
+import lombok.Getter;
+
+/**
+ * stt_result / ta_result 컬럼을 읽지 않고 요약 텍스트만 조회하기 위한 projection
+ */
+@Getter
+public class AICounselSummaryTextDTO {
+
+    private final String counselSessionId;
+    private final AICounselSummaryStatus aiCounselSummaryStatus;
+    private final String analysedText;
+
+    @QueryProjection
+    public AICounselSummaryTextDTO(String counselSessionId, AICounselSummaryStatus aiCounselSummaryStatus,
+        String analysedText) {
+        this.counselSessionId = counselSessionId;
+        this.aiCounselSummaryStatus = aiCounselSummaryStatus;
+        this.analysedText = analysedText;
+    }
+}
@@ -1,10 +1,12 @@
 package com.springboot.api.counselsession.dto.aiCounselSummary;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data
 @NoArgsConstructor
+@AllArgsConstructor
 public class SpeakerStatsDTO {
 
     private int speakCount;
@@ -0,0 +1,8 @@
+package com.springboot.api.counselsession.dto.counselsession;
+
+/**
+ * 완료된 상담 시간 합계 (분 합계, 상담 건별 시간(버림) 합계)
+ */
+public record CounselDurationSum(long counselMinutes, long counselHours) {
+
+}
@@ -0,0 +1,37 @@
+package com.springboot.api.counselsession.dto.counselsession;
+
+import java.time.LocalDateTime;
+
+import com.querydsl.core.annotations.QueryProjection;
+import com.springboot.api.counselsession.entity.CounselSession;
+
+import lombok.Getter;
+
+/**
+ * 일정 색인용 projection (상담 세션 ID, 상담사/내담자 ID, 예약 시작 시각)
+ */
+@Getter
+public class CounselScheduleEntry {
+
+    private final String counselSessionId;
+    private final String counselorId;
+    private final String counseleeId;
+    private final LocalDateTime scheduledStartDateTime;
+
+    @QueryProjection
+    public CounselScheduleEntry(String counselSessionId, String counselorId, String counseleeId,
+        LocalDateTime scheduledStartDateTime) {
+        this.counselSessionId = counselSessionId;
+        this.counselorId = counselorId;
+        this.counseleeId = counseleeId;
+        this.scheduledStartDateTime = scheduledStartDateTime;
+    }
+
+    public static CounselScheduleEntry from(CounselSession counselSession) {
+        return new CounselScheduleEntry(
+            counselSession.getId(),
+            counselSession.getCounselor() == null ? null : counselSession.getCounselor().getId(),
+            counselSession.getCounselee() == null ? null : counselSession.getCounselee().getId(),
+            counselSession.getScheduledStartDateTime());
+    }
+}
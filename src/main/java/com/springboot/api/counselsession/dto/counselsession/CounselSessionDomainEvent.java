@@ -0,0 +1,64 @@
+package com.springboot.api.counselsession.dto.counselsession;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import com.springboot.api.counselee.entity.Counselee;
+import com.springboot.api.counselsession.entity.CounselSession;
+import com.springboot.api.counselsession.enums.CounselSessionEventType;
+import com.springboot.enums.ScheduleStatus;
+
+/**
+ * 상담 세션 상태 변경 이벤트 (outbox payload).
+ * 예약일 변경(RESCHEDULED)인 경우에만 previousScheduledStartDateTime 이 채워지고,
+ * 그 중 내담자가 바뀐 경우에만 previousCounseleeId 가 채워집니다.
+ * status 는 이벤트 발생 시점의 세션 상태입니다.
+ */
+public record CounselSessionDomainEvent(
+    CounselSessionEventType type,
+    String counselSessionId,
+    String counseleeId,
+    String previousCounseleeId,
+    ScheduleStatus status,
+    LocalDateTime scheduledStartDateTime,
+    LocalDateTime previousScheduledStartDateTime,
+    LocalDateTime startDateTime,
+    LocalDateTime occurredAt) {
+
+    public static final String AGGREGATE_TYPE = "CounselSession";
+
+    public static CounselSessionDomainEvent of(CounselSessionEventType type, CounselSession counselSession,
+        LocalDateTime previousScheduledStartDateTime) {
+        return of(type, counselSession, previousScheduledStartDateTime, null);
+    }
+
+    public static CounselSessionDomainEvent of(CounselSessionEventType type, CounselSession counselSession,
+        LocalDateTime previousScheduledStartDateTime, String previousCounseleeId) {
+        return new CounselSessionDomainEvent(
+            type,
+            counselSession.getId(),
+            Optional.ofNullable(counselSession.getCounselee()).map(Counselee::getId).orElse(null),
+            previousCounseleeId,
+            counselSession.getStatus(),
+            counselSession.getScheduledStartDateTime(),
+            previousScheduledStartDateTime,
+            counselSession.getStartDateTime(),
+            LocalDateTime.now());
+    }
+
+    /**
+     * 엔티티를 거치지 않은 일괄 취소 (기한이 지난 예약 자동 취소)
+     */
+    public static CounselSessionDomainEvent canceled(CounselScheduleEntry canceledSession) {
+        return new CounselSessionDomainEvent(
+            CounselSessionEventType.CANCELED,
+            canceledSession.getCounselSessionId(),
+            canceledSession.getCounseleeId(),
+            null,
+            ScheduleStatus.CANCELED,
+            canceledSession.getScheduledStartDateTime(),
+            null,
+            null,
+            LocalDateTime.now());
+    }
+}
@@ -0,0 +1,12 @@
+package com.springboot.api.counselsession.dto.counselsession;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record CreateCounselReservationBatchReq(
+    @NotEmpty(message = "예약 목록은 필수 입력값입니다") @Size(max = 200, message = "한 번에 최대 200건까지 예약할 수 있습니다") List<@Valid CreateCounselReservationReq> reservations) {
+
+}
@@ -0,0 +1,8 @@
+package com.springboot.api.counselsession.dto.counselsession;
+
+import java.util.List;
+
+// 요청 순서와 같은 순서의 상담 세션 ID 목록
+public record CreateCounselReservationBatchRes(List<String> counselSessionIds) {
+
+}
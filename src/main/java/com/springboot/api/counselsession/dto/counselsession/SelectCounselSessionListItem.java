@@ -1,5 +1,6 @@
 package com.springboot.api.counselsession.dto.counselsession;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.querydsl.core.annotations.QueryProjection;
 import com.springboot.enums.CardRecordStatus;
 import com.springboot.enums.ScheduleStatus;
@@ -26,6 +27,9 @@ public class SelectCounselSessionListItem {
     private final CardRecordStatus cardRecordStatus;
     private final Boolean isCounselorAssign;
     private final Boolean isConsent;
+    // 커서 생성용 원본 일시 (응답에는 포함하지 않음)
+    @JsonIgnore
+    private final LocalDateTime scheduledStartDateTime;
 
     @QueryProjection
     public SelectCounselSessionListItem(
@@ -41,6 +45,7 @@ public class SelectCounselSessionListItem {
         Boolean isConsent
     ) {
         this.counselSessionId = counselSessionId;
+        this.scheduledStartDateTime = scheduledStartDateTime;
         this.scheduledTime = scheduledStartDateTime.toLocalTime().format(TIME_FORMATTER);
         this.scheduledDate = scheduledStartDateTime.toLocalDate().toString();
         this.counseleeId = counseleeId;
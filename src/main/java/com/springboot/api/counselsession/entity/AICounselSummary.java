@@ -46,6 +46,10 @@ public class AICounselSummary extends BaseEntity {
     @Convert(converter = JsonStringConverter.class)
     private JsonNode taResult;
 
+    // ta_result 에서 추출한 요약 텍스트 (상태/요약 조회 시 JSON 파싱 없이 읽기 위함)
+    @Column(name = "analysed_text", columnDefinition = "text")
+    private String analysedText;
+
     @Column(name = "ai_counsel_summary_status")
     @Enumerated(EnumType.STRING)
     private AICounselSummaryStatus aiCounselSummaryStatus;
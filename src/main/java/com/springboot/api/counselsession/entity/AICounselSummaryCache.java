@@ -0,0 +1,52 @@
+package com.springboot.api.counselsession.entity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.springboot.api.common.converter.JsonStringConverter;
+import com.springboot.api.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 동일한 STT 메시지 + 프롬프트 버전에 대한 TA(GPT) 결과를 저장하는 캐시
+ * cacheKey = SHA-256(promptTemplateId, promptVersion, sttMessagesJson)
+ */
+@Entity
+@Table(name = "ai_counsel_summary_caches", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"cache_key"})
+})
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true, exclude = {"taResult"})
+public class AICounselSummaryCache extends BaseEntity {
+
+    @Column(name = "cache_key", length = 64, nullable = false)
+    private String cacheKey;
+
+    @Column(name = "prompt_template_id", nullable = false)
+    private String promptTemplateId;
+
+    @Column(name = "prompt_version", length = 64, nullable = false)
+    private String promptVersion;
+
+    @Column(name = "ta_result", columnDefinition = "text")
+    @Convert(converter = JsonStringConverter.class)
+    private JsonNode taResult;
+
+    @PrePersist
+    @Override
+    protected void onCreate() {
+        super.onCreate();
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.springboot.api.counselsession.entity;
+
+import com.springboot.api.common.entity.BaseEntity;
+import com.springboot.api.counselsession.dto.aiCounselSummary.SpeakerStatsDTO;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * STT 완료 시점에 계산한 화자별 발화 통계
+ */
+@Entity
+@Table(name = "ai_counsel_summary_speakers", indexes = {
+    @Index(name = "idx_ai_summary_speaker_session", columnList = "counsel_session_id")
+})
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true, exclude = {"counselSession"})
+@ToString(callSuper = true, exclude = {"counselSession"})
+public class AICounselSummarySpeaker extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JoinColumn(name = "counsel_session_id", nullable = false)
+    private CounselSession counselSession;
+
+    @Column(name = "speaker_name", nullable = false)
+    private String speakerName;
+
+    @Column(name = "speak_count", nullable = false)
+    private int speakCount;
+
+    @Column(name = "text_length_sum", nullable = false)
+    private int textLengthSum;
+
+    @Column(name = "max_length_text", columnDefinition = "TEXT")
+    private String maxLengthText;
+
+    @Column(name = "max_length_text_length", nullable = false)
+    private int maxLengthTextLength;
+
+    public static AICounselSummarySpeaker of(CounselSession counselSession, String speakerName,
+        SpeakerStatsDTO speakerStats) {
+        return AICounselSummarySpeaker.builder()
+            .counselSession(counselSession)
+            .speakerName(speakerName)
+            .speakCount(speakerStats.getSpeakCount())
+            .textLengthSum(speakerStats.getTextLengthSum())
+            .maxLengthText(speakerStats.getMaxLengthText())
+            .maxLengthTextLength(speakerStats.getMaxLengthTextLength())
+            .build();
+    }
+
+    public SpeakerStatsDTO toSpeakerStats() {
+        return new SpeakerStatsDTO(speakCount, maxLengthText, textLengthSum, maxLengthTextLength);
+    }
+
+    @PrePersist
+    @Override
+    protected void onCreate() {
+        super.onCreate();
+    }
+}
@@ -2,6 +2,8 @@ package com.springboot.api.counselsession.entity;
 
 import jakarta.persistence.FetchType;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import org.hibernate.annotations.OnDelete;
@@ -10,6 +12,8 @@ import org.hibernate.annotations.OnDeleteAction;
 import com.springboot.api.common.entity.BaseEntity;
 import com.springboot.api.counselee.entity.Counselee;
 import com.springboot.api.counselor.entity.Counselor;
+import com.springboot.api.counselsession.dto.counselsession.CounselSessionDomainEvent;
+import com.springboot.api.counselsession.enums.CounselSessionEventType;
 import com.springboot.enums.ScheduleStatus;
 
 import jakarta.persistence.Column;
@@ -20,8 +24,10 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -35,8 +41,8 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder
 @Getter
 @NoArgsConstructor
-@EqualsAndHashCode(callSuper = true, exclude = {"counselor", "counselee"})
-@ToString(callSuper = true, exclude = {"counselor", "counselee"})
+@EqualsAndHashCode(callSuper = true, exclude = {"counselor", "counselee", "domainEvents"})
+@ToString(callSuper = true, exclude = {"counselor", "counselee", "domainEvents"})
 public class CounselSession extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -71,8 +77,20 @@ public class CounselSession extends BaseEntity {
     @Column(name = "session_number")
     private Integer sessionNumber;
 
+    // 같은 트랜잭션에서 outbox 에 기록할 상태 변경 이벤트 (영속 대상 아님)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private List<CounselSessionDomainEvent> domainEvents;
+
     public static CounselSession createReservation(Counselee counselee, LocalDateTime scheduledStartDateTime) {
+        return createReservation(null, counselee, scheduledStartDateTime);
+    }
+
+    // ID 를 미리 생성해 일괄 저장할 때 사용 (null 이면 저장 시 생성)
+    public static CounselSession createReservation(String id, Counselee counselee,
+        LocalDateTime scheduledStartDateTime) {
         return CounselSession.builder()
+            .id(id)
             .counselee(counselee)
             .scheduledStartDateTime(scheduledStartDateTime)
             .status(ScheduleStatus.SCHEDULED)
@@ -94,11 +112,19 @@ public class CounselSession extends BaseEntity {
 
     public void updateCounselor(Counselor counselor) {
         this.counselor = counselor;
+        registerEvent(CounselSessionEventType.COUNSELOR_CHANGED);
     }
 
     public void modifyReservation(LocalDateTime scheduledStartDateTime, Counselee counselee) {
+        LocalDateTime previousScheduledStartDateTime = this.scheduledStartDateTime;
+        Counselee previousCounselee = this.counselee;
         this.scheduledStartDateTime = Objects.requireNonNullElse(scheduledStartDateTime, this.scheduledStartDateTime);
         this.counselee = Objects.requireNonNullElse(counselee, this.counselee);
+
+        String previousCounseleeId = previousCounselee == null
+            || Objects.equals(previousCounselee.getId(), this.counselee.getId()) ? null : previousCounselee.getId();
+        registerEvent(CounselSessionDomainEvent.of(CounselSessionEventType.RESCHEDULED, this,
+            previousScheduledStartDateTime, previousCounseleeId));
     }
 
     public void updateSessionNumber(Integer sessionNumber) {
@@ -112,6 +138,7 @@ public class CounselSession extends BaseEntity {
 
         this.status = ScheduleStatus.COMPLETED;
         this.endDateTime = LocalDateTime.now();
+        registerEvent(CounselSessionEventType.COMPLETED);
     }
 
     public void cancelCounselSession() {
@@ -122,6 +149,7 @@ public class CounselSession extends BaseEntity {
         this.status = ScheduleStatus.CANCELED;
         this.startDateTime = null;
         this.endDateTime = null;
+        registerEvent(CounselSessionEventType.CANCELED);
     }
 
     public void scheduleCounselSession() {
@@ -132,6 +160,7 @@ public class CounselSession extends BaseEntity {
         this.status = ScheduleStatus.SCHEDULED;
         this.startDateTime = null;
         this.endDateTime = null;
+        registerEvent(CounselSessionEventType.SCHEDULED);
     }
 
     public void progressCounselSession() {
@@ -141,5 +170,26 @@ public class CounselSession extends BaseEntity {
 
         this.status = ScheduleStatus.IN_PROGRESS;
         this.startDateTime = LocalDateTime.now();
+        registerEvent(CounselSessionEventType.STARTED);
+    }
+
+    /**
+     * 쌓인 상태 변경 이벤트를 꺼내고 비움
+     */
+    public List<CounselSessionDomainEvent> pullDomainEvents() {
+        List<CounselSessionDomainEvent> events = Objects.requireNonNullElse(domainEvents, List.of());
+        domainEvents = null;
+        return events;
+    }
+
+    private void registerEvent(CounselSessionEventType type) {
+        registerEvent(CounselSessionDomainEvent.of(type, this, null));
+    }
+
+    private void registerEvent(CounselSessionDomainEvent event) {
+        if (domainEvents == null) {
+            domainEvents = new ArrayList<>();
+        }
+        domainEvents.add(event);
     }
 }
@@ -0,0 +1,78 @@
+package com.springboot.api.counselsession.entity;
+
+import com.springboot.api.common.entity.BaseEntity;
+import com.springboot.api.counselsession.enums.StatPeriodType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 월/연 단위 상담 통계 집계 (대시보드 통계 조회용)
+ * periodKey: MONTH = "yyyy-MM", YEAR = "yyyy"
+ */
+@Entity
+@Table(name = "counsel_session_stats", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"period_type", "period_key"})
+})
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class CounselSessionStat extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "period_type", nullable = false)
+    private StatPeriodType periodType;
+
+    @Column(name = "period_key", length = 7, nullable = false)
+    private String periodKey;
+
+    // 완료된 상담 시간 합계 (분)
+    @Column(name = "counsel_minutes", nullable = false)
+    private long counselMinutes;
+
+    // 완료된 상담별 시간(버림) 합계
+    @Column(name = "counsel_hours", nullable = false)
+    private long counselHours;
+
+    @Column(name = "counselee_count", nullable = false)
+    private long counseleeCount;
+
+    @Column(name = "medication_counsel_count", nullable = false)
+    private long medicationCounselCount;
+
+    @Column(name = "counselor_count", nullable = false)
+    private long counselorCount;
+
+    public static CounselSessionStat of(StatPeriodType periodType, String periodKey) {
+        return CounselSessionStat.builder()
+            .periodType(periodType)
+            .periodKey(periodKey)
+            .build();
+    }
+
+    public void updateStats(long counselMinutes, long counselHours, long counseleeCount,
+        long medicationCounselCount, long counselorCount) {
+        this.counselMinutes = counselMinutes;
+        this.counselHours = counselHours;
+        this.counseleeCount = counseleeCount;
+        this.medicationCounselCount = medicationCounselCount;
+        this.counselorCount = counselorCount;
+    }
+
+    @PrePersist
+    @Override
+    protected void onCreate() {
+        super.onCreate();
+    }
+}
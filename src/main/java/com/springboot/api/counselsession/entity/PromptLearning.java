@@ -1,6 +1,7 @@
 package com.springboot.api.counselsession.entity;
 
 import com.springboot.api.common.entity.BaseEntity;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.JoinColumn;
@@ -12,9 +13,13 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "prompt_learnings")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = PromptLearning.CACHE_REGION)
 @Getter
 @SuperBuilder
 @NoArgsConstructor
@@ -22,6 +27,8 @@ import lombok.experimental.SuperBuilder;
 @ToString(callSuper = true, exclude = {"promptTemplate"})
 public class PromptLearning extends BaseEntity {
 
+    public static final String CACHE_REGION = "promptLearning";
+
     @ManyToOne
     @JoinColumn(name = "prompt_template_id", nullable = false)
     @SuppressWarnings("FieldMayBeFinal")
@@ -1,7 +1,9 @@
 package com.springboot.api.counselsession.entity;
 
 import com.springboot.api.common.entity.BaseEntity;
+import com.springboot.api.common.util.HashUtil;
 import com.springboot.api.counselsession.enums.PromptTemplateType;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -19,6 +21,8 @@ import lombok.NoArgsConstructor;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import org.apache.commons.lang3.StringUtils;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ai.chat.messages.AssistantMessage;
@@ -28,6 +32,8 @@ import org.springframework.ai.chat.messages.UserMessage;
 
 @Entity
 @Table(name = "prompt_templates")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = PromptTemplate.CACHE_REGION)
 @Getter
 @SuperBuilder
 @NoArgsConstructor
@@ -35,6 +41,8 @@ import org.springframework.ai.chat.messages.UserMessage;
 @ToString(callSuper = true, exclude = {"promptLearnings"})
 public class PromptTemplate extends BaseEntity {
 
+    public static final String CACHE_REGION = "promptTemplate";
+
     private static final Logger log = LoggerFactory.getLogger(PromptTemplate.class);
     private String name;
 
@@ -48,6 +56,7 @@ public class PromptTemplate extends BaseEntity {
     private String promptText;
 
     @OneToMany(mappedBy = "promptTemplate", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = PromptTemplate.CACHE_REGION + "Learnings")
     private List<PromptLearning> promptLearnings;
 
     @PrePersist
@@ -86,4 +95,22 @@ public class PromptTemplate extends BaseEntity {
         return messages;
     }
 
+    /**
+     * 프롬프트 본문과 학습 데이터로부터 계산한 버전 값.
+     * 템플릿이나 학습 데이터가 수정되면 값이 바뀌므로 TA 결과 캐시 키에 사용합니다.
+     */
+    public String calculatePromptVersion() {
+        String[] values = new String[2 + promptLearnings.size() * 2];
+        values[0] = promptTemplateType.name();
+        values[1] = promptText;
+
+        int index = 2;
+        for (PromptLearning promptLearning : promptLearnings) {
+            values[index++] = promptLearning.getLearningInputText();
+            values[index++] = promptLearning.getLearningOutputText();
+        }
+
+        return HashUtil.sha256Hex(values);
+    }
+
 }
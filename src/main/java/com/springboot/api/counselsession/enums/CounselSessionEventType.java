@@ -0,0 +1,5 @@
+package com.springboot.api.counselsession.enums;
+
+public enum CounselSessionEventType {
+    CREATED, COUNSELOR_CHANGED, RESCHEDULED, SCHEDULED, STARTED, COMPLETED, CANCELED, DELETED
+}
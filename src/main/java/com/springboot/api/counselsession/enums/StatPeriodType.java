@@ -0,0 +1,5 @@
+package com.springboot.api.counselsession.enums;
+
+public enum StatPeriodType {
+    MONTH, YEAR
+}
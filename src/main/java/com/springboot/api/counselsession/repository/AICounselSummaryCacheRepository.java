@@ -0,0 +1,15 @@
+package com.springboot.api.counselsession.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.springboot.api.counselsession.entity.AICounselSummaryCache;
+
+public interface AICounselSummaryCacheRepository extends JpaRepository<AICounselSummaryCache, String> {
+
+    Optional<AICounselSummaryCache> findByCacheKey(String cacheKey);
+
+    boolean existsByCacheKey(String cacheKey);
+
+}
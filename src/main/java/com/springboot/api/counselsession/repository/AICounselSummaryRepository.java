@@ -6,10 +6,13 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.springboot.api.counselsession.entity.AICounselSummary;
 
-public interface AICounselSummaryRepository extends JpaRepository<AICounselSummary, String> {
+public interface AICounselSummaryRepository
+    extends JpaRepository<AICounselSummary, String>, AICounselSummaryRepositoryCustom {
 
     Optional<AICounselSummary> findByCounselSessionId(String counselSessionId);
 
+    boolean existsByCounselSessionId(String counselSessionId);
+
     void deleteByCounselSessionId(String counselSessionId);
 
 }
@@ -0,0 +1,20 @@
+package com.springboot.api.counselsession.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.springboot.api.counselsession.dto.aiCounselSummary.AICounselSummaryTextDTO;
+import com.springboot.api.counselsession.enums.AICounselSummaryStatus;
+
+public interface AICounselSummaryRepositoryCustom {
+
+    Optional<AICounselSummaryStatus> findStatusByCounselSessionId(String counselSessionId);
+
+    Optional<AICounselSummaryTextDTO> findSummaryTextByCounselSessionId(String counselSessionId);
+
+    List<AICounselSummaryTextDTO> findSummaryTextsByCounselSessionIds(Collection<String> counselSessionIds);
+
+    Optional<JsonNode> findTaResultByCounselSessionId(String counselSessionId);
+}
@@ -0,0 +1,71 @@
+package com.springboot.api.counselsession.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.springboot.api.counselsession.dto.aiCounselSummary.AICounselSummaryTextDTO;
+import com.springboot.api.counselsession.dto.aiCounselSummary.QAICounselSummaryTextDTO;
+import com.springboot.api.counselsession.entity.QAICounselSummary;
+import com.springboot.api.counselsession.enums.AICounselSummaryStatus;
+
+@Repository
+public class AICounselSummaryRepositoryImpl implements AICounselSummaryRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+    private final QAICounselSummary aiCounselSummary = QAICounselSummary.aICounselSummary;
+
+    public AICounselSummaryRepositoryImpl(JPAQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    @Override
+    public Optional<AICounselSummaryStatus> findStatusByCounselSessionId(String counselSessionId) {
+        return Optional.ofNullable(queryFactory
+            .select(aiCounselSummary.aiCounselSummaryStatus)
+            .from(aiCounselSummary)
+            .where(aiCounselSummary.counselSession.id.eq(counselSessionId))
+            .fetchFirst());
+    }
+
+    @Override
+    public Optional<AICounselSummaryTextDTO> findSummaryTextByCounselSessionId(String counselSessionId) {
+        return Optional.ofNullable(queryFactory
+            .select(new QAICounselSummaryTextDTO(
+                aiCounselSummary.counselSession.id,
+                aiCounselSummary.aiCounselSummaryStatus,
+                aiCounselSummary.analysedText))
+            .from(aiCounselSummary)
+            .where(aiCounselSummary.counselSession.id.eq(counselSessionId))
+            .fetchFirst());
+    }
+
+    @Override
+    public List<AICounselSummaryTextDTO> findSummaryTextsByCounselSessionIds(Collection<String> counselSessionIds) {
+        if (counselSessionIds.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory
+            .select(new QAICounselSummaryTextDTO(
+                aiCounselSummary.counselSession.id,
+                aiCounselSummary.aiCounselSummaryStatus,
+                aiCounselSummary.analysedText))
+            .from(aiCounselSummary)
+            .where(aiCounselSummary.counselSession.id.in(counselSessionIds))
+            .fetch();
+    }
+
+    @Override
+    public Optional<JsonNode> findTaResultByCounselSessionId(String counselSessionId) {
+        return Optional.ofNullable(queryFactory
+            .select(aiCounselSummary.taResult)
+            .from(aiCounselSummary)
+            .where(aiCounselSummary.counselSession.id.eq(counselSessionId))
+            .fetchFirst());
+    }
+}
@@ -0,0 +1,15 @@
+package com.springboot.api.counselsession.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.springboot.api.counselsession.entity.AICounselSummarySpeaker;
+
+public interface AICounselSummarySpeakerRepository extends JpaRepository<AICounselSummarySpeaker, String> {
+
+    List<AICounselSummarySpeaker> findByCounselSessionId(String counselSessionId);
+
+    void deleteByCounselSessionId(String counselSessionId);
+
+}
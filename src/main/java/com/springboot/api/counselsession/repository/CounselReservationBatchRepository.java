@@ -0,0 +1,44 @@
+package com.springboot.api.counselsession.repository;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import com.springboot.api.counselcard.entity.CounselCard;
+import com.springboot.api.counselsession.entity.CounselSession;
+import com.springboot.api.counselsession.entity.CounseleeConsent;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 여러 예약의 상담 세션/상담 카드/내담자 동의를 JDBC 배치로 저장합니다.
+ * save() 는 ID 가 미리 지정된 엔티티를 merge 하면서 행마다 SELECT 를 실행하므로 persist 를 직접 사용하고,
+ * hibernate.order_inserts 로 테이블별 INSERT 가 batch_size 단위로 묶입니다.
+ */
+@Repository
+public class CounselReservationBatchRepository {
+
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public CounselReservationBatchRepository(EntityManager entityManager,
+        @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}") int batchSize) {
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    public void insertAll(List<CounselSession> counselSessions, List<CounselCard> counselCards,
+        List<CounseleeConsent> counseleeConsents) {
+        for (int i = 0; i < counselSessions.size(); i++) {
+            entityManager.persist(counselSessions.get(i));
+            entityManager.persist(counselCards.get(i));
+            entityManager.persist(counseleeConsents.get(i));
+
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+            }
+        }
+        entityManager.flush();
+    }
+}
@@ -6,9 +6,8 @@ import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.lang.NonNull;
 
-import com.springboot.api.counselee.entity.Counselee;
-import com.springboot.api.counselor.entity.Counselor;
 import com.springboot.api.counselsession.entity.CounselSession;
+import com.springboot.enums.ScheduleStatus;
 
 public interface CounselSessionRepository
     extends JpaRepository<CounselSession, String>, CounselSessionRepositoryCustom {
@@ -19,7 +18,5 @@ public interface CounselSessionRepository
     List<CounselSession> findByCounseleeIdAndScheduledStartDateTimeLessThan(String counseleeId,
         LocalDateTime scheduledStartDateTime);
 
-    boolean existsByCounselorAndScheduledStartDateTime(Counselor counselor, LocalDateTime scheduledStartDateTime);
-
-    boolean existsByCounseleeAndScheduledStartDateTime(Counselee counselee, LocalDateTime scheduledStartDateTime);
+    List<CounselSession> findByCounseleeIdAndStatus(String counseleeId, ScheduleStatus status);
 }
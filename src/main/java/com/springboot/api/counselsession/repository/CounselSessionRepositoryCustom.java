@@ -2,11 +2,13 @@ package com.springboot.api.counselsession.repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 
 import com.springboot.api.common.dto.PageReq;
 import com.springboot.api.common.dto.PageRes;
+import com.springboot.api.counselsession.dto.counselsession.CounselDurationSum;
+import com.springboot.api.counselsession.dto.counselsession.CounselScheduleEntry;
 import com.springboot.api.counselsession.dto.counselsession.SelectCounselSessionListItem;
 import com.springboot.api.counselsession.entity.CounselSession;
 import com.springboot.enums.ScheduleStatus;
@@ -15,19 +17,24 @@ public interface CounselSessionRepositoryCustom {
 
     List<LocalDate> findDistinctDatesByYearAndMonth(int year, int month);
 
-    List<CounselSession> findCompletedSessionsByYearAndMonth(int year, int month);
-
     PageRes<SelectCounselSessionListItem> findSessionByCursorAndDate(LocalDate date, PageReq pageReq);
 
-    Long countByStatus(ScheduleStatus status);
+    List<SelectCounselSessionListItem> findSessionByKeysetAndDate(LocalDate date,
+        LocalDateTime cursorDateTime, String cursorId, int limit);
 
-    Long countDistinctCounseleeForCurrentMonth();
+    Long countByStatus(ScheduleStatus status);
 
-    List<String> cancelOverDueSessionsAndReturnAffectedCounseleeIds();
+    /**
+     * 기준 시각 이전에 예약된 미완료 세션을 일괄 취소하고, 취소된 세션의 일정 정보를 반환
+     */
+    List<CounselScheduleEntry> cancelOverdueSessions(LocalDateTime scheduledBefore);
 
     List<CounselSession> findPreviousCompletedSessionsOrderByEndDateTimeDesc(String counseleeId,
         LocalDateTime beforeDateTime);
 
+    PageRes<CounselSession> findPreviousCompletedSessions(String counseleeId, LocalDateTime beforeDateTime,
+        PageReq pageReq);
+
     PageRes<CounselSession> findByCounseleeNameAndCounselorNameAndScheduledDateTimeAndStatus(
         PageReq pageReq,
         String counseleeNameKeyword,
@@ -35,9 +42,24 @@ public interface CounselSessionRepositoryCustom {
         List<LocalDate> scheduledDates,
         List<ScheduleStatus> statuses);
 
-    List<CounselSession> findValidCounselSessionsByCounseleeId(String counseleeId);
+    /**
+     * 내담자별 회차를 from 이후 예약분만 다시 계산 (그 이전 회차는 바뀌지 않음)
+     */
+    int reassignSessionNumbers(Collection<String> counseleeIds, LocalDateTime from);
+
+    List<LocalDateTime> findScheduledStartDateTimesByCounseleeId(String counseleeId);
+
+    List<CounselScheduleEntry> findActiveScheduleEntriesBetween(LocalDateTime from, LocalDateTime to);
+
+    List<CounselScheduleEntry> findActiveScheduleEntriesByCounseleeIdsBetween(Collection<String> counseleeIds,
+        LocalDateTime from, LocalDateTime to);
+
+    List<CounselScheduleEntry> findActiveScheduleEntriesByOwnerBetween(String counselorId, String counseleeId,
+        LocalDateTime from, LocalDateTime to);
+
+    CounselDurationSum sumCompletedSessionDurationsBetween(LocalDateTime from, LocalDateTime to);
 
-    void bulkUpdateCounselSessionNum(Map<String, Integer> sessionUpdates);
+    Long countDistinctCounseleeBetween(LocalDateTime from, LocalDateTime to);
 
-    Long countDistinctCounselorsByCompletedSessionsInYear(int year);
+    Long countDistinctCounselorsByCompletedSessionsBetween(LocalDateTime from, LocalDateTime to);
 }
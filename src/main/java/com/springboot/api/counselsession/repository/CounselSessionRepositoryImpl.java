@@ -2,21 +2,29 @@ package com.springboot.api.counselsession.repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
 
 import org.springframework.stereotype.Repository;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.DateExpression;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.springboot.api.common.dto.PageReq;
 import com.springboot.api.common.dto.PageRes;
+import com.springboot.api.common.util.PageTotalResolver;
 import com.springboot.api.common.util.QuerydslPagingUtil;
+import com.springboot.api.counselee.repository.CounseleeNameIndex;
 import com.springboot.api.counselcard.entity.QCounselCard;
+import com.springboot.api.counselsession.dto.counselsession.CounselDurationSum;
+import com.springboot.api.counselsession.dto.counselsession.CounselScheduleEntry;
+import com.springboot.api.counselsession.dto.counselsession.QCounselScheduleEntry;
 import com.springboot.api.counselsession.dto.counselsession.QSelectCounselSessionListItem;
 import com.springboot.api.counselsession.dto.counselsession.SelectCounselSessionListItem;
 import com.springboot.api.counselsession.entity.CounselSession;
@@ -25,51 +33,101 @@ import com.springboot.api.counselsession.entity.QCounseleeConsent;
 import com.springboot.enums.CounselorStatus;
 import com.springboot.enums.ScheduleStatus;
 
+import jakarta.persistence.EntityManager;
+import org.hibernate.query.NativeQuery;
+
 @Repository
 public class CounselSessionRepositoryImpl implements CounselSessionRepositoryCustom {
 
+    // 회차 = 같은 내담자의 취소되지 않은 세션 중 (예약 시각, id) 순서상 자신 이하인 세션 수
+    // UPDATE ... FROM 은 PostgreSQL 전용이라 H2 에서도 동작하는 상관 서브쿼리로 계산
+    private static final String REASSIGN_SESSION_NUMBERS_SQL = """
+        UPDATE counsel_sessions
+        SET session_number = (
+            SELECT COUNT(*)
+            FROM counsel_sessions prior
+            WHERE prior.counselee_id = counsel_sessions.counselee_id
+              AND prior.status <> :canceled
+              AND (prior.scheduled_start_datetime < counsel_sessions.scheduled_start_datetime
+                OR (prior.scheduled_start_datetime = counsel_sessions.scheduled_start_datetime
+                    AND prior.id <= counsel_sessions.id))
+        )
+        WHERE counselee_id IN (:counseleeIds)
+          AND status <> :canceled
+          AND scheduled_start_datetime >= :from
+        """;
+
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+    private final CounseleeNameIndex counseleeNameIndex;
+    private final PageTotalResolver pageTotalResolver;
     private final QCounselSession counselSession = QCounselSession.counselSession;
 
-    public CounselSessionRepositoryImpl(JPAQueryFactory queryFactory) {
+    public CounselSessionRepositoryImpl(JPAQueryFactory queryFactory, EntityManager entityManager,
+        CounseleeNameIndex counseleeNameIndex, PageTotalResolver pageTotalResolver) {
         this.queryFactory = queryFactory;
+        this.entityManager = entityManager;
+        this.counseleeNameIndex = counseleeNameIndex;
+        this.pageTotalResolver = pageTotalResolver;
     }
 
     @Override
     public List<LocalDate> findDistinctDatesByYearAndMonth(int year, int month) {
+        // 반개구간 범위 조건으로 idx_counsel_session_scheduled 인덱스를 사용하고, 날짜 중복 제거는 DB에서 수행
+        LocalDateTime from = LocalDate.of(year, month, 1).atStartOfDay();
+        DateExpression<LocalDate> scheduledDate = Expressions.dateTemplate(LocalDate.class,
+            "cast({0} as LocalDate)", counselSession.scheduledStartDateTime);
+
         return queryFactory
-            .select(counselSession.scheduledStartDateTime)
+            .select(scheduledDate)
+            .distinct()
             .from(counselSession)
             .where(
-                counselSession.scheduledStartDateTime.year().eq(year),
-                counselSession.scheduledStartDateTime.month().eq(month))
-            .orderBy(counselSession.scheduledStartDateTime.asc())
-            .fetch()
-            .stream()
-            .map(LocalDateTime::toLocalDate)
-            .distinct()
-            .toList();
+                counselSession.scheduledStartDateTime.goe(from),
+                counselSession.scheduledStartDateTime.lt(from.plusMonths(1)))
+            .orderBy(scheduledDate.asc())
+            .fetch();
     }
 
     @Override
-    public List<CounselSession> findCompletedSessionsByYearAndMonth(int year, int month) {
-        return queryFactory
-            .selectFrom(counselSession)
-            .where(
-                counselSession.startDateTime.year().eq(year),
-                counselSession.startDateTime.month().eq(month),
-                counselSession.status.eq(ScheduleStatus.COMPLETED),
-                counselSession.startDateTime.isNotNull(),
-                counselSession.endDateTime.isNotNull())
-            .fetch();
+    public PageRes<SelectCounselSessionListItem> findSessionByCursorAndDate(LocalDate date, PageReq pageReq) {
+
+        BooleanBuilder builder = scheduledDateCondition(date);
+
+        JPAQuery<SelectCounselSessionListItem> contentQuery = selectCounselSessionListItem()
+            .where(builder)
+            .orderBy(counselSession.scheduledStartDateTime.asc());
+
+        JPAQuery<Long> countQuery = queryFactory
+            .select(counselSession.count())
+            .from(counselSession)
+            .where(builder);
+
+        return QuerydslPagingUtil.applyPagination(pageReq, contentQuery,
+            pageTotalResolver.cached("sessionsByDate", countQuery, date));
     }
 
     @Override
-    public PageRes<SelectCounselSessionListItem> findSessionByCursorAndDate(LocalDate date, PageReq pageReq) {
+    public List<SelectCounselSessionListItem> findSessionByKeysetAndDate(LocalDate date,
+        LocalDateTime cursorDateTime, String cursorId, int limit) {
 
-        QCounselCard counselCard = QCounselCard.counselCard;
-        QCounseleeConsent counseleeConsent = QCounseleeConsent.counseleeConsent;
+        BooleanBuilder builder = scheduledDateCondition(date);
+
+        // (scheduledStartDateTime, id) > (cursorDateTime, cursorId)
+        if (cursorDateTime != null && cursorId != null) {
+            builder.and(counselSession.scheduledStartDateTime.gt(cursorDateTime)
+                .or(counselSession.scheduledStartDateTime.eq(cursorDateTime)
+                    .and(counselSession.id.gt(cursorId))));
+        }
+
+        return selectCounselSessionListItem()
+            .where(builder)
+            .orderBy(counselSession.scheduledStartDateTime.asc(), counselSession.id.asc())
+            .limit(limit)
+            .fetch();
+    }
 
+    private BooleanBuilder scheduledDateCondition(LocalDate date) {
         BooleanBuilder builder = new BooleanBuilder();
 
         if (date != null) {
@@ -79,7 +137,14 @@ public class CounselSessionRepositoryImpl implements CounselSessionRepositoryCus
             builder.and(counselSession.scheduledStartDateTime.lt(endOfDay));
         }
 
-        JPAQuery<SelectCounselSessionListItem> contentQuery = queryFactory
+        return builder;
+    }
+
+    private JPAQuery<SelectCounselSessionListItem> selectCounselSessionListItem() {
+        QCounselCard counselCard = QCounselCard.counselCard;
+        QCounseleeConsent counseleeConsent = QCounseleeConsent.counseleeConsent;
+
+        return queryFactory
             .select(new QSelectCounselSessionListItem(
                 counselSession.id,
                 counselSession.scheduledStartDateTime,
@@ -100,16 +165,7 @@ public class CounselSessionRepositoryImpl implements CounselSessionRepositoryCus
             .leftJoin(counselSession.counselee)
             .leftJoin(counselSession.counselor)
             .leftJoin(counselCard).on(counselSession.eq(counselCard.counselSession))
-            .leftJoin(counseleeConsent).on(counselSession.eq(counseleeConsent.counselSession))
-            .where(builder)
-            .orderBy(counselSession.scheduledStartDateTime.asc());
-
-        JPAQuery<Long> countQuery = queryFactory
-            .select(counselSession.count())
-            .from(counselSession)
-            .where(builder);
-
-        return QuerydslPagingUtil.applyPagination(pageReq, contentQuery, countQuery);
+            .leftJoin(counseleeConsent).on(counselSession.eq(counseleeConsent.counselSession));
     }
 
     @Override
@@ -122,49 +178,33 @@ public class CounselSessionRepositoryImpl implements CounselSessionRepositoryCus
     }
 
     @Override
-    public Long countDistinctCounseleeForCurrentMonth() {
-        LocalDate now = LocalDate.now();
-        return queryFactory
-            .select(counselSession.counselee.countDistinct())
-            .from(counselSession)
-            .where(
-                counselSession.scheduledStartDateTime.year().eq(now.getYear()),
-                counselSession.scheduledStartDateTime.month().eq(now.getMonthValue()))
-            .fetchOne();
-    }
-
-    @Override
-    public List<String> cancelOverDueSessionsAndReturnAffectedCounseleeIds() {
-        LocalDateTime twentyFourHoursAgo = LocalDateTime.now().minusHours(24);
-
-        List<Tuple> canceledSessions = queryFactory
-            .select(counselSession.id, counselSession.counselee.id)
+    public List<CounselScheduleEntry> cancelOverdueSessions(LocalDateTime scheduledBefore) {
+        List<CounselScheduleEntry> canceledSessions = queryFactory
+            .select(new QCounselScheduleEntry(counselSession.id, counselSession.counselor.id,
+                counselSession.counselee.id, counselSession.scheduledStartDateTime))
             .from(counselSession)
             .where(
                 counselSession.status.in(ScheduleStatus.SCHEDULED, ScheduleStatus.IN_PROGRESS),
-                counselSession.scheduledStartDateTime.before(twentyFourHoursAgo)
+                counselSession.scheduledStartDateTime.before(scheduledBefore)
             )
             .fetch();
 
         if (canceledSessions.isEmpty()) {
             return List.of();
         }
-        List<String> sessionIds = canceledSessions.stream()
-            .map(tuple -> tuple.get(counselSession.id))
-            .toList();
-
-        List<String> affectedCounseleeIds = canceledSessions.stream()
-            .map(tuple -> tuple.get(counselSession.counselee.id))
-            .distinct()
-            .toList();
 
+        // CounselSession.cancelCounselSession 과 같이 시작/종료 시각도 비움
         queryFactory
             .update(counselSession)
             .set(counselSession.status, ScheduleStatus.CANCELED)
-            .where(counselSession.id.in(sessionIds))
+            .setNull(counselSession.startDateTime)
+            .setNull(counselSession.endDateTime)
+            .where(counselSession.id.in(canceledSessions.stream()
+                .map(CounselScheduleEntry::getCounselSessionId)
+                .toList()))
             .execute();
 
-        return affectedCounseleeIds;
+        return canceledSessions;
     }
 
     @Override
@@ -180,6 +220,28 @@ public class CounselSessionRepositoryImpl implements CounselSessionRepositoryCus
             .fetch();
     }
 
+    @Override
+    public PageRes<CounselSession> findPreviousCompletedSessions(String counseleeId, LocalDateTime beforeDateTime,
+        PageReq pageReq) {
+        BooleanBuilder builder = new BooleanBuilder()
+            .and(counselSession.counselee.id.eq(counseleeId))
+            .and(counselSession.status.eq(ScheduleStatus.COMPLETED))
+            .and(counselSession.scheduledStartDateTime.lt(beforeDateTime));
+
+        JPAQuery<CounselSession> contentQuery = queryFactory
+            .selectFrom(counselSession)
+            .leftJoin(counselSession.counselor).fetchJoin()
+            .where(builder)
+            .orderBy(counselSession.endDateTime.desc(), counselSession.id.desc());
+
+        JPAQuery<Long> countQuery = queryFactory
+            .select(counselSession.count())
+            .from(counselSession)
+            .where(builder);
+
+        return QuerydslPagingUtil.applyPagination(pageReq, contentQuery, countQuery);
+    }
+
     @Override
     public PageRes<CounselSession> findByCounseleeNameAndCounselorNameAndScheduledDateTimeAndStatus(
         PageReq pageReq,
@@ -191,7 +253,8 @@ public class CounselSessionRepositoryImpl implements CounselSessionRepositoryCus
         BooleanBuilder builder = new BooleanBuilder();
 
         if (counseleeNameKeyword != null && !counseleeNameKeyword.isEmpty()) {
-            builder.and(counselSession.counselee.name.containsIgnoreCase(counseleeNameKeyword));
+            builder.and(counseleeNameIndex.nameCondition(counselSession.counselee.name,
+                counselSession.counselee.id, counseleeNameKeyword));
         }
 
         if (counselorNames != null && !counselorNames.isEmpty()) {
@@ -225,59 +288,139 @@ public class CounselSessionRepositoryImpl implements CounselSessionRepositoryCus
             .from(counselSession)
             .where(builder);
 
-        return QuerydslPagingUtil.applyPagination(pageReq, contentQuery, countQuery);
+        return QuerydslPagingUtil.applyPagination(pageReq, contentQuery,
+            pageTotalResolver.cached("sessionSearch", countQuery, counseleeNameKeyword, counselorNames,
+                scheduledDates, statuses));
     }
 
+    /**
+     * 대상 내담자들의 취소되지 않은 상담 회차를 일정 순서대로 한 번의 UPDATE 로 재정렬합니다.
+     * 회차가 실제로 바뀌는 행만 갱신하므로, 변경 시점 이전의 회차는 다시 쓰지 않습니다.
+     */
     @Override
-    public List<CounselSession> findValidCounselSessionsByCounseleeId(String counseleeId) {
-        return queryFactory.
-            selectFrom(counselSession)
-            .where(
-                counselSession.counselee.id.eq(counseleeId),
-                counselSession.status.ne(ScheduleStatus.CANCELED))
-            .orderBy(counselSession.scheduledStartDateTime.asc())
+    public int reassignSessionNumbers(Collection<String> counseleeIds, LocalDateTime from) {
+        if (counseleeIds == null || counseleeIds.isEmpty() || from == null) {
+            return 0;
+        }
+
+        // 변경 대상을 지정하지 않으면 native UPDATE 가 2차 캐시 전체를 비우므로 counsel_sessions 만 동기화
+        return entityManager.createNativeQuery(REASSIGN_SESSION_NUMBERS_SQL)
+            .unwrap(NativeQuery.class)
+            .addSynchronizedEntityClass(CounselSession.class)
+            .setParameter("counseleeIds", counseleeIds)
+            .setParameter("canceled", ScheduleStatus.CANCELED.name())
+            .setParameter("from", from)
+            .executeUpdate();
+    }
+
+    @Override
+    public List<LocalDateTime> findScheduledStartDateTimesByCounseleeId(String counseleeId) {
+        return queryFactory
+            .select(counselSession.scheduledStartDateTime)
+            .from(counselSession)
+            .where(counselSession.counselee.id.eq(counseleeId))
             .fetch();
     }
 
     @Override
-    public void bulkUpdateCounselSessionNum(Map<String, Integer> sessionUpdates) {
-        CaseBuilder caseBuilder = new CaseBuilder();
-        CaseBuilder.Cases<Integer, NumberExpression<Integer>> caseExpression = null;
-
-        for (Map.Entry<String, Integer> entry : sessionUpdates.entrySet()) {
-            if (caseExpression == null) {
-                caseExpression = caseBuilder
-                    .when(counselSession.id.eq(entry.getKey()))
-                    .then(entry.getValue());
-            } else {
-                caseExpression = caseExpression
-                    .when(counselSession.id.eq(entry.getKey()))
-                    .then(entry.getValue());
-            }
+    public List<CounselScheduleEntry> findActiveScheduleEntriesBetween(LocalDateTime from, LocalDateTime to) {
+        return selectActiveScheduleEntries(from, to).fetch();
+    }
+
+    @Override
+    public List<CounselScheduleEntry> findActiveScheduleEntriesByCounseleeIdsBetween(Collection<String> counseleeIds,
+        LocalDateTime from, LocalDateTime to) {
+        if (counseleeIds == null || counseleeIds.isEmpty()) {
+            return List.of();
         }
 
-        if (caseExpression == null) {
-            return;
+        return selectActiveScheduleEntries(from, to)
+            .where(counselSession.counselee.id.in(counseleeIds))
+            .fetch();
+    }
+
+    /**
+     * 상담사 또는 내담자의 구간 내 예약 (예약 쓰기 시 충돌 검사용)
+     */
+    @Override
+    public List<CounselScheduleEntry> findActiveScheduleEntriesByOwnerBetween(String counselorId, String counseleeId,
+        LocalDateTime from, LocalDateTime to) {
+        BooleanBuilder owner = new BooleanBuilder();
+        if (counselorId != null) {
+            owner.or(counselSession.counselor.id.eq(counselorId));
+        }
+        if (counseleeId != null) {
+            owner.or(counselSession.counselee.id.eq(counseleeId));
+        }
+        if (!owner.hasValue()) {
+            return List.of();
         }
 
-        NumberExpression<Integer> finalExpression = caseExpression.otherwise(counselSession.sessionNumber);
+        return selectActiveScheduleEntries(from, to)
+            .where(owner)
+            .fetch();
+    }
 
-        queryFactory.update(counselSession)
-            .set(counselSession.sessionNumber, finalExpression)
-            .where(counselSession.id.in(sessionUpdates.keySet()))
-            .execute();
+    private JPAQuery<CounselScheduleEntry> selectActiveScheduleEntries(LocalDateTime from, LocalDateTime to) {
+        return queryFactory
+            .select(new QCounselScheduleEntry(
+                counselSession.id,
+                counselSession.counselor.id,
+                counselSession.counselee.id,
+                counselSession.scheduledStartDateTime))
+            .from(counselSession)
+            .where(
+                counselSession.scheduledStartDateTime.goe(from),
+                counselSession.scheduledStartDateTime.lt(to),
+                counselSession.status.ne(ScheduleStatus.CANCELED));
+    }
+
+    @Override
+    public CounselDurationSum sumCompletedSessionDurationsBetween(LocalDateTime from, LocalDateTime to) {
+        NumberExpression<Long> minutes = Expressions.numberTemplate(Long.class,
+            "timestampdiff(minute, {0}, {1})", counselSession.startDateTime, counselSession.endDateTime);
+
+        // 기존 통계와 동일하게 상담 건별 시간(버림)을 합산
+        Tuple sums = queryFactory
+            .select(minutes.sum(), minutes.divide(60L).sum())
+            .from(counselSession)
+            .where(
+                counselSession.status.eq(ScheduleStatus.COMPLETED),
+                counselSession.startDateTime.goe(from),
+                counselSession.startDateTime.lt(to),
+                counselSession.endDateTime.isNotNull())
+            .fetchOne();
+
+        if (sums == null) {
+            return new CounselDurationSum(0, 0);
+        }
+        return new CounselDurationSum(
+            Objects.requireNonNullElse(sums.get(0, Long.class), 0L),
+            Objects.requireNonNullElse(sums.get(1, Long.class), 0L));
+    }
+
+    @Override
+    public Long countDistinctCounseleeBetween(LocalDateTime from, LocalDateTime to) {
+        return queryFactory
+            .select(counselSession.counselee.countDistinct())
+            .from(counselSession)
+            .where(
+                counselSession.scheduledStartDateTime.goe(from),
+                counselSession.scheduledStartDateTime.lt(to))
+            .fetchOne();
     }
 
     @Override
-    public Long countDistinctCounselorsByCompletedSessionsInYear(int year) {
+    public Long countDistinctCounselorsByCompletedSessionsBetween(LocalDateTime from, LocalDateTime to) {
         return queryFactory
             .select(counselSession.counselor.countDistinct())
             .from(counselSession)
             .where(
                 counselSession.status.eq(ScheduleStatus.COMPLETED),
-                counselSession.startDateTime.year().eq(year),
+                counselSession.startDateTime.goe(from),
+                counselSession.startDateTime.lt(to),
                 counselSession.counselor.isNotNull(),
                 counselSession.counselor.status.eq(CounselorStatus.ACTIVE))
             .fetchOne();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,15 @@
+package com.springboot.api.counselsession.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.springboot.api.counselsession.entity.CounselSessionStat;
+import com.springboot.api.counselsession.enums.StatPeriodType;
+
+public interface CounselSessionStatRepository extends JpaRepository<CounselSessionStat, String>,
+    CounselSessionStatRepositoryCustom {
+
+    Optional<CounselSessionStat> findByPeriodTypeAndPeriodKey(StatPeriodType periodType, String periodKey);
+
+}
@@ -0,0 +1,30 @@
+package com.springboot.api.counselsession.repository;
+
+import java.time.LocalDateTime;
+
+import com.springboot.api.counselsession.entity.CounselSessionStat;
+import com.springboot.api.counselsession.enums.StatPeriodType;
+
+public interface CounselSessionStatRepositoryCustom {
+
+    /**
+     * 기간(periodType, periodKey) 집계 행이 없을 때만 주어진 값으로 생성. 생성했으면 true
+     */
+    boolean insertIfAbsent(CounselSessionStat stat, LocalDateTime now);
+
+    /**
+     * 집계 값 전체를 덮어씀 (보정용)
+     */
+    void overwrite(CounselSessionStat stat, LocalDateTime now);
+
+    /**
+     * 상담 시간 합계에 증감분을 더함 (counsel_minutes = counsel_minutes + :minutes)
+     */
+    void addCounselDuration(StatPeriodType periodType, String periodKey, long minutes, long hours,
+        LocalDateTime now);
+
+    /**
+     * 상담 시간 외의 건수(내담자 수, 복약 상담 수, 상담사 수)만 갱신
+     */
+    void updateCounts(CounselSessionStat stat, LocalDateTime now);
+}
@@ -0,0 +1,99 @@
+package com.springboot.api.counselsession.repository;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.springboot.api.counselsession.entity.CounselSessionStat;
+import com.springboot.api.counselsession.entity.QCounselSessionStat;
+import com.springboot.api.counselsession.enums.StatPeriodType;
+
+import de.huxhorn.sulky.ulid.ULID;
+import jakarta.persistence.EntityManager;
+
+@Repository
+public class CounselSessionStatRepositoryImpl implements CounselSessionStatRepositoryCustom {
+
+    // 같은 기간을 동시에 만들어도 유니크 제약 위반 없이 한 쪽만 생성되도록 ON CONFLICT DO NOTHING 사용
+    private static final String INSERT_IF_ABSENT_SQL = """
+        INSERT INTO counsel_session_stats (id, created_datetime, updated_datetime, period_type, period_key,
+            counsel_minutes, counsel_hours, counselee_count, medication_counsel_count, counselor_count)
+        VALUES (:id, :now, :now, :periodType, :periodKey,
+            :counselMinutes, :counselHours, :counseleeCount, :medicationCounselCount, :counselorCount)
+        ON CONFLICT DO NOTHING
+        """;
+
+    private static final ULID ID_GENERATOR = new ULID();
+
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+    private final QCounselSessionStat counselSessionStat = QCounselSessionStat.counselSessionStat;
+
+    public CounselSessionStatRepositoryImpl(JPAQueryFactory queryFactory, EntityManager entityManager) {
+        this.queryFactory = queryFactory;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public boolean insertIfAbsent(CounselSessionStat stat, LocalDateTime now) {
+        return entityManager.createNativeQuery(INSERT_IF_ABSENT_SQL)
+            .unwrap(NativeQuery.class)
+            .addSynchronizedEntityClass(CounselSessionStat.class)
+            .setParameter("id", ID_GENERATOR.nextULID())
+            .setParameter("now", now)
+            .setParameter("periodType", stat.getPeriodType().name())
+            .setParameter("periodKey", stat.getPeriodKey())
+            .setParameter("counselMinutes", stat.getCounselMinutes())
+            .setParameter("counselHours", stat.getCounselHours())
+            .setParameter("counseleeCount", stat.getCounseleeCount())
+            .setParameter("medicationCounselCount", stat.getMedicationCounselCount())
+            .setParameter("counselorCount", stat.getCounselorCount())
+            .executeUpdate() > 0;
+    }
+
+    @Override
+    public void overwrite(CounselSessionStat stat, LocalDateTime now) {
+        queryFactory
+            .update(counselSessionStat)
+            .set(counselSessionStat.counselMinutes, stat.getCounselMinutes())
+            .set(counselSessionStat.counselHours, stat.getCounselHours())
+            .set(counselSessionStat.counseleeCount, stat.getCounseleeCount())
+            .set(counselSessionStat.medicationCounselCount, stat.getMedicationCounselCount())
+            .set(counselSessionStat.counselorCount, stat.getCounselorCount())
+            .set(counselSessionStat.updatedDatetime, now)
+            .where(period(stat.getPeriodType(), stat.getPeriodKey()))
+            .execute();
+    }
+
+    @Override
+    public void addCounselDuration(StatPeriodType periodType, String periodKey, long minutes, long hours,
+        LocalDateTime now) {
+        queryFactory
+            .update(counselSessionStat)
+            .set(counselSessionStat.counselMinutes, counselSessionStat.counselMinutes.add(minutes))
+            .set(counselSessionStat.counselHours, counselSessionStat.counselHours.add(hours))
+            .set(counselSessionStat.updatedDatetime, now)
+            .where(period(periodType, periodKey))
+            .execute();
+    }
+
+    @Override
+    public void updateCounts(CounselSessionStat stat, LocalDateTime now) {
+        queryFactory
+            .update(counselSessionStat)
+            .set(counselSessionStat.counseleeCount, stat.getCounseleeCount())
+            .set(counselSessionStat.medicationCounselCount, stat.getMedicationCounselCount())
+            .set(counselSessionStat.counselorCount, stat.getCounselorCount())
+            .set(counselSessionStat.updatedDatetime, now)
+            .where(period(stat.getPeriodType(), stat.getPeriodKey()))
+            .execute();
+    }
+
+    private BooleanExpression period(StatPeriodType periodType, String periodKey) {
+        return counselSessionStat.periodType.eq(periodType)
+            .and(counselSessionStat.periodKey.eq(periodKey));
+    }
+}
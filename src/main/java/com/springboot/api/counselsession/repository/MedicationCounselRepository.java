@@ -7,7 +7,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.springboot.api.counselsession.entity.MedicationCounsel;
 
-public interface MedicationCounselRepository extends JpaRepository<MedicationCounsel, String> {
+public interface MedicationCounselRepository
+    extends JpaRepository<MedicationCounsel, String>, MedicationCounselRepositoryCustom {
 
     Optional<MedicationCounsel> findByCounselSessionId(String counselSessionId);
     
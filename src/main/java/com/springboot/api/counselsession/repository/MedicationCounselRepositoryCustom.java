@@ -0,0 +1,9 @@
+package com.springboot.api.counselsession.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface MedicationCounselRepositoryCustom {
+
+    Map<String, String> findCounselRecordsByCounselSessionIds(Collection<String> counselSessionIds);
+}
@@ -0,0 +1,44 @@
+package com.springboot.api.counselsession.repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.springboot.api.counselsession.entity.QMedicationCounsel;
+
+@Repository
+public class MedicationCounselRepositoryImpl implements MedicationCounselRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+    private final QMedicationCounsel medicationCounsel = QMedicationCounsel.medicationCounsel;
+
+    public MedicationCounselRepositoryImpl(JPAQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    /**
+     * 상담 세션 ID별 중재기록 (counselSessionId -> counselRecord)
+     */
+    @Override
+    public Map<String, String> findCounselRecordsByCounselSessionIds(Collection<String> counselSessionIds) {
+        Map<String, String> counselRecords = new HashMap<>();
+
+        if (counselSessionIds.isEmpty()) {
+            return counselRecords;
+        }
+
+        queryFactory
+            .select(medicationCounsel.counselSession.id, medicationCounsel.counselRecord)
+            .from(medicationCounsel)
+            .where(medicationCounsel.counselSession.id.in(counselSessionIds))
+            .fetch()
+            .forEach(tuple -> counselRecords.put(
+                tuple.get(medicationCounsel.counselSession.id),
+                tuple.get(medicationCounsel.counselRecord)));
+
+        return counselRecords;
+    }
+}
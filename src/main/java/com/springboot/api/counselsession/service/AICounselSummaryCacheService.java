@@ -0,0 +1,88 @@
+package com.springboot.api.counselsession.service;
+
+import java.util.Optional;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.springboot.api.common.util.HashUtil;
+import com.springboot.api.counselsession.entity.AICounselSummaryCache;
+import com.springboot.api.counselsession.entity.PromptTemplate;
+import com.springboot.api.counselsession.repository.AICounselSummaryCacheRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * TA(GPT) 결과 캐시.
+ * 메모리(Caffeine) 캐시를 먼저 조회하고, 없으면 DB(ai_counsel_summary_caches)를 조회합니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class AICounselSummaryCacheService {
+
+    public static final String CACHE_NAME = "aiSummaryResults";
+
+    private final AICounselSummaryCacheRepository aiCounselSummaryCacheRepository;
+    private final CacheManager cacheManager;
+
+    public String generateCacheKey(PromptTemplate promptTemplate, String promptVersion, String sttMessagesJson) {
+        return HashUtil.sha256Hex(promptTemplate.getId(), promptVersion, sttMessagesJson);
+    }
+
+    public Optional<JsonNode> findTaResult(String cacheKey) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+
+        if (cache != null) {
+            JsonNode cached = cache.get(cacheKey, JsonNode.class);
+            if (cached != null) {
+                log.debug("TA 결과 메모리 캐시 적중: {}", cacheKey);
+                return Optional.of(cached);
+            }
+        }
+
+        Optional<JsonNode> taResult = aiCounselSummaryCacheRepository.findByCacheKey(cacheKey)
+            .map(AICounselSummaryCache::getTaResult);
+
+        taResult.ifPresent(result -> {
+            log.debug("TA 결과 DB 캐시 적중: {}", cacheKey);
+            if (cache != null) {
+                cache.put(cacheKey, result);
+            }
+        });
+
+        return taResult;
+    }
+
+    public void saveTaResult(String cacheKey, PromptTemplate promptTemplate, String promptVersion,
+        JsonNode taResult) {
+        if (taResult == null || taResult.isEmpty()) {
+            return;
+        }
+
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.put(cacheKey, taResult);
+        }
+
+        if (aiCounselSummaryCacheRepository.existsByCacheKey(cacheKey)) {
+            return;
+        }
+
+        try {
+            aiCounselSummaryCacheRepository.save(AICounselSummaryCache.builder()
+                .cacheKey(cacheKey)
+                .promptTemplateId(promptTemplate.getId())
+                .promptVersion(promptVersion)
+                .taResult(taResult)
+                .build());
+        } catch (DataIntegrityViolationException e) {
+            // 동일한 입력이 동시에 처리된 경우 먼저 저장된 결과를 그대로 사용
+            log.debug("TA 결과 캐시가 이미 저장되어 있습니다: {}", cacheKey);
+        }
+    }
+}
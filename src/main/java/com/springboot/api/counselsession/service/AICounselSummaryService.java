@@ -2,6 +2,7 @@ package com.springboot.api.counselsession.service;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -14,7 +15,6 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,12 +34,14 @@ import org.springframework.web.multipart.MultipartFile;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.api.common.dto.StreamingAudioResource;
 import com.springboot.api.common.exception.NoContentException;
 import com.springboot.api.common.properties.NaverClovaProperties;
 import com.springboot.api.common.properties.SttFileProperties;
 import com.springboot.api.common.util.AiResponseParseUtil;
 import com.springboot.api.common.util.DateTimeUtil;
 import com.springboot.api.common.util.FileUtil;
+import com.springboot.api.counselsession.dto.aiCounselSummary.AICounselSummaryTextDTO;
 import com.springboot.api.counselsession.dto.aiCounselSummary.ConvertSpeechToTextReq;
 import com.springboot.api.counselsession.dto.aiCounselSummary.DeleteAICounselSummaryReq;
 import com.springboot.api.counselsession.dto.aiCounselSummary.STTMessageForPromptDTO;
@@ -48,11 +50,11 @@ import com.springboot.api.counselsession.dto.aiCounselSummary.SelectAICounselSum
 import com.springboot.api.counselsession.dto.aiCounselSummary.SelectAnalysedTextRes;
 import com.springboot.api.counselsession.dto.aiCounselSummary.SelectSpeakerListRes;
 import com.springboot.api.counselsession.dto.aiCounselSummary.SelectSpeechToTextRes;
-import com.springboot.api.counselsession.dto.aiCounselSummary.SpeakerStatsDTO;
 import com.springboot.api.counselsession.dto.naverClova.DiarizationDTO;
 import com.springboot.api.counselsession.dto.naverClova.SpeechToTextReq;
 import com.springboot.api.counselsession.dto.naverClova.SpeechToTextRes;
 import com.springboot.api.counselsession.entity.AICounselSummary;
+import com.springboot.api.counselsession.entity.AICounselSummarySpeaker;
 import com.springboot.api.counselsession.entity.CounselSession;
 import com.springboot.api.counselsession.entity.PromptTemplate;
 import com.springboot.api.counselsession.enums.AICounselSummaryStatus;
@@ -89,6 +91,8 @@ public class AICounselSummaryService {
     private final ApplicationEventPublisher applicationEventPublisher;
     private final TusService tusService;
     private final AiResponseParseUtil aiResponseParseUtil;
+    private final AICounselSummaryCacheService aiCounselSummaryCacheService;
+    private final AICounselSummarySpeakerService aiCounselSummarySpeakerService;
 
     public void convertSpeechToText(MultipartFile multipartFile, ConvertSpeechToTextReq convertSpeechToTextReq)
         throws IOException {
@@ -107,8 +111,10 @@ public class AICounselSummaryService {
         aiCounselSummary.setAiCounselSummaryStatus(STT_PROGRESS);
         aiCounselSummary.setSpeakers(null);
         aiCounselSummary.setTaResult(null);
+        aiCounselSummary.setAnalysedText(null);
         aiCounselSummary.setSttResult(null);
         aiCounselSummaryRepository.save(aiCounselSummary);
+        aiCounselSummarySpeakerService.deleteSpeakerStats(counselSession.getId());
 
         Map<String, String> headers = new HashMap<>();
         headers.put("Accept", "application/json");
@@ -131,9 +137,13 @@ public class AICounselSummaryService {
         callNaverClovaAsync(headers, originFileName, speechToTextReq)
             .thenAcceptAsync(
                 speechToTextRes -> {
+                    boolean isCompleted = "COMPLETED".equals(speechToTextRes.result());
+                    if (isCompleted) {
+                        aiCounselSummarySpeakerService.saveSpeakerStats(counselSession, speechToTextRes);
+                    }
                     updateAiCounselSummaryStatus(
                         aiCounselSummary,
-                        "COMPLETED".equals(speechToTextRes.result()) ? STT_COMPLETE : STT_FAILED,
+                        isCompleted ? STT_COMPLETE : STT_FAILED,
                         objectMapper.valueToTree(speechToTextRes));
                     applicationEventPublisher.publishEvent(
                         new STTCompleteEvent(convertSpeechToTextReq.getCounselSessionId()));
@@ -150,9 +160,6 @@ public class AICounselSummaryService {
                     // ✅ 성공/실패 여부 상관없이 파일 삭제
                     try {
                         Files.deleteIfExists(Path.of(sttFileProperties.getOrigin() + originFileName));
-                        Files.deleteIfExists(
-                            Path.of(
-                                sttFileProperties.getConvert() + originFileName.replace(".webm", ".mp4")));
                     } catch (IOException e) {
                         log.warn("Failed to delete temp file: {}", originFileName, e);
                     }
@@ -176,8 +183,10 @@ public class AICounselSummaryService {
         aiCounselSummary.setAiCounselSummaryStatus(STT_PROGRESS);
         aiCounselSummary.setSpeakers(null);
         aiCounselSummary.setTaResult(null);
+        aiCounselSummary.setAnalysedText(null);
         aiCounselSummary.setSttResult(null);
         aiCounselSummaryRepository.save(aiCounselSummary);
+        aiCounselSummarySpeakerService.deleteSpeakerStats(counselSession.getId());
 
         Map<String, String> headers = new HashMap<>();
         headers.put("Accept", "application/json");
@@ -201,9 +210,13 @@ public class AICounselSummaryService {
         callNaverClovaAsync(headers, mergedFileName, speechToTextReq)
             .thenAcceptAsync(
                 speechToTextRes -> {
+                    boolean isCompleted = "COMPLETED".equals(speechToTextRes.result());
+                    if (isCompleted) {
+                        aiCounselSummarySpeakerService.saveSpeakerStats(counselSession, speechToTextRes);
+                    }
                     updateAiCounselSummaryStatus(
                         aiCounselSummary,
-                        "COMPLETED".equals(speechToTextRes.result()) ? STT_COMPLETE : STT_FAILED,
+                        isCompleted ? STT_COMPLETE : STT_FAILED,
                         objectMapper.valueToTree(speechToTextRes));
                     applicationEventPublisher.publishEvent(
                         new STTCompleteEvent(counselSessionId));
@@ -220,9 +233,6 @@ public class AICounselSummaryService {
                     // ✅ 성공/실패 여부 상관없이 파일 삭제
                     try {
                         Files.deleteIfExists(Path.of(sttFileProperties.getOrigin() + mergedFileName));
-                        Files.deleteIfExists(
-                            Path.of(
-                                sttFileProperties.getConvert() + mergedFileName.replace(".webm", ".mp4")));
                     } catch (IOException e) {
                         log.warn("Failed to delete temp file: {}", mergedFileName, e);
                     }
@@ -237,8 +247,7 @@ public class AICounselSummaryService {
                 File sttReqFile = Paths.get(sttFileProperties.getOrigin(), originFileName).toFile();
 
                 if (Objects.requireNonNull(sttReqFile.getName()).contains(".webm")) {
-                    sttReqFile = fileUtil.convertWebmToMp4(sttReqFile.getName(), sttFileProperties.getOrigin(),
-                        sttFileProperties.getConvert());
+                    return callNaverClovaWithTranscodeStream(headers, sttReqFile.getName(), request);
                 }
 
                 return naverClovaExternalService.convertSpeechToText(headers, new FileSystemResource(sttReqFile),
@@ -252,6 +261,34 @@ public class AICounselSummaryService {
         });
     }
 
+    /**
+     * webm 을 임시 파일로 변환하지 않고, ffmpeg stdout 을 그대로 multipart 요청 본문으로 전송합니다.
+     */
+    private SpeechToTextRes callNaverClovaWithTranscodeStream(Map<String, String> headers, String fileName,
+        SpeechToTextReq request) throws IOException {
+        Process ffmpegProcess = fileUtil.startWebmToAacStream(fileName, sttFileProperties.getOrigin());
+
+        try (InputStream transcodedAudio = ffmpegProcess.getInputStream()) {
+            SpeechToTextRes speechToTextRes = naverClovaExternalService.convertSpeechToText(headers,
+                    new StreamingAudioResource(transcodedAudio, fileName.replace(".webm", ".aac")), request)
+                .getBody();
+
+            int exitCode = ffmpegProcess.waitFor();
+            if (exitCode != 0) {
+                throw new IOException("FFmpeg 변환에 실패했습니다. exitCode=" + exitCode);
+            }
+
+            return speechToTextRes;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("FFmpeg 변환 대기 중 인터럽트가 발생했습니다.", e);
+        } finally {
+            if (ffmpegProcess.isAlive()) {
+                ffmpegProcess.destroyForcibly();
+            }
+        }
+    }
+
     public void updateAiCounselSummaryStatus(AICounselSummary aiCounselSummary, AICounselSummaryStatus status,
         JsonNode sttResult) {
         aiCounselSummary.setAiCounselSummaryStatus(status);
@@ -262,43 +299,39 @@ public class AICounselSummaryService {
 
     public List<SelectSpeakerListRes> selectSpeakerList(String counselSessionId) throws JsonProcessingException {
 
-        counselSessionRepository.findById(counselSessionId)
+        CounselSession counselSession = counselSessionRepository.findById(counselSessionId)
             .orElseThrow(IllegalArgumentException::new);
 
-        AICounselSummary aiCounselSummary = aiCounselSummaryRepository.findByCounselSessionId(counselSessionId)
+        AICounselSummaryStatus aiCounselSummaryStatus = aiCounselSummaryRepository
+            .findStatusByCounselSessionId(counselSessionId)
             .orElseThrow(NoContentException::new);
 
-        if (aiCounselSummary.getAiCounselSummaryStatus().equals(STT_PROGRESS)) {
+        if (aiCounselSummaryStatus.equals(STT_PROGRESS)) {
             throw new NoContentException();
         }
 
-        SpeechToTextRes speechToTextRes = objectMapper.treeToValue(aiCounselSummary.getSttResult(),
-            SpeechToTextRes.class);
-
-        HashMap<String, SpeakerStatsDTO> speakerMap = new HashMap<>();
+        List<AICounselSummarySpeaker> speakerStats = aiCounselSummarySpeakerService
+            .findSpeakerStats(counselSessionId);
 
-        speechToTextRes.speakers()
-            .forEach(speaker -> speakerMap
-                .putIfAbsent(speaker.name()
-                    , new SpeakerStatsDTO()
-                )
-            );
-
-        AtomicInteger totalSpeakCount = new AtomicInteger();
+        // 화자 통계 저장 이전에 STT 가 완료된 세션은 stt_result 로 한 번 계산해 저장
+        if (speakerStats.isEmpty()) {
+            JsonNode sttResult = aiCounselSummaryRepository.findByCounselSessionId(counselSessionId)
+                .map(AICounselSummary::getSttResult)
+                .orElseThrow(NoContentException::new);
+            speakerStats = aiCounselSummarySpeakerService.saveSpeakerStats(counselSession,
+                objectMapper.treeToValue(sttResult, SpeechToTextRes.class));
+        }
 
-        speechToTextRes.segments().forEach(segment -> {
-            SpeakerStatsDTO speakerStats = speakerMap.get(segment.speaker().name());
-            speakerStats.updateSpeakerStats(segment.text());
-            totalSpeakCount.getAndIncrement();
-        });
+        int totalSpeakCount = speakerStats.stream()
+            .mapToInt(AICounselSummarySpeaker::getSpeakCount)
+            .sum();
 
-        return speakerMap
-            .entrySet()
+        return speakerStats
             .stream()
-            .filter(entry -> entry.getValue().isValidSpeaker())
-            .sorted(Comparator.comparing((Map.Entry<String, SpeakerStatsDTO> entry)
-                -> entry.getValue().getSpeakCount()).reversed())
-            .map(map -> SelectSpeakerListRes.of(map.getKey(), map.getValue(), totalSpeakCount.get()))
+            .filter(speaker -> speaker.toSpeakerStats().isValidSpeaker())
+            .sorted(Comparator.comparing(AICounselSummarySpeaker::getSpeakCount).reversed())
+            .map(speaker -> SelectSpeakerListRes.of(speaker.getSpeakerName(), speaker.toSpeakerStats(),
+                totalSpeakCount))
             .toList();
 
     }
@@ -370,14 +403,32 @@ public class AICounselSummaryService {
         PromptTemplate promptTemplate = promptTemplateRepository.findById("ta_prompt")
             .orElseThrow(NoContentException::new);
 
+        String promptVersion = promptTemplate.calculatePromptVersion();
+        String cacheKey = aiCounselSummaryCacheService.generateCacheKey(promptTemplate, promptVersion,
+            sttMessagesJson);
+
+        Optional<JsonNode> cachedTaResult = aiCounselSummaryCacheService.findTaResult(cacheKey);
+        if (cachedTaResult.isPresent()) {
+            aiCounselSummary.setSpeakers(speakers);
+            aiCounselSummary.setTaResult(cachedTaResult.get());
+            aiCounselSummary.setAnalysedText(
+                aiResponseParseUtil.extractAnalysedTextSafely(cachedTaResult.get()).orElse(null));
+            aiCounselSummary.setAiCounselSummaryStatus(GPT_COMPLETE);
+            aiCounselSummaryRepository.save(aiCounselSummary);
+            return;
+        }
+
         callGpt(promptTemplate.generatePromptMessages(new UserMessage(sttMessagesJson)))
             .thenAcceptAsync(
                 chatResponse -> {
+                    JsonNode taResult = objectMapper.valueToTree(chatResponse);
                     aiCounselSummary.setSpeakers(speakers);
-                    aiCounselSummary.setTaResult(
-                        objectMapper.valueToTree(chatResponse));
+                    aiCounselSummary.setTaResult(taResult);
+                    aiCounselSummary.setAnalysedText(
+                        aiResponseParseUtil.extractAnalysedTextSafely(taResult).orElse(null));
                     aiCounselSummary.setAiCounselSummaryStatus(GPT_COMPLETE);
                     aiCounselSummaryRepository.save(aiCounselSummary);
+                    aiCounselSummaryCacheService.saveTaResult(cacheKey, promptTemplate, promptVersion, taResult);
                 })
             .exceptionally(ex -> {
                 log.error("error", ex);
@@ -402,10 +453,16 @@ public class AICounselSummaryService {
         counselSessionRepository.findById(counselSessionId)
             .orElseThrow(IllegalArgumentException::new);
 
-        AICounselSummary aiCounselSummary = aiCounselSummaryRepository.findByCounselSessionId(counselSessionId)
+        AICounselSummaryTextDTO aiCounselSummaryText = aiCounselSummaryRepository
+            .findSummaryTextByCounselSessionId(counselSessionId)
             .orElseThrow(NoContentException::new);
 
-        JsonNode taResult = Optional.ofNullable(aiCounselSummary.getTaResult())
+        if (aiCounselSummaryText.getAnalysedText() != null) {
+            return new SelectAnalysedTextRes(aiCounselSummaryText.getAnalysedText());
+        }
+
+        // analysed_text 컬럼 추가 이전에 저장된 요약은 ta_result 에서 추출
+        JsonNode taResult = aiCounselSummaryRepository.findTaResultByCounselSessionId(counselSessionId)
             .orElseThrow(NoContentException::new);
 
         String taResultText = aiResponseParseUtil.extractAnalysedText(taResult);
@@ -420,6 +477,7 @@ public class AICounselSummaryService {
             .orElseThrow(IllegalArgumentException::new);
 
         aiCounselSummaryRepository.deleteByCounselSessionId(deleteAICounselSummaryReq.counselSessionId());
+        aiCounselSummarySpeakerService.deleteSpeakerStats(deleteAICounselSummaryReq.counselSessionId());
 
     }
 
@@ -429,13 +487,12 @@ public class AICounselSummaryService {
         CounselSession counselSession = counselSessionRepository.findById(counselSessionId)
             .orElseThrow(IllegalArgumentException::new);
 
-        Optional<AICounselSummary> aiCounselSummary = aiCounselSummaryRepository
-            .findByCounselSessionId(counselSessionId);
+        boolean hasAiCounselSummary = aiCounselSummaryRepository.existsByCounselSessionId(counselSessionId);
 
         LocalDate currentDate = Optional.ofNullable(localDate)
             .orElse(LocalDate.now());
 
-        boolean isPopup = aiCounselSummary.isEmpty()
+        boolean isPopup = !hasAiCounselSummary
             && counselSession.getScheduledStartDateTime().toLocalDate().isEqual(currentDate);
 
         return new SelectAICounselSummaryPopUpRes(isPopup);
@@ -447,10 +504,11 @@ public class AICounselSummaryService {
         counselSessionRepository.findById(counselSessionId)
             .orElseThrow(IllegalArgumentException::new);
 
-        AICounselSummary aiCounselSummary = aiCounselSummaryRepository.findByCounselSessionId(counselSessionId)
+        AICounselSummaryStatus aiCounselSummaryStatus = aiCounselSummaryRepository
+            .findStatusByCounselSessionId(counselSessionId)
             .orElseThrow(NoContentException::new);
 
-        return new SelectAICounselSummaryStatusRes(aiCounselSummary.getAiCounselSummaryStatus());
+        return new SelectAICounselSummaryStatusRes(aiCounselSummaryStatus);
     }
 
 }
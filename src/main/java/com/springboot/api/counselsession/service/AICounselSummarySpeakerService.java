@@ -0,0 +1,68 @@
+package com.springboot.api.counselsession.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.springboot.api.counselsession.dto.aiCounselSummary.SpeakerStatsDTO;
+import com.springboot.api.counselsession.dto.naverClova.SpeechToTextRes;
+import com.springboot.api.counselsession.entity.AICounselSummarySpeaker;
+import com.springboot.api.counselsession.entity.CounselSession;
+import com.springboot.api.counselsession.repository.AICounselSummarySpeakerRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * STT 결과의 화자별 발화 통계를 저장/조회합니다.
+ * 통계는 STT 완료 시 한 번만 계산하고, 화자 선택 화면은 저장된 통계를 읽습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AICounselSummarySpeakerService {
+
+    private final AICounselSummarySpeakerRepository aiCounselSummarySpeakerRepository;
+
+    public static Map<String, SpeakerStatsDTO> calculateSpeakerStats(SpeechToTextRes speechToTextRes) {
+        Map<String, SpeakerStatsDTO> speakerMap = new LinkedHashMap<>();
+
+        if (speechToTextRes.speakers() != null) {
+            speechToTextRes.speakers()
+                .forEach(speaker -> speakerMap.putIfAbsent(speaker.name(), new SpeakerStatsDTO()));
+        }
+
+        if (speechToTextRes.segments() != null) {
+            speechToTextRes.segments().forEach(segment -> speakerMap
+                .computeIfAbsent(segment.speaker().name(), name -> new SpeakerStatsDTO())
+                .updateSpeakerStats(segment.text()));
+        }
+
+        return speakerMap;
+    }
+
+    @Transactional
+    public List<AICounselSummarySpeaker> saveSpeakerStats(CounselSession counselSession,
+        SpeechToTextRes speechToTextRes) {
+        aiCounselSummarySpeakerRepository.deleteByCounselSessionId(counselSession.getId());
+
+        List<AICounselSummarySpeaker> speakers = calculateSpeakerStats(speechToTextRes)
+            .entrySet()
+            .stream()
+            .map(entry -> AICounselSummarySpeaker.of(counselSession, entry.getKey(), entry.getValue()))
+            .toList();
+
+        return aiCounselSummarySpeakerRepository.saveAll(speakers);
+    }
+
+    @Transactional(readOnly = true)
+    public List<AICounselSummarySpeaker> findSpeakerStats(String counselSessionId) {
+        return aiCounselSummarySpeakerRepository.findByCounselSessionId(counselSessionId);
+    }
+
+    @Transactional
+    public void deleteSpeakerStats(String counselSessionId) {
+        aiCounselSummarySpeakerRepository.deleteByCounselSessionId(counselSessionId);
+    }
+}
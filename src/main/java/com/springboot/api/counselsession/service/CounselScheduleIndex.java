@@ -0,0 +1,245 @@
+package com.springboot.api.counselsession.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.springboot.api.common.properties.CounselScheduleProperties;
+import com.springboot.api.counselsession.dto.counselsession.CounselScheduleEntry;
+import com.springboot.api.counselsession.entity.CounselSession;
+import com.springboot.api.counselsession.repository.CounselSessionRepository;
+import com.springboot.enums.ScheduleStatus;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상담사/내담자별 예약 일정 색인.
+ * 모든 상담은 같은 길이(slotDuration)를 차지하므로, 시작 시각으로 정렬된 맵에서
+ * (시작 - slot, 시작 + slot) 범위를 조회하면 겹치는 예약을 O(log n) 에 찾을 수 있습니다.
+ * 어제부터 horizonDays 이후까지의 취소되지 않은 예약만 메모리에 두고, 범위를 벗어난 조회는 DB 에서 읽습니다.
+ * 주기적으로 전체를 다시 읽고, 예약 변경은 커밋 후 바로 반영됩니다.
+ * 다른 인스턴스의 변경은 재색인 전까지 보이지 않으므로 빈 시간 조회에만 사용하고, 예약 충돌 검사는 DB 로 합니다.
+ */
+@Component
+@Slf4j
+public class CounselScheduleIndex {
+
+    private final CounselSessionRepository counselSessionRepository;
+    private final CounselScheduleProperties counselScheduleProperties;
+    private final Object lock = new Object();
+
+    // 최초 빌드 전에는 null (조회 시 DB 사용)
+    private volatile Snapshot snapshot;
+    // 전체 재색인 중 들어온 변경 (lock 으로 보호, 재색인 중이 아니면 null)
+    private List<Consumer<Snapshot>> pendingChanges;
+
+    public CounselScheduleIndex(CounselSessionRepository counselSessionRepository,
+        CounselScheduleProperties counselScheduleProperties) {
+        this.counselSessionRepository = counselSessionRepository;
+        this.counselScheduleProperties = counselScheduleProperties;
+    }
+
+    /**
+     * 기간 내 상담사와 내담자 모두 예약이 없는 시작 시각 목록 (현재 이후, 하루 상담 시간대 안에서 slot 단위)
+     */
+    public List<LocalDateTime> findFreeSlots(String counselorId, String counseleeId, LocalDate from, LocalDate to) {
+        Duration slot = counselScheduleProperties.getSlotDuration();
+        Timeline timeline = timelineFor(from.atStartOfDay().minus(slot), to.plusDays(1).atStartOfDay().plus(slot));
+        LocalDateTime now = LocalDateTime.now();
+
+        List<LocalDateTime> freeSlots = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            LocalDateTime dayEnd = date.atTime(counselScheduleProperties.getDayEnd());
+            for (LocalDateTime candidate = date.atTime(counselScheduleProperties.getDayStart());
+                !candidate.plus(slot).isAfter(dayEnd);
+                candidate = candidate.plus(slot)) {
+                if (candidate.isAfter(now)
+                    && timeline.overlapping(counselorId, counseleeId, candidate, slot).isEmpty()) {
+                    freeSlots.add(candidate);
+                }
+            }
+        }
+        return freeSlots;
+    }
+
+    /**
+     * 예약 생성/변경 반영. 취소된 세션은 색인에서 제거
+     */
+    public void put(CounselSession counselSession) {
+        if (counselSession.getStatus() == ScheduleStatus.CANCELED) {
+            remove(counselSession.getId());
+            return;
+        }
+
+        CounselScheduleEntry entry = CounselScheduleEntry.from(counselSession);
+        afterCommit(target -> target.put(entry));
+    }
+
+    public void remove(String counselSessionId) {
+        afterCommit(target -> target.timeline().remove(counselSessionId));
+    }
+
+    public void removeByCounseleeId(String counseleeId) {
+        afterCommit(target -> target.timeline().removeByCounseleeId(counseleeId));
+    }
+
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void rebuild() {
+        synchronized (lock) {
+            pendingChanges = new ArrayList<>();
+        }
+
+        LocalDateTime from = LocalDate.now().minusDays(1).atStartOfDay();
+        LocalDateTime to = LocalDate.now().plusDays(counselScheduleProperties.getHorizonDays()).atStartOfDay();
+
+        Snapshot next;
+        try {
+            next = new Snapshot(load(from, to), from, to);
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                pendingChanges = null;
+            }
+            log.warn("상담 일정 색인 재구성 실패: {}", e.getMessage());
+            return;
+        }
+
+        synchronized (lock) {
+            Optional.ofNullable(pendingChanges).ifPresent(changes -> changes.forEach(change -> change.accept(next)));
+            pendingChanges = null;
+            snapshot = next;
+        }
+        log.debug("상담 일정 색인 재구성 완료: {}건 ({} ~ {})", next.timeline().size(), from, to);
+    }
+
+    private Timeline timelineFor(LocalDateTime from, LocalDateTime to) {
+        Snapshot current = snapshot;
+        if (current != null && current.covers(from, to)) {
+            return current.timeline();
+        }
+        // 색인 범위 밖이거나 빌드 전이면 해당 구간만 DB 에서 읽음
+        return load(from, to);
+    }
+
+    private Timeline load(LocalDateTime from, LocalDateTime to) {
+        Timeline timeline = new Timeline();
+        counselSessionRepository.findActiveScheduleEntriesBetween(from, to).forEach(timeline::put);
+        return timeline;
+    }
+
+    private void afterCommit(Consumer<Snapshot> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyChange(change);
+                }
+            });
+            return;
+        }
+        applyChange(change);
+    }
+
+    private void applyChange(Consumer<Snapshot> change) {
+        synchronized (lock) {
+            Optional.ofNullable(snapshot).ifPresent(change);
+            Optional.ofNullable(pendingChanges).ifPresent(changes -> changes.add(change));
+        }
+    }
+
+    private record Snapshot(Timeline timeline, LocalDateTime from, LocalDateTime to) {
+
+        boolean covers(LocalDateTime rangeFrom, LocalDateTime rangeTo) {
+            return !rangeFrom.isBefore(from) && !rangeTo.isAfter(to);
+        }
+
+        void put(CounselScheduleEntry entry) {
+            timeline.remove(entry.getCounselSessionId());
+            LocalDateTime scheduledStartDateTime = entry.getScheduledStartDateTime();
+            if (!scheduledStartDateTime.isBefore(from) && scheduledStartDateTime.isBefore(to)) {
+                timeline.put(entry);
+            }
+        }
+    }
+
+    /**
+     * 소유자(상담사/내담자)별 시작 시각 정렬 맵
+     */
+    static final class Timeline {
+
+        private static final String COUNSELOR_PREFIX = "counselor:";
+        private static final String COUNSELEE_PREFIX = "counselee:";
+
+        private final Map<String, CounselScheduleEntry> entries = new ConcurrentHashMap<>();
+        private final Map<String, NavigableMap<LocalDateTime, Set<String>>> byOwner = new ConcurrentHashMap<>();
+
+        void put(CounselScheduleEntry entry) {
+            remove(entry.getCounselSessionId());
+            entries.put(entry.getCounselSessionId(), entry);
+            ownerKeys(entry.getCounselorId(), entry.getCounseleeId()).forEach(ownerKey -> byOwner
+                .computeIfAbsent(ownerKey, key -> new ConcurrentSkipListMap<>())
+                .computeIfAbsent(entry.getScheduledStartDateTime(), key -> ConcurrentHashMap.newKeySet())
+                .add(entry.getCounselSessionId()));
+        }
+
+        void remove(String counselSessionId) {
+            CounselScheduleEntry entry = entries.remove(counselSessionId);
+            if (entry == null) {
+                return;
+            }
+
+            ownerKeys(entry.getCounselorId(), entry.getCounseleeId()).forEach(ownerKey ->
+                Optional.ofNullable(byOwner.get(ownerKey)).ifPresent(sessions -> sessions.computeIfPresent(
+                    entry.getScheduledStartDateTime(), (key, ids) -> {
+                        ids.remove(counselSessionId);
+                        return ids.isEmpty() ? null : ids;
+                    })));
+        }
+
+        void removeByCounseleeId(String counseleeId) {
+            Optional.ofNullable(byOwner.get(COUNSELEE_PREFIX + counseleeId))
+                .map(sessions -> sessions.values().stream().flatMap(Set::stream).toList())
+                .ifPresent(counselSessionIds -> counselSessionIds.forEach(this::remove));
+        }
+
+        List<String> overlapping(String counselorId, String counseleeId, LocalDateTime scheduledStartDateTime,
+            Duration slot) {
+            return ownerKeys(counselorId, counseleeId)
+                .map(byOwner::get)
+                .filter(Objects::nonNull)
+                .flatMap(sessions -> sessions
+                    .subMap(scheduledStartDateTime.minus(slot), false, scheduledStartDateTime.plus(slot), false)
+                    .values().stream())
+                .flatMap(Set::stream)
+                .distinct()
+                .toList();
+        }
+
+        int size() {
+            return entries.size();
+        }
+
+        private static Stream<String> ownerKeys(String counselorId, String counseleeId) {
+            return Stream.of(
+                    counselorId == null ? null : COUNSELOR_PREFIX + counselorId,
+                    counseleeId == null ? null : COUNSELEE_PREFIX + counseleeId)
+                .filter(Objects::nonNull);
+        }
+    }
+}
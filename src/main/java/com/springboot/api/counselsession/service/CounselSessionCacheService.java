@@ -0,0 +1,250 @@
+package com.springboot.api.counselsession.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상담 세션 캐시(sessionList, sessionDates, sessionStats)의 키 단위 무효화.
+ * 세션이 변경되면 해당 예약일의 목록 캐시(모든 페이지)와 해당 월의 달력 캐시만 제거합니다.
+ * 날짜 없이 조회한 전체 목록(null-{page}-{size})은 모든 세션을 포함하므로 함께 제거합니다.
+ * sessionDates는 월별로 상담이 있는 날을 비트(1일 = 0번 비트)로 표시한 int 값을 저장합니다.
+ * 트랜잭션 안에서 호출되면 커밋 이후에 반영합니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CounselSessionCacheService {
+
+    public static final String SESSION_LIST = "sessionList";
+    public static final String SESSION_DATES = "sessionDates";
+    public static final String SESSION_STATS = "sessionStats";
+
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * sessionList 키: {baseDate}-{page}-{size} (baseDate 가 없으면 null-{page}-{size})
+     */
+    public static String sessionListKey(LocalDate baseDate, int page, int size) {
+        return sessionListKeyPrefix(baseDate) + page + "-" + size;
+    }
+
+    /**
+     * sessionDates 키: {year}-{month}
+     */
+    public static String sessionDatesKey(int year, int month) {
+        return year + "-" + month;
+    }
+
+    private static String sessionListKeyPrefix(LocalDate baseDate) {
+        return baseDate + "-";
+    }
+
+    public static int toDayBitmap(Collection<LocalDate> dates) {
+        return dates.stream()
+            .mapToInt(date -> 1 << (date.getDayOfMonth() - 1))
+            .reduce(0, (left, right) -> left | right);
+    }
+
+    public static List<LocalDate> fromDayBitmap(YearMonth yearMonth, int dayBitmap) {
+        return IntStream.rangeClosed(1, yearMonth.lengthOfMonth())
+            .filter(day -> (dayBitmap & (1 << (day - 1))) != 0)
+            .mapToObj(yearMonth::atDay)
+            .toList();
+    }
+
+    /**
+     * 월별 상담 일자 조회. 캐시에 없으면 loader로 조회해 비트맵으로 저장
+     */
+    public List<LocalDate> getSessionDates(YearMonth yearMonth, Function<YearMonth, List<LocalDate>> loader) {
+        Cache cache = cacheManager.getCache(SESSION_DATES);
+        if (cache == null) {
+            return loader.apply(yearMonth);
+        }
+
+        Integer dayBitmap = cache.get(sessionDatesKey(yearMonth.getYear(), yearMonth.getMonthValue()),
+            () -> toDayBitmap(loader.apply(yearMonth)));
+        return fromDayBitmap(yearMonth, Objects.requireNonNullElse(dayBitmap, 0));
+    }
+
+    /**
+     * 새 예약: 해당 예약일의 목록 캐시를 제거하고 달력 비트맵에 해당 일자를 표시
+     */
+    public void markScheduled(LocalDateTime scheduledStartDateTime) {
+        if (scheduledStartDateTime == null) {
+            return;
+        }
+
+        LocalDate date = scheduledStartDateTime.toLocalDate();
+        afterCommit(() -> {
+            evictSessionListsOf(Set.of(date));
+            markDay(date);
+        });
+    }
+
+    /**
+     * 예약일 변경/삭제: 해당 예약일의 목록 캐시와 월 달력 비트맵을 제거
+     * (같은 날 다른 세션이 남아있을 수 있으므로 비트를 직접 지우지 않고 다음 조회 시 다시 계산)
+     */
+    public void evictBySchedule(LocalDateTime... scheduledStartDateTimes) {
+        evictBySchedule(Arrays.asList(scheduledStartDateTimes));
+    }
+
+    public void evictBySchedule(Collection<LocalDateTime> scheduledStartDateTimes) {
+        Set<LocalDate> dates = toDates(scheduledStartDateTimes);
+
+        if (dates.isEmpty()) {
+            return;
+        }
+
+        afterCommit(() -> {
+            evictSessionListsOf(dates);
+            dates.stream()
+                .map(YearMonth::from)
+                .distinct()
+                .forEach(yearMonth -> evictKey(SESSION_DATES,
+                    sessionDatesKey(yearMonth.getYear(), yearMonth.getMonthValue())));
+        });
+    }
+
+    /**
+     * 상태, 상담사, 상담카드, 동의 여부 변경: 예약일이 그대로이므로 목록 캐시만 제거
+     */
+    public void evictSessionLists(LocalDateTime... scheduledStartDateTimes) {
+        Set<LocalDate> dates = toDates(Arrays.asList(scheduledStartDateTimes));
+
+        if (dates.isEmpty()) {
+            return;
+        }
+
+        afterCommit(() -> evictSessionListsOf(dates));
+    }
+
+    /**
+     * 대시보드 통계는 이번 달/올해 기준이므로 해당 기간이 바뀐 경우에만 제거
+     */
+    public void evictSessionStats(Collection<YearMonth> yearMonths) {
+        YearMonth thisMonth = YearMonth.now();
+        boolean affected = yearMonths.stream()
+            .anyMatch(yearMonth -> yearMonth.getYear() == thisMonth.getYear());
+
+        if (affected) {
+            afterCommit(() -> evictKey(SESSION_STATS, SimpleKey.EMPTY));
+        }
+    }
+
+    /**
+     * 상담사 이름 변경처럼 여러 날짜에 걸친 변경은 목록 캐시 전체를 제거
+     */
+    public void evictAllSessionLists() {
+        afterCommit(() -> {
+            Cache cache = cacheManager.getCache(SESSION_LIST);
+            if (cache != null) {
+                cache.clear();
+                countEviction(SESSION_LIST, "all", 1);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private void markDay(LocalDate date) {
+        Cache cache = cacheManager.getCache(SESSION_DATES);
+        if (cache == null) {
+            return;
+        }
+
+        String key = sessionDatesKey(date.getYear(), date.getMonthValue());
+        int dayBit = 1 << (date.getDayOfMonth() - 1);
+
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            // 캐시에 없는 월은 다음 조회 시 DB에서 계산되므로 있는 경우에만 비트를 추가
+            ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) nativeCache).asMap()
+                .computeIfPresent(key, (k, dayBitmap) -> (Integer) dayBitmap | dayBit);
+            return;
+        }
+        evictKey(SESSION_DATES, key);
+    }
+
+    private void evictSessionListsOf(Set<LocalDate> dates) {
+        dates.forEach(date -> evictByPrefix(SESSION_LIST, sessionListKeyPrefix(date)));
+        evictByPrefix(SESSION_LIST, sessionListKeyPrefix(null));
+    }
+
+    private static Set<LocalDate> toDates(Collection<LocalDateTime> dateTimes) {
+        return dateTimes.stream()
+            .filter(Objects::nonNull)
+            .map(LocalDateTime::toLocalDate)
+            .collect(Collectors.toSet());
+    }
+
+    private void evictKey(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && cache.evictIfPresent(key)) {
+            countEviction(cacheName, "key", 1);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void evictByPrefix(String cacheName, String keyPrefix) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+
+        if (!(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+            cache.clear();
+            countEviction(cacheName, "all", 1);
+            return;
+        }
+
+        ConcurrentMap<Object, Object> entries = ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) nativeCache)
+            .asMap();
+        long evicted = entries.keySet().stream()
+            .filter(key -> key.toString().startsWith(keyPrefix))
+            .filter(key -> entries.remove(key) != null)
+            .count();
+
+        if (evicted > 0) {
+            countEviction(cacheName, "key", evicted);
+        }
+    }
+
+    private void countEviction(String cacheName, String scope, long count) {
+        log.debug("Evicted {} entries from cache {} ({})", count, cacheName, scope);
+        meterRegistry.counter("cache.targeted.evictions", "cache", cacheName, "scope", scope).increment(count);
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+            return;
+        }
+        eviction.run();
+    }
+}
@@ -3,31 +3,48 @@ package com.springboot.api.counselsession.service;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.springboot.api.common.annotation.ClusterSingleton;
+import com.springboot.api.common.dto.CommonCursorRes;
 import com.springboot.api.common.dto.PageReq;
 import com.springboot.api.common.dto.PageRes;
 import com.springboot.api.common.exception.NoContentException;
+import com.springboot.api.common.properties.CounselScheduleProperties;
 import com.springboot.api.common.util.AiResponseParseUtil;
+import com.springboot.api.common.util.CursorUtil;
 import com.springboot.api.common.util.DateTimeUtil;
+import com.springboot.api.counselcard.entity.CounselCard;
+import com.springboot.api.counselcard.service.CounselCardDeltaService;
 import com.springboot.api.counselcard.service.CounselCardService;
 import com.springboot.api.counselee.entity.Counselee;
 import com.springboot.api.counselee.repository.CounseleeRepository;
 import com.springboot.api.counselor.entity.Counselor;
 import com.springboot.api.counselor.service.CounselorService;
+import com.springboot.api.counselsession.dto.aiCounselSummary.AICounselSummaryTextDTO;
+import com.springboot.api.counselsession.dto.counselsession.CounselScheduleEntry;
+import com.springboot.api.counselsession.dto.counselsession.CounselSessionDomainEvent;
 import com.springboot.api.counselsession.dto.counselsession.CounselSessionStatRes;
+import com.springboot.api.counselsession.dto.counselsession.CreateCounselReservationBatchReq;
+import com.springboot.api.counselsession.dto.counselsession.CreateCounselReservationBatchRes;
 import com.springboot.api.counselsession.dto.counselsession.CreateCounselReservationReq;
 import com.springboot.api.counselsession.dto.counselsession.CreateCounselReservationRes;
 import com.springboot.api.counselsession.dto.counselsession.DeleteCounselSessionReq;
@@ -43,14 +60,16 @@ import com.springboot.api.counselsession.dto.counselsession.UpdateCounselorInCou
 import com.springboot.api.counselsession.dto.counselsession.UpdateCounselorInCounselSessionRes;
 import com.springboot.api.counselsession.dto.counselsession.UpdateStatusInCounselSessionReq;
 import com.springboot.api.counselsession.dto.counselsession.UpdateStatusInCounselSessionRes;
-import com.springboot.api.counselsession.entity.AICounselSummary;
 import com.springboot.api.counselsession.entity.CounselSession;
-import com.springboot.api.counselsession.entity.MedicationCounsel;
+import com.springboot.api.counselsession.entity.CounseleeConsent;
 import com.springboot.api.counselsession.repository.AICounselSummaryRepository;
+import com.springboot.api.counselsession.repository.CounselReservationBatchRepository;
 import com.springboot.api.counselsession.repository.CounselSessionRepository;
 import com.springboot.api.counselsession.repository.MedicationCounselRepository;
+import com.springboot.api.outbox.service.OutboxEventService;
 import com.springboot.enums.ScheduleStatus;
 
+import de.huxhorn.sulky.ulid.ULID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -59,24 +78,32 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class CounselSessionService {
 
+    private static final ULID RESERVATION_ID_GENERATOR = new ULID();
+
     private final DateTimeUtil dateTimeUtil;
     private final CounselSessionRepository counselSessionRepository;
     private final CounselorService counselorService;
     private final CounseleeRepository counseleeRepository;
     private final CounselCardService counselCardService;
+    private final CounselCardDeltaService counselCardDeltaService;
     private final CounseleeConsentService counseleeConsentService;
     private final MedicationCounselRepository medicationCounselRepository;
     private final AICounselSummaryRepository aiCounselSummaryRepository;
     private final AiResponseParseUtil aiResponseParseUtil;
+    private final CounselSessionStatService counselSessionStatService;
+    private final CounselSessionCacheService counselSessionCacheService;
+    private final CounselScheduleIndex counselScheduleIndex;
+    private final CounselScheduleProperties counselScheduleProperties;
+    private final CounselReservationBatchRepository counselReservationBatchRepository;
+    private final OutboxEventService outboxEventService;
 
-    @CacheEvict(value = {"sessionDates", "sessionStats", "sessionList"}, allEntries = true)
     @Transactional
     public CreateCounselReservationRes createReservation(CreateCounselReservationReq createReservationReq) {
         LocalDateTime scheduledStartDateTime = dateTimeUtil
             .parseToDateTime(createReservationReq.getScheduledStartDateTime());
 
-        Counselee counselee = findAndValidateCounseleeSchedule(createReservationReq.getCounseleeId(),
-            scheduledStartDateTime);
+        Counselee counselee = findAndValidateCounseleeSchedule(createReservationReq.getCounseleeId(), null,
+            scheduledStartDateTime, null);
 
         CounselSession counselSession = CounselSession.createReservation(
             counselee,
@@ -85,12 +112,95 @@ public class CounselSessionService {
 
         counselCardService.initializeCounselCard(savedCounselSession);
         counseleeConsentService.initializeCounseleeConsent(counselSession, counselee);
-        reassignSessionNumbers(createReservationReq.getCounseleeId());
+        reassignSessionNumbers(List.of(createReservationReq.getCounseleeId()), scheduledStartDateTime);
+        counselScheduleIndex.put(savedCounselSession);
+        appendDomainEvents(CounselSessionEventType.CREATED, List.of(savedCounselSession));
 
         return new CreateCounselReservationRes(savedCounselSession.getId());
     }
 
-    @CacheEvict(value = {"sessionDates", "sessionStats", "sessionList"}, allEntries = true)
+    /**
+     * 여러 예약을 한 번에 생성합니다.
+     * 내담자 조회와 일정 충돌 검사를 각각 한 번의 쿼리로 처리하고,
+     * 세션/카드/동의는 JDBC 배치로 저장한 뒤 내담자별 회차를 한 번만 재정렬합니다.
+     */
+    @Transactional
+    public CreateCounselReservationBatchRes createReservations(CreateCounselReservationBatchReq batchReq) {
+        List<CreateCounselReservationReq> reservations = batchReq.reservations();
+        List<LocalDateTime> scheduledStartDateTimes = reservations.stream()
+            .map(reservation -> dateTimeUtil.parseToDateTime(reservation.getScheduledStartDateTime()))
+            .toList();
+
+        Set<String> counseleeIds = reservations.stream()
+            .map(CreateCounselReservationReq::getCounseleeId)
+            .collect(Collectors.toSet());
+        Map<String, Counselee> counselees = counseleeRepository.findAllById(counseleeIds).stream()
+            .collect(Collectors.toMap(Counselee::getId, Function.identity()));
+
+        List<String> missingCounseleeIds = counseleeIds.stream()
+            .filter(counseleeId -> !counselees.containsKey(counseleeId))
+            .sorted()
+            .toList();
+        if (!missingCounseleeIds.isEmpty()) {
+            throw new IllegalArgumentException("존재하지 않는 내담자 ID입니다: " + missingCounseleeIds);
+        }
+
+        List<CounselSession> counselSessions = new ArrayList<>(reservations.size());
+        for (int i = 0; i < reservations.size(); i++) {
+            counselSessions.add(CounselSession.createReservation(RESERVATION_ID_GENERATOR.nextULID(),
+                counselees.get(reservations.get(i).getCounseleeId()), scheduledStartDateTimes.get(i)));
+        }
+        validateNoBatchScheduleConflict(counselSessions, counseleeIds);
+
+        counselReservationBatchRepository.insertAll(
+            counselSessions,
+            counselSessions.stream().map(CounselCard::createFromSession).toList(),
+            counselSessions.stream()
+                .map(counselSession -> CounseleeConsent.create(counselSession, counselSession.getCounselee()))
+                .toList());
+
+        reassignSessionNumbers(counseleeIds, Collections.min(scheduledStartDateTimes));
+        counselSessions.forEach(counselScheduleIndex::put);
+        appendDomainEvents(CounselSessionEventType.CREATED, counselSessions);
+
+        return new CreateCounselReservationBatchRes(counselSessions.stream()
+            .map(CounselSession::getId)
+            .toList());
+    }
+
+    /**
+     * 기존 예약 및 요청 내 다른 예약과 겹치는지 한 번의 조회로 검사
+     */
+    private void validateNoBatchScheduleConflict(List<CounselSession> counselSessions, Set<String> counseleeIds) {
+        Duration slot = counselScheduleProperties.getSlotDuration();
+        LocalDateTime from = counselSessions.stream()
+            .map(CounselSession::getScheduledStartDateTime)
+            .min(Comparator.naturalOrder())
+            .orElseThrow();
+        LocalDateTime to = counselSessions.stream()
+            .map(CounselSession::getScheduledStartDateTime)
+            .max(Comparator.naturalOrder())
+            .orElseThrow();
+
+        CounselScheduleIndex.Timeline timeline = new CounselScheduleIndex.Timeline();
+        counselSessionRepository.findActiveScheduleEntriesByCounseleeIdsBetween(counseleeIds, from.minus(slot),
+            to.plus(slot)).forEach(timeline::put);
+
+        List<String> conflicts = new ArrayList<>();
+        for (int i = 0; i < counselSessions.size(); i++) {
+            CounselScheduleEntry entry = CounselScheduleEntry.from(counselSessions.get(i));
+            if (!timeline.overlapping(null, entry.getCounseleeId(), entry.getScheduledStartDateTime(), slot)
+                .isEmpty()) {
+                conflicts.add((i + 1) + "번째");
+            }
+            timeline.put(entry);
+        }
+
+        if (!conflicts.isEmpty()) {
+            throw new IllegalArgumentException("해당 시간에 이미 상담이 예약되어 있습니다: " + conflicts);
+        }
+    }
+
     @Transactional
     public ModifyCounselReservationRes modifyCounselReservation(
         ModifyCounselReservationReq modifyCounselReservationReq) {
@@ -101,26 +211,77 @@ public class CounselSessionService {
         LocalDateTime scheduledStartDateTime = dateTimeUtil
             .parseToDateTime(modifyCounselReservationReq.getScheduledStartDateTime());
 
+        String counselorId = Optional.ofNullable(counselSession.getCounselor())
+            .map(Counselor::getId)
+            .orElse(null);
         Counselee counselee = findAndValidateCounseleeSchedule(modifyCounselReservationReq.getCounseleeId(),
-            scheduledStartDateTime);
+            counselorId, scheduledStartDateTime, counselSession.getId());
 
+        String previousCounseleeId = Optional.ofNullable(counselSession.getCounselee())
+            .map(Counselee::getId)
+            .orElse(null);
+        LocalDateTime previousScheduledStartDateTime = counselSession.getScheduledStartDateTime();
         counselSession.modifyReservation(scheduledStartDateTime, counselee);
 
-        reassignSessionNumbers(modifyCounselReservationReq.getCounseleeId());
+        // 내담자가 변경된 경우 이전 내담자의 회차도 함께 재정렬 (이전/변경 예약일 중 이른 시점부터)
+        reassignSessionNumbers(Stream.of(previousCounseleeId, modifyCounselReservationReq.getCounseleeId())
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList(),
+            Stream.of(previousScheduledStartDateTime, scheduledStartDateTime)
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder())
+                .orElseThrow());
+        counselScheduleIndex.put(counselSession);
+        appendDomainEvents(counselSession);
 
         return new ModifyCounselReservationRes(modifyCounselReservationReq.getCounselSessionId());
     }
 
-    private Counselee findAndValidateCounseleeSchedule(String counseleeId, LocalDateTime scheduledStartDateTime) {
+    private Counselee findAndValidateCounseleeSchedule(String counseleeId, String counselorId,
+        LocalDateTime scheduledStartDateTime, String counselSessionId) {
         Counselee counselee = counseleeRepository.findById(counseleeId)
             .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 내담자 ID입니다"));
 
-        if (counselSessionRepository.existsByCounseleeAndScheduledStartDateTime(counselee,
-            scheduledStartDateTime)) {
+        validateNoScheduleConflict(counselorId, counselee.getId(), scheduledStartDateTime, counselSessionId);
+
+        return counselee;
+    }
+
+    /**
+     * 상담사 또는 내담자의 다른 예약과 상담 시간이 겹치면 예외.
+     * 인스턴스별 메모리 색인은 다른 서버의 예약을 늦게 반영하므로, 쓰기 트랜잭션 안에서 (시작 ± slot) 구간을 DB 에서 직접 확인합니다.
+     */
+    private void validateNoScheduleConflict(String counselorId, String counseleeId,
+        LocalDateTime scheduledStartDateTime, String counselSessionId) {
+        Duration slot = counselScheduleProperties.getSlotDuration();
+
+        CounselScheduleIndex.Timeline timeline = new CounselScheduleIndex.Timeline();
+        counselSessionRepository.findActiveScheduleEntriesByOwnerBetween(counselorId, counseleeId,
+            scheduledStartDateTime.minus(slot), scheduledStartDateTime.plus(slot)).forEach(timeline::put);
+
+        List<String> conflicts = timeline.overlapping(counselorId, counseleeId, scheduledStartDateTime, slot).stream()
+            .filter(conflictSessionId -> !conflictSessionId.equals(counselSessionId))
+            .toList();
+
+        if (!conflicts.isEmpty()) {
+            log.debug("예약 시간 충돌: {} - {}", scheduledStartDateTime, conflicts);
             throw new IllegalArgumentException("해당 시간에 이미 상담이 예약되어 있습니다");
         }
+    }
 
-        return counselee;
+    @Transactional(readOnly = true)
+    public List<LocalDateTime> selectFreeSlots(String counselorId, String counseleeId, LocalDate from,
+        LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("조회 종료일은 시작일 이후여야 합니다");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= counselScheduleProperties.getMaxFreeSlotDays()) {
+            throw new IllegalArgumentException(
+                "빈 시간은 최대 " + counselScheduleProperties.getMaxFreeSlotDays() + "일까지 조회할 수 있습니다");
+        }
+
+        return counselScheduleIndex.findFreeSlots(counselorId, counseleeId, from, to);
     }
 
     public SelectCounselSessionRes selectCounselSession(String id) {
@@ -130,7 +291,8 @@ public class CounselSessionService {
         return SelectCounselSessionRes.from(counselSession);
     }
 
-    @Cacheable(value = "sessionList", key = "#baseDate + '-' + #req.page + '-' + #req.size")
+    @Cacheable(value = "sessionList",
+        key = "T(com.springboot.api.counselsession.service.CounselSessionCacheService).sessionListKey(#baseDate, #req.page, #req.size)")
     @Transactional(readOnly = true)
     public PageRes<SelectCounselSessionListItem> selectCounselSessionListByBaseDate(PageReq req,
         LocalDate baseDate) {
@@ -138,7 +300,33 @@ public class CounselSessionService {
         return counselSessionRepository.findSessionByCursorAndDate(baseDate, req);
     }
 
-    @CacheEvict(value = {"sessionList"}, allEntries = true)
+    @Transactional(readOnly = true)
+    public CommonCursorRes<List<SelectCounselSessionListItem>> selectCounselSessionListByBaseDateAndCursor(
+        LocalDate baseDate, String cursor, int size) {
+
+        CursorUtil.DateTimeCursor dateTimeCursor = (cursor == null || cursor.isBlank())
+            ? null
+            : CursorUtil.decode(cursor);
+
+        // size + 1 건을 조회해 다음 페이지 존재 여부를 count 쿼리 없이 판단
+        List<SelectCounselSessionListItem> items = counselSessionRepository.findSessionByKeysetAndDate(
+            baseDate,
+            dateTimeCursor != null ? dateTimeCursor.dateTime() : null,
+            dateTimeCursor != null ? dateTimeCursor.id() : null,
+            size + 1);
+
+        boolean hasNext = items.size() > size;
+        List<SelectCounselSessionListItem> content = hasNext ? items.subList(0, size) : items;
+
+        String nextCursor = null;
+        if (hasNext) {
+            SelectCounselSessionListItem lastItem = content.get(content.size() - 1);
+            nextCursor = CursorUtil.encode(lastItem.getScheduledStartDateTime(), lastItem.getCounselSessionId());
+        }
+
+        return new CommonCursorRes<>(content, nextCursor, hasNext);
+    }
+
     @Transactional
     public UpdateCounselorInCounselSessionRes updateCounselorInCounselSession(
         UpdateCounselorInCounselSessionReq updateCounselorInCounselSessionReq) {
@@ -148,12 +336,18 @@ public class CounselSessionService {
 
         Counselor counselor = counselorService.findCounselorById(updateCounselorInCounselSessionReq.counselorId());
 
+        if (counselSession.getStatus() != ScheduleStatus.CANCELED) {
+            validateNoScheduleConflict(counselor.getId(), null, counselSession.getScheduledStartDateTime(),
+                counselSession.getId());
+        }
+
         counselSession.updateCounselor(counselor);
+        counselScheduleIndex.put(counselSession);
+        appendDomainEvents(counselSession);
 
         return new UpdateCounselorInCounselSessionRes(counselSession.getId());
     }
 
-    @CacheEvict(value = {"sessionStats", "sessionList"}, allEntries = true)
     @Transactional
     public UpdateStatusInCounselSessionRes updateCounselSessionStatus(
         UpdateStatusInCounselSessionReq updateStatusInCounselSessionReq) {
@@ -178,12 +372,23 @@ public class CounselSessionService {
             case SCHEDULED -> counselSession.scheduleCounselSession();
         }
 
-        reassignSessionNumbers(counselSession.getCounselee().getId());
+        if (counselSession.getStatus() == ScheduleStatus.COMPLETED) {
+            counselSessionStatService.addCompleted(counselSession);
+        }
+
+        // 취소된 상담의 완료 카드는 delta 이력에서 빠지므로 그 시점부터 다시 인코딩
+        if (counselSession.getStatus() == ScheduleStatus.CANCELED && counselSession.getCounselee() != null) {
+            counselCardDeltaService.reencodeFrom(counselSession.getCounselee().getId(),
+                counselSession.getScheduledStartDateTime());
+        }
+
+        // 회차 재정렬, 캐시 무효화, 통계 집계는 outbox 이벤트로 커밋 후 처리
+        counselScheduleIndex.put(counselSession);
+        appendDomainEvents(counselSession);
 
         return new UpdateStatusInCounselSessionRes(counselSession.getId());
     }
 
-    @CacheEvict(value = {"sessionDates", "sessionStats", "sessionList"}, allEntries = true)
     @Transactional
     public DeleteCounselSessionRes deleteCounselSessionRes(DeleteCounselSessionReq deleteCounselSessionReq) {
         CounselSession counselSession = counselSessionRepository.findById(
@@ -191,6 +396,12 @@ public class CounselSessionService {
             .orElseThrow(IllegalArgumentException::new);
 
         counselSessionRepository.delete(counselSession);
+        counselSessionStatService.removeCompleted(List.of(counselSession));
+        counselScheduleIndex.remove(counselSession.getId());
+        counselCardDeltaService.reencodeFrom(counselSession.getCounselee().getId(),
+            counselSession.getScheduledStartDateTime());
+        // 캐시 무효화, 통계 집계는 outbox 이벤트로 커밋 후 처리
+        appendDomainEvents(CounselSessionEventType.DELETED, List.of(counselSession));
 
         return new DeleteCounselSessionRes(counselSession.getId());
     }
@@ -234,127 +445,107 @@ public class CounselSessionService {
         Counselee counselee = Optional.ofNullable(counselSession.getCounselee())
             .orElseThrow(() -> new NoContentException("내담자 정보를 찾을 수 없습니다."));
 
-        // 이전 완료된 상담 세션들을 최신 순으로 조회
-        List<CounselSession> previousCounselSessions = counselSessionRepository
-            .findPreviousCompletedSessionsOrderByEndDateTimeDesc(counselee.getId(),
-                counselSession.getScheduledStartDateTime());
+        // 이전 완료된 상담 세션들을 최신 순으로 DB에서 페이징 조회 (상담사 fetch join)
+        PageRes<CounselSession> previousCounselSessions = counselSessionRepository
+            .findPreviousCompletedSessions(counselee.getId(), counselSession.getScheduledStartDateTime(), pageReq);
 
-        if (previousCounselSessions.isEmpty()) {
+        if (previousCounselSessions.getTotalElements() == 0) {
             throw new NoContentException("이전 상담 내역이 없습니다.");
         }
 
-        // 페이징 처리
-        int totalElements = previousCounselSessions.size();
-        int startIndex = pageReq.getPage() * pageReq.getSize();
-        int endIndex = Math.min(startIndex + pageReq.getSize(), totalElements);
-
-        if (startIndex >= totalElements) {
+        if (previousCounselSessions.getContent().isEmpty()) {
             throw new NoContentException("요청한 페이지에 데이터가 없습니다.");
         }
 
-        List<CounselSession> pagedSessions = previousCounselSessions.subList(startIndex, endIndex);
-
-        // 각 세션에 대한 상세 정보 조회
-        List<SelectPreviousCounselSessionDetailRes> detailList = pagedSessions.stream()
-            .map(session -> {
-                // 중재기록 조회
-                Optional<MedicationCounsel> medicationCounsel = medicationCounselRepository
-                    .findByCounselSessionId(session.getId());
-                String counselRecord = medicationCounsel
-                    .map(MedicationCounsel::getCounselRecord)
-                    .orElse(null);
-
-                // AI 요약 조회
-                Optional<AICounselSummary> aiCounselSummary = aiCounselSummaryRepository
-                    .findByCounselSessionId(session.getId());
-                String aiSummaryText = aiCounselSummary
-                    .map(AICounselSummary::getTaResult)
-                    .flatMap(aiResponseParseUtil::extractAnalysedTextSafely)
-                    .orElse(null);
-
-                String counselorName = Optional.ofNullable(session.getCounselor())
-                    .map(Counselor::getName)
-                    .orElse("미지정");
-
-                return SelectPreviousCounselSessionDetailRes.builder()
-                    .counselSessionId(session.getId())
-                    .counselSessionDate(session.getScheduledStartDateTime().toLocalDate())
-                    .sessionNumber(session.getSessionNumber())
-                    .counselorName(counselorName)
-                    .medicationCounselRecord(counselRecord)
-                    .aiSummary(aiSummaryText)
-                    .build();
-            })
+        List<String> pagedSessionIds = previousCounselSessions.getContent().stream()
+            .map(CounselSession::getId)
             .toList();
 
-        Page<SelectPreviousCounselSessionDetailRes> page = new PageImpl<>(
-            detailList, pageReq.toPageable(), totalElements);
-        
-        return new PageRes<>(page);
+        // 페이지 내 세션들의 중재기록과 AI 요약을 IN 쿼리로 한 번에 조회 (stt_result / ta_result 를 읽지 않는 projection 사용)
+        Map<String, String> counselRecords = medicationCounselRepository
+            .findCounselRecordsByCounselSessionIds(pagedSessionIds);
+        Map<String, AICounselSummaryTextDTO> summaryTexts = aiCounselSummaryRepository
+            .findSummaryTextsByCounselSessionIds(pagedSessionIds).stream()
+            .collect(Collectors.toMap(AICounselSummaryTextDTO::getCounselSessionId, Function.identity(),
+                (left, right) -> left));
+
+        return previousCounselSessions.map(session -> {
+            String counselorName = Optional.ofNullable(session.getCounselor())
+                .map(Counselor::getName)
+                .orElse("미지정");
+
+            return SelectPreviousCounselSessionDetailRes.builder()
+                .counselSessionId(session.getId())
+                .counselSessionDate(session.getScheduledStartDateTime().toLocalDate())
+                .sessionNumber(session.getSessionNumber())
+                .counselorName(counselorName)
+                .medicationCounselRecord(counselRecords.get(session.getId()))
+                .aiSummary(resolveAiSummaryText(session.getId(), summaryTexts.get(session.getId())))
+                .build();
+        });
+    }
+
+    /**
+     * analysed_text 컬럼이 채워지기 전에 생성된 요약은 ta_result 에서 추출
+     */
+    private String resolveAiSummaryText(String counselSessionId, AICounselSummaryTextDTO summaryText) {
+        if (summaryText == null) {
+            return null;
+        }
+
+        return Optional.ofNullable(summaryText.getAnalysedText())
+            .or(() -> aiCounselSummaryRepository.findTaResultByCounselSessionId(counselSessionId)
+                .flatMap(aiResponseParseUtil::extractAnalysedTextSafely))
+            .orElse(null);
     }
 
-    @Cacheable(value = "sessionDates", key = "#year + '-' + #month")
     public List<LocalDate> getSessionDatesByYearAndMonth(int year, int month) {
-        return counselSessionRepository.findDistinctDatesByYearAndMonth(year, month);
+        return counselSessionCacheService.getSessionDates(YearMonth.of(year, month),
+            yearMonth -> counselSessionRepository.findDistinctDatesByYearAndMonth(
+                yearMonth.getYear(), yearMonth.getMonthValue()));
     }
 
     @Cacheable(value = "sessionStats")
-    @Transactional(readOnly = true)
     public CounselSessionStatRes getSessionStats() {
-        long counselHoursThisMonth = calculateCounselHoursForThisMonth();
-        Long counseleeCountForThisMonth = counselSessionRepository.countDistinctCounseleeForCurrentMonth();
-        long medicationCounselCountThisYear = calculateMedicationCounselCountThisYear();
-        long counselorCountThisYear = calculateCounselorCountThisYear();
-
-        return CounselSessionStatRes.builder()
-            .counselHoursThisMonth(counselHoursThisMonth)
-            .counseleeCountForThisMonth(counseleeCountForThisMonth)
-            .medicationCounselCountThisYear(medicationCounselCountThisYear)
-            .counselorCountThisYear(counselorCountThisYear)
-            .build();
+        return counselSessionStatService.getSessionStats(LocalDate.now());
     }
 
-    private long calculateMedicationCounselCountThisYear() {
-        int currentYear = LocalDateTime.now().getYear();
-        return medicationCounselRepository.countByCreatedDatetimeBetween(
-            LocalDateTime.of(currentYear, 1, 1, 0, 0, 0),
-            LocalDateTime.of(currentYear + 1, 1, 1, 0, 0, 0)
-        );
+    /**
+     * 엔티티에 쌓인 상태 변경 이벤트를 같은 트랜잭션에서 outbox 에 기록
+     */
+    private void appendDomainEvents(CounselSession counselSession) {
+        appendDomainEvents(counselSession.pullDomainEvents());
     }
 
-    private long calculateCounselorCountThisYear() {
-        int currentYear = LocalDateTime.now().getYear();
-        Long count = counselSessionRepository.countDistinctCounselorsByCompletedSessionsInYear(currentYear);
-        return count != null ? count : 0L;
+    /**
+     * 엔티티 상태 변경이 아닌 생성/삭제 이벤트를 같은 트랜잭션에서 outbox 에 기록
+     */
+    private void appendDomainEvents(CounselSessionEventType type, Collection<CounselSession> counselSessions) {
+        appendDomainEvents(counselSessions.stream()
+            .map(counselSession -> CounselSessionDomainEvent.of(type, counselSession, null))
+            .toList());
     }
 
-    private long calculateCounselHoursForThisMonth() {
-        int year = LocalDateTime.now().getYear();
-        int month = LocalDateTime.now().getMonthValue();
-        List<CounselSession> completedSessions = counselSessionRepository
-            .findCompletedSessionsByYearAndMonth(year, month);
-
-        return completedSessions.stream()
-            .mapToLong(session -> {
-                Duration duration = Duration.between(
-                    session.getStartDateTime(),
-                    session.getEndDateTime());
-                return (long) (duration.toMinutes() / 60.0);
-            })
-            .sum();
+    private void appendDomainEvents(List<CounselSessionDomainEvent> events) {
+        outboxEventService.append(CounselSessionDomainEvent.AGGREGATE_TYPE, events,
+            CounselSessionDomainEvent::counselSessionId, event -> event.type().name());
     }
 
     @Scheduled(cron = "0 0 * * * *") // 매시간 실행
+    @ClusterSingleton(value = "cancel-overdue-sessions", leaseSeconds = 600, minHoldSeconds = 60)
     @Transactional
     public void cancelOverdueSessions() {
         LocalDateTime now = LocalDateTime.now();
         log.info("Checking for overdue sessions at {}", now);
-        List<String> affectedCounseleeIds = counselSessionRepository.cancelOverDueSessionsAndReturnAffectedCounseleeIds();
-        log.info("취소된 세션으로 인해 영향을 받은 대상 수: {}", affectedCounseleeIds.size());
-
-        for (String counseleeId : affectedCounseleeIds) {
-            reassignSessionNumbers(counseleeId); // 회차 재정렬
-        }
+        List<CounselScheduleEntry> canceledSessions = counselSessionRepository.cancelOverdueSessions(
+            now.minusHours(24));
+        log.info("기한이 지나 취소된 세션 수: {}", canceledSessions.size());
+
+        // 단건 취소와 같이 일정 색인에서 빼고, 회차 재정렬/캐시 무효화/통계 집계는 outbox 이벤트로 커밋 후 처리
+        canceledSessions.forEach(canceledSession -> counselScheduleIndex.remove(canceledSession.getCounselSessionId()));
+        appendDomainEvents(canceledSessions.stream()
+            .map(CounselSessionDomainEvent::canceled)
+            .toList());
     }
 
     @Transactional(readOnly = true)
@@ -371,22 +562,8 @@ public class CounselSessionService {
         return counselSessionPageRes.map(SelectCounselSessionRes::from);
     }
 
-    public void reassignSessionNumbers(String counseleeId) {
-        List<CounselSession> counselSessions = counselSessionRepository.findValidCounselSessionsByCounseleeId(
-            counseleeId);
-
-        Map<String, Integer> sessionUpdates = new HashMap<>();
-
-        int sessionNumber = 1;
-        for (CounselSession session : counselSessions) {
-            if (!Objects.equals(session.getSessionNumber(), sessionNumber)) {
-                sessionUpdates.put(session.getId(), sessionNumber);
-            }
-            sessionNumber++;
-        }
-
-        if (!sessionUpdates.isEmpty()) {
-            counselSessionRepository.bulkUpdateCounselSessionNum(sessionUpdates);
-        }
+    public void reassignSessionNumbers(Collection<String> counseleeIds, LocalDateTime from) {
+        int updatedCount = counselSessionRepository.reassignSessionNumbers(counseleeIds, from);
+        log.debug("회차 재정렬 대상 내담자 수: {}, 변경된 세션 수: {}", counseleeIds.size(), updatedCount);
     }
 }
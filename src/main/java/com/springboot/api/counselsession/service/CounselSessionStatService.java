@@ -0,0 +1,191 @@
+package com.springboot.api.counselsession.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.springboot.api.common.annotation.ClusterSingleton;
+import com.springboot.api.counselsession.dto.counselsession.CounselDurationSum;
+import com.springboot.api.counselsession.dto.counselsession.CounselSessionStatRes;
+import com.springboot.api.counselsession.entity.CounselSession;
+import com.springboot.api.counselsession.entity.CounselSessionStat;
+import com.springboot.api.counselsession.enums.StatPeriodType;
+import com.springboot.api.counselsession.repository.CounselSessionRepository;
+import com.springboot.api.counselsession.repository.CounselSessionStatRepository;
+import com.springboot.api.counselsession.repository.MedicationCounselRepository;
+import com.springboot.enums.ScheduleStatus;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CounselSessionStatService {
+
+    private final CounselSessionStatRepository counselSessionStatRepository;
+    private final CounselSessionRepository counselSessionRepository;
+    private final MedicationCounselRepository medicationCounselRepository;
+    private final CounselSessionCacheService counselSessionCacheService;
+
+    /**
+     * 집계 테이블에서 이번 달/올해 통계를 조회
+     * 집계 행이 아직 없으면 원본 테이블에서 계산 (다음 갱신 시 저장)
+     */
+    @Transactional(readOnly = true)
+    public CounselSessionStatRes getSessionStats(LocalDate baseDate) {
+        YearMonth yearMonth = YearMonth.from(baseDate);
+        int year = baseDate.getYear();
+
+        CounselSessionStat monthStat = findStat(StatPeriodType.MONTH, monthKey(yearMonth))
+            .orElseGet(() -> monthAggregate(yearMonth));
+        CounselSessionStat yearStat = findStat(StatPeriodType.YEAR, yearKey(year))
+            .orElseGet(() -> yearAggregate(year));
+
+        return CounselSessionStatRes.builder()
+            .counselHoursThisMonth(monthStat.getCounselHours())
+            .counseleeCountForThisMonth(monthStat.getCounseleeCount())
+            .medicationCounselCountThisYear(yearStat.getMedicationCounselCount())
+            .counselorCountThisYear(yearStat.getCounselorCount())
+            .build();
+    }
+
+    /**
+     * 완료 전환: 해당 월/연 집계 행의 상담 시간 합계에 더함.
+     * 상태 변경과 같은 트랜잭션에서 증감분만 반영하므로 동시에 들어온 변경이 서로를 덮어쓰지 않습니다.
+     */
+    @Transactional
+    public void addCompleted(CounselSession counselSession) {
+        applyDuration(counselSession.getStartDateTime(), counselSession.getEndDateTime(), 1);
+    }
+
+    /**
+     * 완료된 상담 삭제: 해당 월/연 집계 행의 상담 시간 합계에서 뺌 (세션을 삭제한 뒤 호출)
+     */
+    @Transactional
+    public void removeCompleted(Collection<CounselSession> counselSessions) {
+        counselSessions.stream()
+            .filter(counselSession -> counselSession.getStatus() == ScheduleStatus.COMPLETED)
+            .forEach(counselSession -> applyDuration(counselSession.getStartDateTime(),
+                counselSession.getEndDateTime(), -1));
+    }
+
+    /**
+     * 변경된 월과 해당 연도의 건수(내담자 수, 복약 상담 수, 상담사 수)를 다시 계산.
+     * 고유 건수는 증감분으로 관리할 수 없어 SQL 집계로 다시 셉니다.
+     */
+    @Transactional
+    public void refresh(Collection<YearMonth> yearMonths) {
+        LocalDateTime now = LocalDateTime.now();
+        yearMonths.stream()
+            .distinct()
+            .forEach(yearMonth -> saveCounts(monthAggregate(yearMonth), now));
+        yearMonths.stream()
+            .map(YearMonth::getYear)
+            .distinct()
+            .forEach(year -> saveCounts(yearAggregate(year), now));
+
+        counselSessionCacheService.evictSessionStats(yearMonths);
+    }
+
+    /**
+     * 이벤트 누락 보정을 위해 매일 새벽 이번 달/지난 달 및 해당 연도 집계를 원본 테이블 기준으로 덮어씀
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    @ClusterSingleton("counsel-session-stat-reconcile")
+    @Transactional
+    public void reconcile() {
+        YearMonth thisMonth = YearMonth.now();
+        log.info("Reconciling counsel session stats for {}", thisMonth);
+
+        LocalDateTime now = LocalDateTime.now();
+        List.of(thisMonth, thisMonth.minusMonths(1))
+            .forEach(yearMonth -> overwrite(monthAggregate(yearMonth), now));
+        Stream.of(thisMonth.getYear(), thisMonth.minusMonths(1).getYear())
+            .distinct()
+            .forEach(year -> overwrite(yearAggregate(year), now));
+
+        counselSessionCacheService.evictSessionStats(List.of(thisMonth, thisMonth.minusMonths(1)));
+    }
+
+    private Optional<CounselSessionStat> findStat(StatPeriodType periodType, String periodKey) {
+        return counselSessionStatRepository.findByPeriodTypeAndPeriodKey(periodType, periodKey);
+    }
+
+    private void applyDuration(LocalDateTime startDateTime, LocalDateTime endDateTime, int sign) {
+        if (startDateTime == null || endDateTime == null) {
+            return;
+        }
+
+        long minutes = Duration.between(startDateTime, endDateTime).toMinutes();
+        YearMonth yearMonth = YearMonth.from(startDateTime);
+        LocalDateTime now = LocalDateTime.now();
+
+        // 아직 집계 행이 없으면 변경이 반영된 원본 테이블로 만들고, 이미 있으면 증감분만 더함
+        counselSessionStatRepository.flush();
+        addDuration(monthAggregate(yearMonth), sign * minutes, sign * (minutes / 60), now);
+        addDuration(yearAggregate(yearMonth.getYear()), sign * minutes, sign * (minutes / 60), now);
+        counselSessionCacheService.evictSessionStats(List.of(yearMonth));
+    }
+
+    private void addDuration(CounselSessionStat seed, long minutes, long hours, LocalDateTime now) {
+        if (!counselSessionStatRepository.insertIfAbsent(seed, now)) {
+            counselSessionStatRepository.addCounselDuration(seed.getPeriodType(), seed.getPeriodKey(), minutes,
+                hours, now);
+        }
+    }
+
+    private void saveCounts(CounselSessionStat aggregated, LocalDateTime now) {
+        if (!counselSessionStatRepository.insertIfAbsent(aggregated, now)) {
+            counselSessionStatRepository.updateCounts(aggregated, now);
+        }
+    }
+
+    private void overwrite(CounselSessionStat aggregated, LocalDateTime now) {
+        if (!counselSessionStatRepository.insertIfAbsent(aggregated, now)) {
+            counselSessionStatRepository.overwrite(aggregated, now);
+        }
+    }
+
+    private CounselSessionStat monthAggregate(YearMonth yearMonth) {
+        return aggregate(StatPeriodType.MONTH, monthKey(yearMonth),
+            yearMonth.atDay(1).atStartOfDay(), yearMonth.plusMonths(1).atDay(1).atStartOfDay());
+    }
+
+    private CounselSessionStat yearAggregate(int year) {
+        return aggregate(StatPeriodType.YEAR, yearKey(year),
+            LocalDate.of(year, 1, 1).atStartOfDay(), LocalDate.of(year + 1, 1, 1).atStartOfDay());
+    }
+
+    private CounselSessionStat aggregate(StatPeriodType periodType, String periodKey,
+        LocalDateTime from, LocalDateTime to) {
+        CounselDurationSum durationSum = counselSessionRepository.sumCompletedSessionDurationsBetween(from, to);
+
+        CounselSessionStat stat = CounselSessionStat.of(periodType, periodKey);
+        stat.updateStats(
+            durationSum.counselMinutes(),
+            durationSum.counselHours(),
+            Optional.ofNullable(counselSessionRepository.countDistinctCounseleeBetween(from, to)).orElse(0L),
+            medicationCounselRepository.countByCreatedDatetimeBetween(from, to),
+            Optional.ofNullable(counselSessionRepository.countDistinctCounselorsByCompletedSessionsBetween(from, to))
+                .orElse(0L));
+        return stat;
+    }
+
+    private static String monthKey(YearMonth yearMonth) {
+        return yearMonth.toString();
+    }
+
+    private static String yearKey(int year) {
+        return String.valueOf(year);
+    }
+}
@@ -24,6 +24,7 @@ public class CounseleeConsentService {
 
     private final CounseleeConsentRepository counseleeConsentRepository;
     private final CounselSessionRepository counselSessionRepository;
+    private final CounselSessionCacheService counselSessionCacheService;
 
     public SelectCounseleeConsentByCounseleeIdRes selectCounseleeConsentByCounseleeId(String counselSessionId,
         String counseleeId) {
@@ -69,6 +70,7 @@ public class CounseleeConsentService {
             .orElseThrow(IllegalArgumentException::new);
 
         counseleeConsent.accept();
+        counselSessionCacheService.evictSessionLists(counseleeConsent.getCounselSession().getScheduledStartDateTime());
 
         return new AcceptConsentRes(counseleeConsent.getId());
     }
@@ -79,6 +81,7 @@ public class CounseleeConsentService {
         CounseleeConsent counseleeConsent = counseleeConsentRepository.findByCounselSessionId(counselSessionId)
             .orElseThrow(IllegalArgumentException::new);
 
+        counselSessionCacheService.evictSessionLists(counseleeConsent.getCounselSession().getScheduledStartDateTime());
         counseleeConsentRepository.deleteById(counseleeConsent.getId());
 
         return new DeleteCounseleeConsentRes(counseleeConsent.getId());
@@ -14,10 +14,14 @@ import com.springboot.api.counselsession.entity.CounselSession;
 import com.springboot.api.counselsession.entity.MedicationCounsel;
 import com.springboot.api.counselsession.repository.CounselSessionRepository;
 import com.springboot.api.counselsession.repository.MedicationCounselRepository;
+import com.springboot.api.counselsession.service.eventlistener.CounselSessionStatChangedEvent;
 import com.springboot.enums.ScheduleStatus;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +31,7 @@ public class MedicationCounselService {
 
     private final MedicationCounselRepository medicationCounselRepository;
     private final CounselSessionRepository counselSessionRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
     public AddMedicationCounselRes addMedicationCounsel(AddMedicationCounselReq addMedicationCounselReq) {
@@ -41,6 +46,7 @@ public class MedicationCounselService {
             .build();
 
         MedicationCounsel savedMedicationCounsel = medicationCounselRepository.save(medicationCounsel);
+        applicationEventPublisher.publishEvent(new CounselSessionStatChangedEvent(Set.of(YearMonth.now())));
 
         return new AddMedicationCounselRes(savedMedicationCounsel.getId());
     }
@@ -107,6 +113,10 @@ public class MedicationCounselService {
             .orElseThrow(NoContentException::new);
 
         medicationCounselRepository.deleteById(medicationCounsel.getId());
+        applicationEventPublisher.publishEvent(new CounselSessionStatChangedEvent(Set.of(
+            Optional.ofNullable(medicationCounsel.getCreatedDatetime())
+                .map(YearMonth::from)
+                .orElseGet(YearMonth::now))));
 
         return new DeleteMedicationCounselRes(medicationCounsel.getId());
     }
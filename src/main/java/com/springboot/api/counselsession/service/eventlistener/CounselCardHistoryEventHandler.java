@@ -0,0 +1,52 @@
+package com.springboot.api.counselsession.service.eventlistener;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import com.springboot.api.counselcard.service.CounselCardHistoryCache;
+import com.springboot.api.counselsession.dto.counselsession.CounselSessionDomainEvent;
+import com.springboot.api.counselsession.enums.CounselSessionEventType;
+import com.springboot.api.outbox.service.OutboxEventHandler;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상담 세션 상태/일정 변경 이벤트로 내담자별 본상담 이전 기록 캐시 무효화
+ */
+@Component
+@RequiredArgsConstructor
+public class CounselCardHistoryEventHandler implements OutboxEventHandler<CounselSessionDomainEvent> {
+
+    // 상담사 변경과 신규 예약은 완료된 상담 목록에 영향 없음
+    private static final Set<CounselSessionEventType> IGNORED_TYPES = EnumSet.of(
+        CounselSessionEventType.CREATED, CounselSessionEventType.COUNSELOR_CHANGED,
+        CounselSessionEventType.SCHEDULED);
+
+    private final CounselCardHistoryCache counselCardHistoryCache;
+
+    @Override
+    public String aggregateType() {
+        return CounselSessionDomainEvent.AGGREGATE_TYPE;
+    }
+
+    @Override
+    public Class<CounselSessionDomainEvent> payloadType() {
+        return CounselSessionDomainEvent.class;
+    }
+
+    @Override
+    public void handle(List<CounselSessionDomainEvent> events) {
+        // 내담자가 바뀐 예약 변경은 이전 내담자의 기록에서도 빠지므로 함께 제거
+        events.stream()
+            .filter(event -> !IGNORED_TYPES.contains(event.type()))
+            .flatMap(event -> Stream.of(event.counseleeId(), event.previousCounseleeId()))
+            .filter(Objects::nonNull)
+            .distinct()
+            .forEach(counselCardHistoryCache::evict);
+    }
+}
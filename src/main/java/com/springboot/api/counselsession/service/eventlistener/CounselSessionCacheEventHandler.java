@@ -0,0 +1,59 @@
+package com.springboot.api.counselsession.service.eventlistener;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.springboot.api.counselsession.dto.counselsession.CounselSessionDomainEvent;
+import com.springboot.api.counselsession.enums.CounselSessionEventType;
+import com.springboot.api.counselsession.service.CounselSessionCacheService;
+import com.springboot.api.outbox.service.OutboxEventHandler;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상담 세션 변경 이벤트로 목록/달력 캐시 무효화 (묶음 안의 예약일을 모아 한 번씩 제거)
+ */
+@Component
+@RequiredArgsConstructor
+public class CounselSessionCacheEventHandler implements OutboxEventHandler<CounselSessionDomainEvent> {
+
+    private final CounselSessionCacheService counselSessionCacheService;
+
+    @Override
+    public String aggregateType() {
+        return CounselSessionDomainEvent.AGGREGATE_TYPE;
+    }
+
+    @Override
+    public Class<CounselSessionDomainEvent> payloadType() {
+        return CounselSessionDomainEvent.class;
+    }
+
+    @Override
+    public void handle(List<CounselSessionDomainEvent> events) {
+        Set<LocalDateTime> created = new HashSet<>();
+        Set<LocalDateTime> rescheduled = new HashSet<>();
+        Set<LocalDateTime> changed = new HashSet<>();
+
+        events.forEach(event -> {
+            switch (event.type()) {
+                case CREATED -> created.add(event.scheduledStartDateTime());
+                case RESCHEDULED -> {
+                    rescheduled.add(event.previousScheduledStartDateTime());
+                    rescheduled.add(event.scheduledStartDateTime());
+                }
+                // 삭제는 같은 날 다른 세션이 남아있을 수 있어 달력 비트맵까지 다시 계산
+                case DELETED -> rescheduled.add(event.scheduledStartDateTime());
+                default -> changed.add(event.scheduledStartDateTime());
+            }
+        });
+
+        created.forEach(counselSessionCacheService::markScheduled);
+        counselSessionCacheService.evictBySchedule(rescheduled);
+        counselSessionCacheService.evictSessionLists(changed.toArray(LocalDateTime[]::new));
+    }
+}
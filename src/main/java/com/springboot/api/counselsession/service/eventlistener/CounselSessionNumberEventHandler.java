@@ -0,0 +1,71 @@
+package com.springboot.api.counselsession.service.eventlistener;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.springboot.api.counselsession.dto.counselsession.CounselSessionDomainEvent;
+import com.springboot.api.counselsession.enums.CounselSessionEventType;
+import com.springboot.api.counselsession.repository.CounselSessionRepository;
+import com.springboot.api.outbox.service.OutboxEventHandler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 취소/재예약으로 회차 계산 대상이 바뀐 내담자의 회차 재정렬
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class CounselSessionNumberEventHandler implements OutboxEventHandler<CounselSessionDomainEvent> {
+
+    // 회차는 취소되지 않은 세션 기준이므로 취소 여부가 바뀌는 경우만 대상
+    private static final Set<CounselSessionEventType> RENUMBER_EVENT_TYPES = EnumSet.of(
+        CounselSessionEventType.CANCELED, CounselSessionEventType.SCHEDULED);
+
+    private final CounselSessionRepository counselSessionRepository;
+
+    @Override
+    public String aggregateType() {
+        return CounselSessionDomainEvent.AGGREGATE_TYPE;
+    }
+
+    @Override
+    public Class<CounselSessionDomainEvent> payloadType() {
+        return CounselSessionDomainEvent.class;
+    }
+
+    @Override
+    @Transactional
+    public void handle(List<CounselSessionDomainEvent> events) {
+        List<CounselSessionDomainEvent> renumberEvents = events.stream()
+            .filter(event -> RENUMBER_EVENT_TYPES.contains(event.type()))
+            .filter(event -> event.counseleeId() != null)
+            .toList();
+
+        if (renumberEvents.isEmpty()) {
+            return;
+        }
+
+        Set<String> counseleeIds = renumberEvents.stream()
+            .map(CounselSessionDomainEvent::counseleeId)
+            .collect(Collectors.toSet());
+        // 가장 이른 예약일 이후 회차만 바뀜
+        LocalDateTime from = renumberEvents.stream()
+            .map(CounselSessionDomainEvent::scheduledStartDateTime)
+            .filter(Objects::nonNull)
+            .min(Comparator.naturalOrder())
+            .orElse(null);
+
+        int updatedCount = counselSessionRepository.reassignSessionNumbers(counseleeIds, from);
+        log.debug("회차 재정렬 대상 내담자 수: {}, 변경된 세션 수: {}", counseleeIds.size(), updatedCount);
+    }
+}
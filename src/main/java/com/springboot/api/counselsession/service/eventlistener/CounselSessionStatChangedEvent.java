@@ -0,0 +1,8 @@
+package com.springboot.api.counselsession.service.eventlistener;
+
+import java.time.YearMonth;
+import java.util.Set;
+
+public record CounselSessionStatChangedEvent(Set<YearMonth> yearMonths) {
+
+}
@@ -0,0 +1,21 @@
+package com.springboot.api.counselsession.service.eventlistener;
+
+import com.springboot.api.counselsession.service.CounselSessionStatService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class CounselSessionStatChangedEventListener {
+
+    private final CounselSessionStatService counselSessionStatService;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleStatChanged(CounselSessionStatChangedEvent counselSessionStatChangedEvent) {
+        counselSessionStatService.refresh(counselSessionStatChangedEvent.yearMonths());
+    }
+}
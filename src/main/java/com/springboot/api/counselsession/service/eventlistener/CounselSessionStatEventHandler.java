@@ -0,0 +1,61 @@
+package com.springboot.api.counselsession.service.eventlistener;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import com.springboot.api.counselsession.dto.counselsession.CounselSessionDomainEvent;
+import com.springboot.api.counselsession.enums.CounselSessionEventType;
+import com.springboot.api.counselsession.service.CounselSessionStatService;
+import com.springboot.api.outbox.service.OutboxEventHandler;
+import com.springboot.enums.ScheduleStatus;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상담 세션 변경 이벤트로 월/연 통계 재집계 (묶음 안의 대상 월을 모아 한 번만 집계)
+ */
+@Component
+@RequiredArgsConstructor
+public class CounselSessionStatEventHandler implements OutboxEventHandler<CounselSessionDomainEvent> {
+
+    private final CounselSessionStatService counselSessionStatService;
+
+    @Override
+    public String aggregateType() {
+        return CounselSessionDomainEvent.AGGREGATE_TYPE;
+    }
+
+    @Override
+    public Class<CounselSessionDomainEvent> payloadType() {
+        return CounselSessionDomainEvent.class;
+    }
+
+    @Override
+    public void handle(List<CounselSessionDomainEvent> events) {
+        Set<YearMonth> yearMonths = events.stream()
+            .filter(CounselSessionStatEventHandler::affectsStat)
+            .flatMap(event -> Stream.of(event.scheduledStartDateTime(), event.previousScheduledStartDateTime(),
+                event.startDateTime()))
+            .filter(Objects::nonNull)
+            .map(YearMonth::from)
+            .collect(Collectors.toSet());
+
+        if (!yearMonths.isEmpty()) {
+            counselSessionStatService.refresh(yearMonths);
+        }
+    }
+
+    /**
+     * 상담사 변경은 완료된 상담의 상담사 수(counselorCountThisYear)에만 영향
+     */
+    private static boolean affectsStat(CounselSessionDomainEvent event) {
+        return event.type() != CounselSessionEventType.COUNSELOR_CHANGED
+            || event.status() == ScheduleStatus.COMPLETED;
+    }
+}
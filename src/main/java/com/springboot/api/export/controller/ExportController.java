@@ -0,0 +1,59 @@
+package com.springboot.api.export.controller;
+
+import java.time.LocalDate;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.springboot.api.common.annotation.ApiController;
+import com.springboot.api.common.annotation.RoleSecured;
+import com.springboot.api.export.dto.ExportReq;
+import com.springboot.api.export.enums.ExportDataset;
+import com.springboot.api.export.enums.ExportFormat;
+import com.springboot.api.export.service.ExportService;
+import com.springboot.enums.RoleType;
+
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+
+@ApiController(name = "ExportController", description = "기관 보고용 데이터 내보내기 API를 제공하는 Controller", path = "/v1/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+
+    @Operation(summary = "데이터 내보내기 (CSV / JSON Lines)", tags = {"관리자 화면"},
+        description = "상담 세션, 상담 카드, 복약 이력, 폐의약품 기록/처리를 스트리밍으로 내려받습니다. "
+            + "기관과 상담 예약일 기간(from ~ to, 포함)으로 거를 수 있고 gzip=true 이면 압축합니다.")
+    @GetMapping("/{dataset}")
+    @RoleSecured(RoleType.ROLE_ADMIN)
+    public ResponseEntity<StreamingResponseBody> export(
+        @PathVariable ExportDataset dataset,
+        @RequestParam(defaultValue = "CSV") ExportFormat format,
+        @RequestParam(required = false) String institution,
+        @RequestParam(required = false) LocalDate from,
+        @RequestParam(required = false) LocalDate to,
+        @RequestParam(defaultValue = "false") boolean gzip) {
+
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 늦을 수 없습니다");
+        }
+
+        ExportReq exportReq = new ExportReq(dataset, format, institution, from, to, gzip);
+        StreamingResponseBody body = outputStream -> exportService.export(exportReq, outputStream);
+
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(exportReq.fileName()).build().toString())
+            .contentType(gzip
+                ? MediaType.parseMediaType("application/gzip")
+                : MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+            .body(body);
+    }
+}
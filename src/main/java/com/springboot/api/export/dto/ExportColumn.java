@@ -0,0 +1,19 @@
+package com.springboot.api.export.dto;
+
+import java.util.function.Function;
+
+import com.querydsl.core.types.Expression;
+
+/**
+ * 내보내기 컬럼 (이름, 조회 식, 값 변환)
+ */
+public record ExportColumn(
+    String name,
+    Expression<?> expression,
+    Function<Object, Object> converter
+) {
+
+    public static ExportColumn of(String name, Expression<?> expression) {
+        return new ExportColumn(name, expression, Function.identity());
+    }
+}
@@ -0,0 +1,13 @@
+package com.springboot.api.export.dto;
+
+import java.util.List;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQuery;
+
+public record ExportQuery(
+    List<ExportColumn> columns,
+    JPAQuery<Tuple> query
+) {
+
+}
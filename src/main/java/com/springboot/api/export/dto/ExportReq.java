@@ -0,0 +1,23 @@
+package com.springboot.api.export.dto;
+
+import java.time.LocalDate;
+
+import com.springboot.api.export.enums.ExportDataset;
+import com.springboot.api.export.enums.ExportFormat;
+
+/**
+ * 내보내기 조건. 기관/기간은 생략 가능하며 기간은 상담 예약일 기준 (to 포함)
+ */
+public record ExportReq(
+    ExportDataset dataset,
+    ExportFormat format,
+    String institution,
+    LocalDate from,
+    LocalDate to,
+    boolean gzip
+) {
+
+    public String fileName() {
+        return dataset.name().toLowerCase() + "." + format.getExtension() + (gzip ? ".gz" : "");
+    }
+}
@@ -0,0 +1,9 @@
+package com.springboot.api.export.enums;
+
+public enum ExportDataset {
+    SESSIONS, // 상담 세션
+    COUNSEL_CARDS, // 상담 카드
+    MEDICATION_RECORDS, // 복약 이력
+    WASTE_MEDICATION_RECORDS, // 폐의약품 기록
+    WASTE_MEDICATION_DISPOSALS // 폐의약품 처리
+}
@@ -0,0 +1,249 @@
+package com.springboot.api.export.repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.EnumPath;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.ListPath;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.springboot.api.counselcard.entity.QCounselCard;
+import com.springboot.api.counselcard.repository.CounselCardSectionPaths;
+import com.springboot.api.counselee.entity.QCounselee;
+import com.springboot.api.counselor.entity.QCounselor;
+import com.springboot.api.counselsession.entity.QCounselSession;
+import com.springboot.api.counselsession.entity.QMedicationRecordHist;
+import com.springboot.api.counselsession.entity.QWasteMedicationDisposal;
+import com.springboot.api.counselsession.entity.QWasteMedicationRecord;
+import com.springboot.api.export.dto.ExportColumn;
+import com.springboot.api.export.dto.ExportQuery;
+import com.springboot.api.export.dto.ExportReq;
+import com.springboot.enums.CounselCardRecordType;
+import com.springboot.enums.CounselPurposeType;
+import com.springboot.enums.DiseaseType;
+import com.springboot.enums.EvacuationType;
+import com.springboot.enums.HearingType;
+import com.springboot.enums.MedicationAssistant;
+import com.springboot.enums.SightType;
+import com.springboot.enums.UsingKoreanType;
+import com.springboot.enums.WalkingEquipmentType;
+import com.springboot.enums.WalkingType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 내보내기 대상별 조회 쿼리. 엔티티 대신 필요한 컬럼만 조회해 스트리밍 중 영속성 컨텍스트에 쌓이지 않게 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExportQueryRepository {
+
+    private static final String AGGREGATE_SEPARATOR = ",";
+
+    private final JPAQueryFactory queryFactory;
+    private final QCounselSession counselSession = QCounselSession.counselSession;
+    private final QCounselee counselee = QCounselee.counselee;
+
+    public ExportQuery create(ExportReq exportReq) {
+        return switch (exportReq.dataset()) {
+            case SESSIONS -> sessions(exportReq);
+            case COUNSEL_CARDS -> counselCards(exportReq);
+            case MEDICATION_RECORDS -> medicationRecords(exportReq);
+            case WASTE_MEDICATION_RECORDS -> wasteMedicationRecords(exportReq);
+            case WASTE_MEDICATION_DISPOSALS -> wasteMedicationDisposals(exportReq);
+        };
+    }
+
+    private ExportQuery sessions(ExportReq exportReq) {
+        QCounselor counselor = QCounselor.counselor;
+        List<ExportColumn> columns = withSessionColumns(
+            ExportColumn.of("counselorName", counselor.name),
+            ExportColumn.of("startDateTime", counselSession.startDateTime),
+            ExportColumn.of("endDateTime", counselSession.endDateTime),
+            ExportColumn.of("status", counselSession.status),
+            ExportColumn.of("sessionNumber", counselSession.sessionNumber));
+
+        JPAQuery<Tuple> query = select(columns)
+            .from(counselSession)
+            .join(counselSession.counselee, counselee)
+            .leftJoin(counselSession.counselor, counselor);
+
+        return new ExportQuery(columns, filtered(query, exportReq));
+    }
+
+    private ExportQuery counselCards(ExportReq exportReq) {
+        QCounselCard counselCard = QCounselCard.counselCard;
+        List<ExportColumn> columns = new ArrayList<>(withSessionColumns(
+            ExportColumn.of("cardRecordStatus", counselCard.cardRecordStatus)));
+        // 컬렉션이 없는 항목 embeddable 은 API 응답과 같은 DTO 로 변환
+        Arrays.stream(CounselCardRecordType.values())
+            .filter(type -> !CounselCardSectionPaths.hasCollection(type))
+            .forEach(type -> columns.add(new ExportColumn(
+                type.name(),
+                CounselCardSectionPaths.of(counselCard, type),
+                section -> type.getDtoConverter().apply(section))));
+        // 컬렉션을 가진 항목은 embeddable 로 조회할 수 없으므로 필드별 컬럼으로 펼침
+        columns.addAll(List.of(
+            aggregated("COUNSEL_PURPOSE_AND_NOTE.counselPurpose", counselCard,
+                card -> card.counselPurposeAndNote.counselPurpose, CounselPurposeType.class),
+            ExportColumn.of("COUNSEL_PURPOSE_AND_NOTE.significantNote",
+                counselCard.counselPurposeAndNote.significantNote),
+            ExportColumn.of("COUNSEL_PURPOSE_AND_NOTE.medicationNote",
+                counselCard.counselPurposeAndNote.medicationNote),
+            aggregated("DISEASE_INFO.diseases", counselCard,
+                card -> card.diseaseInfo.diseases, DiseaseType.class),
+            ExportColumn.of("DISEASE_INFO.historyNote", counselCard.diseaseInfo.historyNote),
+            ExportColumn.of("DISEASE_INFO.mainInconvenienceNote", counselCard.diseaseInfo.mainInconvenienceNote),
+            ExportColumn.of("MEDICATION_MANAGEMENT.isAlone", counselCard.medicationManagement.isAlone),
+            ExportColumn.of("MEDICATION_MANAGEMENT.houseMateNote", counselCard.medicationManagement.houseMateNote),
+            aggregated("MEDICATION_MANAGEMENT.medicationAssistants", counselCard,
+                card -> card.medicationManagement.medicationAssistants, MedicationAssistant.class),
+            ExportColumn.of("MEDICATION_MANAGEMENT.customMedicationAssistant",
+                counselCard.medicationManagement.customMedicationAssistant),
+            aggregated("COMMUNICATION.sights", counselCard,
+                card -> card.communication.sights, SightType.class),
+            aggregated("COMMUNICATION.hearings", counselCard,
+                card -> card.communication.hearings, HearingType.class),
+            ExportColumn.of("COMMUNICATION.communications", counselCard.communication.communications),
+            aggregated("COMMUNICATION.usingKoreans", counselCard,
+                card -> card.communication.usingKoreans, UsingKoreanType.class),
+            aggregated("EVACUATION.evacuations", counselCard,
+                card -> card.evacuation.evacuations, EvacuationType.class),
+            ExportColumn.of("EVACUATION.evacuationNote", counselCard.evacuation.evacuationNote),
+            aggregated("WALKING.walkingMethods", counselCard,
+                card -> card.walking.walkingMethods, WalkingType.class),
+            aggregated("WALKING.walkingEquipments", counselCard,
+                card -> card.walking.walkingEquipments, WalkingEquipmentType.class),
+            ExportColumn.of("WALKING.walkingNote", counselCard.walking.walkingNote)));
+
+        JPAQuery<Tuple> query = select(columns)
+            .from(counselCard)
+            .join(counselCard.counselSession, counselSession)
+            .join(counselSession.counselee, counselee);
+
+        return new ExportQuery(columns, filtered(query, exportReq));
+    }
+
+    /**
+     * 상담 카드의 enum 컬렉션을 한 컬럼으로 집계 (listagg 는 DB 별 string_agg/listagg 로 변환).
+     * 행마다 카드 ID 로 컬렉션 테이블만 읽는 상관 서브쿼리이므로 카드 엔티티를 읽지 않습니다.
+     */
+    private <E extends Enum<E>> ExportColumn aggregated(String name, QCounselCard counselCard,
+        Function<QCounselCard, ListPath<E, EnumPath<E>>> collection, Class<E> elementType) {
+        String alias = name.replace('.', '_');
+        QCounselCard owner = new QCounselCard(alias + "_card");
+        EnumPath<E> element = Expressions.enumPath(elementType, alias + "_element");
+
+        Expression<String> aggregate = JPAExpressions
+            .select(Expressions.stringTemplate("listagg(cast({0} as String), '" + AGGREGATE_SEPARATOR + "')",
+                element))
+            .from(owner)
+            .join(collection.apply(owner), element)
+            .where(owner.id.eq(counselCard.id));
+
+        return new ExportColumn(name, aggregate,
+            value -> List.of(StringUtils.tokenizeToStringArray((String) value, AGGREGATE_SEPARATOR)));
+    }
+
+    private ExportQuery medicationRecords(ExportReq exportReq) {
+        QMedicationRecordHist medicationRecordHist = QMedicationRecordHist.medicationRecordHist;
+        List<ExportColumn> columns = withSessionColumns(
+            ExportColumn.of("medicationDivision", medicationRecordHist.medicationDivision),
+            ExportColumn.of("medicationId", medicationRecordHist.medication.id),
+            ExportColumn.of("name", medicationRecordHist.name),
+            ExportColumn.of("usageObject", medicationRecordHist.usageObject),
+            ExportColumn.of("prescriptionDate", medicationRecordHist.prescriptionDate),
+            ExportColumn.of("prescriptionDays", medicationRecordHist.prescriptionDays),
+            ExportColumn.of("unit", medicationRecordHist.unit),
+            ExportColumn.of("usageStatus", medicationRecordHist.usageStatus));
+
+        JPAQuery<Tuple> query = select(columns)
+            .from(medicationRecordHist)
+            .join(medicationRecordHist.counselSession, counselSession)
+            .join(counselSession.counselee, counselee);
+
+        return new ExportQuery(columns, filtered(query, exportReq));
+    }
+
+    private ExportQuery wasteMedicationRecords(ExportReq exportReq) {
+        QWasteMedicationRecord wasteMedicationRecord = QWasteMedicationRecord.wasteMedicationRecord;
+        List<ExportColumn> columns = withSessionColumns(
+            ExportColumn.of("medicationId", wasteMedicationRecord.medication.id),
+            ExportColumn.of("medicationName", wasteMedicationRecord.medicationName),
+            ExportColumn.of("unit", wasteMedicationRecord.unit),
+            ExportColumn.of("disposalReason", wasteMedicationRecord.disposalReason));
+
+        JPAQuery<Tuple> query = select(columns)
+            .from(wasteMedicationRecord)
+            .join(wasteMedicationRecord.counselSession, counselSession)
+            .join(counselSession.counselee, counselee);
+
+        return new ExportQuery(columns, filtered(query, exportReq));
+    }
+
+    private ExportQuery wasteMedicationDisposals(ExportReq exportReq) {
+        QWasteMedicationDisposal wasteMedicationDisposal = QWasteMedicationDisposal.wasteMedicationDisposal;
+        List<ExportColumn> columns = withSessionColumns(
+            ExportColumn.of("unusedReasons", wasteMedicationDisposal.unusedReasons),
+            ExportColumn.of("unusedReasonDetail", wasteMedicationDisposal.unusedReasonDetail),
+            ExportColumn.of("drugRemainActionType", wasteMedicationDisposal.drugRemainActionType),
+            ExportColumn.of("drugRemainActionDetail", wasteMedicationDisposal.drugRemainActionDetail),
+            ExportColumn.of("recoveryAgreementType", wasteMedicationDisposal.recoveryAgreementType),
+            ExportColumn.of("wasteMedicationGram", wasteMedicationDisposal.wasteMedicationGram));
+
+        JPAQuery<Tuple> query = select(columns)
+            .from(wasteMedicationDisposal)
+            .join(wasteMedicationDisposal.counselSession, counselSession)
+            .join(counselSession.counselee, counselee);
+
+        return new ExportQuery(columns, filtered(query, exportReq));
+    }
+
+    /**
+     * 모든 대상에 공통으로 앞에 붙는 상담 세션/내담자 컬럼
+     */
+    private List<ExportColumn> withSessionColumns(ExportColumn... columns) {
+        return Stream.concat(Stream.of(
+                    ExportColumn.of("counselSessionId", counselSession.id),
+                    ExportColumn.of("counseleeId", counselee.id),
+                    ExportColumn.of("counseleeName", counselee.name),
+                    ExportColumn.of("institution", counselee.affiliatedWelfareInstitution),
+                    ExportColumn.of("scheduledStartDateTime", counselSession.scheduledStartDateTime)),
+                Arrays.stream(columns))
+            .toList();
+    }
+
+    private JPAQuery<Tuple> select(List<ExportColumn> columns) {
+        return queryFactory.select(columns.stream().map(ExportColumn::expression).toArray(Expression[]::new));
+    }
+
+    private JPAQuery<Tuple> filtered(JPAQuery<Tuple> query, ExportReq exportReq) {
+        BooleanBuilder builder = new BooleanBuilder();
+        if (StringUtils.hasText(exportReq.institution())) {
+            builder.and(counselee.affiliatedWelfareInstitution.eq(exportReq.institution()));
+        }
+        if (exportReq.from() != null) {
+            builder.and(counselSession.scheduledStartDateTime.goe(exportReq.from().atStartOfDay()));
+        }
+        if (exportReq.to() != null) {
+            LocalDate nextDay = exportReq.to().plusDays(1);
+            builder.and(counselSession.scheduledStartDateTime.lt(nextDay.atStartOfDay()));
+        }
+
+        return query
+            .where(builder)
+            .orderBy(counselSession.scheduledStartDateTime.asc(), counselSession.id.asc());
+    }
+}
@@ -0,0 +1,69 @@
+package com.springboot.api.export.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.temporal.TemporalAccessor;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * RFC 4180 CSV. 엑셀에서 한글이 깨지지 않도록 BOM 을 먼저 쓰고,
+ * 수식으로 해석될 수 있는 문자열(=, +, -, @ 로 시작)은 앞에 ' 를 붙입니다.
+ * 객체/목록 값은 JSON 문자열로 씁니다.
+ */
+public class CsvExportWriter implements ExportWriter {
+
+    private static final char BOM = '\uFEFF';
+
+    private final Writer writer;
+    private final ObjectMapper objectMapper;
+
+    public CsvExportWriter(Writer writer, ObjectMapper objectMapper) {
+        this.writer = writer;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void writeHeader(List<String> columnNames) throws IOException {
+        writer.write(BOM);
+        writeLine(columnNames.toArray());
+    }
+
+    @Override
+    public void writeRow(Object[] values) throws IOException {
+        writeLine(values);
+    }
+
+    private void writeLine(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(format(values[i])));
+        }
+        writer.write("\r\n");
+    }
+
+    private String format(Object value) throws IOException {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof String text) {
+            return text.isEmpty() || "=+-@".indexOf(text.charAt(0)) < 0 ? text : "'" + text;
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Enum<?>
+            || value instanceof TemporalAccessor) {
+            return value.toString();
+        }
+        return objectMapper.writeValueAsString(value);
+    }
+
+    static String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+            && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
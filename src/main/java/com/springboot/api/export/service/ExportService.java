@@ -0,0 +1,109 @@
+package com.springboot.api.export.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.querydsl.core.Tuple;
+import com.springboot.api.export.dto.ExportColumn;
+import com.springboot.api.export.dto.ExportQuery;
+import com.springboot.api.export.dto.ExportReq;
+import com.springboot.api.export.enums.ExportFormat;
+import com.springboot.api.export.repository.ExportQueryRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기관 보고용 대량 내보내기. 커서(fetch size)로 한 행씩 읽어 바로 응답에 쓰므로 행 수와 관계없이 메모리 사용량이 일정합니다.
+ * 응답 스트림을 쓰는 스레드에서 호출되어야 트랜잭션(커서)이 스트리밍 동안 유지됩니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ExportService {
+
+    private static final int FETCH_SIZE = 500;
+    private static final int FLUSH_INTERVAL = 1000;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ExportQueryRepository exportQueryRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Transactional(readOnly = true)
+    public long export(ExportReq exportReq, OutputStream outputStream) throws IOException {
+        ExportQuery exportQuery = exportQueryRepository.create(exportReq);
+        List<ExportColumn> columns = exportQuery.columns();
+
+        GZIPOutputStream gzipOutputStream = exportReq.gzip() ? new GZIPOutputStream(outputStream, BUFFER_SIZE) : null;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(
+            gzipOutputStream != null ? gzipOutputStream : outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        ExportWriter exportWriter = createWriter(exportReq.format(), writer);
+
+        exportWriter.writeHeader(columns.stream().map(ExportColumn::name).toList());
+
+        long rowCount = 0;
+        try (ScrollableResults<?> rows = scroll(exportQuery)) {
+            while (rows.next()) {
+                Object[] values = toArray(rows.get());
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = values[i] == null ? null : columns.get(i).converter().apply(values[i]);
+                }
+                exportWriter.writeRow(values);
+
+                if (++rowCount % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+
+        writer.flush();
+        if (gzipOutputStream != null) {
+            gzipOutputStream.finish();
+        }
+
+        meterRegistry.counter("export.rows", "dataset", exportReq.dataset().name()).increment(rowCount);
+        log.info("내보내기 완료: dataset={}, format={}, institution={}, rows={}", exportReq.dataset(),
+            exportReq.format(), exportReq.institution(), rowCount);
+        return rowCount;
+    }
+
+    private ExportWriter createWriter(ExportFormat format, Writer writer) {
+        return switch (format) {
+            case CSV -> new CsvExportWriter(writer, objectMapper);
+            case JSONL -> new JsonLinesExportWriter(writer, objectMapper);
+        };
+    }
+
+    private ScrollableResults<?> scroll(ExportQuery exportQuery) {
+        return exportQuery.query().createQuery()
+            .unwrap(Query.class)
+            .setFetchSize(FETCH_SIZE)
+            .setReadOnly(true)
+            .scroll(ScrollMode.FORWARD_ONLY);
+    }
+
+    private static Object[] toArray(Object row) {
+        if (row instanceof Tuple tuple) {
+            return tuple.toArray();
+        }
+        if (row instanceof Object[] values) {
+            return values;
+        }
+        return new Object[] {row};
+    }
+}
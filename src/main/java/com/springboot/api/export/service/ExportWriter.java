@@ -0,0 +1,14 @@
+package com.springboot.api.export.service;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 내보내기 행 단위 출력. 행을 모으지 않고 바로 출력합니다.
+ */
+public interface ExportWriter {
+
+    void writeHeader(List<String> columnNames) throws IOException;
+
+    void writeRow(Object[] values) throws IOException;
+}
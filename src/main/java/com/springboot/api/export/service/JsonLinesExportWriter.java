@@ -0,0 +1,38 @@
+package com.springboot.api.export.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * JSON Lines. 한 행을 컬럼 이름을 키로 하는 JSON 객체 한 줄로 씁니다.
+ */
+public class JsonLinesExportWriter implements ExportWriter {
+
+    private final Writer writer;
+    private final ObjectMapper objectMapper;
+    private List<String> columnNames;
+
+    public JsonLinesExportWriter(Writer writer, ObjectMapper objectMapper) {
+        this.writer = writer;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void writeHeader(List<String> columnNames) {
+        this.columnNames = columnNames;
+    }
+
+    @Override
+    public void writeRow(Object[] values) throws IOException {
+        ObjectNode row = objectMapper.createObjectNode();
+        for (int i = 0; i < values.length; i++) {
+            row.set(columnNames.get(i), objectMapper.valueToTree(values[i]));
+        }
+        writer.write(objectMapper.writeValueAsString(row));
+        writer.write('\n');
+    }
+}
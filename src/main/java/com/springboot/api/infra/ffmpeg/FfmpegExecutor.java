@@ -0,0 +1,240 @@
+package com.springboot.api.infra.ffmpeg;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import com.springboot.api.common.properties.FfmpegProperties;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.bramp.ffmpeg.FFmpeg;
+import net.bramp.ffmpeg.builder.FFmpegBuilder;
+
+/**
+ * ffmpeg 프로세스 실행기.
+ * <p>
+ * - 동시에 실행되는 ffmpeg 프로세스 수를 ffmpeg.max-concurrency (기본값: CPU 코어 수) 로 제한합니다.
+ * - 대기 중인 작업은 {@link FfmpegJobPriority} 순서로 실행됩니다.
+ * - ffmpeg 경로와 버전 확인 결과는 최초 1회만 계산해 재사용합니다.
+ * - 작업별 대기 시간, 실행 시간, CPU 시간을 Micrometer 로 기록합니다.
+ */
+@Component
+@Slf4j
+public class FfmpegExecutor {
+
+    private static final String DEFAULT_FFMPEG_PATH = "ffmpeg";
+    private static final long CPU_SAMPLE_INTERVAL_MILLIS = 200;
+
+    private final FfmpegProperties ffmpegProperties;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger runningJobs = new AtomicInteger();
+
+    private volatile FFmpeg ffmpeg;
+
+    public FfmpegExecutor(FfmpegProperties ffmpegProperties, MeterRegistry meterRegistry) {
+        this.ffmpegProperties = ffmpegProperties;
+        this.meterRegistry = meterRegistry;
+
+        int maxConcurrency = Optional.ofNullable(ffmpegProperties.getMaxConcurrency())
+            .filter(concurrency -> concurrency > 0)
+            .orElse(Runtime.getRuntime().availableProcessors());
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 0L, TimeUnit.MILLISECONDS,
+            new PriorityBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "ffmpeg-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+        Gauge.builder("ffmpeg.jobs.running", runningJobs, AtomicInteger::get)
+            .register(meterRegistry);
+        Gauge.builder("ffmpeg.jobs.queued", executor, pool -> pool.getQueue().size())
+            .register(meterRegistry);
+        Gauge.builder("ffmpeg.jobs.max.concurrency", executor, ThreadPoolExecutor::getMaximumPoolSize)
+            .register(meterRegistry);
+    }
+
+    /**
+     * ffmpeg 작업을 실행하고 종료될 때까지 기다립니다.
+     */
+    public void run(FFmpegBuilder builder, FfmpegJobPriority priority) throws IOException {
+        FfmpegJob job = submit(builder, priority, ProcessBuilder.Redirect.DISCARD);
+
+        int exitCode = await(job.finished);
+        if (exitCode != 0) {
+            throw new IOException("FFmpeg 실행에 실패했습니다. exitCode=" + exitCode);
+        }
+    }
+
+    /**
+     * stdout 을 파이프로 연결한 ffmpeg 프로세스를 실행하고, 프로세스가 시작되면 바로 반환합니다.
+     * 프로세스가 종료될 때까지 실행 슬롯을 점유하며, 종료 코드 확인은 호출자가 합니다.
+     */
+    public Process start(FFmpegBuilder builder, FfmpegJobPriority priority) throws IOException {
+        FfmpegJob job = submit(builder, priority, ProcessBuilder.Redirect.PIPE);
+        return await(job.started);
+    }
+
+    public String getVersion() throws IOException {
+        return resolveFfmpeg().version();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 실행 중인 작업은 인터럽트로, 대기 중이던 작업은 여기서 실패 처리해 기다리는 호출자를 깨움
+        List<Runnable> drainedJobs = executor.shutdownNow();
+        IOException cause = new IOException("FFmpeg 실행기가 종료되어 작업이 취소되었습니다.");
+        drainedJobs.forEach(job -> ((FfmpegJob) job).fail(cause));
+        if (!drainedJobs.isEmpty()) {
+            log.info("FFmpeg 실행기 종료로 대기 중인 작업 {}건을 취소했습니다.", drainedJobs.size());
+        }
+    }
+
+    private FfmpegJob submit(FFmpegBuilder builder, FfmpegJobPriority priority,
+        ProcessBuilder.Redirect outputRedirect) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(resolveFfmpeg().getPath());
+        command.addAll(builder.build());
+
+        FfmpegJob job = new FfmpegJob(command, priority, outputRedirect, sequence.getAndIncrement());
+        try {
+            executor.execute(job);
+        } catch (RejectedExecutionException e) {
+            throw new IOException("FFmpeg 실행기가 종료되어 작업을 실행할 수 없습니다.", e);
+        }
+        return job;
+    }
+
+    private FFmpeg resolveFfmpeg() throws IOException {
+        FFmpeg resolved = ffmpeg;
+        if (resolved == null) {
+            synchronized (this) {
+                resolved = ffmpeg;
+                if (resolved == null) {
+                    String path = Optional.ofNullable(ffmpegProperties.getPath())
+                        .filter(p -> !p.isBlank())
+                        .orElse(DEFAULT_FFMPEG_PATH);
+                    resolved = new FFmpeg(path);
+                    log.info("FFmpeg 초기화 완료: path={}, version={}", path, resolved.version());
+                    ffmpeg = resolved;
+                }
+            }
+        }
+        return resolved;
+    }
+
+    private <T> T await(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("FFmpeg 작업 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("FFmpeg 작업 실행 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    private class FfmpegJob implements Runnable, Comparable<FfmpegJob> {
+
+        private final List<String> command;
+        private final FfmpegJobPriority priority;
+        private final ProcessBuilder.Redirect outputRedirect;
+        private final long sequence;
+        private final long enqueuedNanos = System.nanoTime();
+        private final CompletableFuture<Process> started = new CompletableFuture<>();
+        private final CompletableFuture<Integer> finished = new CompletableFuture<>();
+
+        private FfmpegJob(List<String> command, FfmpegJobPriority priority, ProcessBuilder.Redirect outputRedirect,
+            long sequence) {
+            this.command = command;
+            this.priority = priority;
+            this.outputRedirect = outputRedirect;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void run() {
+            long startNanos = System.nanoTime();
+            record("ffmpeg.job.queue.time", "queued", startNanos - enqueuedNanos);
+            runningJobs.incrementAndGet();
+
+            String outcome = "failure";
+            Duration cpuTime = Duration.ZERO;
+            Process process = null;
+            try {
+                process = new ProcessBuilder(command)
+                    .redirectOutput(outputRedirect)
+                    .redirectError(ProcessBuilder.Redirect.INHERIT)
+                    .start();
+                started.complete(process);
+
+                // 종료된 프로세스는 CPU 시간을 조회할 수 없으므로 실행 중에 주기적으로 기록
+                while (!process.waitFor(CPU_SAMPLE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    cpuTime = process.info().totalCpuDuration().orElse(cpuTime);
+                }
+
+                int exitCode = process.exitValue();
+                outcome = exitCode == 0 ? "success" : "failure";
+                finished.complete(exitCode);
+            } catch (IOException e) {
+                fail(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                process.destroyForcibly();
+                fail(e);
+            } catch (RuntimeException e) {
+                // 실행 스레드에서 예외가 새면 대기 중인 호출자가 영원히 기다리므로 future 로 전달
+                if (process != null) {
+                    process.destroyForcibly();
+                }
+                fail(e);
+            } finally {
+                runningJobs.decrementAndGet();
+                record("ffmpeg.job.wall.time", outcome, System.nanoTime() - startNanos);
+                record("ffmpeg.job.cpu.time", outcome, cpuTime.toNanos());
+            }
+        }
+
+        private void fail(Throwable cause) {
+            started.completeExceptionally(cause);
+            finished.completeExceptionally(cause);
+        }
+
+        private void record(String name, String outcome, long nanos) {
+            Timer.builder(name)
+                .tag("priority", priority.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(FfmpegJob other) {
+            int compared = priority.compareTo(other.priority);
+            return compared != 0 ? compared : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.springboot.api.infra.ffmpeg;
+
+/**
+ * ffmpeg 작업 우선순위. 선언 순서가 빠를수록 먼저 실행됩니다.
+ * 현재 일괄 변환 작업이 없어 두 단계만 둡니다. 지연되어도 되는 작업이 생기면 STANDARD 뒤에 추가합니다.
+ */
+public enum FfmpegJobPriority {
+
+    // 사용자가 요청 스레드에서 결과를 기다리는 작업 (녹음 파일 병합 등)
+    INTERACTIVE,
+
+    // 비동기로 처리되는 일반 작업 (STT 변환 등)
+    STANDARD
+}
@@ -0,0 +1,54 @@
+package com.springboot.api.job.entity;
+
+import java.time.LocalDateTime;
+
+import com.springboot.api.common.entity.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 스케줄 작업별 실행 임대(lease).
+ * leaseUntil 이 지나지 않은 동안에는 owner 인스턴스만 작업을 실행합니다.
+ * 행 생성과 획득은 JobLeaseRepository 의 조건부 INSERT/UPDATE 로만 처리합니다.
+ */
+@Entity
+@Table(name = "job_leases", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"job_name"})
+})
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class JobLease extends BaseEntity {
+
+    @Column(name = "job_name", length = 100, nullable = false)
+    private String jobName;
+
+    @Column(name = "owner", nullable = false)
+    private String owner;
+
+    @Column(name = "acquired_at", nullable = false)
+    private LocalDateTime acquiredAt;
+
+    @Column(name = "heartbeat_at", nullable = false)
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "lease_until", nullable = false)
+    private LocalDateTime leaseUntil;
+
+    @PrePersist
+    @Override
+    protected void onCreate() {
+        super.onCreate();
+    }
+}
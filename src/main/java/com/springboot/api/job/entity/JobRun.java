@@ -0,0 +1,80 @@
+package com.springboot.api.job.entity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import com.springboot.api.common.entity.BaseEntity;
+import com.springboot.api.job.enums.JobRunStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 클러스터 단일 실행 작업의 실행 이력 (임대를 얻지 못해 건너뛴 실행은 기록하지 않음)
+ */
+@Entity
+@Table(name = "job_runs")
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class JobRun extends BaseEntity {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 1000;
+
+    @Column(name = "job_name", length = 100, nullable = false)
+    private String jobName;
+
+    @Column(name = "owner", nullable = false)
+    private String owner;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at", nullable = false)
+    private LocalDateTime finishedAt;
+
+    @Column(name = "duration_millis", nullable = false)
+    private long durationMillis;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private JobRunStatus status;
+
+    @Column(name = "error_message", length = MAX_ERROR_MESSAGE_LENGTH)
+    private String errorMessage;
+
+    public static JobRun of(String jobName, String owner, LocalDateTime startedAt, Duration duration,
+        Throwable error) {
+        String errorMessage = error == null ? null : String.valueOf(error.getMessage());
+        if (errorMessage != null && errorMessage.length() > MAX_ERROR_MESSAGE_LENGTH) {
+            errorMessage = errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH);
+        }
+
+        return JobRun.builder()
+            .jobName(jobName)
+            .owner(owner)
+            .startedAt(startedAt)
+            .finishedAt(startedAt.plus(duration))
+            .durationMillis(duration.toMillis())
+            .status(error == null ? JobRunStatus.SUCCEEDED : JobRunStatus.FAILED)
+            .errorMessage(errorMessage)
+            .build();
+    }
+
+    @PrePersist
+    @Override
+    protected void onCreate() {
+        super.onCreate();
+    }
+}
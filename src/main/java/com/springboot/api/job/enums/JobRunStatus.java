@@ -0,0 +1,5 @@
+package com.springboot.api.job.enums;
+
+public enum JobRunStatus {
+    SUCCEEDED, FAILED
+}
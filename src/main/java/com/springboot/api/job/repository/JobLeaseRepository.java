@@ -0,0 +1,9 @@
+package com.springboot.api.job.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.springboot.api.job.entity.JobLease;
+
+public interface JobLeaseRepository extends JpaRepository<JobLease, String>, JobLeaseRepositoryCustom {
+
+}
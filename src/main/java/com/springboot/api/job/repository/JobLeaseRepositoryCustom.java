@@ -0,0 +1,20 @@
+package com.springboot.api.job.repository;
+
+import java.time.LocalDateTime;
+
+public interface JobLeaseRepositoryCustom {
+
+    /**
+     * 작업 행이 없을 때만 owner 소유로 생성. 생성했으면 true
+     */
+    boolean insertIfAbsent(String jobName, String owner, LocalDateTime now, LocalDateTime leaseUntil);
+
+    /**
+     * 임대가 만료되었거나 이미 owner 소유일 때만 획득. 획득했으면 true
+     */
+    boolean acquireIfExpired(String jobName, String owner, LocalDateTime now, LocalDateTime leaseUntil);
+
+    long extend(String jobName, String owner, LocalDateTime now, LocalDateTime leaseUntil);
+
+    long release(String jobName, String owner, LocalDateTime leaseUntil);
+}
@@ -0,0 +1,86 @@
+package com.springboot.api.job.repository;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.springboot.api.job.entity.JobLease;
+import com.springboot.api.job.entity.QJobLease;
+
+import de.huxhorn.sulky.ulid.ULID;
+import jakarta.persistence.EntityManager;
+
+@Repository
+public class JobLeaseRepositoryImpl implements JobLeaseRepositoryCustom {
+
+    // 동시에 같은 작업 행을 만들 때 예외 없이 한 쪽만 생성되도록 ON CONFLICT DO NOTHING 사용
+    private static final String INSERT_IF_ABSENT_SQL = """
+        INSERT INTO job_leases (id, created_datetime, updated_datetime, job_name, owner, acquired_at, heartbeat_at, lease_until)
+        VALUES (:id, :now, :now, :jobName, :owner, :now, :now, :leaseUntil)
+        ON CONFLICT DO NOTHING
+        """;
+
+    private static final ULID ID_GENERATOR = new ULID();
+
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+    private final QJobLease jobLease = QJobLease.jobLease;
+
+    public JobLeaseRepositoryImpl(JPAQueryFactory queryFactory, EntityManager entityManager) {
+        this.queryFactory = queryFactory;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public boolean insertIfAbsent(String jobName, String owner, LocalDateTime now, LocalDateTime leaseUntil) {
+        return entityManager.createNativeQuery(INSERT_IF_ABSENT_SQL)
+            .unwrap(NativeQuery.class)
+            .addSynchronizedEntityClass(JobLease.class)
+            .setParameter("id", ID_GENERATOR.nextULID())
+            .setParameter("now", now)
+            .setParameter("jobName", jobName)
+            .setParameter("owner", owner)
+            .setParameter("leaseUntil", leaseUntil)
+            .executeUpdate() > 0;
+    }
+
+    @Override
+    public boolean acquireIfExpired(String jobName, String owner, LocalDateTime now, LocalDateTime leaseUntil) {
+        return queryFactory
+            .update(jobLease)
+            .set(jobLease.owner, owner)
+            .set(jobLease.acquiredAt, now)
+            .set(jobLease.heartbeatAt, now)
+            .set(jobLease.leaseUntil, leaseUntil)
+            .set(jobLease.updatedDatetime, now)
+            .where(
+                jobLease.jobName.eq(jobName),
+                jobLease.leaseUntil.loe(now).or(jobLease.owner.eq(owner)))
+            .execute() > 0;
+    }
+
+    @Override
+    public long extend(String jobName, String owner, LocalDateTime now, LocalDateTime leaseUntil) {
+        return queryFactory
+            .update(jobLease)
+            .set(jobLease.heartbeatAt, now)
+            .set(jobLease.leaseUntil, leaseUntil)
+            .where(
+                jobLease.jobName.eq(jobName),
+                jobLease.owner.eq(owner))
+            .execute();
+    }
+
+    @Override
+    public long release(String jobName, String owner, LocalDateTime leaseUntil) {
+        return queryFactory
+            .update(jobLease)
+            .set(jobLease.leaseUntil, leaseUntil)
+            .where(
+                jobLease.jobName.eq(jobName),
+                jobLease.owner.eq(owner))
+            .execute();
+    }
+}
@@ -0,0 +1,8 @@
+package com.springboot.api.job.repository;
+
+import java.time.LocalDateTime;
+
+public interface JobRunRepositoryCustom {
+
+    long deleteStartedBefore(LocalDateTime before);
+}
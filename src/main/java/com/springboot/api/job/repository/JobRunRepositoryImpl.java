@@ -0,0 +1,26 @@
+package com.springboot.api.job.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.springboot.api.job.entity.QJobRun;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class JobRunRepositoryImpl implements JobRunRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+    private final QJobRun jobRun = QJobRun.jobRun;
+
+    @Override
+    public long deleteStartedBefore(LocalDateTime before) {
+        return queryFactory
+            .delete(jobRun)
+            .where(jobRun.startedAt.before(before))
+            .execute();
+    }
+}
@@ -0,0 +1,110 @@
+package com.springboot.api.job.service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.springboot.api.job.entity.JobRun;
+import com.springboot.api.job.repository.JobLeaseRepository;
+import com.springboot.api.job.repository.JobRunRepository;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 스케줄 작업의 클러스터 단일 실행을 위한 DB 임대 관리.
+ * 획득/해제/이력 기록은 작업 트랜잭션과 분리된 별도 트랜잭션에서 커밋됩니다.
+ */
+@Service
+@Slf4j
+public class JobLeaseService {
+
+    // 실행 중인 작업의 임대를 연장하는 주기
+    private static final long HEARTBEAT_SECONDS = 30;
+    private static final int RUN_HISTORY_RETENTION_DAYS = 30;
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final JobRunRepository jobRunRepository;
+
+    @Getter
+    private final String owner;
+
+    // 이 인스턴스에서 실행 중인 작업과 임대 시간
+    private final Map<String, Duration> runningJobs = new ConcurrentHashMap<>();
+
+    public JobLeaseService(JobLeaseRepository jobLeaseRepository, JobRunRepository jobRunRepository) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.jobRunRepository = jobRunRepository;
+        this.owner = resolveHostName() + ":" + ProcessHandle.current().pid() + ":"
+            + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean tryAcquire(String jobName, Duration leaseDuration) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plus(leaseDuration);
+
+        boolean acquired = jobLeaseRepository.insertIfAbsent(jobName, owner, now, leaseUntil)
+            || jobLeaseRepository.acquireIfExpired(jobName, owner, now, leaseUntil);
+
+        if (acquired) {
+            runningJobs.put(jobName, leaseDuration);
+        }
+        return acquired;
+    }
+
+    /**
+     * 임대 해제. 최소 유지 시간 전이면 그 시점까지 임대를 남겨 둠
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(String jobName, LocalDateTime startedAt, Duration minHold) {
+        runningJobs.remove(jobName);
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime holdUntil = startedAt.plus(minHold);
+        jobLeaseRepository.release(jobName, owner, holdUntil.isAfter(now) ? holdUntil : now);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordRun(String jobName, LocalDateTime startedAt, Duration duration, Throwable error) {
+        jobRunRepository.save(JobRun.of(jobName, owner, startedAt, duration, error));
+    }
+
+    @Scheduled(fixedDelay = HEARTBEAT_SECONDS, timeUnit = TimeUnit.SECONDS)
+    @Transactional
+    public void heartbeat() {
+        LocalDateTime now = LocalDateTime.now();
+        runningJobs.forEach((jobName, leaseDuration) -> {
+            long extended = jobLeaseRepository.extend(jobName, owner, now, now.plus(leaseDuration));
+            if (extended == 0) {
+                log.warn("작업 임대를 연장하지 못했습니다 (다른 인스턴스가 넘겨받았을 수 있음): {}", jobName);
+            }
+        });
+    }
+
+    // 모든 인스턴스에서 실행되어도 결과가 같으므로 임대 없이 실행
+    @Scheduled(cron = "0 15 4 * * *")
+    @Transactional
+    public void purgeRunHistory() {
+        long deleted = jobRunRepository.deleteStartedBefore(LocalDateTime.now().minusDays(RUN_HISTORY_RETENTION_DAYS));
+        log.info("작업 실행 이력 정리: {}건", deleted);
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.springboot.api.medication.entity;
 
 import com.springboot.api.common.entity.BaseEntity;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Index;
@@ -22,8 +23,12 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Medication.CACHE_REGION)
 @Data
 @SuperBuilder
 @NoArgsConstructor
@@ -35,6 +40,8 @@ import lombok.experimental.SuperBuilder;
 @ToString(callSuper = true, exclude = {"contraindications"})
 public class Medication extends BaseEntity {
 
+    public static final String CACHE_REGION = "medication";
+
     // 약 이름
     @Column(nullable = false, length = 255)
     @NotBlank(message = "약 이름은 필수 입력 항목입니다.")
@@ -88,6 +95,7 @@ public class Medication extends BaseEntity {
 
     // 위험한 약물 상호 작용 (자기 자신과의 다대다 관계)
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Medication.CACHE_REGION + "Contraindications")
     @JoinTable(name = "medication_contraindications", joinColumns = @JoinColumn(name = "medication_id"), inverseJoinColumns = @JoinColumn(name = "contraindicated_medication_id"))
     @Builder.Default
     private Set<Medication> contraindications = new HashSet<>();
@@ -0,0 +1,113 @@
+package com.springboot.api.outbox.entity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import com.springboot.api.common.entity.BaseEntity;
+import com.springboot.api.outbox.enums.OutboxEventStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 도메인 이벤트 outbox. 원본 변경과 같은 트랜잭션에서 저장되고, 커밋 후 디스패처가 처리합니다.
+ * 처리된 이벤트도 보관 기간 동안 남겨 두므로 상태를 PENDING 으로 되돌리면 다시 전달됩니다.
+ */
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true, exclude = "payload")
+public class OutboxEvent extends BaseEntity {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 1000;
+    private static final Duration MAX_RETRY_DELAY = Duration.ofMinutes(10);
+
+    @Column(name = "aggregate_type", length = 50, nullable = false)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", length = 26, nullable = false)
+    private String aggregateId;
+
+    @Column(name = "event_type", length = 50, nullable = false)
+    private String eventType;
+
+    // JSON 직렬화된 이벤트 본문
+    @Column(name = "payload", columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private OutboxEventStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // 이 시각 이후에 주기 처리 대상이 됨 (재시도 대기 포함)
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_MESSAGE_LENGTH)
+    private String lastError;
+
+    public static OutboxEvent of(String aggregateType, String aggregateId, String eventType, String payload,
+        LocalDateTime availableAt) {
+        return OutboxEvent.builder()
+            .aggregateType(aggregateType)
+            .aggregateId(aggregateId)
+            .eventType(eventType)
+            .payload(payload)
+            .status(OutboxEventStatus.PENDING)
+            .attempts(0)
+            .availableAt(availableAt)
+            .build();
+    }
+
+    /**
+     * 처리 실패 기록. 최대 횟수 전까지는 지수 백오프 후 다시 PENDING, 이후에는 FAILED
+     */
+    public void fail(Throwable error, int maxAttempts, LocalDateTime now) {
+        String errorMessage = String.valueOf(error.getMessage());
+        this.lastError = errorMessage.length() > MAX_ERROR_MESSAGE_LENGTH
+            ? errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH)
+            : errorMessage;
+        this.attempts++;
+        this.claimToken = null;
+        this.claimedAt = null;
+
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxEventStatus.FAILED;
+            return;
+        }
+
+        Duration delay = Duration.ofSeconds(1L << Math.min(this.attempts, 10));
+        this.status = OutboxEventStatus.PENDING;
+        this.availableAt = now.plus(delay.compareTo(MAX_RETRY_DELAY) < 0 ? delay : MAX_RETRY_DELAY);
+    }
+
+    @PrePersist
+    @Override
+    protected void onCreate() {
+        super.onCreate();
+    }
+}
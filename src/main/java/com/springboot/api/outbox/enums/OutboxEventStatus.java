@@ -0,0 +1,5 @@
+package com.springboot.api.outbox.enums;
+
+public enum OutboxEventStatus {
+    PENDING, PROCESSING, PUBLISHED, FAILED
+}
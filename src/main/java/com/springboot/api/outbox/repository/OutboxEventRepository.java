@@ -0,0 +1,12 @@
+package com.springboot.api.outbox.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.springboot.api.outbox.entity.OutboxEvent;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, String>, OutboxEventRepositoryCustom {
+
+    List<OutboxEvent> findByClaimTokenOrderByIdAsc(String claimToken);
+}
@@ -0,0 +1,18 @@
+package com.springboot.api.outbox.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepositoryCustom {
+
+    List<String> findDispatchableIds(LocalDateTime now, int limit);
+
+    long claim(Collection<String> ids, String claimToken, LocalDateTime now);
+
+    long markPublished(Collection<String> ids, LocalDateTime now);
+
+    long releaseClaimedBefore(LocalDateTime claimedBefore);
+
+    long deletePublishedBefore(LocalDateTime before);
+}
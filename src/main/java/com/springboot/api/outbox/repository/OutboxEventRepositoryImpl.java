@@ -0,0 +1,96 @@
+package com.springboot.api.outbox.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.springboot.api.outbox.entity.QOutboxEvent;
+import com.springboot.api.outbox.enums.OutboxEventStatus;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class OutboxEventRepositoryImpl implements OutboxEventRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+    private final QOutboxEvent outboxEvent = QOutboxEvent.outboxEvent;
+
+    /**
+     * 처리 대기 중인 이벤트 ID (ULID 이므로 ID 순서가 발생 순서)
+     */
+    @Override
+    public List<String> findDispatchableIds(LocalDateTime now, int limit) {
+        return queryFactory
+            .select(outboxEvent.id)
+            .from(outboxEvent)
+            .where(
+                outboxEvent.status.eq(OutboxEventStatus.PENDING),
+                outboxEvent.availableAt.loe(now))
+            .orderBy(outboxEvent.id.asc())
+            .limit(limit)
+            .fetch();
+    }
+
+    /**
+     * 아직 PENDING 인 이벤트만 claimToken 으로 선점 (동시에 선점하면 먼저 갱신한 쪽만 성공)
+     */
+    @Override
+    public long claim(Collection<String> ids, String claimToken, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        return queryFactory
+            .update(outboxEvent)
+            .set(outboxEvent.status, OutboxEventStatus.PROCESSING)
+            .set(outboxEvent.claimToken, claimToken)
+            .set(outboxEvent.claimedAt, now)
+            .where(
+                outboxEvent.id.in(ids),
+                outboxEvent.status.eq(OutboxEventStatus.PENDING))
+            .execute();
+    }
+
+    @Override
+    public long markPublished(Collection<String> ids, LocalDateTime now) {
+        return queryFactory
+            .update(outboxEvent)
+            .set(outboxEvent.status, OutboxEventStatus.PUBLISHED)
+            .set(outboxEvent.publishedAt, now)
+            .setNull(outboxEvent.claimToken)
+            .where(
+                outboxEvent.id.in(ids),
+                outboxEvent.status.eq(OutboxEventStatus.PROCESSING))
+            .execute();
+    }
+
+    /**
+     * 처리 중 인스턴스가 종료되어 남은 선점을 해제
+     */
+    @Override
+    public long releaseClaimedBefore(LocalDateTime claimedBefore) {
+        return queryFactory
+            .update(outboxEvent)
+            .set(outboxEvent.status, OutboxEventStatus.PENDING)
+            .setNull(outboxEvent.claimToken)
+            .setNull(outboxEvent.claimedAt)
+            .where(
+                outboxEvent.status.eq(OutboxEventStatus.PROCESSING),
+                outboxEvent.claimedAt.before(claimedBefore))
+            .execute();
+    }
+
+    @Override
+    public long deletePublishedBefore(LocalDateTime before) {
+        return queryFactory
+            .delete(outboxEvent)
+            .where(
+                outboxEvent.status.eq(OutboxEventStatus.PUBLISHED),
+                outboxEvent.publishedAt.before(before))
+            .execute();
+    }
+}
@@ -0,0 +1,7 @@
+package com.springboot.api.outbox.service;
+
+import java.util.List;
+
+public record OutboxEventAppendedEvent(List<String> outboxEventIds) {
+
+}
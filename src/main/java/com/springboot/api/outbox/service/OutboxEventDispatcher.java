@@ -0,0 +1,108 @@
+package com.springboot.api.outbox.service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.api.outbox.entity.OutboxEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * outbox 이벤트를 처리기에 묶음으로 전달.
+ * 평소에는 기록한 인스턴스가 커밋 직후 비동기로 전달하고(로컬 캐시 무효화가 같은 인스턴스에서 일어나도록),
+ * 놓친 이벤트와 재시도 대상은 주기 처리로 전달합니다. 선점은 행 단위 조건부 갱신이라 여러 인스턴스가 동시에 돌아도 안전합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class OutboxEventDispatcher {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int MAX_BATCHES_PER_SWEEP = 20;
+    // 선점 후 이 시간이 지나도록 완료되지 않으면 처리 중 종료된 것으로 보고 다시 대기 상태로 돌림
+    private static final long CLAIM_TIMEOUT_MINUTES = 5;
+
+    private final OutboxEventService outboxEventService;
+    private final List<OutboxEventHandler<?>> outboxEventHandlers;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleAppended(OutboxEventAppendedEvent outboxEventAppendedEvent) {
+        dispatch(outboxEventService.claim(outboxEventAppendedEvent.outboxEventIds()));
+    }
+
+    @Scheduled(fixedDelay = 5, timeUnit = TimeUnit.SECONDS)
+    public void sweep() {
+        long released = outboxEventService.releaseClaimedBefore(
+            LocalDateTime.now().minusMinutes(CLAIM_TIMEOUT_MINUTES));
+        if (released > 0) {
+            log.warn("처리 시간이 초과된 outbox 이벤트 {}건을 다시 대기 상태로 돌렸습니다.", released);
+        }
+
+        for (int batch = 0; batch < MAX_BATCHES_PER_SWEEP; batch++) {
+            List<OutboxEvent> claimed = outboxEventService.claimPending(BATCH_SIZE);
+            if (claimed.isEmpty()) {
+                return;
+            }
+            dispatch(claimed);
+        }
+    }
+
+    /**
+     * 선점한 이벤트를 aggregateType 별로 묶어 처리기에 전달하고 결과를 기록
+     */
+    void dispatch(List<OutboxEvent> claimed) {
+        Map<String, List<OutboxEvent>> byAggregateType = claimed.stream()
+            .collect(Collectors.groupingBy(OutboxEvent::getAggregateType, LinkedHashMap::new, Collectors.toList()));
+
+        byAggregateType.forEach((aggregateType, outboxEvents) -> {
+            List<String> ids = outboxEvents.stream().map(OutboxEvent::getId).toList();
+            try {
+                outboxEventHandlers.stream()
+                    .filter(handler -> handler.aggregateType().equals(aggregateType))
+                    .forEach(handler -> deliver(handler, outboxEvents));
+                outboxEventService.markPublished(ids);
+                countDispatch(aggregateType, "published", ids.size());
+            } catch (RuntimeException e) {
+                log.warn("outbox 이벤트 처리 실패 ({} {}건): {}", aggregateType, ids.size(), e.getMessage());
+                outboxEventService.markFailed(ids, e);
+                countDispatch(aggregateType, "failed", ids.size());
+            }
+        });
+    }
+
+    private <T> void deliver(OutboxEventHandler<T> handler, List<OutboxEvent> outboxEvents) {
+        handler.handle(outboxEvents.stream()
+            .map(outboxEvent -> deserialize(outboxEvent, handler.payloadType()))
+            .toList());
+    }
+
+    private <T> T deserialize(OutboxEvent outboxEvent, Class<T> payloadType) {
+        try {
+            return objectMapper.readValue(outboxEvent.getPayload(), payloadType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox 이벤트 역직렬화 실패: " + outboxEvent.getId(), e);
+        }
+    }
+
+    private void countDispatch(String aggregateType, String result, int count) {
+        meterRegistry.counter("outbox.events.dispatched", "aggregate", aggregateType, "result", result)
+            .increment(count);
+    }
+}
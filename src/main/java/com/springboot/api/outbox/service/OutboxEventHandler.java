@@ -0,0 +1,16 @@
+package com.springboot.api.outbox.service;
+
+import java.util.List;
+
+/**
+ * outbox 이벤트 처리기. 같은 aggregateType 의 이벤트를 발생 순서대로 묶어서 전달받습니다.
+ * 실패하면 묶음 전체가 다시 전달되므로 여러 번 처리되어도 결과가 같아야 합니다.
+ */
+public interface OutboxEventHandler<T> {
+
+    String aggregateType();
+
+    Class<T> payloadType();
+
+    void handle(List<T> events);
+}
@@ -0,0 +1,118 @@
+package com.springboot.api.outbox.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.api.outbox.entity.OutboxEvent;
+import com.springboot.api.outbox.repository.OutboxEventRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * outbox 이벤트 기록과 선점/완료 처리.
+ * 기록은 호출한 트랜잭션에 참여하고, 선점/완료/실패는 별도 트랜잭션에서 커밋됩니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OutboxEventService {
+
+    // 기록한 인스턴스가 커밋 직후 직접 처리할 수 있도록 주기 처리 대상에서 잠시 제외하는 시간
+    private static final Duration HANDOFF_GRACE = Duration.ofSeconds(10);
+    private static final int MAX_ATTEMPTS = 10;
+    private static final int RETENTION_DAYS = 7;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * 이벤트를 현재 트랜잭션에 기록하고, 커밋 후 이 인스턴스에서 바로 처리되도록 알림
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> void append(String aggregateType, Collection<T> payloads, Function<T, String> aggregateIdMapper,
+        Function<T, String> eventTypeMapper) {
+        if (payloads.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime availableAt = LocalDateTime.now().plus(HANDOFF_GRACE);
+        List<OutboxEvent> outboxEvents = payloads.stream()
+            .map(payload -> OutboxEvent.of(aggregateType, aggregateIdMapper.apply(payload),
+                eventTypeMapper.apply(payload), serialize(payload), availableAt))
+            .toList();
+
+        List<OutboxEvent> savedOutboxEvents = outboxEventRepository.saveAll(outboxEvents);
+        applicationEventPublisher.publishEvent(new OutboxEventAppendedEvent(
+            savedOutboxEvents.stream().map(OutboxEvent::getId).toList()));
+    }
+
+    /**
+     * 지정한 이벤트 중 아직 처리되지 않은 것을 선점
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<OutboxEvent> claim(Collection<String> ids) {
+        String claimToken = UUID.randomUUID().toString();
+        if (outboxEventRepository.claim(ids, claimToken, LocalDateTime.now()) == 0) {
+            return List.of();
+        }
+        return outboxEventRepository.findByClaimTokenOrderByIdAsc(claimToken);
+    }
+
+    /**
+     * 처리 가능한 이벤트를 발생 순서대로 최대 limit 건 선점
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<OutboxEvent> claimPending(int limit) {
+        List<String> ids = outboxEventRepository.findDispatchableIds(LocalDateTime.now(), limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return claim(ids);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markPublished(Collection<String> ids) {
+        outboxEventRepository.markPublished(ids, LocalDateTime.now());
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markFailed(Collection<String> ids, Throwable error) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxEventRepository.findAllById(ids).forEach(outboxEvent -> outboxEvent.fail(error, MAX_ATTEMPTS, now));
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long releaseClaimedBefore(LocalDateTime claimedBefore) {
+        return outboxEventRepository.releaseClaimedBefore(claimedBefore);
+    }
+
+    // 모든 인스턴스에서 실행되어도 결과가 같으므로 임대 없이 실행
+    @Scheduled(cron = "0 30 4 * * *")
+    @Transactional
+    public void purgePublished() {
+        long deleted = outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusDays(RETENTION_DAYS));
+        log.info("처리 완료된 outbox 이벤트 정리: {}건", deleted);
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox 이벤트 직렬화 실패: " + payload.getClass().getSimpleName(), e);
+        }
+    }
+}
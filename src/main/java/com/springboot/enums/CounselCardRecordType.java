@@ -16,25 +16,28 @@ import com.springboot.api.counselcard.entity.CounselCard;
 import java.util.function.Function;
 
 public enum CounselCardRecordType {
-    SMOKING(CounselCard::getSmoking, SmokingDTO::new),
-    DRINKING(CounselCard::getDrinking, DrinkingDTO::new),
-    NUTRITION(CounselCard::getNutrition, NutritionDTO::new),
-    EXERCISE(CounselCard::getExercise, ExerciseDTO::new),
-    MEDICATION_MANAGEMENT(CounselCard::getMedicationManagement, MedicationManagementDTO::new),
-    DISEASE_INFO(CounselCard::getDiseaseInfo, DiseaseInfoDTO::new),
-    ALLERGY(CounselCard::getAllergy, AllergyDTO::new),
-    MEDICATION_SIDE_EFFECT(CounselCard::getMedicationSideEffect, MedicationSideEffectDTO::new),
-    COUNSEL_PURPOSE_AND_NOTE(CounselCard::getCounselPurposeAndNote, CounselPurposeAndNoteDTO::new),
-    COMMUNICATION(CounselCard::getCommunication, CommunicationDTO::new),
-    EVACUATION(CounselCard::getEvacuation, EvacuationDTO::new),
-    WALKING(CounselCard::getWalking, WalkingDTO::new);
+    SMOKING(CounselCard::getSmoking, SmokingDTO::new, SmokingDTO.class),
+    DRINKING(CounselCard::getDrinking, DrinkingDTO::new, DrinkingDTO.class),
+    NUTRITION(CounselCard::getNutrition, NutritionDTO::new, NutritionDTO.class),
+    EXERCISE(CounselCard::getExercise, ExerciseDTO::new, ExerciseDTO.class),
+    MEDICATION_MANAGEMENT(CounselCard::getMedicationManagement, MedicationManagementDTO::new, MedicationManagementDTO.class),
+    DISEASE_INFO(CounselCard::getDiseaseInfo, DiseaseInfoDTO::new, DiseaseInfoDTO.class),
+    ALLERGY(CounselCard::getAllergy, AllergyDTO::new, AllergyDTO.class),
+    MEDICATION_SIDE_EFFECT(CounselCard::getMedicationSideEffect, MedicationSideEffectDTO::new, MedicationSideEffectDTO.class),
+    COUNSEL_PURPOSE_AND_NOTE(CounselCard::getCounselPurposeAndNote, CounselPurposeAndNoteDTO::new, CounselPurposeAndNoteDTO.class),
+    COMMUNICATION(CounselCard::getCommunication, CommunicationDTO::new, CommunicationDTO.class),
+    EVACUATION(CounselCard::getEvacuation, EvacuationDTO::new, EvacuationDTO.class),
+    WALKING(CounselCard::getWalking, WalkingDTO::new, WalkingDTO.class);
 
     private final Function<CounselCard, ?> extractor;
     private final Function<?, ?> dtoConverter;
+    // 항목별 수정 요청 본문 타입
+    private final Class<?> dtoType;
 
-    <T, R> CounselCardRecordType(Function<CounselCard, T> extractor, Function<T, R> dtoConverter) {
+    <T, R> CounselCardRecordType(Function<CounselCard, T> extractor, Function<T, R> dtoConverter, Class<R> dtoType) {
         this.extractor = extractor;
         this.dtoConverter = dtoConverter;
+        this.dtoType = dtoType;
     }
 
     @SuppressWarnings("unchecked")
@@ -46,4 +49,8 @@ public enum CounselCardRecordType {
     public <T, R> Function<T, R> getDtoConverter() {
         return (Function<T, R>) dtoConverter;
     }
+
+    public Class<?> getDtoType() {
+        return dtoType;
+    }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.springboot.api.common;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.springboot.api.common.dto.StreamingAudioResource;
 import com.springboot.api.common.util.FileUtil;
 import com.springboot.api.counselsession.dto.naverClova.SpeechToTextReq;
 import com.springboot.api.counselsession.dto.naverClova.SpeechToTextRes;
@@ -15,7 +16,6 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.core.io.FileSystemResource;
 import org.springframework.util.ResourceUtils;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.client.support.RestTemplateAdapter;
@@ -31,14 +31,12 @@ public class FileUtilTest {
 
     @ParameterizedTest
     @ValueSource(strings = {"test5.webm"})
-    void testConvertWebmToM4a(String filename) throws IOException {
+    void testConvertWebmToAacStream(String filename) throws IOException, InterruptedException {
 
         File mp4File = ResourceUtils.getFile("classpath:" + "stt/audio/" + filename);
         String originPath = "/Users/choisunpil/Desktop/development/2024/spring-boot-boilerplate/src/test/resources/stt/audio/test/origin/";
-        String convertPath = "/Users/choisunpil/Desktop/development/2024/spring-boot-boilerplate/src/test/resources/stt/audio/test/convert/";
 
-        File convertedFile = fileUtil.convertWebmToMp4(mp4File.getName(), originPath,
-            convertPath);
+        Process ffmpegProcess = fileUtil.startWebmToAacStream(mp4File.getName(), originPath);
 
         RestTemplate restTemplate = new RestTemplate();
         restTemplate.setUriTemplateHandler(new DefaultUriBuilderFactory(
@@ -61,8 +59,11 @@ public class FileUtilTest {
             .build();
 
         SpeechToTextRes speechToTextRes = service
-            .convertSpeechToText(headers, new FileSystemResource(convertedFile), speechToTextReq)
+            .convertSpeechToText(headers,
+                new StreamingAudioResource(ffmpegProcess.getInputStream(), mp4File.getName().replace(".webm", ".aac")),
+                speechToTextReq)
             .getBody();
+        ffmpegProcess.waitFor();
 
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
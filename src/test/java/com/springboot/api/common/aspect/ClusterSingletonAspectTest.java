@@ -0,0 +1,92 @@
+package com.springboot.api.common.aspect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.springboot.api.common.annotation.ClusterSingleton;
+import com.springboot.api.job.service.JobLeaseService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterSingletonAspectTest {
+
+    @Mock
+    private JobLeaseService jobLeaseService;
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ClusterSingletonAspect clusterSingletonAspect;
+    private ClusterSingleton clusterSingleton;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        meterRegistry = new SimpleMeterRegistry();
+        clusterSingletonAspect = new ClusterSingletonAspect(jobLeaseService, meterRegistry);
+        clusterSingleton = getClass().getDeclaredMethod("scheduledJob").getAnnotation(ClusterSingleton.class);
+    }
+
+    @ClusterSingleton(value = "test-job", leaseSeconds = 120, minHoldSeconds = 10)
+    void scheduledJob() {
+    }
+
+    @Test
+    @DisplayName("임대를 얻지 못하면 작업을 실행하지 않고 건너뛴 횟수만 기록한다")
+    void skipWhenLeaseHeldByOthers() throws Throwable {
+        given(jobLeaseService.tryAcquire("test-job", Duration.ofSeconds(120))).willReturn(false);
+
+        Object result = clusterSingletonAspect.runExclusively(joinPoint, clusterSingleton);
+
+        assertThat(result).isNull();
+        verify(joinPoint, never()).proceed();
+        verify(jobLeaseService, never()).release(any(), any(), any());
+        assertThat(meterRegistry.counter("scheduled.job.skipped", "job", "test-job").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("임대를 얻으면 작업을 실행하고 이력 기록 후 최소 유지 시간으로 임대를 해제한다")
+    void runAndRelease() throws Throwable {
+        given(jobLeaseService.tryAcquire("test-job", Duration.ofSeconds(120))).willReturn(true);
+        given(joinPoint.proceed()).willReturn("done");
+
+        Object result = clusterSingletonAspect.runExclusively(joinPoint, clusterSingleton);
+
+        assertThat(result).isEqualTo("done");
+        verify(jobLeaseService).recordRun(eq("test-job"), any(), any(), isNull());
+        verify(jobLeaseService).release(eq("test-job"), any(), eq(Duration.ofSeconds(10)));
+        assertThat(meterRegistry.timer("scheduled.job.duration", "job", "test-job", "result", "success").count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("작업이 실패해도 실패 이력을 남기고 임대를 해제한 뒤 예외를 전달한다")
+    void releaseOnFailure() throws Throwable {
+        IllegalStateException failure = new IllegalStateException("boom");
+        given(jobLeaseService.tryAcquire("test-job", Duration.ofSeconds(120))).willReturn(true);
+        given(joinPoint.proceed()).willThrow(failure);
+
+        assertThatThrownBy(() -> clusterSingletonAspect.runExclusively(joinPoint, clusterSingleton))
+            .isSameAs(failure);
+
+        verify(jobLeaseService).recordRun(eq("test-job"), any(), any(), eq(failure));
+        verify(jobLeaseService).release(eq("test-job"), any(), eq(Duration.ofSeconds(10)));
+    }
+}
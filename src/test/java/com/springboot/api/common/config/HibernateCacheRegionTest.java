@@ -0,0 +1,66 @@
+package com.springboot.api.common.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.github.benmanes.caffeine.jcache.configuration.TypesafeConfigurator;
+import com.springboot.api.counselor.entity.Counselor;
+import com.springboot.api.counselsession.entity.PromptLearning;
+import com.springboot.api.counselsession.entity.PromptTemplate;
+import com.springboot.api.medication.entity.Medication;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class HibernateCacheRegionTest {
+
+    private static final Config REGION_CONFIG = ConfigFactory.parseResources("hibernate-cache.conf")
+        .withFallback(ConfigFactory.defaultReference())
+        .resolve();
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private boolean cached(Class<?> entityClass) {
+        return entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getMappingMetamodel()
+            .getEntityDescriptor(entityClass)
+            .canReadFromCache();
+    }
+
+    private static Duration expireAfterWrite(String region) {
+        return TypesafeConfigurator.from(REGION_CONFIG, region)
+            .map(configuration -> Duration.ofNanos(configuration.getExpireAfterWrite().orElseThrow()))
+            .orElseThrow();
+    }
+
+    @Test
+    @DisplayName("참조 엔티티만 2차 캐시에 두고, 권한/상태가 바로 반영되어야 하는 상담사는 캐시하지 않는다")
+    void cachedEntities() {
+        assertThat(cached(Medication.class)).isTrue();
+        assertThat(cached(PromptTemplate.class)).isTrue();
+        assertThat(cached(PromptLearning.class)).isTrue();
+        assertThat(cached(Counselor.class)).isFalse();
+    }
+
+    @Test
+    @DisplayName("엔티티 캐시 영역마다 크기와 만료 시간이 설정되어 있다")
+    void regionExpiry() {
+        assertThat(TypesafeConfigurator.cacheNames(REGION_CONFIG))
+            .contains(Medication.CACHE_REGION, Medication.CACHE_REGION + "Contraindications",
+                PromptTemplate.CACHE_REGION, PromptTemplate.CACHE_REGION + "Learnings", PromptLearning.CACHE_REGION)
+            .doesNotContain("counselor", "counselorQueries");
+        assertThat(expireAfterWrite(Medication.CACHE_REGION)).isEqualTo(Duration.ofHours(12));
+        assertThat(expireAfterWrite(PromptTemplate.CACHE_REGION)).isEqualTo(Duration.ofHours(1));
+        assertThat(expireAfterWrite(PromptLearning.CACHE_REGION)).isEqualTo(Duration.ofHours(1));
+    }
+}
@@ -0,0 +1,82 @@
+package com.springboot.api.common.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.springboot.api.common.config.datasource.ReadWriteRoutingDataSource.Target;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReadWriteRoutingDataSource(new DriverManagerDataSource(),
+            new DriverManagerDataSource(), Duration.ofMinutes(1), new SimpleMeterRegistry());
+        routingDataSource.setReplicaAvailable(true);
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken("counselor-1", null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    private Object lookupKey(boolean readOnly) {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+        return routingDataSource.determineCurrentLookupKey();
+    }
+
+    private void commitWriteTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(lookupKey(false)).isEqualTo(Target.PRIMARY);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica, 나머지는 primary 로 보낸다")
+    void routeByReadOnly() {
+        assertThat(lookupKey(true)).isEqualTo(Target.REPLICA);
+        assertThat(lookupKey(false)).isEqualTo(Target.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("replica 가 지연/장애 상태면 읽기 전용 트랜잭션도 primary 로 보낸다")
+    void replicaUnavailable() {
+        routingDataSource.setReplicaAvailable(false);
+
+        assertThat(lookupKey(true)).isEqualTo(Target.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 사용자의 조회는 일정 시간 동안 primary 로 보내고, 다른 사용자는 replica 를 사용한다")
+    void readYourWrites() {
+        commitWriteTransaction();
+
+        assertThat(lookupKey(true)).isEqualTo(Target.PRIMARY);
+
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken("counselor-2", null, List.of()));
+        assertThat(lookupKey(true)).isEqualTo(Target.REPLICA);
+    }
+}
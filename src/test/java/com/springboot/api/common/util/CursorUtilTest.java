@@ -0,0 +1,61 @@
+package com.springboot.api.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CursorUtilTest {
+
+    private static final LocalDateTime DATE_TIME = LocalDateTime.of(2025, 3, 3, 10, 0);
+    private static final String SESSION_ID = "01JNBYN04P2JGB7CVQBPX02EX2";
+
+    private static String rawCursor(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 일시와 id 가 나온다")
+    void encodeDecode_roundTrip() {
+        String cursor = CursorUtil.encode(DATE_TIME.withNano(123_000_000), SESSION_ID);
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+        assertThat(CursorUtil.decode(cursor))
+            .isEqualTo(new CursorUtil.DateTimeCursor(DATE_TIME.withNano(123_000_000), SESSION_ID));
+    }
+
+    @Test
+    @DisplayName("일시 부분이 변조된 커서는 IllegalArgumentException")
+    void decode_tamperedDateTime() {
+        String cursor = rawCursor("2025-13-45T99:00|" + SESSION_ID);
+
+        assertThatThrownBy(() -> CursorUtil.decode(cursor))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("잘못된 커서입니다");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not a cursor!", "%%%", "YQ=x"})
+    @DisplayName("Base64 가 아닌 커서는 IllegalArgumentException")
+    void decode_notBase64(String cursor) {
+        assertThatThrownBy(() -> CursorUtil.decode(cursor))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("잘못된 커서입니다");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2025-03-03T10:00", "2025-03-03T10:00|", "|01JNBYN04P2JGB7CVQBPX02EX2"})
+    @DisplayName("구분자, id, 일시 중 하나가 빠진 커서는 IllegalArgumentException")
+    void decode_missingPart(String raw) {
+        assertThatThrownBy(() -> CursorUtil.decode(rawCursor(raw)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("잘못된 커서입니다");
+    }
+}
@@ -0,0 +1,42 @@
+package com.springboot.api.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HashUtilTest {
+
+    @Test
+    @DisplayName("같은 입력은 항상 같은 64자리 소문자 16진수 해시를 만든다")
+    void sha256Hex_deterministic() {
+        String hash = HashUtil.sha256Hex("template-1", "v2", "[]");
+
+        assertThat(hash)
+            .hasSize(64)
+            .matches("[0-9a-f]+")
+            .isEqualTo(HashUtil.sha256Hex("template-1", "v2", "[]"));
+    }
+
+    @Test
+    @DisplayName("값 하나는 값 뒤에 구분자를 붙인 SHA-256 과 같다")
+    void sha256Hex_knownValue() {
+        // echo -n 'abc' 뒤에 0x00 한 바이트를 붙인 SHA-256
+        assertThat(HashUtil.sha256Hex("abc"))
+            .isEqualTo("dc1114cd074914bd872cc1f9a23ec910ea2203bc79779ab2e17da25782a624fc");
+    }
+
+    @Test
+    @DisplayName("값의 경계가 다르면 이어 붙인 문자열이 같아도 다른 해시가 된다")
+    void sha256Hex_separatesValues() {
+        assertThat(HashUtil.sha256Hex("ab", "c")).isNotEqualTo(HashUtil.sha256Hex("a", "bc"));
+        assertThat(HashUtil.sha256Hex("abc")).isNotEqualTo(HashUtil.sha256Hex("abc", ""));
+    }
+
+    @Test
+    @DisplayName("null 값은 빈 문자열과 같게 취급하되 값의 위치는 유지한다")
+    void sha256Hex_nullValue() {
+        assertThat(HashUtil.sha256Hex("a", null, "b")).isEqualTo(HashUtil.sha256Hex("a", "", "b"));
+        assertThat(HashUtil.sha256Hex("a", null, "b")).isNotEqualTo(HashUtil.sha256Hex("a", "b"));
+    }
+}
@@ -0,0 +1,100 @@
+package com.springboot.api.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.querydsl.jpa.impl.JPAQuery;
+import com.springboot.api.common.dto.PageTotal;
+
+@ExtendWith(MockitoExtension.class)
+class PageTotalResolverTest {
+
+    @Mock
+    private JPAQuery<Long> countQuery;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PageTotalResolver pageTotalResolver;
+
+    @BeforeEach
+    void setUp() {
+        pageTotalResolver = new PageTotalResolver(new CaffeineCacheManager(PageTotalResolver.PAGE_TOTALS),
+            dataSource, transactionManager);
+    }
+
+    @Test
+    @DisplayName("같은 조건의 count 는 캐시에서 꺼내고, 정확한 count 였으므로 exact 로 반환한다")
+    void cached_reusesExactTotal() {
+        given(countQuery.fetchOne()).willReturn(30L);
+        LocalDate date = LocalDate.of(2026, 10, 19);
+
+        PageTotal first = pageTotalResolver.cached("sessionsByDate", countQuery, date).get();
+        PageTotal second = pageTotalResolver.cached("sessionsByDate", countQuery, date).get();
+
+        assertThat(first).isEqualTo(PageTotal.exact(30));
+        assertThat(second).isEqualTo(PageTotal.exact(30));
+        verify(countQuery, times(1)).fetchOne();
+    }
+
+    @Test
+    @DisplayName("캐시 키는 조회 조건 값으로 만들고, 비어 있는 조건은 없는 조건과 같게 본다")
+    void cacheKey() {
+        assertThat(PageTotalResolver.cacheKey("sessionSearch", "김", List.of(), null))
+            .isEqualTo(PageTotalResolver.cacheKey("sessionSearch", "김", null, " "))
+            .isNotEqualTo(PageTotalResolver.cacheKey("sessionSearch", "이", null, null))
+            .isNotEqualTo(PageTotalResolver.cacheKey("counselees", "김", null, null));
+    }
+
+    @Test
+    @DisplayName("PostgreSQL 이 아니면 테이블 통계를 조회하지 않고 count 를 사용한다")
+    void estimated_skipsStatisticsOutsidePostgres() throws SQLException {
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        given(dataSource.getConnection()).willReturn(connection);
+        given(connection.getMetaData()).willReturn(metaData);
+        given(metaData.getDatabaseProductName()).willReturn("H2");
+        given(countQuery.fetchOne()).willReturn(12L);
+
+        PageTotal total = pageTotalResolver.estimated("counselees", countQuery, null, List.of(), null).get();
+
+        assertThat(total).isEqualTo(PageTotal.exact(12));
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    @Test
+    @DisplayName("조건이 있는 목록은 테이블 통계를 쓰지 않는다")
+    void estimated_withFilters_usesCount() {
+        given(countQuery.fetchOne()).willReturn(3L);
+
+        PageTotal total = pageTotalResolver.estimated("counselees", countQuery, "김", List.of(), null).get();
+
+        assertThat(total).isEqualTo(PageTotal.exact(3));
+        verify(transactionManager, never()).getTransaction(any());
+    }
+}
@@ -0,0 +1,77 @@
+package com.springboot.api.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.querydsl.jpa.impl.JPAQuery;
+import com.springboot.api.common.dto.PageReq;
+import com.springboot.api.common.dto.PageRes;
+import com.springboot.api.common.dto.PageTotal;
+
+@ExtendWith(MockitoExtension.class)
+class QuerydslPagingUtilTest {
+
+    @Mock
+    private JPAQuery<String> contentQuery;
+
+    @Mock
+    private JPAQuery<Long> countQuery;
+
+    private void givenContent(List<String> fetched) {
+        given(contentQuery.offset(anyLong())).willReturn(contentQuery);
+        given(contentQuery.limit(anyLong())).willReturn(contentQuery);
+        given(contentQuery.fetch()).willReturn(fetched);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 count 쿼리 없이 정확한 전체 건수를 계산한다")
+    void lastPage_skipsCount() {
+        givenContent(List.of("a", "b", "c"));
+
+        PageRes<String> page = QuerydslPagingUtil.applyPagination(PageReq.of(2, 5), contentQuery, countQuery);
+
+        assertThat(page.getContent()).containsExactly("a", "b", "c");
+        assertThat(page.getTotalElements()).isEqualTo(13);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.isTotalExact()).isTrue();
+        verify(countQuery, never()).fetchOne();
+    }
+
+    @Test
+    @DisplayName("다음 페이지가 있으면 한 건을 더 조회한 결과는 제외하고 count 를 실행한다")
+    void hasNext_runsCount() {
+        givenContent(List.of("a", "b", "c"));
+        given(countQuery.fetchOne()).willReturn(30L);
+
+        PageRes<String> page = QuerydslPagingUtil.applyPagination(PageReq.of(0, 2), contentQuery, countQuery);
+
+        assertThat(page.getContent()).containsExactly("a", "b");
+        assertThat(page.getTotalElements()).isEqualTo(30);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.isTotalExact()).isTrue();
+    }
+
+    @Test
+    @DisplayName("캐시된 건수가 현재 페이지보다 작으면 다음 페이지가 보이도록 보정하고 추정치로 표시한다")
+    void staleTotal_isCorrected() {
+        givenContent(List.of("a", "b", "c"));
+
+        PageRes<String> page = QuerydslPagingUtil.applyPagination(PageReq.of(1, 2), contentQuery,
+            () -> PageTotal.estimated(3));
+
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.isTotalExact()).isFalse();
+    }
+}
@@ -13,6 +13,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -23,24 +25,32 @@ import org.springframework.test.web.servlet.MockMvc;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.springboot.api.common.config.security.SecurityConfig;
 import com.springboot.api.common.converter.CustomJwtRoleConverter;
+import com.springboot.api.common.dto.PageReq;
+import com.springboot.api.common.dto.PageRes;
 import com.springboot.api.common.exception.NoContentException;
 import com.springboot.api.common.message.HttpMessages;
 import com.springboot.api.config.TestSecurityConfig;
 import com.springboot.api.counselcard.controller.CounselCardController;
 import com.springboot.api.counselcard.dto.information.independentlife.CommunicationDTO;
+import com.springboot.api.counselcard.dto.information.living.SmokingDTO;
 import com.springboot.api.counselcard.dto.request.UpdateCounselCardStatusReq;
 import com.springboot.api.counselcard.dto.response.CounselCardBaseInformationRes;
 import com.springboot.api.counselcard.dto.response.CounselCardHealthInformationRes;
 import com.springboot.api.counselcard.dto.response.CounselCardIdRes;
+import com.springboot.api.counselcard.dto.response.MainCounselBaseInformationRes;
+import com.springboot.api.counselcard.dto.response.MainCounselRecord;
+import com.springboot.api.counselcard.dto.response.MainCounselTimelineRes;
 import com.springboot.api.counselcard.dto.response.TimeRecordedRes;
 import com.springboot.api.counselcard.entity.CounselCard;
 import com.springboot.api.counselcard.entity.information.independentlife.Communication;
+import com.springboot.api.counselcard.service.CounselCardDeltaService;
 import com.springboot.api.counselcard.service.CounselCardService;
 import com.springboot.api.counselee.entity.Counselee;
 import com.springboot.api.counselsession.entity.CounselSession;
 import com.springboot.enums.CardRecordStatus;
 import com.springboot.enums.CounselCardRecordType;
 import com.springboot.enums.RoleType;
+import com.springboot.enums.SmokingAmount;
 
 @WebMvcTest(CounselCardController.class)
 @Import({SecurityConfig.class, TestSecurityConfig.class})
@@ -59,6 +69,9 @@ class CounselCardControllerTest {
     @MockitoBean
     private CounselCardService counselCardService;
 
+    @MockitoBean
+    private CounselCardDeltaService counselCardDeltaService;
+
     @MockitoBean
     private JwtDecoder jwtDecoder;
 
@@ -116,6 +129,29 @@ class CounselCardControllerTest {
             .andExpect(jsonPath("$.data.counselCardId").value(VALID_COUNSEL_CARD_ID));
     }
 
+    @Test
+    @DisplayName("성공: 상담 카드 항목별 수정")
+    void updateCounselCardSection_Success() throws Exception {
+        Collection<GrantedAuthority> authorities = Collections.singletonList(
+            new SimpleGrantedAuthority(RoleType.ROLE_USER.name()));
+        mockJwtToken(authorities);
+
+        SmokingDTO request = new SmokingDTO("10년", SmokingAmount.ONE_PACK);
+        CounselCardIdRes mockResponse = new CounselCardIdRes(VALID_COUNSEL_CARD_ID);
+
+        when(counselCardService.updateCounselCardSection(eq(VALID_COUNSEL_SESSION_ID),
+            eq(CounselCardRecordType.SMOKING), any()))
+            .thenReturn(mockResponse);
+
+        mockMvc.perform(patch("/v1/counsel/card/{counselSessionId}/sections/{type}", VALID_COUNSEL_SESSION_ID,
+                CounselCardRecordType.SMOKING)
+                .header("Authorization", "Bearer token")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.counselCardId").value(VALID_COUNSEL_CARD_ID));
+    }
+
     @Test
     @DisplayName("성공: 상담 카드 삭제")
     void deleteCounselCard_Success() throws Exception {
@@ -157,6 +193,33 @@ class CounselCardControllerTest {
             .andExpect(jsonPath("$.data[0].counselDate").value("2024-01-01"));
     }
 
+    @Test
+    @DisplayName("성공: 이전 상담 카드 item 페이지 조회")
+    void selectPreviousItemPage_Success() throws Exception {
+        Collection<GrantedAuthority> authorities = Collections.singletonList(
+            new SimpleGrantedAuthority(RoleType.ROLE_ADMIN.name()));
+        mockJwtToken(authorities);
+
+        TimeRecordedRes<Object> record = new TimeRecordedRes<>("2024-01-01",
+            new CommunicationDTO(Communication.initializeDefault()));
+        PageRes<TimeRecordedRes<Object>> mockResponse = new PageRes<>(
+            new PageImpl<>(List.of(record), PageRequest.of(0, 10), 1));
+
+        when(counselCardService.selectPreviousRecordsByType(eq(VALID_COUNSEL_SESSION_ID),
+            eq(CounselCardRecordType.COMMUNICATION), any(PageReq.class)))
+            .thenReturn(mockResponse);
+
+        mockMvc.perform(get("/v1/counsel/card/{counselSessionId}/previous/item", VALID_COUNSEL_SESSION_ID)
+                .header("Authorization", "Bearer token")
+                .param("type", CounselCardRecordType.COMMUNICATION.name())
+                .param("page", "0")
+                .param("size", "10")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].counselDate").value("2024-01-01"))
+            .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
     @Test
     @DisplayName("실패: 이전 상담 카드 item 목록 조회 - 데이터 없음")
     void selectPreviousItemList_NoContent() throws Exception {
@@ -248,6 +311,31 @@ class CounselCardControllerTest {
             .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("성공: 본상담 전체 항목 조회")
+    void selectMainCounselTimeline_Success() throws Exception {
+        Collection<GrantedAuthority> authorities = Collections.singletonList(
+            new SimpleGrantedAuthority(RoleType.ROLE_ADMIN.name()));
+        mockJwtToken(authorities);
+
+        MainCounselBaseInformationRes baseInformation = new MainCounselBaseInformationRes(
+            new MainCounselRecord<>(List.of(), List.of()),
+            new MainCounselRecord<>("특이사항", List.of(new TimeRecordedRes<>("2024-01-01", "이전 특이사항"))),
+            new MainCounselRecord<>(null, List.of()));
+        MainCounselTimelineRes mockResponse = new MainCounselTimelineRes(baseInformation, null, null, null);
+
+        when(counselCardService.selectMainCounselTimeline(VALID_COUNSEL_SESSION_ID))
+            .thenReturn(mockResponse);
+
+        mockMvc.perform(get("/v1/counsel/card/main-counsel/{counselSessionId}/timeline", VALID_COUNSEL_SESSION_ID)
+                .header("Authorization", "Bearer token")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.baseInformation.significantNote.currentState").value("특이사항"))
+            .andExpect(jsonPath("$.data.baseInformation.significantNote.history[0].counselDate")
+                .value("2024-01-01"));
+    }
+
     private void mockJwtToken(Collection<GrantedAuthority> authorities) {
         Jwt jwt = Jwt.withTokenValue("token")
             .header("alg", "none")
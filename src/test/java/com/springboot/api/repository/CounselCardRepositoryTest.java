@@ -0,0 +1,123 @@
+package com.springboot.api.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.springboot.api.common.dto.PageReq;
+import com.springboot.api.common.dto.PageRes;
+import com.springboot.api.counselcard.dto.information.RecordedSection;
+import com.springboot.api.counselcard.dto.information.base.CounselPurposeAndNoteDTO;
+import com.springboot.api.counselcard.dto.information.health.DiseaseInfoDTO;
+import com.springboot.api.counselcard.dto.information.independentlife.CommunicationDTO;
+import com.springboot.api.counselcard.dto.information.independentlife.EvacuationDTO;
+import com.springboot.api.counselcard.dto.information.independentlife.WalkingDTO;
+import com.springboot.api.counselcard.dto.information.living.MedicationManagementDTO;
+import com.springboot.api.counselcard.entity.CounselCard;
+import com.springboot.api.counselcard.repository.CounselCardRepository;
+import com.springboot.api.counselee.entity.Counselee;
+import com.springboot.api.counselsession.entity.CounselSession;
+import com.springboot.enums.CommunicationType;
+import com.springboot.enums.CounselCardRecordType;
+import com.springboot.enums.CounselPurposeType;
+import com.springboot.enums.DiseaseType;
+import com.springboot.enums.EvacuationType;
+import com.springboot.enums.HearingType;
+import com.springboot.enums.MedicationAssistant;
+import com.springboot.enums.ScheduleStatus;
+import com.springboot.enums.SightType;
+import com.springboot.enums.UsingKoreanType;
+import com.springboot.enums.WalkingEquipmentType;
+import com.springboot.enums.WalkingType;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@Transactional
+class CounselCardRepositoryTest {
+
+    private static final LocalDateTime CURRENT = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    @Autowired
+    private CounselCardRepository counselCardRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private static Object sectionDTO(CounselCardRecordType type) {
+        return switch (type) {
+            case COUNSEL_PURPOSE_AND_NOTE -> new CounselPurposeAndNoteDTO(
+                List.of(CounselPurposeType.values()[0], CounselPurposeType.values()[1]), "특이사항", "의약품");
+            case DISEASE_INFO -> new DiseaseInfoDTO(
+                List.of(DiseaseType.values()[0], DiseaseType.values()[1]), "병력", "불편");
+            case MEDICATION_MANAGEMENT -> new MedicationManagementDTO(
+                false, "동거인", List.of(MedicationAssistant.values()[0]), null);
+            case COMMUNICATION -> new CommunicationDTO(
+                List.of(SightType.values()[0]), List.of(HearingType.values()[0]), CommunicationType.values()[0],
+                List.of(UsingKoreanType.values()[0]));
+            case EVACUATION -> new EvacuationDTO(List.of(EvacuationType.values()[0]), "배변");
+            case WALKING -> new WalkingDTO(
+                List.of(WalkingType.values()[0]), List.of(WalkingEquipmentType.values()[0]), "보행");
+            default -> throw new IllegalArgumentException(type.name());
+        };
+    }
+
+    private CounselSession persistSession(Counselee counselee, LocalDateTime scheduledStartDateTime,
+        ScheduleStatus status) {
+        CounselSession counselSession = CounselSession.builder()
+            .counselee(counselee)
+            .scheduledStartDateTime(scheduledStartDateTime)
+            .status(status)
+            .build();
+        entityManager.persist(counselSession);
+        return counselSession;
+    }
+
+    private void persistCompletedCard(CounselSession counselSession, CounselCardRecordType type) {
+        CounselCard counselCard = CounselCard.createFromSession(counselSession);
+        counselCard.updateSection(type, sectionDTO(type));
+        counselCard.updateStatusToInProgress();
+        counselCard.updateStatusToCompleted();
+        entityManager.persist(counselCard);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = CounselCardRecordType.class, names = {
+        "COUNSEL_PURPOSE_AND_NOTE", "DISEASE_INFO", "MEDICATION_MANAGEMENT", "COMMUNICATION", "EVACUATION", "WALKING"})
+    void findRecordedSectionsByPreviousSessions_collectionSection(CounselCardRecordType type) {
+        Counselee counselee = Counselee.builder()
+            .name("테스트 내담자")
+            .dateOfBirth(LocalDate.of(1950, 1, 1))
+            .isDisability(false)
+            .build();
+        entityManager.persist(counselee);
+
+        persistCompletedCard(persistSession(counselee, CURRENT.minusMonths(2), ScheduleStatus.COMPLETED), type);
+        persistCompletedCard(persistSession(counselee, CURRENT.minusMonths(1), ScheduleStatus.COMPLETED), type);
+        persistCompletedCard(persistSession(counselee, CURRENT.minusWeeks(1), ScheduleStatus.CANCELED), type);
+        CounselSession current = persistSession(counselee, CURRENT, ScheduleStatus.IN_PROGRESS);
+        entityManager.persist(CounselCard.createFromSession(current));
+        entityManager.flush();
+        entityManager.clear();
+
+        PageRes<RecordedSection> page = counselCardRepository.findRecordedSectionsByPreviousSessions(
+            current.getId(), type, PageReq.of(0, 1));
+
+        Function<Object, Object> dtoConverter = type.getDtoConverter();
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getContent()).singleElement().satisfies(recordedSection -> {
+            assertThat(recordedSection.scheduledStartDateTime()).isEqualTo(CURRENT.minusMonths(1));
+            assertThat(dtoConverter.apply(recordedSection.section())).isEqualTo(sectionDTO(type));
+        });
+    }
+}
@@ -0,0 +1,96 @@
+package com.springboot.api.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.springboot.api.counselee.entity.Counselee;
+import com.springboot.api.counselsession.entity.CounselSession;
+import com.springboot.api.counselsession.repository.CounselSessionRepository;
+import com.springboot.enums.ScheduleStatus;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@Transactional
+class CounselSessionRepositoryTest {
+
+    private static final LocalDateTime FIRST = LocalDateTime.of(2025, 3, 3, 10, 0);
+
+    @Autowired
+    private CounselSessionRepository counselSessionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Counselee counselee;
+    private Counselee otherCounselee;
+
+    @BeforeEach
+    void setUp() {
+        counselee = persistCounselee("테스트 내담자");
+        otherCounselee = persistCounselee("다른 내담자");
+    }
+
+    private Counselee persistCounselee(String name) {
+        Counselee newCounselee = Counselee.builder()
+            .name(name)
+            .dateOfBirth(LocalDate.of(1950, 1, 1))
+            .isDisability(false)
+            .build();
+        entityManager.persist(newCounselee);
+        return newCounselee;
+    }
+
+    private CounselSession persistSession(Counselee owner, LocalDateTime scheduledStartDateTime,
+        ScheduleStatus status, int sessionNumber) {
+        CounselSession counselSession = CounselSession.builder()
+            .counselee(owner)
+            .scheduledStartDateTime(scheduledStartDateTime)
+            .status(status)
+            .sessionNumber(sessionNumber)
+            .build();
+        entityManager.persist(counselSession);
+        return counselSession;
+    }
+
+    private int sessionNumberOf(CounselSession counselSession) {
+        return entityManager.find(CounselSession.class, counselSession.getId()).getSessionNumber();
+    }
+
+    @Test
+    @DisplayName("회차 재정렬은 취소된 세션을 건너뛰고, 기준 시각 이전 예약과 다른 내담자의 회차는 건드리지 않는다")
+    void reassignSessionNumbers_fromScheduledStart() {
+        // given
+        CounselSession before = persistSession(counselee, FIRST, ScheduleStatus.COMPLETED, 7);
+        CounselSession canceled = persistSession(counselee, FIRST.plusDays(7), ScheduleStatus.CANCELED, 2);
+        CounselSession second = persistSession(counselee, FIRST.plusDays(14), ScheduleStatus.SCHEDULED, 3);
+        CounselSession sameTimeLater = persistSession(counselee, FIRST.plusDays(14), ScheduleStatus.SCHEDULED, 3);
+        CounselSession other = persistSession(otherCounselee, FIRST.plusDays(14), ScheduleStatus.SCHEDULED, 5);
+
+        // when
+        int updated = counselSessionRepository.reassignSessionNumbers(Set.of(counselee.getId()),
+            FIRST.plusDays(7));
+        entityManager.clear();
+
+        // then
+        assertThat(updated).isEqualTo(2);
+        assertThat(sessionNumberOf(before)).isEqualTo(7);
+        assertThat(sessionNumberOf(canceled)).isEqualTo(2);
+        // 같은 예약 시각이면 id 순서
+        CounselSession firstAtSameTime = second.getId().compareTo(sameTimeLater.getId()) < 0 ? second : sameTimeLater;
+        CounselSession secondAtSameTime = firstAtSameTime == second ? sameTimeLater : second;
+        assertThat(sessionNumberOf(firstAtSameTime)).isEqualTo(2);
+        assertThat(sessionNumberOf(secondAtSameTime)).isEqualTo(3);
+        assertThat(sessionNumberOf(other)).isEqualTo(5);
+    }
+}
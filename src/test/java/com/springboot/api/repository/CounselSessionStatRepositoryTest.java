@@ -0,0 +1,53 @@
+package com.springboot.api.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.springboot.api.counselsession.entity.CounselSessionStat;
+import com.springboot.api.counselsession.enums.StatPeriodType;
+import com.springboot.api.counselsession.repository.CounselSessionStatRepository;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@Transactional
+class CounselSessionStatRepositoryTest {
+
+    @Autowired
+    private CounselSessionStatRepository counselSessionStatRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private static CounselSessionStat aggregated(long counselorCount) {
+        CounselSessionStat stat = CounselSessionStat.of(StatPeriodType.YEAR, "2026");
+        stat.updateStats(120, 2, 3, 4, counselorCount);
+        return stat;
+    }
+
+    @Test
+    @DisplayName("이미 있는 기간은 새로 만들지 않고, 상담 시간은 증감분만 더한다")
+    void insertIfAbsent_thenAddDuration() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(counselSessionStatRepository.insertIfAbsent(aggregated(1), now)).isTrue();
+        assertThat(counselSessionStatRepository.insertIfAbsent(aggregated(5), now)).isFalse();
+        counselSessionStatRepository.addCounselDuration(StatPeriodType.YEAR, "2026", 45, 1, now);
+        counselSessionStatRepository.addCounselDuration(StatPeriodType.YEAR, "2026", -15, 0, now);
+        entityManager.clear();
+
+        assertThat(counselSessionStatRepository.findAll()).singleElement().satisfies(stat -> {
+            assertThat(stat.getPeriodKey()).isEqualTo("2026");
+            assertThat(stat.getCounselMinutes()).isEqualTo(150);
+            assertThat(stat.getCounselHours()).isEqualTo(3);
+            assertThat(stat.getCounselorCount()).isEqualTo(1);
+        });
+    }
+}
@@ -0,0 +1,93 @@
+package com.springboot.api.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.querydsl.core.types.Operation;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.springboot.api.counselee.entity.QCounselee;
+import com.springboot.api.counselee.repository.CounseleeNameIndex;
+
+class CounseleeNameIndexTest {
+
+    private CounseleeNameIndex counseleeNameIndex;
+
+    @BeforeEach
+    void setUp() {
+        counseleeNameIndex = new CounseleeNameIndex(null);
+        counseleeNameIndex.rebuild(Map.of(
+            "1", "김민수",
+            "2", "이민수",
+            "3", "김철수",
+            "4", "박영희"));
+    }
+
+    @Test
+    @DisplayName("색인이 만들어지기 전에는 검색 결과 대신 empty 를 반환한다")
+    void search_beforeBuild() {
+        CounseleeNameIndex notBuilt = new CounseleeNameIndex(null);
+
+        assertThat(notBuilt.search("민수")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 글자와 두 글자 이상 검색어 모두 포함된 이름을 찾는다")
+    void search_syllable() {
+        assertThat(counseleeNameIndex.search("민수")).hasValueSatisfying(
+            ids -> assertThat(ids).containsExactlyInAnyOrder("1", "2"));
+        assertThat(counseleeNameIndex.search("김")).hasValueSatisfying(
+            ids -> assertThat(ids).containsExactlyInAnyOrder("1", "3"));
+        assertThat(counseleeNameIndex.search("김수")).hasValueSatisfying(
+            ids -> assertThat(ids).isEmpty());
+    }
+
+    @Test
+    @DisplayName("초성 검색어는 이름의 초성 문자열에서 찾는다")
+    void search_chosung() {
+        assertThat(CounseleeNameIndex.toChosung("김민수")).isEqualTo("ㄱㅁㅅ");
+        assertThat(counseleeNameIndex.search("ㄱㅁ")).hasValueSatisfying(
+            ids -> assertThat(ids).containsExactly("1"));
+        assertThat(counseleeNameIndex.search("ㅁㅅ")).hasValueSatisfying(
+            ids -> assertThat(ids).containsExactlyInAnyOrder("1", "2"));
+    }
+
+    @Test
+    @DisplayName("자동완성은 검색어로 시작하는 이름을 먼저 보여준다")
+    void autocomplete() {
+        counseleeNameIndex.put("5", "민수정");
+
+        assertThat(counseleeNameIndex.autocomplete("민수", 2)).hasValueSatisfying(
+            ids -> assertThat(ids).containsExactly("5", "1"));
+    }
+
+    @Test
+    @DisplayName("이름 변경과 삭제가 색인에 반영된다")
+    void putAndRemove() {
+        counseleeNameIndex.put("4", "박민수");
+        counseleeNameIndex.remove("1");
+
+        assertThat(counseleeNameIndex.search("민수")).hasValueSatisfying(
+            ids -> assertThat(ids).containsExactlyInAnyOrder("2", "4"));
+        assertThat(counseleeNameIndex.search("영희")).hasValueSatisfying(
+            ids -> assertThat(ids).isEmpty());
+    }
+
+    @Test
+    @DisplayName("음절 검색 조건은 색인 ID 목록과 함께 DB 이름을 다시 확인하고, 초성 검색은 ID 목록만 쓴다")
+    void nameCondition_rechecksName() {
+        QCounselee counselee = QCounselee.counselee;
+
+        BooleanExpression syllable = counseleeNameIndex.nameCondition(counselee.name, counselee.id, " 민수 ");
+        BooleanExpression chosung = counseleeNameIndex.nameCondition(counselee.name, counselee.id, "ㄱㅁ");
+
+        assertThat(((Operation<?>) syllable).getOperator()).isEqualTo(Ops.AND);
+        assertThat(((Operation<?>) syllable).getArg(1)).isEqualTo(counselee.name.containsIgnoreCase("민수"));
+        assertThat(((Operation<?>) chosung).getOperator()).isEqualTo(Ops.IN);
+    }
+}
@@ -0,0 +1,51 @@
+package com.springboot.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.api.counselsession.dto.aiCounselSummary.SpeakerStatsDTO;
+import com.springboot.api.counselsession.dto.naverClova.SpeechToTextRes;
+import com.springboot.api.counselsession.service.AICounselSummarySpeakerService;
+
+class AICounselSummarySpeakerServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("STT 결과를 한 번 순회해 화자별 발화 통계를 계산한다")
+    void calculateSpeakerStats() throws Exception {
+        // given
+        SpeechToTextRes speechToTextRes = objectMapper.readValue("""
+            {
+                "result": "COMPLETED",
+                "segments": [
+                    { "speaker": { "name": "A" }, "text": "안녕하세요", "start": 0, "end": 1 },
+                    { "speaker": { "name": "B" }, "text": "네", "start": 1, "end": 2 },
+                    { "speaker": { "name": "A" }, "text": "오늘 복약 상담을 시작하겠습니다", "start": 2, "end": 3 }
+                ],
+                "speakers": [
+                    { "label": "1", "name": "A", "edited": false },
+                    { "label": "2", "name": "B", "edited": false },
+                    { "label": "3", "name": "C", "edited": false }
+                ]
+            }
+            """, SpeechToTextRes.class);
+
+        // when
+        Map<String, SpeakerStatsDTO> speakerStats = AICounselSummarySpeakerService
+            .calculateSpeakerStats(speechToTextRes);
+
+        // then
+        assertThat(speakerStats).containsOnlyKeys("A", "B", "C");
+        assertThat(speakerStats.get("A").getSpeakCount()).isEqualTo(2);
+        assertThat(speakerStats.get("A").getMaxLengthText()).isEqualTo("오늘 복약 상담을 시작하겠습니다");
+        assertThat(speakerStats.get("A").getTextLengthSum()).isEqualTo("안녕하세요".length() + "오늘 복약 상담을 시작하겠습니다".length());
+        assertThat(speakerStats.get("B").getSpeakCount()).isEqualTo(1);
+        assertThat(speakerStats.get("C").getSpeakCount()).isZero();
+    }
+}
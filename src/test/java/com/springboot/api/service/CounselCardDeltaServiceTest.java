@@ -0,0 +1,193 @@
+package com.springboot.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.api.common.properties.CounselCardHistoryProperties;
+import com.springboot.api.counselcard.dto.information.living.SmokingDTO;
+import com.springboot.api.counselcard.dto.response.TimeRecordedRes;
+import com.springboot.api.counselcard.entity.CounselCard;
+import com.springboot.api.counselcard.entity.CounselCardDelta;
+import com.springboot.api.counselcard.repository.CounselCardDeltaRepository;
+import com.springboot.api.counselcard.repository.CounselCardRepository;
+import com.springboot.api.counselcard.service.CounselCardDeltaCodec;
+import com.springboot.api.counselcard.service.CounselCardDeltaService;
+import com.springboot.api.counselee.entity.Counselee;
+import com.springboot.api.counselsession.entity.CounselSession;
+import com.springboot.enums.CounselCardRecordType;
+import com.springboot.enums.SmokingAmount;
+
+@ExtendWith(MockitoExtension.class)
+class CounselCardDeltaServiceTest {
+
+    private static final String COUNSELEE_ID = "01HQ8VQXG7RZDQ1234567890CD";
+
+    @Mock
+    private CounselCardDeltaRepository counselCardDeltaRepository;
+
+    @Mock
+    private CounselCardRepository counselCardRepository;
+
+    private final CounselCardDeltaCodec counselCardDeltaCodec =
+        new CounselCardDeltaCodec(new ObjectMapper().findAndRegisterModules());
+
+    private CounselCardDeltaService counselCardDeltaService;
+
+    private final Counselee counselee = Counselee.builder()
+        .id(COUNSELEE_ID)
+        .name("테스트 내담자")
+        .isDisability(false)
+        .dateOfBirth(LocalDate.of(1950, 1, 1))
+        .build();
+
+    @BeforeEach
+    void setUp() {
+        CounselCardHistoryProperties properties = new CounselCardHistoryProperties();
+        properties.setDeltaEnabled(true);
+        properties.setSnapshotInterval(2);
+        counselCardDeltaService = new CounselCardDeltaService(counselCardDeltaRepository, counselCardRepository,
+            counselCardDeltaCodec, properties);
+    }
+
+    private CounselCard completedCard(String id, LocalDateTime scheduledStartDateTime, SmokingAmount smokingAmount) {
+        CounselSession counselSession = CounselSession.builder()
+            .id(id)
+            .counselee(counselee)
+            .scheduledStartDateTime(scheduledStartDateTime)
+            .build();
+        CounselCard counselCard = CounselCard.createFromSession(counselSession);
+        counselCard.setId(id);
+        counselCard.updateSection(CounselCardRecordType.SMOKING, new SmokingDTO("10년", smokingAmount));
+        counselCard.updateStatusToInProgress();
+        counselCard.updateStatusToCompleted();
+        return counselCard;
+    }
+
+    @Test
+    @DisplayName("바뀐 항목만 delta 로 저장하고, 변경이 없는 카드는 건너뛰며, 주기마다 스냅샷을 남긴다")
+    void rebuild_encodesOnlyChanges() {
+        CounselCard first = completedCard("01HQ8VQXG7RZDQ1234567890A1", LocalDateTime.of(2024, 1, 1, 10, 0),
+            SmokingAmount.ONE_PACK);
+        CounselCard unchanged = completedCard("01HQ8VQXG7RZDQ1234567890A2", LocalDateTime.of(2024, 2, 1, 10, 0),
+            SmokingAmount.ONE_PACK);
+        CounselCard changed = completedCard("01HQ8VQXG7RZDQ1234567890A3", LocalDateTime.of(2024, 3, 1, 10, 0),
+            SmokingAmount.NONE);
+        CounselCard snapshot = completedCard("01HQ8VQXG7RZDQ1234567890A4", LocalDateTime.of(2024, 4, 1, 10, 0),
+            SmokingAmount.NONE);
+
+        given(counselCardDeltaRepository.findLatestSnapshotBefore(anyString(), any())).willReturn(Optional.empty());
+        given(counselCardRepository.findCompletedCardsByCounseleeIdFrom(anyString(), any()))
+            .willReturn(List.of(first, unchanged, changed, snapshot));
+
+        int written = counselCardDeltaService.rebuild(COUNSELEE_ID);
+
+        ArgumentCaptor<CounselCardDelta> captor = ArgumentCaptor.forClass(CounselCardDelta.class);
+        verify(counselCardDeltaRepository, times(3)).save(captor.capture());
+        List<CounselCardDelta> deltas = captor.getAllValues();
+
+        assertThat(written).isEqualTo(3);
+        assertThat(deltas).extracting(CounselCardDelta::getCounselCardId)
+            .containsExactly(first.getId(), changed.getId(), snapshot.getId());
+        assertThat(deltas).extracting(CounselCardDelta::getSequence).containsExactly(0, 1, 2);
+        assertThat(deltas).extracting(CounselCardDelta::isSnapshot).containsExactly(true, false, true);
+        assertThat(deltas.get(1).getChangedSections()).isEqualTo(",SMOKING,");
+        assertThat(deltas.getFirst().getChangedSections().split(",")).hasSize(
+            CounselCardRecordType.values().length + 1);
+    }
+
+    @Test
+    @DisplayName("delta 를 순서대로 fold 하면 마지막 카드의 전체 항목이 복원되고, 항목 이력은 변경 시점만 남는다")
+    void foldAndTimeline() {
+        CounselCard first = completedCard("01HQ8VQXG7RZDQ1234567890A1", LocalDateTime.of(2024, 1, 1, 10, 0),
+            SmokingAmount.ONE_PACK);
+        CounselCard changed = completedCard("01HQ8VQXG7RZDQ1234567890A2", LocalDateTime.of(2024, 2, 1, 10, 0),
+            SmokingAmount.TWO_PACKS);
+        CounselCard snapshot = completedCard("01HQ8VQXG7RZDQ1234567890A3", LocalDateTime.of(2024, 3, 1, 10, 0),
+            SmokingAmount.TWO_PACKS);
+
+        given(counselCardDeltaRepository.findLatestSnapshotBefore(anyString(), any())).willReturn(Optional.empty());
+        given(counselCardRepository.findCompletedCardsByCounseleeIdFrom(anyString(), any()))
+            .willReturn(List.of(first, changed, snapshot));
+
+        counselCardDeltaService.rebuild(COUNSELEE_ID);
+
+        ArgumentCaptor<CounselCardDelta> captor = ArgumentCaptor.forClass(CounselCardDelta.class);
+        verify(counselCardDeltaRepository, times(3)).save(captor.capture());
+        List<CounselCardDelta> deltas = captor.getAllValues();
+
+        Map<CounselCardRecordType, JsonNode> state = counselCardDeltaCodec.fold(deltas);
+        assertThat(state).isEqualTo(counselCardDeltaCodec.sections(snapshot));
+
+        List<TimeRecordedRes<JsonNode>> timeline = counselCardDeltaCodec.sectionTimeline(deltas,
+            CounselCardRecordType.SMOKING);
+        assertThat(timeline).extracting(TimeRecordedRes::getCounselDate)
+            .containsExactly("2024-02-01", "2024-01-01");
+        assertThat(timeline.getFirst().getData().get("smokingAmount").asText()).isEqualTo("TWO_PACKS");
+    }
+
+    @Test
+    @DisplayName("완료 카드가 이력에서 빠지면 그 시점부터 delta 를 지우고 남은 카드로 다시 인코딩한다")
+    void reencodeFrom_dropsRemovedCard() {
+        LocalDateTime canceledAt = LocalDateTime.of(2024, 2, 1, 10, 0);
+        CounselCard remaining = completedCard("01HQ8VQXG7RZDQ1234567890A3", LocalDateTime.of(2024, 3, 1, 10, 0),
+            SmokingAmount.NONE);
+
+        given(counselCardDeltaRepository.existsBefore(COUNSELEE_ID, canceledAt)).willReturn(true);
+        given(counselCardDeltaRepository.findLatestSnapshotBefore(COUNSELEE_ID, canceledAt))
+            .willReturn(Optional.empty());
+        given(counselCardRepository.findCompletedCardsByCounseleeIdFrom(COUNSELEE_ID, canceledAt))
+            .willReturn(List.of(remaining));
+
+        counselCardDeltaService.reencodeFrom(COUNSELEE_ID, canceledAt);
+
+        ArgumentCaptor<CounselCardDelta> captor = ArgumentCaptor.forClass(CounselCardDelta.class);
+        verify(counselCardDeltaRepository).deleteFrom(COUNSELEE_ID, canceledAt);
+        verify(counselCardDeltaRepository).save(captor.capture());
+        assertThat(captor.getValue().getCounselCardId()).isEqualTo(remaining.getId());
+    }
+
+    @Test
+    @DisplayName("기록 시점 이전 이력이 없으면 이관되지 않은 이전 완료 카드까지 처음부터 인코딩한다")
+    void recordIfCompleted_backfillsEarlierCards() {
+        CounselCard earlier = completedCard("01HQ8VQXG7RZDQ1234567890A1", LocalDateTime.of(2024, 1, 1, 10, 0),
+            SmokingAmount.ONE_PACK);
+        CounselCard completed = completedCard("01HQ8VQXG7RZDQ1234567890A2", LocalDateTime.of(2024, 2, 1, 10, 0),
+            SmokingAmount.NONE);
+        LocalDateTime completedAt = completed.getCounselSession().getScheduledStartDateTime();
+
+        given(counselCardDeltaRepository.existsBefore(COUNSELEE_ID, completedAt)).willReturn(false);
+        given(counselCardDeltaRepository.findLatestSnapshotBefore(anyString(), any())).willReturn(Optional.empty());
+        given(counselCardRepository.findCompletedCardsByCounseleeIdFrom(anyString(), any()))
+            .willReturn(List.of(earlier, completed));
+
+        counselCardDeltaService.recordIfCompleted(completed);
+
+        ArgumentCaptor<LocalDateTime> fromCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<CounselCardDelta> captor = ArgumentCaptor.forClass(CounselCardDelta.class);
+        verify(counselCardDeltaRepository).deleteFrom(anyString(), fromCaptor.capture());
+        verify(counselCardDeltaRepository, times(2)).save(captor.capture());
+        assertThat(fromCaptor.getValue()).isBefore(earlier.getCounselSession().getScheduledStartDateTime());
+        assertThat(captor.getAllValues()).extracting(CounselCardDelta::getCounselCardId)
+            .containsExactly(earlier.getId(), completed.getId());
+    }
+}
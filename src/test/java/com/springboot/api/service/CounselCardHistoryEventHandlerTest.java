@@ -0,0 +1,59 @@
+package com.springboot.api.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.springboot.api.counselcard.service.CounselCardHistoryCache;
+import com.springboot.api.counselsession.dto.counselsession.CounselSessionDomainEvent;
+import com.springboot.api.counselsession.enums.CounselSessionEventType;
+import com.springboot.api.counselsession.service.eventlistener.CounselCardHistoryEventHandler;
+import com.springboot.enums.ScheduleStatus;
+
+@ExtendWith(MockitoExtension.class)
+class CounselCardHistoryEventHandlerTest {
+
+    private static final LocalDateTime SCHEDULED = LocalDateTime.of(2026, 5, 1, 10, 0);
+
+    @Mock
+    private CounselCardHistoryCache counselCardHistoryCache;
+
+    private CounselCardHistoryEventHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new CounselCardHistoryEventHandler(counselCardHistoryCache);
+    }
+
+    private static CounselSessionDomainEvent event(CounselSessionEventType type, String previousCounseleeId) {
+        return new CounselSessionDomainEvent(type, "session-1", "counselee-1", previousCounseleeId,
+            ScheduleStatus.COMPLETED, SCHEDULED, SCHEDULED.minusDays(1), SCHEDULED, LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("내담자가 바뀐 예약 변경은 이전 내담자와 새 내담자의 기록을 모두 제거한다")
+    void handle_counseleeReassigned_evictsBoth() {
+        handler.handle(List.of(event(CounselSessionEventType.RESCHEDULED, "counselee-0")));
+
+        verify(counselCardHistoryCache).evict("counselee-1");
+        verify(counselCardHistoryCache).evict("counselee-0");
+    }
+
+    @Test
+    @DisplayName("상담사 변경은 기록 캐시를 제거하지 않는다")
+    void handle_counselorChanged_skips() {
+        handler.handle(List.of(event(CounselSessionEventType.COUNSELOR_CHANGED, null)));
+
+        verify(counselCardHistoryCache, never()).evict(any());
+    }
+}
@@ -0,0 +1,128 @@
+package com.springboot.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.collection.spi.PersistentBag;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import com.springboot.api.counselcard.dto.information.base.CounselPurposeAndNoteDTO;
+import com.springboot.api.counselcard.dto.information.health.DiseaseInfoDTO;
+import com.springboot.api.counselcard.dto.response.MainCounselBaseInformationRes;
+import com.springboot.api.counselcard.dto.response.MainCounselHealthInformationRes;
+import com.springboot.api.counselcard.dto.response.TimeRecordedRes;
+import com.springboot.api.counselcard.entity.CounselCard;
+import com.springboot.api.counselcard.repository.CounselCardRepository;
+import com.springboot.api.counselcard.service.CounselCardDeltaService;
+import com.springboot.api.counselcard.service.CounselCardHistoryCache;
+import com.springboot.api.counselcard.service.CounselCardService;
+import com.springboot.api.counselee.entity.Counselee;
+import com.springboot.api.counselsession.entity.CounselSession;
+import com.springboot.api.counselsession.service.CounselSessionCacheService;
+import com.springboot.enums.CounselCardRecordType;
+import com.springboot.enums.CounselPurposeType;
+import com.springboot.enums.DiseaseType;
+import com.springboot.enums.ScheduleStatus;
+
+@ExtendWith(MockitoExtension.class)
+class CounselCardServiceTest {
+
+    private static final String COUNSELEE_ID = "01HQ8VQXG7RZDQ1234567890CD";
+    private static final String CURRENT_SESSION_ID = "01HQ8VQXG7RZDQ1234567890S3";
+
+    @Mock
+    private CounselCardRepository counselCardRepository;
+
+    @Mock
+    private CounselSessionCacheService counselSessionCacheService;
+
+    @Mock
+    private CounselCardDeltaService counselCardDeltaService;
+
+    private CounselCardService counselCardService;
+
+    private final Counselee counselee = Counselee.builder()
+        .id(COUNSELEE_ID)
+        .name("테스트 내담자")
+        .isDisability(false)
+        .dateOfBirth(LocalDate.of(1950, 1, 1))
+        .build();
+
+    @BeforeEach
+    void setUp() {
+        CounselCardHistoryCache counselCardHistoryCache =
+            new CounselCardHistoryCache(new CaffeineCacheManager(CounselCardHistoryCache.CACHE_NAME));
+        counselCardService = new CounselCardService(counselCardRepository, counselSessionCacheService,
+            counselCardHistoryCache, counselCardDeltaService);
+    }
+
+    private CounselCard card(String id, LocalDateTime scheduledStartDateTime, ScheduleStatus status,
+        List<DiseaseType> diseases) {
+        CounselSession counselSession = CounselSession.builder()
+            .id(id)
+            .counselee(counselee)
+            .scheduledStartDateTime(scheduledStartDateTime)
+            .status(status)
+            .build();
+        CounselCard counselCard = CounselCard.createFromSession(counselSession);
+        counselCard.setId(id);
+        counselCard.updateSection(CounselCardRecordType.COUNSEL_PURPOSE_AND_NOTE,
+            new CounselPurposeAndNoteDTO(List.of(CounselPurposeType.values()[0]), "특이사항 " + id, "의약품 " + id));
+        counselCard.updateSection(CounselCardRecordType.DISEASE_INFO,
+            new DiseaseInfoDTO(diseases, "병력 " + id, "불편 " + id));
+        return counselCard;
+    }
+
+    /**
+     * 트랜잭션이 끝나 지연 로딩 컬렉션을 더 이상 읽을 수 없는 상태를 흉내 냅니다
+     */
+    private void detach(CounselCard counselCard) {
+        counselCard.updateSection(CounselCardRecordType.DISEASE_INFO,
+            new DiseaseInfoDTO(new PersistentBag<>((SharedSessionContractImplementor) null), null, null));
+    }
+
+    @Test
+    @DisplayName("본상담 이전 기록 캐시 - 한 항목 조회로 채운 캐시를 다른 항목 조회가 재사용")
+    void selectMainCounsel_ReusesSnapshotCacheAcrossSections() {
+        CounselCard current = card(CURRENT_SESSION_ID, LocalDateTime.of(2025, 3, 1, 10, 0),
+            ScheduleStatus.IN_PROGRESS, List.of(DiseaseType.values()[0]));
+        CounselCard previous = card("01HQ8VQXG7RZDQ1234567890S2", LocalDateTime.of(2025, 2, 1, 10, 0),
+            ScheduleStatus.COMPLETED, List.of(DiseaseType.values()[1]));
+        CounselCard oldest = card("01HQ8VQXG7RZDQ1234567890S1", LocalDateTime.of(2025, 1, 1, 10, 0),
+            ScheduleStatus.COMPLETED, List.of(DiseaseType.values()[2]));
+
+        given(counselCardRepository.findCounselCardByCounselSessionId(CURRENT_SESSION_ID))
+            .willReturn(Optional.of(current));
+        given(counselCardRepository.findCompletedSessionCardsByCounseleeId(COUNSELEE_ID))
+            .willReturn(List.of(previous, oldest));
+
+        MainCounselBaseInformationRes base = counselCardService.selectMainCounselBaseInformation(CURRENT_SESSION_ID);
+        assertThat(base.significantNote().history()).hasSize(2);
+
+        detach(previous);
+        detach(oldest);
+
+        MainCounselHealthInformationRes health =
+            counselCardService.selectMainCounselHealthInformation(CURRENT_SESSION_ID);
+
+        assertThat(health.diseases().currentState()).containsExactly(DiseaseType.values()[0]);
+        assertThat(health.diseases().history())
+            .extracting(TimeRecordedRes::getData)
+            .containsExactly(List.of(DiseaseType.values()[1]), List.of(DiseaseType.values()[2]));
+        verify(counselCardRepository, times(1)).findCompletedSessionCardsByCounseleeId(COUNSELEE_ID);
+    }
+}
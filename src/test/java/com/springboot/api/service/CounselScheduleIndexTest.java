@@ -0,0 +1,88 @@
+package com.springboot.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.springboot.api.common.properties.CounselScheduleProperties;
+import com.springboot.api.counselee.entity.Counselee;
+import com.springboot.api.counselor.entity.Counselor;
+import com.springboot.api.counselsession.dto.counselsession.CounselScheduleEntry;
+import com.springboot.api.counselsession.entity.CounselSession;
+import com.springboot.api.counselsession.repository.CounselSessionRepository;
+import com.springboot.api.counselsession.service.CounselScheduleIndex;
+import com.springboot.enums.ScheduleStatus;
+
+@ExtendWith(MockitoExtension.class)
+class CounselScheduleIndexTest {
+
+    private static final LocalDate TOMORROW = LocalDate.now().plusDays(1);
+
+    @Mock
+    private CounselSessionRepository counselSessionRepository;
+
+    private CounselScheduleIndex counselScheduleIndex;
+
+    @BeforeEach
+    void setUp() {
+        counselScheduleIndex = new CounselScheduleIndex(counselSessionRepository, new CounselScheduleProperties());
+        given(counselSessionRepository.findActiveScheduleEntriesBetween(any(), any())).willReturn(List.of(
+            new CounselScheduleEntry("session-1", "counselor-1", "counselee-1", TOMORROW.atTime(10, 0)),
+            new CounselScheduleEntry("session-2", null, "counselee-2", TOMORROW.atTime(14, 0))));
+        counselScheduleIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("예약 변경과 취소가 색인에 반영된다")
+    void putAndRemove() {
+        CounselSession moved = CounselSession.builder()
+            .id("session-1")
+            .counselor(Counselor.builder().id("counselor-1").build())
+            .counselee(Counselee.builder().id("counselee-1").build())
+            .scheduledStartDateTime(TOMORROW.atTime(16, 0))
+            .status(ScheduleStatus.SCHEDULED)
+            .build();
+
+        counselScheduleIndex.put(moved);
+        counselScheduleIndex.remove("session-2");
+
+        assertThat(counselScheduleIndex.findFreeSlots("counselor-1", "counselee-2", TOMORROW, TOMORROW))
+            .contains(TOMORROW.atTime(10, 0), TOMORROW.atTime(14, 0))
+            .doesNotContain(TOMORROW.atTime(16, 0));
+    }
+
+    @Test
+    @DisplayName("빈 시간은 상담 시간대 안에서 상담사와 내담자 예약을 모두 피해 계산한다")
+    void findFreeSlots() {
+        List<LocalDateTime> freeSlots = counselScheduleIndex.findFreeSlots("counselor-1", "counselee-2", TOMORROW,
+            TOMORROW);
+
+        assertThat(freeSlots)
+            .hasSize(7)
+            .doesNotContain(TOMORROW.atTime(10, 0), TOMORROW.atTime(14, 0))
+            .contains(TOMORROW.atTime(9, 0), TOMORROW.atTime(17, 0));
+    }
+
+    @Test
+    @DisplayName("색인 범위 밖의 조회는 해당 구간만 DB 에서 읽는다")
+    void findFreeSlots_outsideHorizon() {
+        LocalDate farFuture = LocalDate.now().plusYears(2);
+
+        counselScheduleIndex.findFreeSlots(null, "counselee-1", farFuture, farFuture);
+
+        verify(counselSessionRepository).findActiveScheduleEntriesBetween(farFuture.atStartOfDay().minusHours(1),
+            farFuture.plusDays(1).atStartOfDay().plusHours(1));
+    }
+}
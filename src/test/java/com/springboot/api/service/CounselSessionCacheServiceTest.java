@@ -0,0 +1,161 @@
+package com.springboot.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+
+import com.springboot.api.counselsession.service.CounselSessionCacheService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CounselSessionCacheServiceTest {
+
+    private CaffeineCacheManager cacheManager;
+    private SimpleMeterRegistry meterRegistry;
+    private CounselSessionCacheService counselSessionCacheService;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCacheManager(CounselSessionCacheService.SESSION_LIST,
+            CounselSessionCacheService.SESSION_DATES, CounselSessionCacheService.SESSION_STATS);
+        meterRegistry = new SimpleMeterRegistry();
+        counselSessionCacheService = new CounselSessionCacheService(cacheManager, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("세션 변경 시 해당 예약일의 목록 페이지와 해당 월의 달력 캐시만 제거한다")
+    void evictBySchedule() {
+        // given
+        Cache sessionList = cacheManager.getCache(CounselSessionCacheService.SESSION_LIST);
+        Cache sessionDates = cacheManager.getCache(CounselSessionCacheService.SESSION_DATES);
+        LocalDate changedDate = LocalDate.of(2026, 10, 19);
+        LocalDate otherDate = LocalDate.of(2026, 10, 20);
+
+        String changedFirstPage = CounselSessionCacheService.sessionListKey(changedDate, 0, 10);
+        String changedSecondPage = CounselSessionCacheService.sessionListKey(changedDate, 1, 10);
+        String otherPage = CounselSessionCacheService.sessionListKey(otherDate, 0, 10);
+        String changedMonth = CounselSessionCacheService.sessionDatesKey(2026, 10);
+        String otherMonth = CounselSessionCacheService.sessionDatesKey(2026, 11);
+
+        sessionList.put(changedFirstPage, "page");
+        sessionList.put(changedSecondPage, "page");
+        sessionList.put(otherPage, "page");
+        sessionDates.put(changedMonth, "dates");
+        sessionDates.put(otherMonth, "dates");
+
+        // when
+        counselSessionCacheService.evictBySchedule(changedDate.atTime(10, 0), null);
+
+        // then
+        assertThat(sessionList.get(changedFirstPage)).isNull();
+        assertThat(sessionList.get(changedSecondPage)).isNull();
+        assertThat(sessionList.get(otherPage)).isNotNull();
+        assertThat(sessionDates.get(changedMonth)).isNull();
+        assertThat(sessionDates.get(otherMonth)).isNotNull();
+        assertThat(meterRegistry.counter("cache.targeted.evictions",
+            "cache", CounselSessionCacheService.SESSION_LIST, "scope", "key").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("대시보드 통계는 올해가 바뀐 경우에만 해당 키 하나를 제거하고 key 범위로 집계한다")
+    void evictSessionStats_keyScoped() {
+        // given
+        Cache sessionStats = cacheManager.getCache(CounselSessionCacheService.SESSION_STATS);
+        sessionStats.put(SimpleKey.EMPTY, "stats");
+        YearMonth thisMonth = YearMonth.now();
+
+        // when
+        counselSessionCacheService.evictSessionStats(List.of(thisMonth.minusYears(1)));
+        boolean keptForLastYear = sessionStats.get(SimpleKey.EMPTY) != null;
+        counselSessionCacheService.evictSessionStats(List.of(thisMonth));
+
+        // then
+        assertThat(keptForLastYear).isTrue();
+        assertThat(sessionStats.get(SimpleKey.EMPTY)).isNull();
+        assertThat(meterRegistry.counter("cache.targeted.evictions",
+            "cache", CounselSessionCacheService.SESSION_STATS, "scope", "key").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.find("cache.targeted.evictions").tag("scope", "all").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 날짜로 시작하는 다른 날짜 키는 제거하지 않는다")
+    void evictBySchedule_keepsOtherDates() {
+        // given
+        Cache sessionList = cacheManager.getCache(CounselSessionCacheService.SESSION_LIST);
+        String octoberFirst = CounselSessionCacheService.sessionListKey(LocalDate.of(2026, 10, 1), 0, 10);
+        String octoberTenth = CounselSessionCacheService.sessionListKey(LocalDate.of(2026, 10, 10), 0, 10);
+        sessionList.put(octoberFirst, "page");
+        sessionList.put(octoberTenth, "page");
+
+        // when
+        counselSessionCacheService.evictBySchedule(LocalDateTime.of(2026, 10, 1, 9, 0));
+
+        // then
+        assertThat(sessionList.get(octoberFirst)).isNull();
+        assertThat(sessionList.get(octoberTenth)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("날짜 없이 조회한 전체 목록 캐시는 어느 날짜의 세션이 바뀌어도 제거한다")
+    void evictSessionLists_evictsUndatedPages() {
+        // given
+        Cache sessionList = cacheManager.getCache(CounselSessionCacheService.SESSION_LIST);
+        String undatedPage = CounselSessionCacheService.sessionListKey(null, 0, 10);
+        sessionList.put(undatedPage, "page");
+
+        // when
+        counselSessionCacheService.evictSessionLists(LocalDateTime.of(2026, 10, 1, 9, 0));
+        boolean evictedOnChange = sessionList.get(undatedPage) == null;
+        sessionList.put(undatedPage, "page");
+        counselSessionCacheService.markScheduled(LocalDateTime.of(2026, 10, 2, 9, 0));
+
+        // then
+        assertThat(evictedOnChange).isTrue();
+        assertThat(sessionList.get(undatedPage)).isNull();
+    }
+
+    @Test
+    @DisplayName("월 달력은 비트맵으로 캐시되고 새 예약 시 DB 조회 없이 해당 일자가 추가된다")
+    void getSessionDates_markScheduled() {
+        // given
+        YearMonth october = YearMonth.of(2026, 10);
+        AtomicInteger loadCount = new AtomicInteger();
+        Function<YearMonth, List<LocalDate>> loader = yearMonth -> {
+            loadCount.incrementAndGet();
+            return List.of(yearMonth.atDay(1), yearMonth.atDay(31));
+        };
+
+        // when
+        List<LocalDate> first = counselSessionCacheService.getSessionDates(october, loader);
+        counselSessionCacheService.markScheduled(LocalDateTime.of(2026, 10, 19, 14, 0));
+        List<LocalDate> second = counselSessionCacheService.getSessionDates(october, loader);
+
+        // then
+        assertThat(first).containsExactly(october.atDay(1), october.atDay(31));
+        assertThat(second).containsExactly(october.atDay(1), october.atDay(19), october.atDay(31));
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일자 비트맵 변환은 해당 월의 일수만큼만 복원한다")
+    void dayBitmap() {
+        YearMonth february = YearMonth.of(2026, 2);
+        int dayBitmap = CounselSessionCacheService.toDayBitmap(List.of(february.atDay(1), february.atDay(28)));
+
+        assertThat(dayBitmap).isEqualTo(1 | (1 << 27));
+        assertThat(CounselSessionCacheService.fromDayBitmap(february, dayBitmap | (1 << 30)))
+            .containsExactly(february.atDay(1), february.atDay(28));
+    }
+}
@@ -1,20 +1,51 @@
 package com.springboot.api.service;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
+import com.springboot.api.common.dto.CommonCursorRes;
+import com.springboot.api.common.dto.PageReq;
+import com.springboot.api.common.dto.PageRes;
+import com.springboot.api.common.properties.CounselScheduleProperties;
+import com.springboot.api.common.util.CursorUtil;
 import com.springboot.api.common.util.DateTimeUtil;
 import com.springboot.api.counselcard.service.CounselCardService;
 import com.springboot.api.counselee.entity.Counselee;
 import com.springboot.api.counselee.repository.CounseleeRepository;
+import com.springboot.api.counselor.entity.Counselor;
+import com.springboot.api.counselsession.dto.aiCounselSummary.AICounselSummaryTextDTO;
+import com.springboot.api.counselsession.dto.counselsession.CounselScheduleEntry;
+import com.springboot.api.counselsession.dto.counselsession.CounselSessionDomainEvent;
+import com.springboot.api.counselsession.dto.counselsession.CreateCounselReservationBatchReq;
+import com.springboot.api.counselsession.dto.counselsession.CreateCounselReservationBatchRes;
 import com.springboot.api.counselsession.dto.counselsession.CreateCounselReservationReq;
 import com.springboot.api.counselsession.dto.counselsession.CreateCounselReservationRes;
+import com.springboot.api.counselsession.dto.counselsession.SelectCounselSessionListItem;
+import com.springboot.api.counselsession.dto.counselsession.SelectPreviousCounselSessionDetailRes;
 import com.springboot.api.counselsession.entity.CounselSession;
+import com.springboot.api.counselsession.enums.AICounselSummaryStatus;
+import com.springboot.api.counselsession.enums.CounselSessionEventType;
+import com.springboot.api.counselsession.repository.AICounselSummaryRepository;
+import com.springboot.api.counselsession.repository.CounselReservationBatchRepository;
 import com.springboot.api.counselsession.repository.CounselSessionRepository;
+import com.springboot.api.counselsession.repository.MedicationCounselRepository;
+import com.springboot.api.counselsession.service.CounselScheduleIndex;
+import com.springboot.api.counselsession.service.CounselSessionCacheService;
 import com.springboot.api.counselsession.service.CounselSessionService;
 import com.springboot.api.counselsession.service.CounseleeConsentService;
+import com.springboot.api.outbox.service.OutboxEventService;
 import com.springboot.enums.ScheduleStatus;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,6 +55,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
 
 @ExtendWith(MockitoExtension.class)
 class CounselSessionServiceTest {
@@ -43,6 +75,27 @@ class CounselSessionServiceTest {
     @Mock
     private CounseleeConsentService counseleeConsentService;
 
+    @Mock
+    private MedicationCounselRepository medicationCounselRepository;
+
+    @Mock
+    private AICounselSummaryRepository aiCounselSummaryRepository;
+
+    @Mock
+    private CounselSessionCacheService counselSessionCacheService;
+
+    @Mock
+    private CounselScheduleIndex counselScheduleIndex;
+
+    @Spy
+    private CounselScheduleProperties counselScheduleProperties = new CounselScheduleProperties();
+
+    @Mock
+    private CounselReservationBatchRepository counselReservationBatchRepository;
+
+    @Mock
+    private OutboxEventService outboxEventService;
+
     @InjectMocks
     private CounselSessionService counselSessionService;
 
@@ -64,8 +117,9 @@ class CounselSessionServiceTest {
 
         given(counseleeRepository.findById(any(String.class))).willReturn(
             java.util.Optional.of(counselee));
-        given(counselSessionRepository.existsByCounseleeAndScheduledStartDateTime(counselee,
-            scheduleDateTime)).willReturn(false);
+        given(counselSessionRepository.findActiveScheduleEntriesByOwnerBetween(null, counselee.getId(),
+            scheduleDateTime.minusHours(1), scheduleDateTime.plusHours(1)))
+            .willReturn(List.of());
         given(counselSessionRepository.save(any())).willReturn(counselSession);
         given(counselSession.getId()).willReturn(counselSessionId);
         // When
@@ -75,6 +129,176 @@ class CounselSessionServiceTest {
         Assertions.assertThat(counselSession.getId()).isEqualTo(response.getId());
     }
 
+    @Test
+    @DisplayName("실패: 내담자의 다른 예약과 상담 시간이 겹치면 DB 에서 확인해 예약하지 않음 (끝나는 시각에 시작하는 예약은 허용)")
+    public void createReservation_conflict() {
+        // Given
+        Counselee counselee = Counselee.builder().id("01JNBYN04P2JGB7CVQBPX02EXA").build();
+        LocalDateTime scheduleDateTime = dateTimeUtil.parseToDateTime("2024-01-01 10:00");
+
+        given(counseleeRepository.findById(counselee.getId())).willReturn(Optional.of(counselee));
+        given(counselSessionRepository.findActiveScheduleEntriesByOwnerBetween(null, counselee.getId(),
+            scheduleDateTime.minusHours(1), scheduleDateTime.plusHours(1)))
+            .willReturn(List.of(
+                new CounselScheduleEntry("01JNBYN04P2JGB7CVQBPX02EX1", null, counselee.getId(),
+                    scheduleDateTime.minusHours(1)),
+                new CounselScheduleEntry("01JNBYN04P2JGB7CVQBPX02EX2", null, counselee.getId(),
+                    scheduleDateTime.plusMinutes(30))));
+
+        // When & Then
+        Assertions.assertThatThrownBy(() -> counselSessionService.createReservation(
+                new CreateCounselReservationReq(counselee.getId(), "2024-01-01 10:00")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("이미 상담이 예약");
+        verify(counselSessionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("성공: 일괄 예약은 내담자를 한 번에 조회하고 세션/카드/동의를 한 번에 저장한 뒤 회차를 한 번만 재정렬")
+    public void createReservations() {
+        // Given
+        Counselee counselee = Counselee.builder().id("01JNBYN04P2JGB7CVQBPX02EXA").build();
+        CreateCounselReservationBatchReq batchReq = new CreateCounselReservationBatchReq(List.of(
+            new CreateCounselReservationReq(counselee.getId(), "2024-01-01 10:00"),
+            new CreateCounselReservationReq(counselee.getId(), "2024-01-01 11:00")));
+
+        given(counseleeRepository.findAllById(Set.of(counselee.getId()))).willReturn(List.of(counselee));
+
+        // When
+        CreateCounselReservationBatchRes response = counselSessionService.createReservations(batchReq);
+
+        // Then
+        Assertions.assertThat(response.counselSessionIds()).hasSize(2).doesNotContainNull();
+        verify(counselReservationBatchRepository).insertAll(anyList(), anyList(), anyList());
+        verify(counselSessionRepository).reassignSessionNumbers(Set.of(counselee.getId()),
+            dateTimeUtil.parseToDateTime("2024-01-01 10:00"));
+        verify(outboxEventService).append(eq(CounselSessionDomainEvent.AGGREGATE_TYPE),
+            argThat(events -> events.size() == 2), any(), any());
+    }
+
+    @Test
+    @DisplayName("실패: 일괄 예약 안에서 같은 내담자의 상담 시간이 겹치면 저장하지 않음")
+    public void createReservations_conflictWithinBatch() {
+        // Given
+        Counselee counselee = Counselee.builder().id("01JNBYN04P2JGB7CVQBPX02EXA").build();
+        CreateCounselReservationBatchReq batchReq = new CreateCounselReservationBatchReq(List.of(
+            new CreateCounselReservationReq(counselee.getId(), "2024-01-01 10:00"),
+            new CreateCounselReservationReq(counselee.getId(), "2024-01-01 10:30")));
+
+        given(counseleeRepository.findAllById(Set.of(counselee.getId()))).willReturn(List.of(counselee));
+
+        // When & Then
+        Assertions.assertThatThrownBy(() -> counselSessionService.createReservations(batchReq))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("2번째");
+        verify(counselReservationBatchRepository, never()).insertAll(anyList(), anyList(), anyList());
+    }
+
+    @Test
+    @DisplayName("성공: 기한이 지난 예약을 일괄 취소하면 일정 색인에서 빼고 취소 이벤트를 한 번에 기록")
+    public void cancelOverdueSessions() {
+        // Given
+        LocalDateTime scheduledStartDateTime = LocalDateTime.of(2024, 1, 1, 10, 0);
+        List<CounselScheduleEntry> canceledSessions = List.of(
+            new CounselScheduleEntry("01JNBYN04P2JGB7CVQBPX02EX1", null, "01JNBYN04P2JGB7CVQBPX02EXA",
+                scheduledStartDateTime),
+            new CounselScheduleEntry("01JNBYN04P2JGB7CVQBPX02EX2", null, "01JNBYN04P2JGB7CVQBPX02EXB",
+                scheduledStartDateTime.plusDays(1)));
+        given(counselSessionRepository.cancelOverdueSessions(any(LocalDateTime.class))).willReturn(canceledSessions);
+
+        // When
+        counselSessionService.cancelOverdueSessions();
+
+        // Then
+        verify(counselScheduleIndex).remove("01JNBYN04P2JGB7CVQBPX02EX1");
+        verify(counselScheduleIndex).remove("01JNBYN04P2JGB7CVQBPX02EX2");
+        verify(outboxEventService).append(eq(CounselSessionDomainEvent.AGGREGATE_TYPE),
+            argThat(events -> events.size() == 2 && events.stream()
+                .allMatch(event -> ((CounselSessionDomainEvent) event).type() == CounselSessionEventType.CANCELED)),
+            any(), any());
+        verify(counselSessionRepository, never()).reassignSessionNumbers(any(), any());
+    }
+
+    @Test
+    @DisplayName("성공: 커서 기반 목록 조회는 size + 1 건으로 다음 페이지 여부와 커서를 계산")
+    public void selectCounselSessionListByBaseDateAndCursor() {
+        // Given
+        LocalDate baseDate = LocalDate.of(2024, 1, 1);
+        List<SelectCounselSessionListItem> items = List.of(
+            listItem("01JNBYN04P2JGB7CVQBPX02EX1", baseDate.atTime(9, 0)),
+            listItem("01JNBYN04P2JGB7CVQBPX02EX2", baseDate.atTime(10, 0)),
+            listItem("01JNBYN04P2JGB7CVQBPX02EX3", baseDate.atTime(11, 0)));
+
+        given(counselSessionRepository.findSessionByKeysetAndDate(baseDate, null, null, 3)).willReturn(items);
+
+        // When
+        CommonCursorRes<List<SelectCounselSessionListItem>> response = counselSessionService
+            .selectCounselSessionListByBaseDateAndCursor(baseDate, null, 2);
+
+        // Then
+        Assertions.assertThat(response.isHasNext()).isTrue();
+        Assertions.assertThat(response.getData()).hasSize(2);
+        Assertions.assertThat(CursorUtil.decode(response.getNextCursor()))
+            .isEqualTo(new CursorUtil.DateTimeCursor(baseDate.atTime(10, 0), "01JNBYN04P2JGB7CVQBPX02EX2"));
+    }
+
+    @Test
+    @DisplayName("성공: 이전 상담 상세 조회는 DB 페이징 후 중재기록과 AI 요약을 IN 쿼리로 한 번에 조회")
+    public void selectPreviousCounselSessionDetailList() {
+        // Given
+        Counselee counselee = Counselee.builder().id("01JNBYN04P2JGB7CVQBPX02C01").build();
+        CounselSession currentSession = CounselSession.builder()
+            .id("01JNBYN04P2JGB7CVQBPX02EX0")
+            .counselee(counselee)
+            .scheduledStartDateTime(LocalDateTime.of(2024, 3, 1, 10, 0))
+            .build();
+        CounselSession secondSession = CounselSession.builder()
+            .id("01JNBYN04P2JGB7CVQBPX02EX2")
+            .counselee(counselee)
+            .counselor(Counselor.builder().name("김약사").build())
+            .scheduledStartDateTime(LocalDateTime.of(2024, 2, 1, 10, 0))
+            .sessionNumber(2)
+            .build();
+        CounselSession firstSession = CounselSession.builder()
+            .id("01JNBYN04P2JGB7CVQBPX02EX1")
+            .counselee(counselee)
+            .scheduledStartDateTime(LocalDateTime.of(2024, 1, 1, 10, 0))
+            .sessionNumber(1)
+            .build();
+        PageReq pageReq = new PageReq(0, 10);
+        List<String> pagedSessionIds = List.of(secondSession.getId(), firstSession.getId());
+
+        given(counselSessionRepository.findById(currentSession.getId())).willReturn(Optional.of(currentSession));
+        given(counselSessionRepository.findPreviousCompletedSessions(counselee.getId(),
+            currentSession.getScheduledStartDateTime(), pageReq))
+            .willReturn(new PageRes<>(new PageImpl<>(List.of(secondSession, firstSession), pageReq.toPageable(), 2)));
+        given(medicationCounselRepository.findCounselRecordsByCounselSessionIds(pagedSessionIds))
+            .willReturn(Map.of(secondSession.getId(), "복약 지도"));
+        given(aiCounselSummaryRepository.findSummaryTextsByCounselSessionIds(pagedSessionIds))
+            .willReturn(List.of(new AICounselSummaryTextDTO(firstSession.getId(),
+                AICounselSummaryStatus.GPT_COMPLETE, "요약")));
+
+        // When
+        PageRes<SelectPreviousCounselSessionDetailRes> response = counselSessionService
+            .selectPreviousCounselSessionDetailList(currentSession.getId(), pageReq);
+
+        // Then
+        Assertions.assertThat(response.getTotalElements()).isEqualTo(2);
+        Assertions.assertThat(response.getContent())
+            .extracting(SelectPreviousCounselSessionDetailRes::counselorName,
+                SelectPreviousCounselSessionDetailRes::medicationCounselRecord,
+                SelectPreviousCounselSessionDetailRes::aiSummary)
+            .containsExactly(
+                Assertions.tuple("김약사", "복약 지도", null),
+                Assertions.tuple("미지정", null, "요약"));
+        Mockito.verify(aiCounselSummaryRepository, Mockito.never()).findTaResultByCounselSessionId(any());
+    }
+
+    private SelectCounselSessionListItem listItem(String counselSessionId, LocalDateTime scheduledStartDateTime) {
+        return new SelectCounselSessionListItem(counselSessionId, scheduledStartDateTime, null, null, null, null,
+            ScheduleStatus.SCHEDULED, null, null);
+    }
+
     // @Test
     // @DisplayName("성공 : updateStartDateTimeInCounselSession가 상담 시간을 수정")
     // public void updateStartDateTimeInCounselSession() {
@@ -0,0 +1,60 @@
+package com.springboot.api.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.springboot.api.counselsession.dto.counselsession.CounselSessionDomainEvent;
+import com.springboot.api.counselsession.enums.CounselSessionEventType;
+import com.springboot.api.counselsession.service.CounselSessionStatService;
+import com.springboot.api.counselsession.service.eventlistener.CounselSessionStatEventHandler;
+import com.springboot.enums.ScheduleStatus;
+
+@ExtendWith(MockitoExtension.class)
+class CounselSessionStatEventHandlerTest {
+
+    private static final LocalDateTime SCHEDULED = LocalDateTime.of(2026, 5, 1, 10, 0);
+
+    @Mock
+    private CounselSessionStatService counselSessionStatService;
+
+    private CounselSessionStatEventHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new CounselSessionStatEventHandler(counselSessionStatService);
+    }
+
+    private CounselSessionDomainEvent counselorChanged(ScheduleStatus status) {
+        return new CounselSessionDomainEvent(CounselSessionEventType.COUNSELOR_CHANGED, "session-1", "counselee-1",
+            null, status, SCHEDULED, null, null, LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("완료된 상담의 상담사 변경은 해당 월 통계를 재집계한다")
+    void handle_counselorChangedOnCompleted_refreshes() {
+        handler.handle(List.of(counselorChanged(ScheduleStatus.COMPLETED)));
+
+        verify(counselSessionStatService).refresh(Set.of(YearMonth.from(SCHEDULED)));
+    }
+
+    @Test
+    @DisplayName("완료 전 상담의 상담사 변경은 통계를 재집계하지 않는다")
+    void handle_counselorChangedOnScheduled_skips() {
+        handler.handle(List.of(counselorChanged(ScheduleStatus.SCHEDULED)));
+
+        verify(counselSessionStatService, never()).refresh(any());
+    }
+}
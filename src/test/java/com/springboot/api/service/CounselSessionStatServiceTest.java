@@ -0,0 +1,113 @@
+package com.springboot.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.springboot.api.counselee.entity.Counselee;
+import com.springboot.api.counselsession.dto.counselsession.CounselDurationSum;
+import com.springboot.api.counselsession.entity.CounselSession;
+import com.springboot.api.counselsession.entity.CounselSessionStat;
+import com.springboot.api.counselsession.enums.StatPeriodType;
+import com.springboot.api.counselsession.repository.CounselSessionRepository;
+import com.springboot.api.counselsession.repository.CounselSessionStatRepository;
+import com.springboot.api.counselsession.service.CounselSessionStatService;
+import com.springboot.enums.ScheduleStatus;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@Transactional
+class CounselSessionStatServiceTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2025, 3);
+
+    @Autowired
+    private CounselSessionStatService counselSessionStatService;
+
+    @Autowired
+    private CounselSessionStatRepository counselSessionStatRepository;
+
+    @Autowired
+    private CounselSessionRepository counselSessionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Counselee counselee;
+
+    @BeforeEach
+    void setUp() {
+        counselee = Counselee.builder()
+            .name("테스트 내담자")
+            .dateOfBirth(LocalDate.of(1950, 1, 1))
+            .isDisability(false)
+            .build();
+        entityManager.persist(counselee);
+    }
+
+    private CounselSession complete(int day, int startHour, long minutes) {
+        LocalDateTime startDateTime = MONTH.atDay(day).atTime(startHour, 0);
+        CounselSession counselSession = CounselSession.builder()
+            .counselee(counselee)
+            .scheduledStartDateTime(startDateTime)
+            .startDateTime(startDateTime)
+            .endDateTime(startDateTime.plusMinutes(minutes))
+            .status(ScheduleStatus.COMPLETED)
+            .build();
+        entityManager.persist(counselSession);
+        counselSessionStatService.addCompleted(counselSession);
+        return counselSession;
+    }
+
+    private CounselSessionStat stat(StatPeriodType periodType, String periodKey) {
+        entityManager.clear();
+        return counselSessionStatRepository.findByPeriodTypeAndPeriodKey(periodType, periodKey).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("완료와 삭제가 이어지면 집계 행에 증감분이 누적되고 원본 테이블 합계와 같다")
+    void completionTransitions_accumulateDeltas() {
+        CounselSession first = complete(3, 10, 90);
+        complete(4, 13, 40);
+        complete(5, 15, 125);
+
+        entityManager.remove(first);
+        counselSessionStatService.removeCompleted(List.of(first));
+
+        CounselSessionStat monthStat = stat(StatPeriodType.MONTH, MONTH.toString());
+        CounselSessionStat yearStat = stat(StatPeriodType.YEAR, String.valueOf(MONTH.getYear()));
+        assertThat(monthStat.getCounselMinutes()).isEqualTo(165);
+        assertThat(monthStat.getCounselHours()).isEqualTo(2);
+        assertThat(yearStat.getCounselMinutes()).isEqualTo(165);
+        assertThat(yearStat.getCounselHours()).isEqualTo(2);
+
+        CounselDurationSum sum = counselSessionRepository.sumCompletedSessionDurationsBetween(
+            MONTH.atDay(1).atStartOfDay(), MONTH.plusMonths(1).atDay(1).atStartOfDay());
+        assertThat(sum).isEqualTo(new CounselDurationSum(165, 2));
+    }
+
+    @Test
+    @DisplayName("건수 재계산은 상담 시간 합계를 덮어쓰지 않는다")
+    void refresh_keepsDurationTotals() {
+        complete(3, 10, 90);
+        counselSessionStatRepository.addCounselDuration(StatPeriodType.MONTH, MONTH.toString(), 30, 0,
+            LocalDateTime.now());
+
+        counselSessionStatService.refresh(List.of(MONTH));
+
+        CounselSessionStat monthStat = stat(StatPeriodType.MONTH, MONTH.toString());
+        assertThat(monthStat.getCounselMinutes()).isEqualTo(120);
+        assertThat(monthStat.getCounseleeCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,100 @@
+package com.springboot.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.api.counselcard.dto.information.health.DiseaseInfoDTO;
+import com.springboot.api.counselcard.dto.information.independentlife.WalkingDTO;
+import com.springboot.api.counselcard.entity.CounselCard;
+import com.springboot.api.counselee.entity.Counselee;
+import com.springboot.api.counselsession.entity.CounselSession;
+import com.springboot.api.export.dto.ExportReq;
+import com.springboot.api.export.enums.ExportDataset;
+import com.springboot.api.export.enums.ExportFormat;
+import com.springboot.api.export.service.ExportService;
+import com.springboot.enums.CounselCardRecordType;
+import com.springboot.enums.DiseaseType;
+import com.springboot.enums.ScheduleStatus;
+import com.springboot.enums.WalkingType;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@Transactional
+class ExportServiceTest {
+
+    private static final String INSTITUTION = "테스트 복지관";
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("상담 카드 내보내기는 컬렉션 항목을 카드별 한 컬럼으로 집계한다")
+    void export_counselCards_aggregatesCollections() throws IOException {
+        Counselee counselee = Counselee.builder()
+            .name("테스트 내담자")
+            .dateOfBirth(LocalDate.of(1950, 1, 1))
+            .isDisability(false)
+            .affiliatedWelfareInstitution(INSTITUTION)
+            .build();
+        entityManager.persist(counselee);
+
+        CounselSession counselSession = CounselSession.builder()
+            .counselee(counselee)
+            .scheduledStartDateTime(LocalDateTime.of(2025, 3, 1, 10, 0))
+            .status(ScheduleStatus.COMPLETED)
+            .build();
+        entityManager.persist(counselSession);
+
+        CounselCard counselCard = CounselCard.createFromSession(counselSession);
+        counselCard.updateSection(CounselCardRecordType.DISEASE_INFO,
+            new DiseaseInfoDTO(List.of(DiseaseType.values()[0], DiseaseType.values()[1]), "병력", "불편"));
+        counselCard.updateSection(CounselCardRecordType.WALKING,
+            new WalkingDTO(List.of(WalkingType.values()[0]), List.of(), "보행"));
+        entityManager.persist(counselCard);
+        entityManager.flush();
+        entityManager.clear();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rowCount = exportService.export(new ExportReq(ExportDataset.COUNSEL_CARDS, ExportFormat.JSONL,
+            INSTITUTION, null, null, false), out);
+
+        assertThat(rowCount).isEqualTo(1);
+        JsonNode row = objectMapper.readTree(out.toString(StandardCharsets.UTF_8).trim());
+        assertThat(row.get("counselSessionId").asText()).isEqualTo(counselSession.getId());
+        assertThat(texts(row.get("DISEASE_INFO.diseases")))
+            .containsExactlyInAnyOrder(DiseaseType.values()[0].name(), DiseaseType.values()[1].name());
+        assertThat(row.get("DISEASE_INFO.historyNote").asText()).isEqualTo("병력");
+        assertThat(texts(row.get("WALKING.walkingMethods"))).containsExactly(WalkingType.values()[0].name());
+        assertThat(row.get("WALKING.walkingEquipments").isNull()).isTrue();
+        assertThat(row.get("WALKING.walkingNote").asText()).isEqualTo("보행");
+        assertThat(row.has("SMOKING")).isTrue();
+    }
+
+    private static List<String> texts(JsonNode array) {
+        List<String> values = new ArrayList<>();
+        array.forEach(value -> values.add(value.asText()));
+        return values;
+    }
+}
@@ -0,0 +1,71 @@
+package com.springboot.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.springboot.api.counselcard.dto.information.living.SmokingDTO;
+import com.springboot.api.export.service.CsvExportWriter;
+import com.springboot.api.export.service.JsonLinesExportWriter;
+import com.springboot.enums.ScheduleStatus;
+import com.springboot.enums.SmokingAmount;
+
+class ExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .findAndRegisterModules()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    @DisplayName("CSV 는 BOM 과 헤더를 쓰고, 구분자/따옴표/줄바꿈이 든 값은 따옴표로 감싼다")
+    void csv_escapesValues() throws IOException {
+        StringWriter out = new StringWriter();
+        CsvExportWriter writer = new CsvExportWriter(out, objectMapper);
+
+        writer.writeHeader(List.of("name", "note", "status", "scheduledStartDateTime"));
+        writer.writeRow(new Object[] {"김민수", "두통, \"심함\"\n재방문", ScheduleStatus.COMPLETED,
+            LocalDateTime.of(2024, 3, 1, 10, 0)});
+
+        assertThat(out.toString()).isEqualTo("\uFEFFname,note,status,scheduledStartDateTime\r\n"
+            + "김민수,\"두통, \"\"심함\"\"\n재방문\",COMPLETED,2024-03-01T10:00\r\n");
+    }
+
+    @Test
+    @DisplayName("CSV 는 수식으로 해석될 수 있는 문자열을 막고, 객체 값은 JSON 으로 쓴다")
+    void csv_formulaAndObjects() throws IOException {
+        StringWriter out = new StringWriter();
+        CsvExportWriter writer = new CsvExportWriter(out, objectMapper);
+
+        writer.writeRow(new Object[] {"=SUM(A1)", null, -3, new SmokingDTO("10년", SmokingAmount.ONE_PACK)});
+
+        assertThat(out.toString()).isEqualTo(
+            "'=SUM(A1),,-3,\"{\"\"smokingPeriodNote\"\":\"\"10년\"\",\"\"smokingAmount\"\":\"\"ONE_PACK\"\"}\"\r\n");
+    }
+
+    @Test
+    @DisplayName("JSON Lines 는 컬럼 이름을 키로 한 줄에 한 행씩 쓴다")
+    void jsonLines() throws IOException {
+        StringWriter out = new StringWriter();
+        JsonLinesExportWriter writer = new JsonLinesExportWriter(out, objectMapper);
+
+        writer.writeHeader(List.of("counselSessionId", "SMOKING", "scheduledStartDateTime"));
+        writer.writeRow(new Object[] {"01HQ8VQXG7RZDQ1234567890AB", new SmokingDTO(null, SmokingAmount.NONE),
+            LocalDateTime.of(2024, 3, 1, 10, 0)});
+        writer.writeRow(new Object[] {"01HQ8VQXG7RZDQ1234567890AC", null, null});
+
+        assertThat(out.toString()).isEqualTo(
+            "{\"counselSessionId\":\"01HQ8VQXG7RZDQ1234567890AB\","
+                + "\"SMOKING\":{\"smokingPeriodNote\":null,\"smokingAmount\":\"NONE\"},"
+                + "\"scheduledStartDateTime\":\"2024-03-01T10:00:00\"}\n"
+                + "{\"counselSessionId\":\"01HQ8VQXG7RZDQ1234567890AC\",\"SMOKING\":null,"
+                + "\"scheduledStartDateTime\":null}\n");
+    }
+}
@@ -0,0 +1,137 @@
+package com.springboot.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.springboot.api.counselsession.dto.counselsession.CounselSessionDomainEvent;
+import com.springboot.api.counselsession.enums.CounselSessionEventType;
+import com.springboot.api.outbox.entity.OutboxEvent;
+import com.springboot.api.outbox.enums.OutboxEventStatus;
+import com.springboot.api.outbox.service.OutboxEventDispatcher;
+import com.springboot.api.outbox.service.OutboxEventHandler;
+import com.springboot.api.outbox.service.OutboxEventService;
+import com.springboot.enums.ScheduleStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxEventDispatcherTest {
+
+    @Mock
+    private OutboxEventService outboxEventService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .findAndRegisterModules()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final List<List<CounselSessionDomainEvent>> handled = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private boolean failHandler;
+    private OutboxEventDispatcher outboxEventDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        OutboxEventHandler<CounselSessionDomainEvent> handler = new OutboxEventHandler<>() {
+            @Override
+            public String aggregateType() {
+                return CounselSessionDomainEvent.AGGREGATE_TYPE;
+            }
+
+            @Override
+            public Class<CounselSessionDomainEvent> payloadType() {
+                return CounselSessionDomainEvent.class;
+            }
+
+            @Override
+            public void handle(List<CounselSessionDomainEvent> events) {
+                if (failHandler) {
+                    throw new IllegalStateException("handler failure");
+                }
+                handled.add(events);
+            }
+        };
+        outboxEventDispatcher = new OutboxEventDispatcher(outboxEventService, List.of(handler), objectMapper,
+            meterRegistry);
+    }
+
+    private OutboxEvent outboxEvent(String id, CounselSessionEventType type) throws Exception {
+        CounselSessionDomainEvent event = new CounselSessionDomainEvent(type, "session-" + id, "counselee-1", null,
+            ScheduleStatus.SCHEDULED, LocalDateTime.of(2026, 5, 1, 10, 0), null, null, LocalDateTime.now());
+        return OutboxEvent.builder()
+            .id(id)
+            .aggregateType(CounselSessionDomainEvent.AGGREGATE_TYPE)
+            .aggregateId(event.counselSessionId())
+            .eventType(type.name())
+            .payload(objectMapper.writeValueAsString(event))
+            .status(OutboxEventStatus.PROCESSING)
+            .build();
+    }
+
+    @Test
+    @DisplayName("선점한 이벤트를 발생 순서대로 한 묶음으로 전달하고 처리 완료로 기록한다")
+    void sweep_deliversBatch() throws Exception {
+        given(outboxEventService.claimPending(anyInt())).willReturn(
+            List.of(outboxEvent("1", CounselSessionEventType.STARTED),
+                outboxEvent("2", CounselSessionEventType.COMPLETED)),
+            List.of());
+
+        outboxEventDispatcher.sweep();
+
+        assertThat(handled).hasSize(1);
+        assertThat(handled.get(0)).extracting(CounselSessionDomainEvent::type)
+            .containsExactly(CounselSessionEventType.STARTED, CounselSessionEventType.COMPLETED);
+        verify(outboxEventService).markPublished(List.of("1", "2"));
+        assertThat(meterRegistry.counter("outbox.events.dispatched",
+            "aggregate", CounselSessionDomainEvent.AGGREGATE_TYPE, "result", "published").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("처리기가 실패하면 묶음 전체를 실패로 기록해 다시 전달되도록 한다")
+    void sweep_marksFailed() throws Exception {
+        failHandler = true;
+        given(outboxEventService.claimPending(anyInt())).willReturn(
+            List.of(outboxEvent("1", CounselSessionEventType.CANCELED)),
+            List.of());
+
+        outboxEventDispatcher.sweep();
+
+        verify(outboxEventService).markFailed(eq(List.of("1")), any(IllegalStateException.class));
+        verify(outboxEventService, never()).markPublished(any());
+    }
+
+    @Test
+    @DisplayName("실패한 이벤트는 재시도 대기 후 다시 PENDING 이 되고, 최대 횟수에 도달하면 FAILED 가 된다")
+    void outboxEvent_fail() throws Exception {
+        OutboxEvent outboxEvent = outboxEvent("1", CounselSessionEventType.CANCELED);
+        LocalDateTime now = LocalDateTime.now();
+
+        outboxEvent.fail(new IllegalStateException("boom"), 2, now);
+
+        assertThat(outboxEvent.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
+        assertThat(outboxEvent.getAvailableAt()).isAfter(now);
+        assertThat(outboxEvent.getLastError()).isEqualTo("boom");
+
+        outboxEvent.fail(new IllegalStateException("boom"), 2, now);
+
+        assertThat(outboxEvent.getStatus()).isEqualTo(OutboxEventStatus.FAILED);
+        assertThat(outboxEvent.getAttempts()).isEqualTo(2);
+    }
+}